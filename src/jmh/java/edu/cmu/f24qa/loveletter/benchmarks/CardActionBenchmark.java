@@ -0,0 +1,60 @@
+package edu.cmu.f24qa.loveletter.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.cmu.f24qa.loveletter.GameContext;
+import edu.cmu.f24qa.loveletter.actions.ActionFactory;
+import edu.cmu.f24qa.loveletter.actions.CardAction;
+
+/**
+ * The effect of every card, played by the first player of a freshly dealt 8-player table.
+ *
+ * Card effects change the table (eliminations, swapped hands), so the table is dealt
+ * again before each invocation. The per-invocation setup adds some timer noise; the
+ * scores are meant to be compared between versions of the engine, not read in isolation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardActionBenchmark {
+    @Param({"guard", "priest", "baron", "handmaiden", "prince", "king", "countess", "princess",
+        "jester", "assassin", "cardinal", "baroness", "sycophant", "count", "constable", "queen", "bishop"})
+    private String card;
+
+    private CardAction action;
+    private GameContext context;
+    private long seed;
+
+    @Setup(Level.Trial)
+    public void createAction() {
+        action = new ActionFactory().getAction(card);
+    }
+
+    @Setup(Level.Invocation)
+    public void deal() {
+        context = Tables.dealtContext(8, seed++, new ScriptedInput());
+        context.setCurrentUser(context.getPlayers().players().get(0));
+    }
+
+    @Benchmark
+    public GameContext execute() {
+        action.execute(context);
+        return context;
+    }
+}
@@ -0,0 +1,45 @@
+package edu.cmu.f24qa.loveletter.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import edu.cmu.f24qa.loveletter.Deck;
+
+/**
+ * Building, shuffling and dealing out a full 32-card deck.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeckBenchmark {
+    private final Deck deck = new Deck(1L);
+
+    @Benchmark
+    public void build32ShuffleDrawAll(Blackhole blackhole) {
+        deck.build32Cards();
+        deck.shuffle();
+        while (deck.hasMoreCards()) {
+            blackhole.consume(deck.draw());
+        }
+    }
+
+    @Benchmark
+    public void build32AndShuffle(Blackhole blackhole) {
+        deck.build32Cards();
+        deck.shuffle();
+        blackhole.consume(deck);
+    }
+}
@@ -0,0 +1,58 @@
+package edu.cmu.f24qa.loveletter.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.cmu.f24qa.loveletter.GameContext;
+import edu.cmu.f24qa.loveletter.Player;
+import edu.cmu.f24qa.loveletter.PlayerList;
+
+/**
+ * The end-of-round and end-of-game checks of the player list.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerListBenchmark {
+    @Param({"2", "4", "8"})
+    private int playerCount;
+
+    private PlayerList players;
+
+    @Setup
+    public void setUp() {
+        GameContext context = Tables.dealtContext(playerCount, 1L, new ScriptedInput());
+        players = context.getPlayers();
+        Tables.discardSome(players);
+    }
+
+    @Benchmark
+    public List<Player> compareHand() {
+        return players.compareHand();
+    }
+
+    @Benchmark
+    public List<Player> getGameWinner() {
+        return players.getGameWinner();
+    }
+
+    @Benchmark
+    public boolean isRoundOver() {
+        return players.isRoundOver();
+    }
+}
@@ -0,0 +1,48 @@
+package edu.cmu.f24qa.loveletter.benchmarks;
+
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.cmu.f24qa.loveletter.Deck;
+import edu.cmu.f24qa.loveletter.Game;
+import edu.cmu.f24qa.loveletter.Player;
+import edu.cmu.f24qa.loveletter.events.NoOpEventListener;
+import edu.cmu.f24qa.loveletter.input.RandomPlayerInput;
+
+/**
+ * A complete headless round with random decisions, including setting up the table.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoundBenchmark {
+    @Param({"2", "4", "8"})
+    private int playerCount;
+
+    private final SplittableRandom seeds = new SplittableRandom(1L);
+    private final RandomPlayerInput input = new RandomPlayerInput(new Random(1L));
+
+    @Benchmark
+    public List<Player> playRound() {
+        Game game = new Game(Tables.players(playerCount), new Deck(seeds.nextLong()), input,
+            new NoOpEventListener());
+        game.startRound();
+        return game.getLastRoundWinners();
+    }
+}
@@ -0,0 +1,45 @@
+package edu.cmu.f24qa.loveletter.benchmarks;
+
+import java.util.List;
+
+import edu.cmu.f24qa.loveletter.Card;
+import edu.cmu.f24qa.loveletter.GameContext;
+import edu.cmu.f24qa.loveletter.Player;
+import edu.cmu.f24qa.loveletter.input.PlayerInput;
+
+/**
+ * Decisions that never change, so the benchmarks measure the engine rather than a
+ * random number generator: always the first card and the first candidate, never
+ * another target.
+ */
+final class ScriptedInput implements PlayerInput {
+    @Override
+    public int chooseCardIndex(GameContext context, Player player) {
+        return 0;
+    }
+
+    @Override
+    public Card guessCard(GameContext context, Player player) {
+        return Card.PRIEST;
+    }
+
+    @Override
+    public int guessNumber(GameContext context, Player player) {
+        return 2;
+    }
+
+    @Override
+    public Player chooseTarget(GameContext context, Player player, List<Player> candidates) {
+        return candidates.get(0);
+    }
+
+    @Override
+    public Player choosePlayerToInspect(GameContext context, Player player, List<Player> candidates) {
+        return candidates.get(0);
+    }
+
+    @Override
+    public boolean confirm(GameContext context, Player player, String question) {
+        return false;
+    }
+}
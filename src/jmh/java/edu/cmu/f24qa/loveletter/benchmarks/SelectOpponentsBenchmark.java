@@ -0,0 +1,51 @@
+package edu.cmu.f24qa.loveletter.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.cmu.f24qa.loveletter.GameContext;
+import edu.cmu.f24qa.loveletter.Player;
+
+/**
+ * Target selection with scripted answers, as done by every targeting card.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SelectOpponentsBenchmark {
+    @Param({"2", "4", "8"})
+    private int playerCount;
+
+    private GameContext context;
+
+    @Setup
+    public void setUp() {
+        context = Tables.dealtContext(playerCount, 1L, new ScriptedInput());
+        context.setCurrentUser(context.getPlayers().players().get(0));
+    }
+
+    @Benchmark
+    public List<Player> selectOneOpponent() {
+        return context.selectOpponents(1, 1, false);
+    }
+
+    @Benchmark
+    public List<Player> selectOneIncludingSelf() {
+        return context.selectOpponents(1, 1, true);
+    }
+}
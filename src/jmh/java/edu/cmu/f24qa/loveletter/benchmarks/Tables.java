@@ -0,0 +1,53 @@
+package edu.cmu.f24qa.loveletter.benchmarks;
+
+import java.util.List;
+
+import edu.cmu.f24qa.loveletter.Card;
+import edu.cmu.f24qa.loveletter.Deck;
+import edu.cmu.f24qa.loveletter.GameContext;
+import edu.cmu.f24qa.loveletter.Player;
+import edu.cmu.f24qa.loveletter.PlayerList;
+import edu.cmu.f24qa.loveletter.events.NoOpEventListener;
+import edu.cmu.f24qa.loveletter.input.PlayerInput;
+
+/**
+ * Builds the tables the benchmarks run on.
+ */
+final class Tables {
+    private Tables() {
+    }
+
+    static PlayerList players(int count) {
+        PlayerList players = new PlayerList();
+        for (int i = 0; i < count; i++) {
+            players.addPlayer("Player " + (i + 1));
+        }
+        return players;
+    }
+
+    /**
+     * Creates a headless context at the start of a round: the deck is shuffled with the
+     * given seed, one card is set aside and every player holds one card.
+     */
+    static GameContext dealtContext(int playerCount, long seed, PlayerInput input) {
+        PlayerList players = players(playerCount);
+        GameContext context = new GameContext(players, new Deck(seed), input, new NoOpEventListener());
+        context.reset();
+        for (Player player : players.getPlayers()) {
+            player.addCard(context.drawCard());
+        }
+        return context;
+    }
+
+    /**
+     * Gives every player a few discarded cards, so that comparisons look at real piles.
+     */
+    static void discardSome(PlayerList players) {
+        List<Player> seats = players.getPlayers();
+        Card[] cards = {Card.GUARD, Card.PRIEST, Card.COUNT, Card.BARON};
+        for (int i = 0; i < seats.size(); i++) {
+            seats.get(i).addCardToDiscarded(cards[i % cards.length]);
+            seats.get(i).addCardToDiscarded(Card.GUARD);
+        }
+    }
+}
@@ -1,26 +1,74 @@
 package edu.cmu.f24qa.loveletter;
 
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.EmptyStackException;
+import java.util.List;
+import java.util.SplittableRandom;
 import java.util.Stack;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
+/**
+ * The deck of cards, stored as the ordinals of its cards in a byte array with
+ * the top of the deck at index size - 1. Building, shuffling and drawing work
+ * in place on that array and allocate nothing.
+ */
 public class Deck {
-    private Stack<Card> deck;
+    /**
+     * Number of cards in the largest (5-8 player) deck.
+     */
+    private static final int CAPACITY = 32;
+    private static final Card[] CARDS = Card.values();
+
+    private byte[] cards;
+    private int size;
     private Card removedTopCard;
+    private SplittableRandom random;
+    private final List<Card> view = Collections.unmodifiableList(new CardView());
 
     public Deck() {
-        this.deck = new Stack<>();
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Creates an empty deck whose shuffles are fully determined by the given seed.
+     *
+     * @param seed the seed of the shuffle
+     */
+    public Deck(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Creates an empty deck that shuffles with the given random source.
+     * Each game running on its own thread should get its own source, so that
+     * shuffling never contends on a shared one and seeded deals are reproducible.
+     *
+     * @param random the random source used by shuffle()
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2", 
+        justification = "Game-Specific Business Logic Requires Direct Reference"
+    )
+    public Deck(SplittableRandom random) {
+        this.cards = new byte[CAPACITY];
+        this.size = 0;
         this.removedTopCard = null;
+        this.random = random;
     }
 
     /*
      * Copy Constructor
      */
     public Deck(Deck deck) {
-        this.deck = new Stack<>();
-        if (deck != null && deck.deck != null) {
-            this.deck.addAll(deck.deck);
+        this(new SplittableRandom());
+        if (deck != null && deck.cards != null) {
+            this.cards = Arrays.copyOf(deck.cards, Math.max(CAPACITY, deck.size));
+            this.size = deck.size;
         }
     }
 
@@ -28,23 +76,25 @@ public class Deck {
      * Builds a deck of 16 cards for 2-4 players
      */
     public void build16Cards() {
+        size = 0;
+
         // 5 guards
         for (int i = 0; i < 5; i++) {
-            deck.push(Card.GUARD);
+            push(Card.GUARD);
         }
 
         // 2 each of Priest, Baron, Handmaiden, and Prince
         for (int i = 0; i < 2; i++) {
-            deck.push(Card.PRIEST);
-            deck.push(Card.BARON);
-            deck.push(Card.HANDMAIDEN);
-            deck.push(Card.PRINCE);
+            push(Card.PRIEST);
+            push(Card.BARON);
+            push(Card.HANDMAIDEN);
+            push(Card.PRINCE);
         }
 
         // 1 King, Countess, and Princess
-        deck.push(Card.KING);
-        deck.push(Card.COUNTESS);
-        deck.push(Card.PRINCESS);
+        push(Card.KING);
+        push(Card.COUNTESS);
+        push(Card.PRINCESS);
     }
 
     /*
@@ -55,55 +105,139 @@ public class Deck {
         
         // Add 3 guards
         for (int i = 0; i < 3; i++) {
-            deck.push(Card.GUARD);
+            push(Card.GUARD);
         }
 
         // Add 2 cardinals, 2 baronesses, 2 sycophants, and 2 counts
         for (int i = 0; i < 2; i++) {
-            deck.push(Card.CARDINAL);
-            deck.push(Card.BARONESS);
-            deck.push(Card.SYCOPHANT);
-            deck.push(Card.COUNT);
+            push(Card.CARDINAL);
+            push(Card.BARONESS);
+            push(Card.SYCOPHANT);
+            push(Card.COUNT);
         }
 
         // Add 1 jester, 1 assassin, 1 queen, and 1 bishop
-        deck.push(Card.JESTER);
-        deck.push(Card.ASSASSIN);
-        deck.push(Card.CONSTABLE);
-        deck.push(Card.QUEEN);
-        deck.push(Card.BISHOP);
+        push(Card.JESTER);
+        push(Card.ASSASSIN);
+        push(Card.CONSTABLE);
+        push(Card.QUEEN);
+        push(Card.BISHOP);
+    }
+
+    private void push(Card card) {
+        if (size == cards.length) {
+            cards = Arrays.copyOf(cards, cards.length * 2);
+        }
+        cards[size++] = (byte) card.ordinal();
     }
 
+    /**
+     * Creates an empty deck for another game that continues the shuffles of this deck,
+     * e.g. for the tie-break rounds. The new deck shares this deck's random source, so
+     * a seeded game stays reproducible; decks that control their own order return a
+     * deck that continues that order.
+     *
+     * @return a new empty deck continuing this deck's shuffles
+     */
+    protected Deck newDeck() {
+        return new Deck(random);
+    }
+
+    /**
+     * Shuffles the deck in place (Fisher-Yates).
+     */
     public void shuffle() {
-        Collections.shuffle(deck);
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte card = cards[i];
+            cards[i] = cards[j];
+            cards[j] = card;
+        }
     }
 
+    /**
+     * Draws the top card of the deck.
+     *
+     * @return the drawn card
+     * @throws EmptyStackException if the deck is empty
+     */
     public Card draw() {
-        return deck.pop();
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return CARDS[cards[--size]];
     }
 
     public boolean hasMoreCards() {
-        return deck.size() > 0;
+        return size > 0;
+    }
+
+    /**
+     * Returns the number of cards left in the deck.
+     *
+     * @return the number of cards left
+     */
+    public int size() {
+        return size;
     }
 
     /**
      * Getter for the deck of cards.
      *
-     * @return the deck as a Stack of Card objects.
+     * @return a copy of the deck as a Stack of Card objects, top of the deck last.
      */
     public Stack<Card> getDeck() {
         Stack<Card> deckCopy = new Stack<>();
-        deckCopy.addAll(this.deck); // Create a copy of the stack to avoid exposing internal representation
+        for (int i = 0; i < size; i++) {
+            deckCopy.push(CARDS[cards[i]]);
+        }
         return deckCopy;
     }
 
+    /**
+     * Returns a read-only view of the cards left in the deck, top of the deck last,
+     * which follows later changes to the deck. Unlike getDeck(), this does not copy
+     * the cards.
+     *
+     * @return an unmodifiable view of the deck
+     */
+    public List<Card> cards() {
+        return view;
+    }
+
     public void setDeck(Stack<Card> newDeck) {
-        this.deck = new Stack<>();
+        size = 0;
         if (newDeck != null) {
-            this.deck.addAll(newDeck);
+            for (Card card : newDeck) {
+                push(card);
+            }
         }
     }
 
+    /**
+     * Returns the cards of the deck as card ordinals, top of the deck last.
+     *
+     * @return a new array of the card ordinals
+     */
+    public byte[] toOrdinals() {
+        return Arrays.copyOf(cards, size);
+    }
+
+    /**
+     * Replaces the cards of the deck and the set-aside card, e.g. from a GameState.
+     *
+     * @param ordinals     the card ordinals, top of the deck last
+     * @param setAsideCard the card set aside at the start of the round
+     */
+    void restore(byte[] ordinals, @Nullable Card setAsideCard) {
+        if (ordinals.length > cards.length) {
+            cards = new byte[ordinals.length];
+        }
+        System.arraycopy(ordinals, 0, cards, 0, ordinals.length);
+        size = ordinals.length;
+        removedTopCard = setAsideCard;
+    }
+
     /**
      * Returns the card that was removed from the top of the deck.
      *
@@ -123,10 +257,27 @@ public class Deck {
      */
     public void removeCardFromDeck() {
         removedTopCard = draw();
-        System.out.println("One card has been removed from the deck and set aside.");
     }
 
     public void clearRemovedTopCard() {
         removedTopCard = null;
     }
+
+    /**
+     * List over the card bytes of this deck, top of the deck last.
+     */
+    private final class CardView extends AbstractList<Card> {
+        @Override
+        public Card get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return CARDS[cards[index]];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
 }
@@ -1,12 +1,32 @@
 package edu.cmu.f24qa.loveletter;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
+import edu.cmu.f24qa.loveletter.events.GameEventListener;
+
+/**
+ * The cards a player has played or discarded this round, in order.
+ *
+ * The total value and the number of copies of each card are kept up to date as
+ * cards are added, so showdowns and card effects query them in constant time.
+ */
 public class DiscardPile {
     private ArrayList<Card> cards;
 
+    /**
+     * Read-only view of the cards, handed out instead of copies.
+     */
+    private List<Card> view;
+    private int[] counts;
+    private int value;
+
     public DiscardPile() {
         this.cards = new ArrayList<>();
+        this.view = Collections.unmodifiableList(this.cards);
+        this.counts = new int[Card.values().length];
     }
 
     /**
@@ -14,34 +34,69 @@ public class DiscardPile {
      */
     public DiscardPile(DiscardPile discardPile) {
         this.cards = new ArrayList<>(discardPile.cards);
+        this.view = Collections.unmodifiableList(this.cards);
+        this.counts = discardPile.counts.clone();
+        this.value = discardPile.value;
     }
 
     public void add(Card c) {
         this.cards.add(c);
+        this.counts[c.ordinal()]++;
+        this.value += c.getValue();
     }
 
+    /**
+     * Returns the total value of the discarded cards.
+     *
+     * @return the sum of the card values
+     */
     public int value() {
-        int ret = 0;
-        for (Card c : this.cards) {
-            ret += c.getValue();
-        }
-        return ret;
+        return this.value;
+    }
+
+    /**
+     * Returns how many copies of a card have been discarded.
+     *
+     * @param card the card to count
+     * @return the number of copies in the pile
+     */
+    public int count(Card card) {
+        return this.counts[card.ordinal()];
+    }
+
+    /**
+     * Checks whether a card has been discarded.
+     *
+     * @param card the card to look for
+     * @return true if at least one copy is in the pile
+     */
+    public boolean contains(Card card) {
+        return this.counts[card.ordinal()] != 0;
+    }
+
+    public int size() {
+        return this.cards.size();
     }
 
     public void clear() {
         this.cards.clear();
+        Arrays.fill(this.counts, 0);
+        this.value = 0;
     }
 
-    public void print() {
+    /**
+     * Narrates each discarded card on its own line.
+     *
+     * @param events the listener receiving the narration
+     */
+    public void print(GameEventListener events) {
         for (Card c : this.cards) {
-            System.out.println(c);
+            events.onMessage(c.toString());
         }
     }
 
     public DiscardPile copy() {
-        DiscardPile copy = new DiscardPile();
-        copy.cards.addAll(this.cards); // Copy the cards to the new instance
-        return copy;
+        return new DiscardPile(this);
     }
 
     /**
@@ -53,4 +108,15 @@ public class DiscardPile {
         return new ArrayList<>(this.cards); // Return a copy to avoid exposing internal representation
     }
 
+    /**
+     * Returns a read-only view of the cards in the discard pile, in the order they
+     * were discarded, which follows later changes to the pile. Unlike getCards(),
+     * this does not copy the cards.
+     *
+     * @return an unmodifiable view of the discarded cards
+     */
+    public List<Card> cards() {
+        return this.view;
+    }
+
 }
@@ -6,8 +6,14 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import edu.cmu.f24qa.loveletter.actions.ActionFactory;
 import edu.cmu.f24qa.loveletter.actions.CardAction;
+import edu.cmu.f24qa.loveletter.events.GameEventListener;
+import edu.cmu.f24qa.loveletter.input.LineReader;
+import edu.cmu.f24qa.loveletter.input.PlayerInput;
+import edu.cmu.f24qa.loveletter.journal.GameJournal;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 public class Game {
@@ -17,20 +23,84 @@ public class Game {
     private ActionFactory actionFactory;
     private int round;
     private List<Player> lastRoundWinners;
+    private @Nullable Player gameWinner;
 
     public Game(PlayerList playerList, Deck deck, InputStream inputStream) {
+        this(playerList, deck, inputStream, new ActionFactory());
+    }
+
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2", 
+        justification = "Game-Specific Business Logic Requires Direct Reference"
+    )
+    public Game(PlayerList playerList, Deck deck, InputStream inputStream, ActionFactory actionFactory) {
         this.players = new PlayerList(playerList);
-        this.deck = new Deck(deck);
-        this.context = new GameContext(players, deck, new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        // the game and its context must draw from the same deck
+        this.deck = (deck != null) ? deck : new Deck();
+        this.context = new GameContext(players, this.deck,
+            new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.actionFactory = actionFactory;
+        this.round = 0;
+        this.lastRoundWinners = new ArrayList<>();
+    }
+
+    /**
+     * Creates a headless game: decisions come from the given input and the narration
+     * goes to the given listener, so no console I/O takes place.
+     *
+     * @param playerList    the players of the game
+     * @param deck          the deck to play with
+     * @param input         the source of the players' decisions
+     * @param eventListener the listener receiving the game narration
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2", 
+        justification = "Game-Specific Business Logic Requires Direct Reference"
+    )
+    public Game(PlayerList playerList, Deck deck, PlayerInput input, GameEventListener eventListener) {
+        this.players = new PlayerList(playerList);
+        this.deck = deck;
+        this.context = new GameContext(players, deck, input, eventListener);
         this.actionFactory = new ActionFactory();
         this.round = 0;
         this.lastRoundWinners = new ArrayList<>();
     }
 
-    public Game(PlayerList playerList, Deck deck, InputStream inputStream, ActionFactory actionFactory) {
+    /**
+     * Creates a game whose players each type their own answers, e.g. at separate terminals.
+     *
+     * @param playerList    the players of the game
+     * @param deck          the deck to play with
+     * @param input         the input turning the typed lines into decisions
+     * @param lineReader    the source of the lines typed by each player
+     * @param eventListener the listener receiving the game narration
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2", 
+        justification = "Game-Specific Business Logic Requires Direct Reference"
+    )
+    public Game(PlayerList playerList, Deck deck, PlayerInput input, LineReader lineReader,
+                GameEventListener eventListener) {
+        this.players = new PlayerList(playerList);
+        this.deck = deck;
+        this.context = new GameContext(players, deck, input, lineReader, eventListener);
+        this.actionFactory = new ActionFactory();
+        this.round = 0;
+        this.lastRoundWinners = new ArrayList<>();
+    }
+
+    /**
+     * Creates a game that shares the input and narration of an existing game context.
+     * Used to play the tie-break rounds.
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2", 
+        justification = "Game-Specific Business Logic Requires Direct Reference"
+    )
+    private Game(PlayerList playerList, Deck deck, GameContext parentContext, ActionFactory actionFactory) {
         this.players = new PlayerList(playerList);
-        this.deck = new Deck(deck);
-        this.context = new GameContext(players, deck, new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.deck = deck;
+        this.context = new GameContext(players, deck, parentContext);
         this.actionFactory = actionFactory;
         this.round = 0;
         this.lastRoundWinners = new ArrayList<>();
@@ -75,16 +145,39 @@ public class Game {
         return lastRoundWinners;
     }
 
+    /**
+     * Records the game in the given journal, including its tie-break rounds.
+     *
+     * @param journal the journal to record the game in
+     */
+    public void setJournal(GameJournal journal) {
+        context.setJournal(journal);
+    }
+
+    /**
+     * Gets the winner of the game once start() has returned.
+     *
+     * @return the game winner, or null if the game has not finished yet
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP", 
+        justification = "Game-Specific Business Logic Requires Direct Reference"
+    )
+    public @Nullable Player getGameWinner() {
+        return gameWinner;
+    }
+
     public void promptForPlayers() {
-        System.out.print("Enter player name (empty when done): ");
+        GameEventListener events = context.getEventListener();
+        events.onPrompt("Enter player name (empty when done): ");
         String name = context.readLine();
         while (!name.equals("")) {
             this.players.addPlayer(name);
-            System.out.print("Enter player name (empty when done): ");
+            events.onPrompt("Enter player name (empty when done): ");
             name = context.readLine();
         }
         
-        int playerCount = this.players.getPlayers().size();
+        int playerCount = this.players.size();
         if (playerCount < 2 || playerCount > 4) {
             throw new IllegalStateException("Invalid number of players. Only 2-4 players are allowed.");
         }
@@ -94,7 +187,8 @@ public class Game {
      * The main game loop.
      */
     public void start() {
-        while (players.getGameWinner().size() == 0) {
+        context.getJournal().onGameStart(players.size());
+        while (!players.hasGameWinner()) {
             startRound();
         }
         List<Player> winners = players.getGameWinner();
@@ -103,18 +197,39 @@ public class Game {
             winners = startRoundForTiedWinners(winners);
         }
         announceGameWinner(winners);
+        gameWinner = winners.get(0);
+        context.getEventListener().onGameWon(winners.get(0));
     }
 
     public void startRound() {
+        playRound(true);
+    }
+
+    /**
+     * Plays a round of a tie-break game to its end. The tied players already have
+     * enough tokens to win the game, so unlike startRound the round does not stop
+     * once a player has won the game.
+     */
+    void startTieBreakRound() {
+        playRound(false);
+    }
+
+    /**
+     * Plays a round.
+     *
+     * @param stopAtGameWinner whether the round stops after the turn in which a player
+     *                         has won the game, e.g. by a token won in the middle of it
+     */
+    private void playRound(boolean stopAtGameWinner) {
         if (round > 0) {
             keepLastRoundWinnerFirst();
         }
         setupNewGame();
-        while (!players.checkForRoundWinner() && deck.hasMoreCards()) {
+        while (!players.isRoundOver() && deck.hasMoreCards()) {
             Player turn = players.getCurrentPlayer();
             executeTurn(turn);
             // check if someone won the game after the turn
-            if (players.getGameWinner().size() > 0) {
+            if (stopAtGameWinner && players.hasGameWinner()) {
                 return;
             }
         }
@@ -123,24 +238,38 @@ public class Game {
     }
 
     /*
-     * If there are multiple winners, start a new round for the tied winners
+     * If there are multiple winners, play sudden-death rounds among the tied winners
+     * until only one of them wins a round. The rounds are played in a loop by one
+     * tie-break game, which shares this game's input, narration, journal and shuffles;
+     * it is only replaced when fewer players remain tied. A round that nobody wins is
+     * played again by the same players.
      * 
-     * @return the winners of the new round (only 1 winner)
+     * @return the winners of the last round (only 1 winner)
      */
     public List<Player> startRoundForTiedWinners(List<Player> winnerList) {
-        System.out.println("Tie! Starting a new round for the tied winners:");
-        PlayerList winners = new PlayerList();
-        for (Player winner : winnerList) {
-            winners.addPlayer(winner);
-        }
-
-        Game breakTieGame = new Game(winners, new Deck(), System.in);
-        breakTieGame.startRound();
-        List<Player> roundWinners = breakTieGame.getLastRoundWinners();
-        if (roundWinners.size() != 1) {
-            return startRoundForTiedWinners(roundWinners);
+        if (winnerList.isEmpty()) {
+            throw new IllegalArgumentException("There are no tied winners to play a tie-break round");
         }
-        return roundWinners;
+        List<Player> tied = winnerList;
+        Game breakTieGame = null;
+        int seated = 0;
+        do {
+            context.getEventListener().onMessage("Tie! Starting a new round for the tied winners:");
+            if (breakTieGame == null || seated != tied.size()) {
+                PlayerList winners = new PlayerList();
+                for (Player winner : tied) {
+                    winners.addPlayer(winner);
+                }
+                breakTieGame = new Game(winners, deck.newDeck(), context, actionFactory);
+                seated = tied.size();
+            }
+            breakTieGame.startTieBreakRound();
+            List<Player> roundWinners = breakTieGame.getLastRoundWinners();
+            if (!roundWinners.isEmpty()) {
+                tied = List.copyOf(roundWinners);
+            }
+        } while (tied.size() != 1);
+        return tied;
     }
 
     public void setupNewGame() {
@@ -160,8 +289,12 @@ public class Game {
     }
 
     public void displayTurnInfo(Player turn) {
+        GameEventListener events = context.getEventListener();
+        if (!events.wantsMessages()) {
+            return;
+        }
         players.printUsedPiles();
-        System.out.println("\n" + turn.getName() + "'s turn:");
+        events.onMessage("\n" + turn.getName() + "'s turn:");
     }
 
     public void playTurnCard(Player turn) {
@@ -182,12 +315,7 @@ public class Game {
         if (countessIdxWithRoyalty != -1) {
             return countessIdxWithRoyalty;
         }
-        user.getHand().print();
-        System.out.println();
-        System.out.print("Which card would you like to play (0 for first, 1 for second): ");
-        String cardPosition = context.readLine();
-        int idx = Integer.parseInt(cardPosition);
-        return idx;
+        return context.chooseCardIndex(user);
     }
 
     public int getCountessIdxWithRoyalty(Player turn) {
@@ -200,10 +328,11 @@ public class Game {
     }
 
     public void determineRoundWinner() {
+        GameEventListener events = context.getEventListener();
         lastRoundWinners.clear();
         Player winner = null;
         List<Player> tiedWinners = new ArrayList<>();
-        if (players.checkForRoundWinner()) {
+        if (players.isRoundOver()) {
             winner = players.getRoundWinner();
         } else {
             List<Player> highestHandPlayers = players.compareHand();
@@ -220,14 +349,14 @@ public class Game {
         if (winner != null) {
             lastRoundWinners.add(winner);
             winner.addToken();
-            System.out.println(winner.getName() + " has won this round!");
+            events.onMessage(winner.getName() + " has won this round!");
             players.print();
         } else if (!tiedWinners.isEmpty()) {
             lastRoundWinners.addAll(tiedWinners);
-            System.out.println("It's a tie! The following players have won this round:");
+            events.onMessage("It's a tie! The following players have won this round:");
             for (Player player : tiedWinners) {
                 player.addToken();
-                System.out.println(player.getName());
+                events.onMessage(player.getName());
             }
             players.print();
         }
@@ -237,7 +366,11 @@ public class Game {
         Player jesterPlayer = context.getJesterPlayer();
         if (guessedPlayer != null && jesterPlayer != null && lastRoundWinners.contains(guessedPlayer)) {
             jesterPlayer.addToken();
-            System.out.println(jesterPlayer.getName() + " guessed correctly and gains a token!");
+            events.onMessage(jesterPlayer.getName() + " guessed correctly and gains a token!");
+        }
+        context.getJournal().onRoundEnd(context.seatMask(lastRoundWinners));
+        if (!lastRoundWinners.isEmpty()) {
+            events.onRoundWon(List.copyOf(lastRoundWinners));
         }
     }
 
@@ -248,7 +381,8 @@ public class Game {
         } else if (winners.size() > 1) {
             throw new IllegalStateException("There are multiple winners in the game");
         }
-        System.out.println(winners.get(0).getName() + " has won the game and the heart of the princess!");
+        context.getEventListener().onMessage(winners.get(0).getName()
+            + " has won the game and the heart of the princess!");
     }
 
     /**
@@ -258,13 +392,24 @@ public class Game {
      * @param user - the player of the card
      */
     private void playCard(Card card, Player user) {
-        String cardName = card.getName();
-
+        GameEventListener events = context.getEventListener();
         user.addCardToDiscarded(card);
         context.setCurrentUser(user);
+        context.beginPlay();
+        int eliminatedBefore = players.emptySeats();
+        events.onCardPlayed(user, card);
 
-        CardAction action = actionFactory.getAction(cardName);
+        CardAction action = actionFactory.getAction(card);
         action.execute(context); // Execute the action with GameContext
+        int eliminated = players.emptySeats() & ~eliminatedBefore;
+        GameJournal journal = context.getJournal();
+        if (journal.isRecording()) {
+            journal.onPlay(context.seatOf(user), card, context.getPlayTargets(), context.getPlayGuess(),
+                context.getPlayDecisions(), context.journalMask(eliminated));
+        }
+        for (int seats = eliminated; seats != 0; seats &= seats - 1) {
+            events.onPlayerEliminated(players.getSeat(Integer.numberOfTrailingZeros(seats)));
+        }
         // only reset the sycophant effect if the card played is not a sycophant card
         if (!card.equals(Card.SYCOPHANT)) {
             context.resetSycophantForcedPlayer();
@@ -274,12 +419,13 @@ public class Game {
     /**
     *  Ensure winner of last round is first in the player list 
     *  - rotate the list so the order of players won't change 
+    *  - if nobody won the last round, the players keep their order
     */
     private void keepLastRoundWinnerFirst() {
         // Preserve the previous round winner and move them to the front
         // if there's a tie in the last round, always pick the first player to start first
         if (lastRoundWinners.isEmpty()) {
-            throw new IllegalStateException("There is no winner in the last round");
+            return;
         }
         Player roundWinner = lastRoundWinners.get(0);
         // Rotate the list so the winner becomes the first player
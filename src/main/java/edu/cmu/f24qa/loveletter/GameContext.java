@@ -1,18 +1,55 @@
 package edu.cmu.f24qa.loveletter;
 
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.Scanner;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import edu.cmu.f24qa.loveletter.events.ConsoleEventListener;
+import edu.cmu.f24qa.loveletter.events.GameEventListener;
+import edu.cmu.f24qa.loveletter.input.ConsoleInput;
+import edu.cmu.f24qa.loveletter.input.LineReader;
+import edu.cmu.f24qa.loveletter.input.PlayerInput;
+import edu.cmu.f24qa.loveletter.journal.GameJournal;
+import edu.cmu.f24qa.loveletter.journal.JournalRecord;
+import edu.cmu.f24qa.loveletter.journal.NoOpGameJournal;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 public class GameContext {
     private PlayerList players;
     private Deck deck;
     private Scanner inputScanner;
+    private PlayerInput input;
+    /**
+     * Per-player source of input lines; null when all players share the input scanner.
+     */
+    private @Nullable LineReader lineReader;
+    private GameEventListener eventListener;
+    private GameJournal journal;
+    /**
+     * The players in the order of the first deal; a player's seat is their index here.
+     */
+    private List<Player> seats;
+
+    /**
+     * The journal seat of the player in each seat of the player list. The seats only
+     * differ in a tie-break game, which journals its players in their original seats.
+     */
+    private int[] journalSeats = new int[0];
+    /**
+     * The players a target is chosen from, refilled for every choice. Inputs only look at
+     * it while they choose, so one list serves every card played.
+     */
+    private final List<Player> targetCandidates = new ArrayList<>(4);
+    /**
+     * Decisions made while the current card is played, as recorded in the journal.
+     */
+    private int playTargets;
+    private int playGuess;
+    private int playDecisions;
+    private int playAnswers;
     private @Nullable Player currentUser;
     private @Nullable Player guessedPlayer;
     private @Nullable Player jesterPlayer;
@@ -30,10 +67,74 @@ public class GameContext {
         justification = "Game-Specific Business Logic Requires Direct Reference"
     )
     public GameContext(PlayerList players, Deck deck, Readable inputScanner) {
+        this(players, deck, new Scanner(inputScanner), new ConsoleInput(), new ConsoleEventListener());
+    }
+
+    /**
+     * Constructs a headless GameContext whose decisions come from the given input
+     * and whose narration goes to the given listener instead of the console.
+     *
+     * @param players       The list of players in the game.
+     * @param deck          The deck of cards used in the game.
+     * @param input         The source of the players' decisions.
+     * @param eventListener The listener receiving the game narration.
+     */
+    public GameContext(PlayerList players, Deck deck, PlayerInput input, GameEventListener eventListener) {
+        this(players, deck, new Scanner(Reader.nullReader()), input, eventListener);
+    }
+
+    /**
+     * Constructs a GameContext whose players each type their own answers, e.g. at
+     * separate terminals. The answers are read from the given line reader.
+     *
+     * @param players       The list of players in the game.
+     * @param deck          The deck of cards used in the game.
+     * @param input         The input turning the typed lines into decisions.
+     * @param lineReader    The source of the lines typed by each player.
+     * @param eventListener The listener receiving the game narration.
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2", 
+        justification = "Game-Specific Business Logic Requires Direct Reference"
+    )
+    public GameContext(PlayerList players, Deck deck, PlayerInput input, LineReader lineReader,
+                       GameEventListener eventListener) {
+        this(players, deck, new Scanner(Reader.nullReader()), input, eventListener);
+        this.lineReader = lineReader;
+    }
+
+    /**
+     * Constructs a GameContext for another set of players that shares the input source,
+     * decision input and event listener of an existing context.
+     *
+     * @param players The list of players in the game.
+     * @param deck    The deck of cards used in the game.
+     * @param parent  The context whose input and narration are shared.
+     */
+    public GameContext(PlayerList players, Deck deck, GameContext parent) {
+        this(players, deck, parent.inputScanner, parent.input, parent.eventListener);
+        this.journal = parent.journal;
+        this.seats = parent.seats;
+        this.lineReader = parent.lineReader;
+    }
+
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2", 
+        justification = "Game-Specific Business Logic Requires Direct Reference"
+    )
+    private GameContext(PlayerList players, Deck deck, Scanner inputScanner, PlayerInput input,
+                        GameEventListener eventListener) {
         this.players = players;
         this.deck = deck;
-        this.inputScanner = new Scanner(inputScanner);
+        this.inputScanner = inputScanner;
+        this.input = input;
+        this.eventListener = eventListener;
+        this.journal = new NoOpGameJournal();
+        this.seats = new ArrayList<>();
         this.sycophantForcedPlayer = null;
+        if (players != null) {
+            players.setEventListener(eventListener);
+        }
     }
 
     /**
@@ -49,6 +150,129 @@ public class GameContext {
         return players;
     }
 
+    /**
+     * Returns the source of the players' decisions.
+     *
+     * @return the decision input of this game
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP", 
+        justification = "Game-Specific Business Logic Requires Direct Reference"
+    )
+    public PlayerInput getInput() {
+        return input;
+    }
+
+    /**
+     * Returns the listener that receives the game narration.
+     *
+     * @return the event listener of this game
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP", 
+        justification = "Game-Specific Business Logic Requires Direct Reference"
+    )
+    public GameEventListener getEventListener() {
+        return eventListener;
+    }
+
+    /**
+     * Returns the journal that records the game.
+     *
+     * @return the journal of this game
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP", 
+        justification = "Game-Specific Business Logic Requires Direct Reference"
+    )
+    public GameJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Sets the journal that records the game.
+     *
+     * @param gameJournal the journal to record the game in
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2", 
+        justification = "Game-Specific Business Logic Requires Direct Reference"
+    )
+    public void setJournal(GameJournal gameJournal) {
+        this.journal = gameJournal;
+    }
+
+    /**
+     * Returns the seat of a player, i.e. their position when the first round was dealt.
+     *
+     * @param player the player
+     * @return the seat of the player
+     */
+    int seatOf(Player player) {
+        int bit = players.seatBit(player);
+        return bit == 0 ? -1 : journalSeat(Integer.numberOfTrailingZeros(bit));
+    }
+
+    private int journalSeat(int seat) {
+        return seat < journalSeats.length ? journalSeats[seat] : -1;
+    }
+
+    /**
+     * Returns the given players as a bit mask of their seats.
+     *
+     * @param selected the players
+     * @return the bit mask with the bit of each player's seat set
+     */
+    int seatMask(List<Player> selected) {
+        int mask = 0;
+        for (Player player : selected) {
+            mask |= seatBit(player);
+        }
+        return mask;
+    }
+
+    /**
+     * Translates a bit mask of seats of the player list into the seats of the journal.
+     *
+     * @param seatMask the bit mask of seats, as PlayerList numbers them
+     * @return the bit mask of the same players' seats in the journal
+     */
+    int journalMask(int seatMask) {
+        int mask = 0;
+        for (int left = seatMask; left != 0; left &= left - 1) {
+            int seat = journalSeat(Integer.numberOfTrailingZeros(left));
+            mask |= seat < 0 ? 0 : 1 << seat;
+        }
+        return mask;
+    }
+
+    private int seatBit(@Nullable Player player) {
+        int seat = player == null ? -1 : seatOf(player);
+        return seat < 0 ? 0 : 1 << seat;
+    }
+
+    /**
+     * Clears the decisions recorded for the previous card before the next card is played.
+     */
+    void beginPlay() {
+        playTargets = 0;
+        playGuess = 0;
+        playDecisions = 0;
+        playAnswers = 0;
+    }
+
+    int getPlayTargets() {
+        return playTargets;
+    }
+
+    int getPlayGuess() {
+        return playGuess;
+    }
+
+    int getPlayDecisions() {
+        return playDecisions;
+    }
+
     /**
      * Returns a copy of the deck.
      *
@@ -120,72 +344,121 @@ public class GameContext {
      * @param max Maximum number of opponents to select.
      * @param includeSelf whether it is allowed to target the currentPlayer itself 
      * @return A list of selected opponents.
+     * @throws IllegalStateException if targets must be chosen while there is no current user.
      */
     public List<Player> selectOpponents(int min, int max, boolean includeSelf) {
-        List<Player> selectedOpponents = new ArrayList<>();
-        List<Player> availableOpponents = new ArrayList<>();
         Player currentPlayer = getCurrentUser();
 
-        // Build a list of valid opponents
-        for (Player player: players.getPlayers()) {
-            boolean isCurrentPlayer = player.equals(currentPlayer);
-            if ((!isCurrentPlayer && !player.getIsProtected() && !player.isEliminated()) ||
-                (isCurrentPlayer && includeSelf)) {
-                availableOpponents.add(player);
-            }
-        }
+        // The seats of the valid opponents
+        int availableSeats = players.targetableSeats(currentPlayer, includeSelf);
 
         // check if there are enough available players to satisfy the card's requirements
-        if (selectedOpponents.size() + availableOpponents.size() < min) {
-            System.out.println("Not enough available players can be selected to satisfy " +
-                               "the requirement of targeting at least " + min + " player(s).");
-            selectedOpponents.clear();
-            return selectedOpponents;
+        if (Integer.bitCount(availableSeats) < min) {
+            eventListener.onMessage("Not enough available players can be selected to satisfy " +
+                                    "the requirement of targeting at least " + min + " player(s).");
+            return List.of();
         }
 
+        List<Player> selectedOpponents = new ArrayList<>(max);
+
         // enforce Sycophant effect
         if (sycophantForcedPlayer != null) {
             // Check if the Sycophant-enforced player violates the targeting rules of the card
             if (sycophantForcedPlayer.equals(currentPlayer) && !includeSelf) {
-                System.out.println("The Sycophant effect enforces targeting yourself, " +
-                                   "but current card cannot target yourself.");
-                return selectedOpponents; // Empty list indicates the card is discarded
+                eventListener.onMessage("The Sycophant effect enforces targeting yourself, " +
+                                        "but current card cannot target yourself.");
+                return List.of(); // Empty list indicates the card is discarded
             }
-            System.out.println("The Sycophant effect enforces targeting " + sycophantForcedPlayer.getName() + ".");
+            eventListener.onMessage("The Sycophant effect enforces targeting "
+                + sycophantForcedPlayer.getName() + ".");
             selectedOpponents.add(sycophantForcedPlayer);
-            availableOpponents.remove(sycophantForcedPlayer);
+            availableSeats &= ~players.seatBit(sycophantForcedPlayer);
+            playTargets |= seatBit(sycophantForcedPlayer);
         }
         
         // Let player manually select additional opponents if needed
-        while (selectedOpponents.size() < Math.min(max, availableOpponents.size() + selectedOpponents.size())) {
-            // Display available opponents excluding already selected ones
-            System.out.println("Available opponents: ");
-            for (Player opponent : availableOpponents) {
-                System.out.println(opponent.getName());
+        while (selectedOpponents.size() < Math.min(max, Integer.bitCount(availableSeats) + selectedOpponents.size())) {
+            if (currentPlayer == null) {
+                throw new IllegalStateException("No current user to choose the targets");
             }
-            System.out.print("Who would you like to target: ");
-            String opponentName = this.readLine();
-            Optional<Player> selectedOpponent = Optional.ofNullable(players.getPlayer(opponentName)); 
-            if (selectedOpponent.isEmpty()) {
-                System.out.println("No such player found. Please try again.");
-            } else if (!availableOpponents.contains(selectedOpponent.get())) {
-                System.out.println("Please target a player within available opponents");
-            } else {
-                Player opponent = selectedOpponent.get();
-                selectedOpponents.add(opponent);
-                availableOpponents.remove(opponent);
-
-                if (selectedOpponents.size() >= min && selectedOpponents.size() < max) {
-                    System.out.println("Would you like to select another player? (yes/no): ");
-                    if (this.readLine().equalsIgnoreCase("no")) {
-                        break;
-                    }
-                }
+            targetCandidates.clear();
+            players.addPlayersIn(availableSeats, targetCandidates);
+            Player opponent = input.chooseTarget(this, currentPlayer, targetCandidates);
+            selectedOpponents.add(opponent);
+            availableSeats &= ~players.seatBit(opponent);
+            playTargets |= seatBit(opponent);
+
+            if (selectedOpponents.size() >= min && selectedOpponents.size() < max
+                && !confirm(currentPlayer, "Would you like to select another player? (yes/no): ")) {
+                break;
             }
         }
         return selectedOpponents;
     }
 
+    /**
+     * Asks the player which card of their hand to play.
+     *
+     * @param player the player whose turn it is
+     * @return the index of the chosen card
+     */
+    public int chooseCardIndex(Player player) {
+        return input.chooseCardIndex(this, player);
+    }
+
+    /**
+     * Asks the player which card to guess for the Guard.
+     *
+     * @param player the player guessing
+     * @return the guessed card, or null if the answer does not name a card
+     */
+    public @Nullable Card guessCard(Player player) {
+        Card guess = input.guessCard(this, player);
+        playGuess = JournalRecord.guessOf(guess);
+        return guess;
+    }
+
+    /**
+     * Asks the player which card value to guess for the Bishop.
+     *
+     * @param player the player guessing
+     * @return the guessed card value
+     */
+    public int guessNumber(Player player) {
+        int guess = input.guessNumber(this, player);
+        playGuess = JournalRecord.guessOf(guess);
+        return guess;
+    }
+
+    /**
+     * Asks the player whose hand to look at out of the given candidates.
+     *
+     * @param player     the player choosing
+     * @param candidates the players that may be looked at
+     * @return the chosen player
+     */
+    public Player choosePlayerToInspect(Player player, List<Player> candidates) {
+        Player inspected = input.choosePlayerToInspect(this, player, candidates);
+        playDecisions = (playDecisions & ~JournalRecord.INSPECTED_MASK) | (seatOf(inspected) + 1);
+        return inspected;
+    }
+
+    /**
+     * Asks the player a yes/no question.
+     *
+     * @param player   the player answering
+     * @param question the question asked
+     * @return true if the player answered yes
+     */
+    public boolean confirm(Player player, String question) {
+        boolean answer = input.confirm(this, player, question);
+        if (answer && playAnswers < JournalRecord.MAX_ANSWERS) {
+            playDecisions |= 1 << (JournalRecord.ANSWERS_SHIFT + playAnswers);
+        }
+        playAnswers++;
+        return answer;
+    }
+
     /**
      * Reads a line of input from the input scanner.
      *
@@ -195,6 +468,17 @@ public class GameContext {
         return inputScanner.nextLine();
     }
 
+    /**
+     * Reads the next line typed by the given player. Unless the players type their
+     * answers separately, this is the next line of the shared input scanner.
+     *
+     * @param player The player whose answer is read.
+     * @return The line of input read.
+     */
+    public String readLine(Player player) {
+        return lineReader == null ? readLine() : lineReader.readLine(player);
+    }
+
     /**
      * Sets the guessed player in the game context.
      *
@@ -245,22 +529,45 @@ public class GameContext {
 
     /**
      * Draws a new card for the specified player from the deck or the removed top card.
+     * Nothing is drawn if the deck is empty and no card was set aside.
      *
      * @param player The player who will draw a new card.
      */
     public void drawNewCardForPlayerByDeckStatus(Player player) {
         if (deck.hasMoreCards()) {
             player.addCard(drawCard());
-        } else {
+        } else if (getRemovedTopCard() != null) {
             player.addCard(getRemovedTopCard());
         }
     }
 
+    /**
+     * Takes a snapshot of the players, the deck and the pending card effects.
+     *
+     * @return the snapshot of the current state
+     */
+    public GameState snapshot() {
+        return GameState.capture(players, deck, jesterPlayer, guessedPlayer, sycophantForcedPlayer);
+    }
+
+    /**
+     * Puts the game back into the state of the given snapshot. The snapshot must have
+     * been taken from a game with the same players.
+     *
+     * @param state the snapshot to restore
+     */
+    public void restore(GameState state) {
+        List<Player> seated = state.restore(players, deck);
+        this.jesterPlayer = GameState.playerAt(seated, state.getJesterSeat());
+        this.guessedPlayer = GameState.playerAt(seated, state.getGuessedSeat());
+        this.sycophantForcedPlayer = GameState.playerAt(seated, state.getSycophantSeat());
+    }
+
     /*
      * Initializes the deck based on the number of players.
      */
     public void initializeDeck() {
-        int playerCount = players.getPlayers().size();
+        int playerCount = players.size();
         if (playerCount >= 2 && playerCount <= 4) {
             this.deck.build16Cards();
         } else if (playerCount >= 5 && playerCount <= 8) {
@@ -270,6 +577,18 @@ public class GameContext {
         }
         this.deck.shuffle();
         this.deck.clearRemovedTopCard();
+        if (seats.isEmpty()) {
+            seats.addAll(players.players());
+        }
+        if (journalSeats.length != players.size()) {
+            journalSeats = new int[players.size()];
+            for (int seat = 0; seat < journalSeats.length; seat++) {
+                journalSeats[seat] = seats.indexOf(players.getSeat(seat));
+            }
+        }
+        if (journal.isRecording()) {
+            journal.onDeal(deck.toOrdinals());
+        }
     }
 
     /**
@@ -278,15 +597,16 @@ public class GameContext {
      *  - remove additional 3 cards from deck face up in a 2-player game
      */
     public void removeCardFromDeck() {
-        int playerSize = players.getPlayers().size();
+        int playerSize = players.size();
 
         // Remove 1 card from deck and store it
         deck.removeCardFromDeck();
+        eventListener.onMessage("One card has been removed from the deck and set aside.");
         // Remove additional 3 cards from deck face up in a 2-player game
         if (playerSize == 2) {
             for (int i = 0; i < 3; i++) {
                 Card drawnCard = deck.draw();
-                System.out.println(drawnCard + " was removed from the deck.");
+                eventListener.onMessage(drawnCard + " was removed from the deck.");
             }
         }
     }
@@ -0,0 +1,321 @@
+package edu.cmu.f24qa.loveletter;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Compact, immutable snapshot of a round in progress.
+ *
+ * Each seat is packed into a single long: the two hand slots, the Handmaiden
+ * protection, the tokens and the number of each card in the discard pile. The deck
+ * order is kept as card ordinals in a byte array. Copying or comparing a snapshot
+ * therefore touches a handful of words instead of the player, hand, discard pile
+ * and deck objects of the live game.
+ *
+ * The discard piles are stored as counts, so restoring a snapshot restores each pile
+ * in card order rather than in the order the cards were played.
+ */
+public final class GameState {
+    private static final Card[] CARDS = Card.values();
+    private static final int CARD_BITS = 5;
+    private static final long CARD_MASK = (1L << CARD_BITS) - 1;
+    private static final int PROTECTED_SHIFT = 2 * CARD_BITS;
+    private static final int TOKENS_SHIFT = PROTECTED_SHIFT + 1;
+    private static final int TOKEN_BITS = 4;
+    private static final int DISCARD_SHIFT = TOKENS_SHIFT + TOKEN_BITS;
+    private static final int NO_SEAT = -1;
+
+    /**
+     * Bit offset and width of the discard count of each card in a seat word, sized
+     * so that every copy of the card in the 32-card deck fits.
+     */
+    private static final int[] DISCARD_OFFSET = new int[CARDS.length];
+    private static final int[] DISCARD_BITS = new int[CARDS.length];
+
+    static {
+        Deck fullDeck = new Deck();
+        fullDeck.build32Cards();
+        int[] copies = new int[CARDS.length];
+        for (Card card : fullDeck.cards()) {
+            copies[card.ordinal()]++;
+        }
+        int offset = DISCARD_SHIFT;
+        for (int i = 0; i < CARDS.length; i++) {
+            DISCARD_OFFSET[i] = offset;
+            DISCARD_BITS[i] = 32 - Integer.numberOfLeadingZeros(copies[i]);
+            offset += DISCARD_BITS[i];
+        }
+    }
+
+    private final String[] names;
+    private final long[] seats;
+    private final byte[] deck;
+    private final byte setAsideCard;
+    private final byte jesterSeat;
+    private final byte guessedSeat;
+    private final byte sycophantSeat;
+
+    private GameState(String[] names, long[] seats, byte[] deck, byte setAsideCard,
+                      byte jesterSeat, byte guessedSeat, byte sycophantSeat) {
+        this.names = names;
+        this.seats = seats;
+        this.deck = deck;
+        this.setAsideCard = setAsideCard;
+        this.jesterSeat = jesterSeat;
+        this.guessedSeat = guessedSeat;
+        this.sycophantSeat = sycophantSeat;
+    }
+
+    /**
+     * Captures the state of the given players and deck. Seats are numbered in the
+     * current order of the player list.
+     *
+     * @throws IllegalStateException if a player has discarded more cards of a kind
+     *                               than the 32-card deck contains
+     */
+    static GameState capture(PlayerList playerList, Deck deck, @Nullable Player jester,
+                             @Nullable Player guessed, @Nullable Player sycophantTarget) {
+        List<Player> players = playerList.players();
+        String[] names = new String[players.size()];
+        long[] seats = new long[players.size()];
+        for (int seat = 0; seat < seats.length; seat++) {
+            Player player = players.get(seat);
+            names[seat] = player.getName();
+            seats[seat] = pack(player);
+        }
+        return new GameState(names, seats, deck.toOrdinals(), encode(deck.getRemovedTopCard()),
+            seatOf(players, jester), seatOf(players, guessed), seatOf(players, sycophantTarget));
+    }
+
+    private static byte seatOf(List<Player> players, @Nullable Player player) {
+        return (byte) (player == null ? NO_SEAT : players.indexOf(player));
+    }
+
+    private static long pack(Player player) {
+        List<Card> hand = player.getHand().cards();
+        long word = 0;
+        for (int slot = 0; slot < hand.size(); slot++) {
+            word |= (long) encode(hand.get(slot)) << (slot * CARD_BITS);
+        }
+        if (player.getIsProtected()) {
+            word |= 1L << PROTECTED_SHIFT;
+        }
+        word |= (long) checkFits(player.getTokens(), TOKEN_BITS, "tokens") << TOKENS_SHIFT;
+        for (int i = 0; i < CARDS.length; i++) {
+            int count = player.countDiscarded(CARDS[i]);
+            word |= (long) checkFits(count, DISCARD_BITS[i], CARDS[i].getName()) << DISCARD_OFFSET[i];
+        }
+        return word;
+    }
+
+    private static int checkFits(int value, int bits, String what) {
+        if (value >>> bits != 0) {
+            throw new IllegalStateException("Too many " + what + " to take a snapshot: " + value);
+        }
+        return value;
+    }
+
+    private static byte encode(@Nullable Card card) {
+        return card == null ? 0 : (byte) (card.ordinal() + 1);
+    }
+
+    private static @Nullable Card decode(long code) {
+        return code == 0 ? null : CARDS[(int) code - 1];
+    }
+
+    /**
+     * Writes this snapshot back into the given players and deck. The player list must
+     * contain the players the snapshot was taken from; it is rotated back to the seat
+     * order of the snapshot.
+     *
+     * @return the players in seat order
+     * @throws IllegalArgumentException if the players do not match the snapshot
+     */
+    List<Player> restore(PlayerList playerList, Deck target) {
+        Player first = playerList.size() == 0 ? null : playerList.getPlayer(names[0]);
+        if (first == null || playerList.size() != names.length) {
+            throw new IllegalArgumentException("The players do not match the snapshot");
+        }
+        playerList.rotatePlayerList(first);
+        List<Player> players = playerList.getPlayers();
+        for (int seat = 0; seat < seats.length; seat++) {
+            Player player = players.get(seat);
+            if (!player.getName().equals(names[seat])) {
+                throw new IllegalArgumentException("The players do not match the snapshot");
+            }
+            unpack(seat, player);
+        }
+        target.restore(deck, getSetAsideCard());
+        return players;
+    }
+
+    private void unpack(int seat, Player player) {
+        player.clearHand();
+        for (int slot = 0; slot < Hand.CAPACITY; slot++) {
+            Card card = getHandCard(seat, slot);
+            if (card != null) {
+                player.addCard(card);
+            }
+        }
+        if (player.getIsProtected() != isProtected(seat)) {
+            player.switchProtection();
+        }
+        player.setTokens(getTokens(seat));
+        player.clearDiscarded();
+        for (Card card : CARDS) {
+            for (int i = getDiscardCount(seat, card); i > 0; i--) {
+                player.addCardToDiscarded(card);
+            }
+        }
+    }
+
+    public int getPlayerCount() {
+        return seats.length;
+    }
+
+    public String getName(int seat) {
+        return names[seat];
+    }
+
+    /**
+     * Returns the number of cards the player in the given seat holds.
+     *
+     * @param seat the seat index
+     * @return 0 if the player is eliminated, otherwise 1 or 2
+     */
+    public int getHandSize(int seat) {
+        long word = seats[seat];
+        if ((word & CARD_MASK) == 0) {
+            return 0;
+        }
+        return ((word >>> CARD_BITS) & CARD_MASK) == 0 ? 1 : 2;
+    }
+
+    /**
+     * Returns a card from the hand of the player in the given seat.
+     *
+     * @param seat the seat index
+     * @param slot the position of the card in the hand
+     * @return the card, or null if the slot is empty
+     */
+    public @Nullable Card getHandCard(int seat, int slot) {
+        return decode((seats[seat] >>> (slot * CARD_BITS)) & CARD_MASK);
+    }
+
+    public boolean isEliminated(int seat) {
+        return getHandSize(seat) == 0;
+    }
+
+    public boolean isProtected(int seat) {
+        return (seats[seat] >>> PROTECTED_SHIFT & 1) != 0;
+    }
+
+    public int getTokens(int seat) {
+        return (int) (seats[seat] >>> TOKENS_SHIFT & ((1 << TOKEN_BITS) - 1));
+    }
+
+    /**
+     * Returns how many copies of a card the player in the given seat has discarded.
+     *
+     * @param seat the seat index
+     * @param card the card to count
+     * @return the number of copies in the discard pile
+     */
+    public int getDiscardCount(int seat, Card card) {
+        int i = card.ordinal();
+        return (int) (seats[seat] >>> DISCARD_OFFSET[i] & ((1L << DISCARD_BITS[i]) - 1));
+    }
+
+    /**
+     * Returns the total value of the discard pile of the player in the given seat.
+     *
+     * @param seat the seat index
+     * @return the sum of the values of the discarded cards
+     */
+    public int getDiscardValue(int seat) {
+        int value = 0;
+        for (Card card : CARDS) {
+            value += getDiscardCount(seat, card) * card.getValue();
+        }
+        return value;
+    }
+
+    public int getDeckSize() {
+        return deck.length;
+    }
+
+    /**
+     * Returns a card of the deck, counted from the top.
+     *
+     * @param depth 0 for the top card of the deck
+     * @return the card at that depth
+     */
+    public Card getDeckCard(int depth) {
+        return CARDS[deck[deck.length - 1 - depth]];
+    }
+
+    public @Nullable Card getSetAsideCard() {
+        return decode(setAsideCard);
+    }
+
+    /**
+     * Returns the seat of the player who was given the Jester.
+     *
+     * @return the seat index, or -1 if no Jester is in play
+     */
+    public int getJesterSeat() {
+        return jesterSeat;
+    }
+
+    /**
+     * Returns the seat of the player the Jester guessed to win the round.
+     *
+     * @return the seat index, or -1 if no Jester is in play
+     */
+    public int getGuessedSeat() {
+        return guessedSeat;
+    }
+
+    /**
+     * Returns the seat of the player the Sycophant forces the next card to target.
+     *
+     * @return the seat index, or -1 if no Sycophant effect is active
+     */
+    public int getSycophantSeat() {
+        return sycophantSeat;
+    }
+
+    /**
+     * Returns the player sitting in the given seat, or null for -1.
+     */
+    static @Nullable Player playerAt(List<Player> players, int seat) {
+        return seat == NO_SEAT ? null : players.get(seat);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof GameState)) {
+            return false;
+        }
+        GameState state = (GameState) other;
+        return setAsideCard == state.setAsideCard && jesterSeat == state.jesterSeat
+            && guessedSeat == state.guessedSeat && sycophantSeat == state.sycophantSeat
+            && Arrays.equals(seats, state.seats) && Arrays.equals(deck, state.deck)
+            && Arrays.equals(names, state.names);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Arrays.hashCode(seats);
+        hash = 31 * hash + Arrays.hashCode(deck);
+        hash = 31 * hash + setAsideCard;
+        hash = 31 * hash + jesterSeat;
+        hash = 31 * hash + guessedSeat;
+        return 31 * hash + sycophantSeat;
+    }
+}
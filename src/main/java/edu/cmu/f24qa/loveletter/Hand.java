@@ -1,20 +1,51 @@
 package edu.cmu.f24qa.loveletter;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import edu.cmu.f24qa.loveletter.events.GameEventListener;
+
+/**
+ * The cards held by a player. A hand never holds more than two cards, so they
+ * are kept as the ordinals of the cards in two byte slots; copying, swapping
+ * and removing cards only move those bytes around.
+ */
 public class Hand {
-    private ArrayList<Card> hand;
+    /**
+     * Number of cards a hand can hold: the card kept plus the card drawn.
+     */
+    public static final int CAPACITY = 2;
+    private static final Card[] CARDS = Card.values();
+
+    private byte first;
+    private byte second;
+    private int size;
+
+    /**
+     * Read-only view of the cards, handed out instead of copies. Only created once
+     * asked for, so hands that are never looked at as a list do not pay for it.
+     */
+    private @Nullable List<Card> view;
+
+    /**
+     * The player holding this hand, told when the hand becomes empty or non-empty.
+     */
+    private @Nullable Player owner;
 
     public Hand() {
-        this.hand = new ArrayList<>();
+        this.size = 0;
     }
 
     /**
      * Copy constructor
      */
     public Hand(Hand hand) {
-        this.hand = new ArrayList<>(hand.hand);
+        this.first = hand.first;
+        this.second = hand.second;
+        this.size = hand.size;
     }
 
     /**
@@ -25,17 +56,37 @@ public class Hand {
      * @return the card held by the player
      */
     public Card peek(int idx) {
-        return this.hand.get(idx);
+        checkIndex(idx);
+        return CARDS[idx == 0 ? first : second];
     }
 
+    /**
+     * Adds a card to the hand.
+     *
+     * @param card the card to add
+     * @throws IllegalStateException if the hand already holds two cards
+     */
     public void add(Card card) {
-        this.hand.add(card);
+        if (this.size == CAPACITY) {
+            throw new IllegalStateException("A hand holds at most " + CAPACITY + " cards.");
+        }
+        if (this.size == 0) {
+            this.first = (byte) card.ordinal();
+        } else {
+            this.second = (byte) card.ordinal();
+        }
+        this.size++;
+        if (this.size == 1 && owner != null) {
+            owner.onHandFilled();
+        }
+    }
+
+    void setOwner(Player player) {
+        this.owner = player;
     }
 
     public Hand copy() {
-        Hand copy = new Hand();
-        copy.hand.addAll(this.hand); // Copy all cards to the new Hand instance
-        return copy;
+        return new Hand(this);
     }
 
     /**
@@ -46,7 +97,53 @@ public class Hand {
      * @return the card at the given index
      */
     public Card remove(int idx) {
-        return this.hand.remove(idx);
+        checkIndex(idx);
+        Card card = CARDS[idx == 0 ? first : second];
+        this.first = idx == 0 ? this.second : this.first;
+        this.size--;
+        if (this.size == 0 && owner != null) {
+            owner.onHandEmptied();
+        }
+        return card;
+    }
+
+    /**
+     * Swaps the cards of this hand with the cards of another hand, as the King and
+     * the Cardinal do. Swapping a hand with itself changes nothing.
+     *
+     * @param other the hand to swap cards with
+     */
+    public void swapWith(Hand other) {
+        byte otherFirst = other.first;
+        byte otherSecond = other.second;
+        int otherSize = other.size;
+        other.first = this.first;
+        other.second = this.second;
+        other.size = this.size;
+        this.first = otherFirst;
+        this.second = otherSecond;
+        this.size = otherSize;
+        if (this.size == 0 ^ other.size == 0) {
+            notifyEmptiness();
+            other.notifyEmptiness();
+        }
+    }
+
+    private void notifyEmptiness() {
+        if (owner == null) {
+            return;
+        }
+        if (this.size == 0) {
+            owner.onHandEmptied();
+        } else {
+            owner.onHandFilled();
+        }
+    }
+
+    private void checkIndex(int idx) {
+        if (idx < 0 || idx >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + idx + ", Size: " + this.size);
+        }
     }
 
     /**
@@ -55,25 +152,46 @@ public class Hand {
      * @return the position of a royal card, -1 if no royal card is in hand
      */
     public int royaltyPos() {
-        for (int i = 0; i < hand.size(); i++) {
-            if (hand.get(i).getValue() == 5 || hand.get(i).getValue() == 6) {
-                return i;
-            }
+        if (this.size > 0 && isRoyal(first)) {
+            return 0;
+        }
+        if (this.size > 1 && isRoyal(second)) {
+            return 1;
         }
         return -1;
     }
 
+    private static boolean isRoyal(byte ordinal) {
+        int value = CARDS[ordinal].getValue();
+        return value == 5 || value == 6;
+    }
+
     public boolean hasCards() {
-        return !this.hand.isEmpty();
+        return this.size != 0;
+    }
+
+    public int size() {
+        return this.size;
     }
 
     public void clear() {
-        this.hand.clear();
+        if (this.size != 0) {
+            this.size = 0;
+            if (owner != null) {
+                owner.onHandEmptied();
+            }
+        }
     }
 
-    public void print() {
-        for (Card c : this.hand) {
-            System.out.println(c);
+    /**
+     * Narrates each card in the hand on its own line, privately to the given player.
+     *
+     * @param player the player allowed to see the hand
+     * @param events the listener receiving the narration
+     */
+    public void print(Player player, GameEventListener events) {
+        for (int i = 0; i < this.size; i++) {
+            events.onPrivateMessage(player, peek(i).toString());
         }
     }
 
@@ -85,6 +203,41 @@ public class Hand {
      * @return a new list of cards in the hand.
      */
     public List<Card> getHand() {
-        return new ArrayList<>(this.hand);
+        List<Card> cards = new ArrayList<>(CAPACITY);
+        for (int idx = 0; idx < size; idx++) {
+            cards.add(peek(idx));
+        }
+        return cards;
+    }
+
+    /**
+     * Returns a read-only view of the cards in hand, which follows later changes
+     * to the hand. Unlike getHand(), this does not copy the cards.
+     *
+     * @return an unmodifiable view of the cards in the hand
+     */
+    public List<Card> cards() {
+        List<Card> cards = this.view;
+        if (cards == null) {
+            cards = new CardView();
+            this.view = cards;
+        }
+        return cards;
+    }
+
+    /**
+     * A list following the cards of this hand. AbstractList rejects every change, so
+     * the view is read-only without a wrapper.
+     */
+    private final class CardView extends AbstractList<Card> {
+        @Override
+        public Card get(int index) {
+            return peek(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
     }
 }
@@ -1,8 +1,19 @@
 package edu.cmu.f24qa.loveletter;
 
+import java.io.IOException;
+
+import edu.cmu.f24qa.loveletter.server.GameServer;
+
 public class Main {
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && "--server".equals(args[0])) {
+            int port = args.length > 1 ? Integer.parseInt(args[1]) : 4000;
+            int seatsPerTable = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+            int maxTables = args.length > 3 ? Integer.parseInt(args[3]) : 10_000;
+            new GameServer(port, seatsPerTable, maxTables).start();
+            return;
+        }
         Game g = new Game(new PlayerList(), new Deck(), System.in);
         g.promptForPlayers();
         g.start();
@@ -1,5 +1,11 @@
 package edu.cmu.f24qa.loveletter;
 
+import java.util.List;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import edu.cmu.f24qa.loveletter.events.ConsoleEventListener;
+import edu.cmu.f24qa.loveletter.events.GameEventListener;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 public class Player {
@@ -18,12 +24,25 @@ public class Player {
      */
     private int tokens;
 
+    /**
+     * Receives the narration of effects that happen to this player.
+     */
+    private GameEventListener eventListener;
+
+    /**
+     * The player list counting this player's cards, protection and tokens, if any,
+     * and this player's seat in it.
+     */
+    private @Nullable PlayerList table;
+    private int tableSeat;
+
     public Player(String name, Hand hand, DiscardPile discarded, boolean isProtected, int tokens) {
         this.name = name;
         this.hand = new Hand(hand);
         this.discarded = new DiscardPile(discarded);
         this.isProtected = isProtected;
         this.tokens = tokens;
+        this.eventListener = new ConsoleEventListener();
     }
 
     public Player(Player player) {
@@ -32,11 +51,55 @@ public class Player {
         this.discarded = new DiscardPile(player.discarded);
         this.isProtected = player.getIsProtected();
         this.tokens = player.tokens;
-
+        this.eventListener = player.eventListener;
     }
 
     public void addToken() {
         this.tokens++;
+        if (table != null) {
+            table.onTokensChanged(this.tokens - 1, this.tokens);
+        }
+    }
+
+    /**
+     * Lets the given list keep count of this player's cards, protection and tokens.
+     * A player is counted by one list at a time; the list that counted the player
+     * before stops relying on its counts.
+     *
+     * @param list the list counting this player
+     * @param seat the seat of this player in that list
+     */
+    void countIn(PlayerList list, int seat) {
+        if (table != null && table != list) {
+            table.stopCounting();
+        }
+        table = list;
+        tableSeat = seat;
+        // the hand only has to report changes once they are counted, so its owner is set here
+        // rather than while this player is still being constructed
+        hand.setOwner(this);
+    }
+
+    /**
+     * Returns this player's seat in the given list, as last counted by that list.
+     *
+     * @param list the list
+     * @return the seat, or -1 if the list does not count this player
+     */
+    int seatIn(PlayerList list) {
+        return table == list ? tableSeat : -1;
+    }
+
+    void onHandFilled() {
+        if (table != null) {
+            table.onHandChanged(tableSeat, true);
+        }
+    }
+
+    void onHandEmptied() {
+        if (table != null) {
+            table.onHandChanged(tableSeat, false);
+        }
     }
 
     /**
@@ -44,9 +107,10 @@ public class Player {
      * If the player has a constable card in their discard pile, they get a token.
      */
     public void handleConstable() {
-        if (this.discarded.getCards().contains(Card.CONSTABLE)) {
+        if (this.discarded.contains(Card.CONSTABLE)) {
             this.addToken();
-            System.out.println("Player " + this.name + " has a constable card in their discard pile and gets a token.");
+            eventListener.onMessage("Player " + this.name
+                + " has a constable card in their discard pile and gets a token.");
         }
     }
 
@@ -60,7 +124,7 @@ public class Player {
     }
 
     public boolean isEliminated() {
-        return this.hand.getHand().isEmpty();
+        return !this.hand.hasCards();
     }
 
     /**
@@ -68,6 +132,9 @@ public class Player {
      */
     public void switchProtection() {
         this.isProtected = !this.isProtected;
+        if (table != null) {
+            table.onProtectionChanged(tableSeat, this.isProtected);
+        }
     }
 
     @SuppressFBWarnings(
@@ -90,6 +157,34 @@ public class Player {
         return this.discarded.copy();
     }
 
+    /**
+     * Returns a read-only view of the cards this player has discarded, without copying the pile.
+     *
+     * @return an unmodifiable view of the discarded cards, in the order they were discarded
+     */
+    public List<Card> getDiscardedCards() {
+        return this.discarded.cards();
+    }
+
+    /**
+     * Returns the total value of the cards this player has discarded, without copying the pile.
+     *
+     * @return the sum of the discarded card values
+     */
+    public int getDiscardedValue() {
+        return this.discarded.value();
+    }
+
+    /**
+     * Returns how many copies of a card this player has discarded, without copying the pile.
+     *
+     * @param card the card to count
+     * @return the number of copies discarded
+     */
+    public int countDiscarded(Card card) {
+        return this.discarded.count(card);
+    }
+
     public void addCardToDiscarded(Card card) {
         this.discarded.add(card);
     }
@@ -111,6 +206,32 @@ public class Player {
         return this.isProtected;
     }
 
+    /**
+     * Sets the listener that receives the narration of effects on this player.
+     *
+     * @param listener the listener to notify
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2", 
+        justification = "Game-Specific Business Logic Requires Direct Reference"
+    )
+    public void setEventListener(GameEventListener listener) {
+        this.eventListener = listener;
+    }
+
+    /**
+     * Sets the number of tokens, used when restoring a GameState.
+     *
+     * @param count the number of tokens
+     */
+    void setTokens(int count) {
+        int before = this.tokens;
+        this.tokens = count;
+        if (table != null) {
+            table.onTokensChanged(before, count);
+        }
+    }
+
     public int getTokens() {
         return this.tokens;
     }
@@ -131,9 +252,6 @@ public class Player {
      */
     public int getHandValueWithCountBonus() {
         int handValue = this.getHand().peek(0).getValue();
-        int countBonus = (int) this.getDiscarded().getCards().stream()
-            .filter(card -> card == Card.COUNT)
-            .count();
-        return handValue + countBonus;
+        return handValue + this.discarded.count(Card.COUNT);
     }
 }
@@ -1,271 +1,644 @@
-package edu.cmu.f24qa.loveletter;
-
-import java.util.ArrayList;
-import java.util.LinkedList;
-import java.util.List;
-
-import org.checkerframework.checker.nullness.qual.Nullable;
-
-public class PlayerList {
-
-    private LinkedList<Player> players;
-
-    public PlayerList() {
-        this.players = new LinkedList<>();
-    }
-
-    /**
-     * Copy constructor
-     */
-    public PlayerList(@Nullable PlayerList playerList) {
-        this.players = (playerList != null && playerList.players != null)
-        ? new LinkedList<>(playerList.players)
-        : new LinkedList<>();
-    }
-
-    /**
-     * Adds a new Player object with the given name to the PlayerList.
-     *
-     * @param name - the given player name
-     *
-     * @return true if the player is not already in the list and can be added, false
-     *         if not
-     */
-    public boolean addPlayer(String name) {
-        for (Player p : players) {
-            if (p.getName().equalsIgnoreCase(name)) {
-                return false;
-            }
-        }
-        players.addLast(new Player(name, new Hand(), new DiscardPile(), false, 0));
-        return true;
-    }
-
-    /**
-     * Gets the first player in the list and adds them to end of the list.
-     *
-     * @return the first player in the list
-     */
-    public Player getCurrentPlayer() {
-        Player current = players.removeFirst();
-        players.addLast(current);
-        return current;
-    }
-
-    /**
-     * Resets all players within the list.
-     */
-    public void reset() {
-        for (Player p : players) {
-            p.clearHand();
-            p.clearDiscarded();;
-        }
-    }
-
-    /**
-     * Prints the used pile of each Player in the list.
-     */
-    public void printUsedPiles() {
-        for (Player p : players) {
-            System.out.println("\n" + p.getName());
-            p.getDiscarded().print();
-        }
-    }
-
-    /**
-     * Prints each Player in the list.
-     */
-    public void print() {
-        System.out.println();
-        for (Player p : players) {
-            System.out.println(p);
-        }
-        System.out.println();
-    }
-
-    /**
-     * Checks the list for a single Player with remaining cards.
-     *
-     * @return true if there is a winner, false if not
-     */
-    public boolean checkForRoundWinner() {
-        int count = 0;
-        for (Player p : players) {
-            if (p.getHand().hasCards()) {
-                count++;
-            }
-        }
-        if (count == 0) {
-            throw new IllegalStateException("No players have cards.");
-        }
-        return count == 1;
-    }
-
-    /**
-     * Returns the winner of the round.
-     *
-     * @return the round winner
-     */
-    public @Nullable Player getRoundWinner() {
-        for (Player p : players) {
-            if (p.getHand().hasCards()) {
-                return p;
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Returns the winner of the game.
-     *
-     * @return the game winner
-     */
-    public List<Player> getGameWinner() {
-        List<Player> winners = new ArrayList<>();
-        int playerCount = players.size();
-        int tokensToWin;
-        if (!(playerCount >= 2 && playerCount <= 8)) {
-            throw new IllegalStateException("Invalid number of players");
-        }
-        if (playerCount == 2) {
-            tokensToWin = 7;
-        } else if (playerCount == 3) {
-            tokensToWin = 5;
-        } else {
-            tokensToWin = 4;
-        }
-        for (Player p : players) {
-            if (p.getTokens() >= tokensToWin) {
-                winners.add(p);
-            }
-        }
-        return winners;
-    }
-
-    /**
-     * Deals a card to each Player in the list.
-     *
-     * @param deck - the deck of cards
-     */
-    public void dealCards(Deck deck) {
-        for (Player p : players) {
-            p.addCard(deck.draw());
-        }
-    }
-
-    /**
-     * Gets the player with the given name.
-     *
-     * @param name - the name of the desired player
-     *
-     * @return the player with the given name or null if there is no such player
-     */
-    public @Nullable Player getPlayer(String name) {
-        if (players.isEmpty()) {
-            throw new IllegalStateException("Player list is empty");
-        }
-        for (Player p : players) {
-            if (p.getName().equalsIgnoreCase(name)) {
-                return p;
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Returns the full list of players.
-     *
-     * @return the LinkedList of Player objects.
-     */
-    public LinkedList<Player> getPlayers() {
-        return new LinkedList<>(players); // Defensive copy
-    }
-
-    /**
-     * Returns the list of players with the highest used pile value.
-     *
-     * @return the list of players with the highest used pile value
-     */
-    public List<Player> compareUsedPiles(List<Player> tiedPlayers) {
-        if (tiedPlayers.isEmpty()) {
-            throw new IllegalStateException("Passed player list is empty");
-        }
-        List<Player> tiedWinners = new ArrayList<>();
-        int highestDiscardPileValue = -1;
-
-        for (Player player: players) {
-            if (player.isEliminated()) {
-                continue;
-            }
-            int discardPileValue = player.getDiscarded().value();
-            if (discardPileValue > highestDiscardPileValue) {
-                highestDiscardPileValue = discardPileValue;
-                tiedWinners.clear();
-                tiedWinners.add(player);
-            } else if (discardPileValue == highestDiscardPileValue) {
-                tiedWinners.add(player);
-            }
-        }
-        return tiedWinners;
-    }
-
-    /*
-     * Returns a list of players with the highest value hand card, accounting for Count card effects
-     * Special case: Bishop (9) loses to Princess (8) in hand comparison.
-     */
-    public List<Player> compareHand() {
-        if (players.isEmpty()) {
-            throw new IllegalStateException("Player list is empty");
-        }
-        List<Player> tiedPlayers = new ArrayList<>();
-        int highestEffectiveValue = -1;
-        boolean hasPrincess = false;
-
-        // First pass to check if anyone has the Princess
-        for (Player player: players) {
-            if (player.getHand().hasCards() && player.getHand().peek(0) == Card.PRINCESS) {
-                hasPrincess = true;
-                break;
-            }
-        }
-
-        for (Player player: players) {
-            if (!player.isEliminated()) {
-                Card handCard = player.getHand().peek(0);
-                
-                // If someone has Princess, Bishop holders are ignored
-                if (hasPrincess && handCard == Card.BISHOP) {
-                    continue;
-                }
-
-                // Calculate effective hand value with Count bonus
-                int effectiveValue = player.getHandValueWithCountBonus();
-                
-                if (effectiveValue > highestEffectiveValue) {
-                    highestEffectiveValue = effectiveValue;
-                    tiedPlayers.clear();
-                    tiedPlayers.add(player);
-                } else if (effectiveValue == highestEffectiveValue) {
-                    tiedPlayers.add(player);
-                }
-            }
-        }
-        
-        return tiedPlayers;
-    } 
-
-    /* for testing purpose */
-    public void addPlayer(Player player) {
-        players.addLast(player);
-    }
-
-    /*
-     * Rotate the list so the winner becomes the first player
-     */
-    public void rotatePlayerList(Player lastRoundWinner) {
-        while (!players.getFirst().equals(lastRoundWinner)) {
-            Player movedPlayer = players.removeFirst();
-            players.addLast(movedPlayer);
-        }
-    }
-}
+package edu.cmu.f24qa.loveletter;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import edu.cmu.f24qa.loveletter.events.ConsoleEventListener;
+import edu.cmu.f24qa.loveletter.events.GameEventListener;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * The players of a game, seated around the table.
+ *
+ * The players are kept in a seat array in the order they joined, so the seat of a
+ * player never changes once all players have joined. The turn order is given by a
+ * cursor on the seat whose player goes first; advancing the turn or letting a round
+ * winner go first only moves the cursor.
+ */
+public class PlayerList {
+    /**
+     * Number of seats at the largest (8-player) table; more are added if needed.
+     */
+    private static final int CAPACITY = 8;
+
+    /**
+     * Number of seats that fit in the bit masks of seats.
+     */
+    private static final int MAX_SEATS = Integer.SIZE;
+
+    private Player[] seats;
+    private int count;
+
+    /**
+     * The seat of the player who goes first in the current order.
+     */
+    private int head;
+
+    /**
+     * Read-only view of the players in the current order, handed out instead of copies.
+     */
+    private List<Player> view;
+
+    /**
+     * Whether the players in the list tell it about changes to their cards, protection
+     * and tokens.
+     */
+    private boolean counting;
+
+    /**
+     * Bit masks of the seats whose player holds no cards or is protected by the
+     * Handmaiden, kept up to date while counting.
+     */
+    private int emptySeats;
+    private int protectedSeats;
+
+    /**
+     * Highest number of tokens of any player, kept up to date while maxTokensValid.
+     */
+    private int maxTokens;
+    private boolean maxTokensValid;
+
+    /**
+     * Receives the narration of the list and of every player in it.
+     */
+    private GameEventListener eventListener;
+
+    public PlayerList() {
+        this.seats = new Player[CAPACITY];
+        this.view = Collections.unmodifiableList(new OrderView());
+        this.eventListener = new ConsoleEventListener();
+    }
+
+    /**
+     * Copy constructor
+     */
+    public PlayerList(@Nullable PlayerList playerList) {
+        if (playerList != null && playerList.seats != null) {
+            this.seats = playerList.seats.clone();
+            this.count = playerList.count;
+            this.head = playerList.head;
+        } else {
+            this.seats = new Player[CAPACITY];
+        }
+        this.view = Collections.unmodifiableList(new OrderView());
+        this.eventListener = (playerList != null && playerList.eventListener != null)
+        ? playerList.eventListener
+        : new ConsoleEventListener();
+    }
+
+    /**
+     * Sets the listener that receives the narration of the list and of every player in it,
+     * including players added later.
+     *
+     * @param listener the listener to notify
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2", 
+        justification = "Game-Specific Business Logic Requires Direct Reference"
+    )
+    public void setEventListener(GameEventListener listener) {
+        this.eventListener = listener;
+        for (int seat = 0; seat < count; seat++) {
+            seats[seat].setEventListener(listener);
+        }
+    }
+
+    /**
+     * Adds a new Player object with the given name to the PlayerList.
+     *
+     * @param name - the given player name
+     *
+     * @return true if the player is not already in the list and can be added, false
+     *         if not
+     */
+    public boolean addPlayer(String name) {
+        for (int seat = 0; seat < count; seat++) {
+            if (seats[seat].getName().equalsIgnoreCase(name)) {
+                return false;
+            }
+        }
+        Player player = new Player(name, new Hand(), new DiscardPile(), false, 0);
+        addPlayer(player);
+        return true;
+    }
+
+    /**
+     * Gets the player whose turn it is and moves the turn on to the next seat.
+     * Seats whose player holds no cards are passed over, unless nobody holds cards.
+     * The seat is found in the mask of empty seats rather than by looking at the hands.
+     *
+     * @return the player whose turn it is
+     */
+    public Player getCurrentPlayer() {
+        if (count == 0) {
+            throw new NoSuchElementException("Player list is empty");
+        }
+        startCounting();
+        int holding = ~emptySeats & allSeats();
+        int seat = head;
+        if (holding != 0) {
+            // the first seat holding cards at or after the cursor, else the first one before it
+            int ahead = holding >>> head;
+            seat = ahead != 0 ? head + Integer.numberOfTrailingZeros(ahead) : Integer.numberOfTrailingZeros(holding);
+        }
+        head = nextSeat(seat);
+        return seats[seat];
+    }
+
+    private int nextSeat(int seat) {
+        return seat + 1 == count ? 0 : seat + 1;
+    }
+
+    /**
+     * Returns the player at a position of the current order.
+     *
+     * @param position 0 for the player who goes first
+     * @return the player at that position
+     */
+    private Player at(int position) {
+        int seat = head + position;
+        return seats[seat >= count ? seat - count : seat];
+    }
+
+    /**
+     * Resets all players within the list.
+     */
+    public void reset() {
+        for (int seat = 0; seat < count; seat++) {
+            seats[seat].clearHand();
+            seats[seat].clearDiscarded();
+        }
+    }
+
+    /**
+     * Prints the used pile of each Player in the list.
+     */
+    public void printUsedPiles() {
+        if (!eventListener.wantsMessages()) {
+            return;
+        }
+        for (Player p : view) {
+            eventListener.onMessage("\n" + p.getName());
+            for (Card card : p.getDiscardedCards()) {
+                eventListener.onMessage(card.toString());
+            }
+        }
+    }
+
+    /**
+     * Prints each Player in the list.
+     */
+    public void print() {
+        if (!eventListener.wantsMessages()) {
+            return;
+        }
+        eventListener.onMessage("");
+        for (Player p : view) {
+            eventListener.onMessage(p.toString());
+        }
+        eventListener.onMessage("");
+    }
+
+    /**
+     * Checks whether only one player holds cards, in constant time.
+     *
+     * @return true if the round is over, false if not
+     * @throws IllegalStateException if no players have cards
+     */
+    public boolean isRoundOver() {
+        startCounting();
+        int alive = count - Integer.bitCount(emptySeats);
+        if (alive == 0) {
+            throw new IllegalStateException("No players have cards.");
+        }
+        return alive == 1;
+    }
+
+    /**
+     * Checks whether a player has enough tokens to win the game, in constant time.
+     *
+     * @return true if the game has a winner, false if not
+     */
+    public boolean hasGameWinner() {
+        startCounting();
+        if (!maxTokensValid) {
+            maxTokens = 0;
+            for (int seat = 0; seat < count; seat++) {
+                maxTokens = Math.max(maxTokens, seats[seat].getTokens());
+            }
+            maxTokensValid = true;
+        }
+        return maxTokens >= tokensToWin();
+    }
+
+    /**
+     * Returns the seats a card may target as a bit mask, without building a list:
+     * the seats whose player holds cards and is not protected, except the user's own
+     * seat, which is included exactly when includeSelf is set.
+     *
+     * @param user        the player playing the card, or null
+     * @param includeSelf whether the user may target themselves
+     * @return the bit mask of targetable seats
+     */
+    public int targetableSeats(@Nullable Player user, boolean includeSelf) {
+        startCounting();
+        int targets = allSeats() & ~emptySeats & ~protectedSeats;
+        int self = user == null ? 0 : seatBit(user);
+        return includeSelf ? targets | self : targets & ~self;
+    }
+
+    private int allSeats() {
+        return count == MAX_SEATS ? -1 : (1 << count) - 1;
+    }
+
+    /**
+     * Returns the bit mask of the seats whose player holds no cards, in constant time.
+     *
+     * @return the bit mask of eliminated seats
+     */
+    int emptySeats() {
+        startCounting();
+        return emptySeats;
+    }
+
+    /**
+     * Returns the bit of a player's seat in the masks of seats.
+     *
+     * @param player the player
+     * @return the bit of the player's seat, or 0 if the player is not in the list
+     */
+    int seatBit(Player player) {
+        int seat = player.seatIn(this);
+        if (seat < 0 || seat >= count || seats[seat] != player) {
+            seat = seatOf(player);
+        }
+        return seat < 0 ? 0 : 1 << seat;
+    }
+
+    /**
+     * Returns the players in the seats of a bit mask, in the current order.
+     *
+     * @param seatMask the bit mask of seats
+     * @return a new list of the players in those seats
+     */
+    public List<Player> playersIn(int seatMask) {
+        List<Player> selected = new ArrayList<>(Integer.bitCount(seatMask));
+        addPlayersIn(seatMask, selected);
+        return selected;
+    }
+
+    /**
+     * Adds the players in the seats of a bit mask to a list, in the current order, so a
+     * caller can fill a list it reuses.
+     *
+     * @param seatMask the bit mask of seats
+     * @param selected the list to add the players to
+     */
+    void addPlayersIn(int seatMask, List<Player> selected) {
+        for (int i = 0, seat = head; i < count; i++, seat = nextSeat(seat)) {
+            if ((seatMask & 1 << seat) != 0) {
+                selected.add(seats[seat]);
+            }
+        }
+    }
+
+    /**
+     * Makes the players of the list tell it about changes to their cards, protection
+     * and tokens, so the seats only have to be looked at once.
+     */
+    private void startCounting() {
+        if (counting) {
+            return;
+        }
+        emptySeats = 0;
+        protectedSeats = 0;
+        for (int seat = 0; seat < count; seat++) {
+            Player player = seats[seat];
+            player.countIn(this, seat);
+            if (player.isEliminated()) {
+                emptySeats |= 1 << seat;
+            }
+            if (player.getIsProtected()) {
+                protectedSeats |= 1 << seat;
+            }
+        }
+        counting = true;
+    }
+
+    /**
+     * Stops relying on the counts, e.g. because a player is counted by another list.
+     * The players are counted again when the counts are needed next.
+     */
+    void stopCounting() {
+        counting = false;
+        maxTokensValid = false;
+    }
+
+    void onHandChanged(int seat, boolean hasCards) {
+        emptySeats = hasCards ? emptySeats & ~(1 << seat) : emptySeats | 1 << seat;
+    }
+
+    void onProtectionChanged(int seat, boolean isProtected) {
+        protectedSeats = isProtected ? protectedSeats | 1 << seat : protectedSeats & ~(1 << seat);
+    }
+
+    void onTokensChanged(int before, int after) {
+        if (after >= maxTokens) {
+            maxTokens = after;
+        } else if (before == maxTokens) {
+            maxTokensValid = false;
+        }
+    }
+
+    /**
+     * Returns the winner of the round.
+     *
+     * @return the round winner
+     */
+    public @Nullable Player getRoundWinner() {
+        for (int i = 0; i < count; i++) {
+            Player p = at(i);
+            if (p.getHand().hasCards()) {
+                return p;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the winner of the game.
+     *
+     * @return the game winners, or an empty list while nobody has won yet
+     */
+    public List<Player> getGameWinner() {
+        if (!hasGameWinner()) {
+            return Collections.emptyList();
+        }
+        List<Player> winners = new ArrayList<>();
+        int tokensToWin = tokensToWin();
+        for (int i = 0; i < count; i++) {
+            Player p = at(i);
+            if (p.getTokens() >= tokensToWin) {
+                winners.add(p);
+            }
+        }
+        return winners;
+    }
+
+    private int tokensToWin() {
+        if (!(count >= 2 && count <= 8)) {
+            throw new IllegalStateException("Invalid number of players");
+        }
+        if (count == 2) {
+            return 7;
+        }
+        return count == 3 ? 5 : 4;
+    }
+
+    /**
+     * Deals a card to each Player in the list.
+     *
+     * @param deck - the deck of cards
+     */
+    public void dealCards(Deck deck) {
+        for (int i = 0; i < count; i++) {
+            at(i).addCard(deck.draw());
+        }
+    }
+
+    /**
+     * Gets the player with the given name.
+     *
+     * @param name - the name of the desired player
+     *
+     * @return the player with the given name or null if there is no such player
+     */
+    public @Nullable Player getPlayer(String name) {
+        if (count == 0) {
+            throw new IllegalStateException("Player list is empty");
+        }
+        for (int seat = 0; seat < count; seat++) {
+            if (seats[seat].getName().equalsIgnoreCase(name)) {
+                return seats[seat];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the full list of players.
+     *
+     * @return the LinkedList of Player objects.
+     */
+    public LinkedList<Player> getPlayers() {
+        return new LinkedList<>(view); // Defensive copy
+    }
+
+    /**
+     * Returns a read-only view of the players in their current order, which follows
+     * later changes to the list. Unlike getPlayers(), this does not copy the list.
+     *
+     * @return an unmodifiable view of the players
+     */
+    public List<Player> players() {
+        return view;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns the player in a seat. Seats are numbered in the order the players
+     * joined and do not change when the turn order moves on.
+     *
+     * @param seat the seat index
+     * @return the player in that seat
+     */
+    public Player getSeat(int seat) {
+        if (seat < 0 || seat >= count) {
+            throw new IndexOutOfBoundsException("Seat: " + seat + ", Size: " + count);
+        }
+        return seats[seat];
+    }
+
+    /**
+     * Returns the seat of a player.
+     *
+     * @param player the player
+     * @return the seat index, or -1 if the player is not in the list
+     */
+    public int seatOf(Player player) {
+        for (int seat = 0; seat < count; seat++) {
+            if (seats[seat] == player) {
+                return seat;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the seat of the player who goes first in the current order.
+     *
+     * @return the seat index
+     */
+    public int getFirstSeat() {
+        return head;
+    }
+
+    /**
+     * Lets the player in the given seat go first, keeping the seating order.
+     *
+     * @param seat the seat index
+     */
+    public void rotateToSeat(int seat) {
+        if (seat < 0 || seat >= count) {
+            throw new IndexOutOfBoundsException("Seat: " + seat + ", Size: " + count);
+        }
+        head = seat;
+    }
+
+    /**
+     * Returns the list of players with the highest used pile value.
+     *
+     * @return the list of players with the highest used pile value
+     */
+    public List<Player> compareUsedPiles(List<Player> tiedPlayers) {
+        if (tiedPlayers.isEmpty()) {
+            throw new IllegalStateException("Passed player list is empty");
+        }
+        List<Player> tiedWinners = new ArrayList<>();
+        int highestDiscardPileValue = -1;
+
+        for (int i = 0; i < count; i++) {
+            Player player = at(i);
+            if (player.isEliminated()) {
+                continue;
+            }
+            int discardPileValue = player.getDiscardedValue();
+            if (discardPileValue > highestDiscardPileValue) {
+                highestDiscardPileValue = discardPileValue;
+                tiedWinners.clear();
+                tiedWinners.add(player);
+            } else if (discardPileValue == highestDiscardPileValue) {
+                tiedWinners.add(player);
+            }
+        }
+        return tiedWinners;
+    }
+
+    /*
+     * Returns a list of players with the highest value hand card, accounting for Count card effects
+     * Special case: Bishop (9) loses to Princess (8) in hand comparison.
+     */
+    public List<Player> compareHand() {
+        if (count == 0) {
+            throw new IllegalStateException("Player list is empty");
+        }
+        List<Player> tiedPlayers = new ArrayList<>();
+        int highestEffectiveValue = -1;
+        boolean hasPrincess = false;
+
+        // First pass to check if anyone has the Princess
+        for (int seat = 0; seat < count; seat++) {
+            Player player = seats[seat];
+            if (player.getHand().hasCards() && player.getHand().peek(0) == Card.PRINCESS) {
+                hasPrincess = true;
+                break;
+            }
+        }
+
+        for (int i = 0; i < count; i++) {
+            Player player = at(i);
+            if (!player.isEliminated()) {
+                Card handCard = player.getHand().peek(0);
+                
+                // If someone has Princess, Bishop holders are ignored
+                if (hasPrincess && handCard == Card.BISHOP) {
+                    continue;
+                }
+
+                // Calculate effective hand value with Count bonus
+                int effectiveValue = player.getHandValueWithCountBonus();
+                
+                if (effectiveValue > highestEffectiveValue) {
+                    highestEffectiveValue = effectiveValue;
+                    tiedPlayers.clear();
+                    tiedPlayers.add(player);
+                } else if (effectiveValue == highestEffectiveValue) {
+                    tiedPlayers.add(player);
+                }
+            }
+        }
+        
+        return tiedPlayers;
+    } 
+
+    /**
+     * Adds a player, who joins last in the current order.
+     *
+     * If another seat than the first goes first, the seats are renumbered in the current
+     * order before the player joins, so the player going first moves to seat 0. Seat
+     * numbers taken before adding a player, e.g. by getFirstSeat or seatBit, are then no
+     * longer valid.
+     *
+     * @param player the player to add
+     */
+    public void addPlayer(Player player) {
+        if (count == MAX_SEATS) {
+            throw new IllegalStateException("A player list seats at most " + MAX_SEATS + " players");
+        }
+        player.setEventListener(eventListener);
+        if (head != 0) {
+            // the new player joins last in the current order
+            Player[] ordered = new Player[count];
+            for (int i = 0; i < count; i++) {
+                ordered[i] = at(i);
+            }
+            System.arraycopy(ordered, 0, seats, 0, count);
+            head = 0;
+        }
+        if (count == seats.length) {
+            Player[] grown = new Player[count * 2];
+            System.arraycopy(seats, 0, grown, 0, count);
+            seats = grown;
+        }
+        seats[count++] = player;
+        stopCounting();
+    }
+
+    /*
+     * Rotate the list so the winner becomes the first player
+     */
+    public void rotatePlayerList(Player lastRoundWinner) {
+        int seat = seatOf(lastRoundWinner);
+        if (seat < 0) {
+            throw new IllegalArgumentException(lastRoundWinner.getName() + " is not in the player list");
+        }
+        rotateToSeat(seat);
+    }
+
+    /**
+     * List over the seats in the current order, starting at the cursor.
+     */
+    private final class OrderView extends AbstractList<Player> {
+        @Override
+        public Player get(int index) {
+            if (index < 0 || index >= count) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+            }
+            return at(index);
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+    }
+}
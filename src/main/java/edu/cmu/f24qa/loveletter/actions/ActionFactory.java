@@ -1,26 +1,68 @@
 package edu.cmu.f24qa.loveletter.actions;
 
+import java.util.EnumMap;
+import java.util.Map;
+
+import edu.cmu.f24qa.loveletter.Card;
+
+/**
+ * Maps every card to the action carrying out its effect.
+ *
+ * The actions keep no state between plays, so a single shared instance of each is
+ * looked up by the card itself; dispatching a play does no string work and
+ * allocates nothing.
+ */
 public class ActionFactory {
+    private static final Map<Card, CardAction> ACTIONS = new EnumMap<>(Card.class);
+
+    static {
+        ACTIONS.put(Card.GUARD, new GuardAction());
+        ACTIONS.put(Card.PRIEST, new PriestAction());
+        ACTIONS.put(Card.BARON, new BaronAction());
+        ACTIONS.put(Card.HANDMAIDEN, new HandmaidenAction());
+        ACTIONS.put(Card.PRINCE, new PrinceAction());
+        ACTIONS.put(Card.KING, new KingAction());
+        ACTIONS.put(Card.COUNTESS, new CountessAction());
+        ACTIONS.put(Card.PRINCESS, new PrincessAction());
+        ACTIONS.put(Card.JESTER, new JesterAction());
+        ACTIONS.put(Card.ASSASSIN, new AssassinAction());
+        ACTIONS.put(Card.CARDINAL, new CardinalAction());
+        ACTIONS.put(Card.BARONESS, new BaronessAction());
+        ACTIONS.put(Card.SYCOPHANT, new SycophantAction());
+        ACTIONS.put(Card.COUNT, new CountAction());
+        ACTIONS.put(Card.CONSTABLE, new ConstableAction());
+        ACTIONS.put(Card.QUEEN, new QueenAction());
+        ACTIONS.put(Card.BISHOP, new BishopAction());
+    }
+
+    /**
+     * Returns the action of a card.
+     *
+     * @param card the played card
+     * @return the shared, stateless action of the card
+     * @throws IllegalArgumentException if the card has no action
+     */
+    public CardAction getAction(Card card) {
+        CardAction action = ACTIONS.get(card);
+        if (action == null) {
+            throw new IllegalArgumentException("No action for card: " + card.getName());
+        }
+        return action;
+    }
+
+    /**
+     * Returns the action of the card with the given name, ignoring case.
+     *
+     * @param cardName the name of the card
+     * @return the shared, stateless action of the card
+     * @throws IllegalArgumentException if no card has that name
+     */
     public CardAction getAction(String cardName) {
-        return switch (cardName.toLowerCase()) {
-            case "guard" -> new GuardAction();
-            case "priest" -> new PriestAction();
-            case "baron" -> new BaronAction();
-            case "prince" -> new PrinceAction();
-            case "king" -> new KingAction();
-            case "handmaiden" -> new HandmaidenAction();
-            case "princess" -> new PrincessAction();
-            case "countess" -> new CountessAction();
-            case "assassin" -> new AssassinAction();
-            case "jester" -> new JesterAction();
-            case "count" -> new CountAction();
-            case "constable" -> new ConstableAction();
-            case "sycophant" -> new SycophantAction();
-            case "queen" -> new QueenAction();
-            case "cardinal" -> new CardinalAction();
-            case "bishop" -> new BishopAction();
-            case "baroness" -> new BaronessAction();
-            default -> throw new IllegalArgumentException("Invalid card name: " + cardName);
-        };
+        for (Card card : Card.values()) {
+            if (card.getName().equalsIgnoreCase(cardName)) {
+                return getAction(card);
+            }
+        }
+        throw new IllegalArgumentException("Invalid card name: " + cardName);
     }
-}
\ No newline at end of file
+}
@@ -4,6 +4,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import edu.cmu.f24qa.loveletter.GameContext;
 import edu.cmu.f24qa.loveletter.Player;
+import edu.cmu.f24qa.loveletter.events.GameEventListener;
 
 public class AssassinAction implements CardAction {
     /**
@@ -13,12 +14,13 @@ public class AssassinAction implements CardAction {
      */
     @Override
     public void execute(GameContext context) {
+        GameEventListener events = context.getEventListener();
         @Nullable Player user = context.getCurrentUser();
         if (user == null) {
-            System.out.println("No current user found");
+            events.onMessage("No current user found");
             return;
         }
-        System.out.println(user.getName() + " played the Assassin card. No action taken.");
+        events.onMessage(user.getName() + " played the Assassin card. No action taken.");
     }
 
     /**
@@ -30,11 +32,12 @@ public class AssassinAction implements CardAction {
      * @param opponent The opponent player.
      */
     public void handleAssassinGuessed(GameContext context, @Nullable Player user, Player opponent) {
+        GameEventListener events = context.getEventListener();
         if (user == null) {
-            System.out.println("No current user found");
+            events.onMessage("No current user found");
             return;
         }
-        System.out.println("You guessed Assassin! You are eliminated.");
+        events.onMessage("You guessed Assassin! You are eliminated.");
         user.eliminate();
         opponent.addCardToDiscarded(opponent.removeCardFromHand(0));
         context.drawNewCardForPlayerByDeckStatus(opponent);
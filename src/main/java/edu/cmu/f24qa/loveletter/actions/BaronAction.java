@@ -6,13 +6,15 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import edu.cmu.f24qa.loveletter.GameContext;
 import edu.cmu.f24qa.loveletter.Player;
+import edu.cmu.f24qa.loveletter.events.GameEventListener;
 
 public class BaronAction implements CardAction {
     @Override
     public void execute(GameContext context) {
+        GameEventListener events = context.getEventListener();
         @Nullable Player user = context.getCurrentUser();
         if (user == null) {
-            System.out.println("No current user found");
+            events.onMessage("No current user found");
             return;
         }
         List<Player> opponents = context.selectOpponents(1, 1, false);
@@ -22,13 +24,13 @@ public class BaronAction implements CardAction {
             int opponentCardValue = opponent.getHand().peek(0).getValue();
 
             if (userCardValue > opponentCardValue) {
-                System.out.println("You have won the comparison!");
+                events.onMessage("You have won the comparison!");
                 opponent.eliminate();
             } else if (userCardValue < opponentCardValue) {
-                System.out.println("You have lost the comparison.");
+                events.onMessage("You have lost the comparison.");
                 user.eliminate();
             } else {
-                System.out.println("Tie! No one is eliminated.");
+                events.onMessage("Tie! No one is eliminated.");
             }
         }
     }
@@ -4,6 +4,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import edu.cmu.f24qa.loveletter.GameContext;
 import edu.cmu.f24qa.loveletter.Player;
+import edu.cmu.f24qa.loveletter.events.GameEventListener;
 
 import java.util.List;
 
@@ -14,9 +15,10 @@ public class BaronessAction implements CardAction {
      */
     @Override
     public void execute(GameContext context) {
+        GameEventListener events = context.getEventListener();
         @Nullable Player user = context.getCurrentUser();
         if (user == null) {
-            System.out.println("No current user found");
+            events.onMessage("No current user found");
             return;
         }
 
@@ -26,7 +28,7 @@ public class BaronessAction implements CardAction {
         if (!opponents.isEmpty()) {
             // Print the cards in the opponents' hands
             for (Player opponent : opponents) {
-                System.out.println(opponent.getName() + " shows you a " + opponent.getHand().peek(0));
+                events.onPrivateMessage(user, opponent.getName() + " shows you a " + opponent.getHand().peek(0));
             }
         }
     }
@@ -4,15 +4,17 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import edu.cmu.f24qa.loveletter.GameContext;
 import edu.cmu.f24qa.loveletter.Player;
+import edu.cmu.f24qa.loveletter.events.GameEventListener;
 
 public class ConstableAction implements CardAction {
     @Override
     public void execute(GameContext context) {
+        GameEventListener events = context.getEventListener();
         @Nullable Player user = context.getCurrentUser();
         if (user == null) {
-            System.out.println("No current user found");
+            events.onMessage("No current user found");
             return;
         }
-        System.out.println(user.getName() + " played the Constable card. No action taken.");
+        events.onMessage(user.getName() + " played the Constable card. No action taken.");
     }
 } 
\ No newline at end of file
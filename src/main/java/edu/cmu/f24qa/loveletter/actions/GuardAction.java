@@ -7,30 +7,32 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import edu.cmu.f24qa.loveletter.Card;
 import edu.cmu.f24qa.loveletter.GameContext;
 import edu.cmu.f24qa.loveletter.Player;
+import edu.cmu.f24qa.loveletter.events.GameEventListener;
 
 public class GuardAction implements CardAction {
+    private static final AssassinAction ASSASSIN_ACTION = new AssassinAction();
+
     @Override
     public void execute(GameContext context) {
+        GameEventListener events = context.getEventListener();
         @Nullable Player user = context.getCurrentUser();
         if (user == null) {
-            System.out.println("No current user found");
+            events.onMessage("No current user found");
             return;
         }
-        System.out.print("Which card would you like to guess: ");
-        String guessedCardName = context.readLine();
+        @Nullable Card guessedCard = context.guessCard(user);
 
         List<Player> opponents = context.selectOpponents(1, 1, false);
         if (!opponents.isEmpty()) {
             Player opponent = opponents.get(0);
-            String opponentCardName = opponent.getHand().peek(0).getName();
-            if (opponentCardName.equals(Card.ASSASSIN.getName())) {
-                AssassinAction assassinAction = new AssassinAction();
-                assassinAction.handleAssassinGuessed(context, user, opponent);
-            } else if (opponentCardName.equals(guessedCardName)) {
-                System.out.println("You have guessed correctly!");
+            Card opponentCard = opponent.getHand().peek(0);
+            if (opponentCard == Card.ASSASSIN) {
+                ASSASSIN_ACTION.handleAssassinGuessed(context, user, opponent);
+            } else if (opponentCard == guessedCard) {
+                events.onMessage("You have guessed correctly!");
                 opponent.eliminate();
             } else {
-                System.out.println("You have guessed incorrectly.");
+                events.onMessage("You have guessed incorrectly.");
             }
         } 
     }
@@ -4,16 +4,18 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import edu.cmu.f24qa.loveletter.GameContext;
 import edu.cmu.f24qa.loveletter.Player;
+import edu.cmu.f24qa.loveletter.events.GameEventListener;
 
 public class HandmaidenAction implements CardAction {
     @Override
     public void execute(GameContext context) {
+        GameEventListener events = context.getEventListener();
         @Nullable Player user = context.getCurrentUser();
         if (user == null) {
-            System.out.println("No current user found");
+            events.onMessage("No current user found");
             return;
         }
-        System.out.println(user.getName() + " is now protected until their next turn.");
+        events.onMessage(user.getName() + " is now protected until their next turn.");
         user.switchProtection();
     }
 }
\ No newline at end of file
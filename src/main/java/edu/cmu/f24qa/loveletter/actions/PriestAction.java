@@ -6,19 +6,21 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import edu.cmu.f24qa.loveletter.GameContext;
 import edu.cmu.f24qa.loveletter.Player;
+import edu.cmu.f24qa.loveletter.events.GameEventListener;
 
 public class PriestAction implements CardAction {
     @Override
     public void execute(GameContext context) {
+        GameEventListener events = context.getEventListener();
         @Nullable Player user = context.getCurrentUser();
         if (user == null) {
-            System.out.println("No current user found");
+            events.onMessage("No current user found");
             return;
         }
         List<Player> opponents = context.selectOpponents(1, 1, false);
         if (!opponents.isEmpty()) {
             Player opponent = opponents.get(0);
-            System.out.println(opponent.getName() + " shows you a " + opponent.getHand().peek(0));
+            events.onPrivateMessage(user, opponent.getName() + " shows you a " + opponent.getHand().peek(0));
         }
     }
 }
\ No newline at end of file
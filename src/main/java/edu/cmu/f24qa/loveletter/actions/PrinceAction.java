@@ -4,8 +4,10 @@ import java.util.List;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import edu.cmu.f24qa.loveletter.Card;
 import edu.cmu.f24qa.loveletter.GameContext;
 import edu.cmu.f24qa.loveletter.Player;
+import edu.cmu.f24qa.loveletter.events.GameEventListener;
 
 public class PrinceAction implements CardAction {
     /**
@@ -17,9 +19,10 @@ public class PrinceAction implements CardAction {
      */
     @Override
     public void execute(GameContext context) {
+        GameEventListener events = context.getEventListener();
         @Nullable Player user = context.getCurrentUser();
         if (user == null) {
-            System.out.println("No current user found");
+            events.onMessage("No current user found");
             return;
         }
         
@@ -27,18 +30,20 @@ public class PrinceAction implements CardAction {
         List<Player> opponents = context.selectOpponents(1, 1, true);
         Player opponent = opponents.isEmpty() ? user : opponents.get(0);
 
-        System.out.println(opponent.getName() + " discards their card.");
+        events.onMessage(opponent.getName() + " discards their card.");
+        Card discarded = opponent.getHand().peek(0);
+        events.onCardPlayed(opponent, discarded);
         
         // Check if the opponent has the Princess card
-        if (opponent.getHand().peek(0).getValue() == 8) { // Assuming 8 is the Princess
+        if (discarded.getValue() == 8) { // Assuming 8 is the Princess
             opponent.eliminate();
-            System.out.println(opponent.getName() + " had the Princess and is eliminated.");
+            events.onMessage(opponent.getName() + " had the Princess and is eliminated.");
         } else {
             // Discard the current card and draw a new one
             opponent.addCardToDiscarded(opponent.getHand().peek(0));
             opponent.getHand().remove(0); // Discard current card
             context.drawNewCardForPlayerByDeckStatus(opponent);
-            System.out.println(opponent.getName() + " draws a new card.");
+            events.onMessage(opponent.getName() + " draws a new card.");
         }
     }
 }
\ No newline at end of file
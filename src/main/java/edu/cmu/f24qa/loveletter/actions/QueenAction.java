@@ -5,13 +5,15 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import edu.cmu.f24qa.loveletter.GameContext;
 import edu.cmu.f24qa.loveletter.Player;
+import edu.cmu.f24qa.loveletter.events.GameEventListener;
 
 public class QueenAction implements CardAction {
     @Override
     public void execute(GameContext context) {
+        GameEventListener events = context.getEventListener();
         @Nullable Player user = context.getCurrentUser();
         if (user == null) {
-            System.out.println("No current user found");
+            events.onMessage("No current user found");
             return;
         }
 
@@ -23,13 +25,13 @@ public class QueenAction implements CardAction {
             int opponentCardValue = opponent.getHand().peek(0).getValue();
 
             if (userCardValue < opponentCardValue) {
-                System.out.println("You have the smaller card! Opponent is eliminated.");
+                events.onMessage("You have the smaller card! Opponent is eliminated.");
                 opponent.eliminate();
             } else if (userCardValue > opponentCardValue) {
-                System.out.println("You have the larger card! You are eliminated.");
+                events.onMessage("You have the larger card! You are eliminated.");
                 user.eliminate();
             } else {
-                System.out.println("Tie! No one is eliminated.");
+                events.onMessage("Tie! No one is eliminated.");
             }
         }
     }
@@ -0,0 +1,128 @@
+package edu.cmu.f24qa.loveletter.events;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import edu.cmu.f24qa.loveletter.Card;
+import edu.cmu.f24qa.loveletter.Player;
+
+/**
+ * Collects the events of a game in batches and passes each batch on to another
+ * listener on an executor, so the thread playing the game never waits for a slow
+ * listener such as the console.
+ *
+ * The events reach the other listener in order, one batch at a time, even when many
+ * batching listeners share one executor. A prompt ends its batch at once, so the
+ * player sees the prompt before the game waits for the answer. Events are delivered
+ * after the fact: the other listener should only use the identity of the players it
+ * is given, as the game has moved on by then.
+ *
+ * A batching listener is used by one game thread at a time. Closing it waits until
+ * every event has been delivered.
+ */
+public class BatchingEventListener implements GameEventListener, Closeable {
+    private final GameEventListener delegate;
+    private final Executor executor;
+    private final int batchSize;
+    private List<Consumer<GameEventListener>> batch;
+    private CompletableFuture<Void> delivered = CompletableFuture.completedFuture(null);
+
+    /**
+     * Creates a listener passing the events on in batches of the given size.
+     *
+     * @param delegate  the listener the events are delivered to
+     * @param executor  the executor delivering the batches
+     * @param batchSize the number of events collected before they are delivered
+     */
+    public BatchingEventListener(GameEventListener delegate, Executor executor, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be at least 1");
+        }
+        this.delegate = delegate;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    @Override
+    public void onMessage(String message) {
+        add(listener -> listener.onMessage(message));
+    }
+
+    @Override
+    public boolean wantsMessages() {
+        return delegate.wantsMessages();
+    }
+
+    @Override
+    public void onPrivateMessage(Player player, String message) {
+        add(listener -> listener.onPrivateMessage(player, message));
+    }
+
+    @Override
+    public void onPrompt(String prompt) {
+        add(listener -> listener.onPrompt(prompt));
+        flush();
+    }
+
+    @Override
+    public void onCardPlayed(Player player, Card card) {
+        add(listener -> listener.onCardPlayed(player, card));
+    }
+
+    @Override
+    public void onPlayerEliminated(Player player) {
+        add(listener -> listener.onPlayerEliminated(player));
+    }
+
+    @Override
+    public void onRoundWon(List<Player> winners) {
+        List<Player> roundWinners = List.copyOf(winners);
+        add(listener -> listener.onRoundWon(roundWinners));
+    }
+
+    @Override
+    public void onGameWon(Player winner) {
+        add(listener -> listener.onGameWon(winner));
+        flush();
+    }
+
+    private void add(Consumer<GameEventListener> event) {
+        batch.add(event);
+        if (batch.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Hands the events collected so far over for delivery.
+     */
+    public void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Consumer<GameEventListener>> events = batch;
+        batch = new ArrayList<>(batchSize);
+        delivered = delivered.thenRunAsync(() -> {
+            for (Consumer<GameEventListener> event : events) {
+                event.accept(delegate);
+            }
+        }, executor);
+    }
+
+    /**
+     * Delivers the remaining events and waits until all events have been delivered.
+     *
+     * @throws java.util.concurrent.CompletionException if the other listener failed;
+     *         no events are delivered after the failure
+     */
+    @Override
+    public void close() {
+        flush();
+        delivered.join();
+    }
+}
@@ -0,0 +1,21 @@
+package edu.cmu.f24qa.loveletter.events;
+
+/**
+ * Prints game narration to the console.
+ */
+public class ConsoleEventListener implements GameEventListener {
+    @Override
+    public void onMessage(String message) {
+        System.out.println(message);
+    }
+
+    /**
+     * Prints the prompt without a line break so the answer is typed on the same line.
+     *
+     * @param prompt the prompt shown to the player
+     */
+    @Override
+    public void onPrompt(String prompt) {
+        System.out.print(prompt);
+    }
+}
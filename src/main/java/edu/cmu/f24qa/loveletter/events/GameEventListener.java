@@ -0,0 +1,94 @@
+package edu.cmu.f24qa.loveletter.events;
+
+import java.util.List;
+
+import edu.cmu.f24qa.loveletter.Card;
+import edu.cmu.f24qa.loveletter.Player;
+
+/**
+ * Receives the narration produced while a game is played.
+ * Implementations decide whether the narration is printed, buffered or dropped,
+ * so the engine itself never writes to a shared stream.
+ *
+ * Besides the text, the listener is told about the main game events as typed
+ * callbacks, which default to doing nothing, so e.g. statistics can be collected
+ * without parsing the narration.
+ */
+public interface GameEventListener {
+    /**
+     * Called with a complete line of game narration.
+     *
+     * @param message the narrated line
+     */
+    void onMessage(String message);
+
+    /**
+     * Whether the listener makes use of the narration. The engine skips building the
+     * lines of narration, such as the discard piles shown every turn, for a listener
+     * that does not. Defaults to true.
+     *
+     * @return true if onMessage and onPrompt should be called
+     */
+    default boolean wantsMessages() {
+        return true;
+    }
+
+    /**
+     * Called with a line of narration only the given player may see, such as their
+     * own hand or a card shown to them. Defaults to treating the line as a regular
+     * line of narration, as on a console shared by every player.
+     *
+     * @param player  the player the line is meant for
+     * @param message the narrated line
+     */
+    default void onPrivateMessage(Player player, String message) {
+        onMessage(message);
+    }
+
+    /**
+     * Called when a player is about to be asked for input.
+     * Defaults to treating the prompt as a regular line of narration.
+     *
+     * @param prompt the prompt shown to the player
+     */
+    default void onPrompt(String prompt) {
+        onMessage(prompt);
+    }
+
+    /**
+     * Called when a player plays or is forced to discard a card, before its effect.
+     *
+     * @param player the player of the card
+     * @param card   the played card
+     */
+    default void onCardPlayed(Player player, Card card) {
+        // intentionally empty
+    }
+
+    /**
+     * Called when a player is knocked out of the round.
+     *
+     * @param player the eliminated player
+     */
+    default void onPlayerEliminated(Player player) {
+        // intentionally empty
+    }
+
+    /**
+     * Called when a round ends, including the rounds breaking a tie.
+     *
+     * @param winners the players who won a token for winning the round
+     */
+    default void onRoundWon(List<Player> winners) {
+        // intentionally empty
+    }
+
+    /**
+     * Called once the game has a single winner.
+     *
+     * @param winner the winner of the game
+     */
+    default void onGameWon(Player winner) {
+        // intentionally empty
+    }
+}
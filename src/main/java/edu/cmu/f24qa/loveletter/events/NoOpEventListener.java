@@ -0,0 +1,21 @@
+package edu.cmu.f24qa.loveletter.events;
+
+/**
+ * Discards all game narration. Used by headless games where nobody is watching.
+ */
+public class NoOpEventListener implements GameEventListener {
+    @Override
+    public void onMessage(String message) {
+        // intentionally empty
+    }
+
+    @Override
+    public boolean wantsMessages() {
+        return false;
+    }
+
+    @Override
+    public void onPrompt(String prompt) {
+        // intentionally empty
+    }
+}
@@ -0,0 +1,81 @@
+package edu.cmu.f24qa.loveletter.input;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import edu.cmu.f24qa.loveletter.Card;
+import edu.cmu.f24qa.loveletter.GameContext;
+import edu.cmu.f24qa.loveletter.Player;
+
+/**
+ * Source of player decisions that answers asynchronously.
+ *
+ * Each method returns at once with a future that is completed when the player has
+ * decided, e.g. by a network thread or by a bot thinking on another thread. A game
+ * plays an asynchronous input through {@link TimedPlayerInput}, which bounds how
+ * long it waits for each decision.
+ *
+ * The game context must not be read once the future completes or is cancelled; the
+ * game continues once the future completes or the wait for it times out, and a
+ * timed-out future is cancelled.
+ */
+public interface AsyncPlayerInput {
+    /**
+     * Chooses which card of a two-card hand to play.
+     *
+     * @param context the current game context
+     * @param player  the player whose turn it is
+     * @return the index of the card to play (0 for first, 1 for second)
+     */
+    CompletableFuture<Integer> chooseCardIndex(GameContext context, Player player);
+
+    /**
+     * Chooses the card to guess when playing the Guard.
+     *
+     * @param context the current game context
+     * @param player  the player guessing
+     * @return the guessed card, or null if the answer does not name a card
+     */
+    CompletableFuture<@Nullable Card> guessCard(GameContext context, Player player);
+
+    /**
+     * Chooses the card value to guess when playing the Bishop.
+     *
+     * @param context the current game context
+     * @param player  the player guessing
+     * @return the guessed card value
+     */
+    CompletableFuture<Integer> guessNumber(GameContext context, Player player);
+
+    /**
+     * Chooses one player out of the available targets.
+     *
+     * @param context    the current game context
+     * @param player     the player choosing
+     * @param candidates the players that may be targeted, never empty
+     * @return one of the candidates
+     */
+    CompletableFuture<Player> chooseTarget(GameContext context, Player player, List<Player> candidates);
+
+    /**
+     * Chooses whose hand to look at after the Cardinal swapped two hands.
+     *
+     * @param context    the current game context
+     * @param player     the player choosing
+     * @param candidates the two players whose cards were swapped
+     * @return one of the candidates
+     */
+    CompletableFuture<Player> choosePlayerToInspect(GameContext context, Player player, List<Player> candidates);
+
+    /**
+     * Answers a yes/no question.
+     *
+     * @param context  the current game context
+     * @param player   the player answering
+     * @param question the question asked
+     * @return true for yes, false for no
+     */
+    CompletableFuture<Boolean> confirm(GameContext context, Player player, String question);
+}
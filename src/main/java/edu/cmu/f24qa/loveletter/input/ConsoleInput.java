@@ -0,0 +1,96 @@
+package edu.cmu.f24qa.loveletter.input;
+
+import java.util.List;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import edu.cmu.f24qa.loveletter.Card;
+import edu.cmu.f24qa.loveletter.GameContext;
+import edu.cmu.f24qa.loveletter.Player;
+import edu.cmu.f24qa.loveletter.events.GameEventListener;
+
+/**
+ * Reads decisions as text lines from the game context's input source, asking the
+ * context for the lines of the player who decides.
+ * Prompts and validation messages are sent to the context's event listener.
+ */
+public class ConsoleInput implements PlayerInput {
+    @Override
+    public int chooseCardIndex(GameContext context, Player player) {
+        GameEventListener events = context.getEventListener();
+        player.getHand().print(player, events);
+        events.onPrivateMessage(player, "");
+        events.onPrompt("Which card would you like to play (0 for first, 1 for second): ");
+        return Integer.parseInt(context.readLine(player));
+    }
+
+    @Override
+    public @Nullable Card guessCard(GameContext context, Player player) {
+        context.getEventListener().onPrompt("Which card would you like to guess: ");
+        String guessedCardName = context.readLine(player);
+        for (Card card : Card.values()) {
+            if (card.getName().equals(guessedCardName)) {
+                return card;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public int guessNumber(GameContext context, Player player) {
+        context.getEventListener().onPrompt("Which number would you like to guess: ");
+        return Integer.parseInt(context.readLine(player));
+    }
+
+    @Override
+    public Player chooseTarget(GameContext context, Player player, List<Player> candidates) {
+        GameEventListener events = context.getEventListener();
+        while (true) {
+            events.onMessage("Available opponents: ");
+            for (Player candidate : candidates) {
+                events.onMessage(candidate.getName());
+            }
+            events.onPrompt("Who would you like to target: ");
+            Player selected = context.getPlayers().getPlayer(context.readLine(player));
+            if (selected == null) {
+                events.onMessage("No such player found. Please try again.");
+            } else if (!candidates.contains(selected)) {
+                events.onMessage("Please target a player within available opponents");
+            } else {
+                return selected;
+            }
+        }
+    }
+
+    @Override
+    public Player choosePlayerToInspect(GameContext context, Player player, List<Player> candidates) {
+        GameEventListener events = context.getEventListener();
+        while (true) {
+            events.onPrompt("Which player's hand would you like to look at: ");
+            String inputName = context.readLine(player);
+            for (Player candidate : candidates) {
+                if (inputName.equals(candidate.getName())) {
+                    return candidate;
+                }
+            }
+            events.onMessage("Please select one of the two players whose cards were swapped.");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The console accepts the answers it always has for each kind of question: a
+     * question asking "(y/n)" is answered yes only by "y", any other question, such as
+     * whether to select another player, is answered no only by "no" in any case.
+     */
+    @Override
+    public boolean confirm(GameContext context, Player player, String question) {
+        context.getEventListener().onPrompt(question);
+        String answer = context.readLine(player);
+        if (question.endsWith("(y/n)")) {
+            return answer.equals("y");
+        }
+        return !answer.equalsIgnoreCase("no");
+    }
+}
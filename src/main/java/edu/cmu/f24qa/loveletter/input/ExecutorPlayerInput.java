@@ -0,0 +1,94 @@
+package edu.cmu.f24qa.loveletter.input;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import edu.cmu.f24qa.loveletter.Card;
+import edu.cmu.f24qa.loveletter.GameContext;
+import edu.cmu.f24qa.loveletter.Player;
+
+/**
+ * Makes the decisions of a synchronous input on an executor, e.g. to give a bot
+ * that thinks for a while a time limit through {@link TimedPlayerInput}.
+ *
+ * The wrapped input runs on another thread while the game waits. It must not
+ * change the game context. Cancelling a pending decision, as a timeout does,
+ * interrupts the thread making it; the wrapped input should then stop reading the
+ * context and return or throw, as the game goes on without it. An input blocked in
+ * a read that ignores interrupts, such as the console's, keeps waiting for its line,
+ * so such inputs should not be timed this way.
+ */
+public class ExecutorPlayerInput implements AsyncPlayerInput {
+    private final PlayerInput input;
+    private final ExecutorService executor;
+
+    /**
+     * Creates an asynchronous input running the given input on the executor.
+     *
+     * @param input    the input making the decisions
+     * @param executor the executor the decisions are made on
+     */
+    public ExecutorPlayerInput(PlayerInput input, ExecutorService executor) {
+        this.input = input;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<Integer> chooseCardIndex(GameContext context, Player player) {
+        return decide(() -> input.chooseCardIndex(context, player));
+    }
+
+    @Override
+    public CompletableFuture<@Nullable Card> guessCard(GameContext context, Player player) {
+        return decide(() -> input.guessCard(context, player));
+    }
+
+    @Override
+    public CompletableFuture<Integer> guessNumber(GameContext context, Player player) {
+        return decide(() -> input.guessNumber(context, player));
+    }
+
+    @Override
+    public CompletableFuture<Player> chooseTarget(GameContext context, Player player, List<Player> candidates) {
+        List<Player> choices = List.copyOf(candidates);
+        return decide(() -> input.chooseTarget(context, player, choices));
+    }
+
+    @Override
+    public CompletableFuture<Player> choosePlayerToInspect(GameContext context, Player player,
+                                                           List<Player> candidates) {
+        List<Player> choices = List.copyOf(candidates);
+        return decide(() -> input.choosePlayerToInspect(context, player, choices));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> confirm(GameContext context, Player player, String question) {
+        return decide(() -> input.confirm(context, player, question));
+    }
+
+    /**
+     * Submits a decision to the executor. Unlike a future of supplyAsync, the returned
+     * future interrupts the thread making the decision when it is cancelled.
+     */
+    private <T> CompletableFuture<T> decide(Supplier<T> decision) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task = executor.submit(() -> {
+            try {
+                result.complete(decision.get());
+            } catch (RuntimeException | Error e) {
+                result.completeExceptionally(e);
+            }
+        });
+        result.whenComplete((value, failure) -> {
+            if (result.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+}
@@ -0,0 +1,18 @@
+package edu.cmu.f24qa.loveletter.input;
+
+import edu.cmu.f24qa.loveletter.Player;
+
+/**
+ * Source of the text lines typed by each player, for games whose players do not
+ * share one console.
+ */
+@FunctionalInterface
+public interface LineReader {
+    /**
+     * Waits for the next line typed by the given player.
+     *
+     * @param player the player whose answer is expected
+     * @return the line, without its line terminator
+     */
+    String readLine(Player player);
+}
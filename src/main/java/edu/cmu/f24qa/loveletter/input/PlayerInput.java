@@ -0,0 +1,74 @@
+package edu.cmu.f24qa.loveletter.input;
+
+import java.util.List;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import edu.cmu.f24qa.loveletter.Card;
+import edu.cmu.f24qa.loveletter.GameContext;
+import edu.cmu.f24qa.loveletter.Player;
+
+/**
+ * Source of every decision a player makes during a game.
+ * The console implementation reads the answers from text lines, while headless
+ * games plug in an in-process implementation instead.
+ */
+public interface PlayerInput {
+    /**
+     * Chooses which card of a two-card hand to play.
+     *
+     * @param context the current game context
+     * @param player  the player whose turn it is
+     * @return the index of the card to play (0 for first, 1 for second)
+     */
+    int chooseCardIndex(GameContext context, Player player);
+
+    /**
+     * Chooses the card to guess when playing the Guard.
+     *
+     * @param context the current game context
+     * @param player  the player guessing
+     * @return the guessed card, or null if the answer does not name a card
+     */
+    @Nullable Card guessCard(GameContext context, Player player);
+
+    /**
+     * Chooses the card value to guess when playing the Bishop.
+     *
+     * @param context the current game context
+     * @param player  the player guessing
+     * @return the guessed card value
+     */
+    int guessNumber(GameContext context, Player player);
+
+    /**
+     * Chooses one player out of the available targets.
+     *
+     * @param context    the current game context
+     * @param player     the player choosing
+     * @param candidates the players that may be targeted, never empty; the list is reused
+     *                   once the choice returns, so copy it to keep it
+     * @return one of the candidates
+     */
+    Player chooseTarget(GameContext context, Player player, List<Player> candidates);
+
+    /**
+     * Chooses whose hand to look at after the Cardinal swapped two hands.
+     *
+     * @param context    the current game context
+     * @param player     the player choosing
+     * @param candidates the two players whose cards were swapped
+     * @return one of the candidates
+     */
+    Player choosePlayerToInspect(GameContext context, Player player, List<Player> candidates);
+
+    /**
+     * Answers a yes/no question.
+     *
+     * @param context  the current game context
+     * @param player   the player answering
+     * @param question the question asked
+     * @return true for yes, false for no
+     */
+    boolean confirm(GameContext context, Player player, String question);
+}
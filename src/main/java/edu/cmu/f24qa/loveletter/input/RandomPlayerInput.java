@@ -0,0 +1,69 @@
+package edu.cmu.f24qa.loveletter.input;
+
+import java.util.List;
+import java.util.Random;
+
+import edu.cmu.f24qa.loveletter.Card;
+import edu.cmu.f24qa.loveletter.GameContext;
+import edu.cmu.f24qa.loveletter.Player;
+
+/**
+ * Answers every decision uniformly at random.
+ * Used to drive headless games, e.g. for balance testing, without any console I/O.
+ */
+public class RandomPlayerInput implements PlayerInput {
+    private static final Card[] CARDS = Card.values();
+
+    /**
+     * The highest card value in play (Bishop).
+     */
+    private static final int MAX_CARD_VALUE = 9;
+
+    private final Random random;
+
+    /**
+     * Creates a random input backed by the given random source.
+     * Passing a seeded source makes the decisions reproducible.
+     *
+     * @param random the random source
+     */
+    public RandomPlayerInput(Random random) {
+        this.random = random;
+    }
+
+    @Override
+    public int chooseCardIndex(GameContext context, Player player) {
+        return random.nextInt(2);
+    }
+
+    /**
+     * Guesses any non-Guard card, as the Guard may not name itself.
+     * Cards of the 5-8 player expansion are only guessed when they are in play.
+     */
+    @Override
+    public Card guessCard(GameContext context, Player player) {
+        int cardTypes = context.getPlayers().size() <= 4 ? Card.PRINCESS.ordinal() + 1 : CARDS.length;
+        // skip the Guard at ordinal 0
+        return CARDS[1 + random.nextInt(cardTypes - 1)];
+    }
+
+    @Override
+    public int guessNumber(GameContext context, Player player) {
+        return random.nextInt(MAX_CARD_VALUE + 1);
+    }
+
+    @Override
+    public Player chooseTarget(GameContext context, Player player, List<Player> candidates) {
+        return candidates.get(random.nextInt(candidates.size()));
+    }
+
+    @Override
+    public Player choosePlayerToInspect(GameContext context, Player player, List<Player> candidates) {
+        return candidates.get(random.nextInt(candidates.size()));
+    }
+
+    @Override
+    public boolean confirm(GameContext context, Player player, String question) {
+        return random.nextBoolean();
+    }
+}
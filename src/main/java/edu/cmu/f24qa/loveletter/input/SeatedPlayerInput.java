@@ -0,0 +1,83 @@
+package edu.cmu.f24qa.loveletter.input;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import edu.cmu.f24qa.loveletter.Card;
+import edu.cmu.f24qa.loveletter.GameContext;
+import edu.cmu.f24qa.loveletter.Player;
+
+/**
+ * Routes every decision to the input of the player who decides, so that people at
+ * the console and bots can share a table. Players without an input of their own use
+ * the default input.
+ */
+public class SeatedPlayerInput implements PlayerInput {
+    private final PlayerInput defaultInput;
+    private final Map<Player, PlayerInput> inputs = new IdentityHashMap<>();
+
+    /**
+     * Creates an input routing every player to the given default input until seated.
+     *
+     * @param defaultInput the input of the players without an input of their own
+     */
+    public SeatedPlayerInput(PlayerInput defaultInput) {
+        this.defaultInput = defaultInput;
+    }
+
+    /**
+     * Gives a player their own input.
+     *
+     * @param player the player
+     * @param input  the input deciding for that player
+     * @return this input, to seat further players
+     */
+    public SeatedPlayerInput seat(Player player, PlayerInput input) {
+        inputs.put(player, input);
+        return this;
+    }
+
+    /**
+     * Returns the input deciding for a player.
+     *
+     * @param player the player
+     * @return the player's own input, or the default input
+     */
+    public PlayerInput inputOf(Player player) {
+        @Nullable PlayerInput input = inputs.get(player);
+        return input == null ? defaultInput : input;
+    }
+
+    @Override
+    public int chooseCardIndex(GameContext context, Player player) {
+        return inputOf(player).chooseCardIndex(context, player);
+    }
+
+    @Override
+    public @Nullable Card guessCard(GameContext context, Player player) {
+        return inputOf(player).guessCard(context, player);
+    }
+
+    @Override
+    public int guessNumber(GameContext context, Player player) {
+        return inputOf(player).guessNumber(context, player);
+    }
+
+    @Override
+    public Player chooseTarget(GameContext context, Player player, List<Player> candidates) {
+        return inputOf(player).chooseTarget(context, player, candidates);
+    }
+
+    @Override
+    public Player choosePlayerToInspect(GameContext context, Player player, List<Player> candidates) {
+        return inputOf(player).choosePlayerToInspect(context, player, candidates);
+    }
+
+    @Override
+    public boolean confirm(GameContext context, Player player, String question) {
+        return inputOf(player).confirm(context, player, question);
+    }
+}
@@ -0,0 +1,113 @@
+package edu.cmu.f24qa.loveletter.input;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import edu.cmu.f24qa.loveletter.Card;
+import edu.cmu.f24qa.loveletter.GameContext;
+import edu.cmu.f24qa.loveletter.Player;
+
+/**
+ * Plays an asynchronous input with a time limit for every decision.
+ *
+ * When a player does not decide in time, the pending decision is cancelled, the
+ * table is told, and the fallback input decides instead, so a stalled player can
+ * neither hold up the game nor the thread playing it. Cancelling a decision made by
+ * an {@link ExecutorPlayerInput} interrupts the thread making it.
+ *
+ * The game asks for its decisions synchronously, so the thread playing the game
+ * waits for each decision, for at most the time limit. The decisions themselves
+ * need no thread of their own when the future is completed by e.g. a network
+ * thread, but a game still takes one thread for as long as it is played; a server
+ * multiplexes its seats on one thread per table, not per decision.
+ */
+public class TimedPlayerInput implements PlayerInput {
+    private final AsyncPlayerInput input;
+    private final long timeoutNanos;
+    private final PlayerInput fallback;
+
+    /**
+     * Creates an input that waits at most the given time for each decision.
+     *
+     * @param input    the input making the decisions
+     * @param timeout  the time limit of a single decision
+     * @param fallback the input deciding for a player who runs out of time
+     */
+    public TimedPlayerInput(AsyncPlayerInput input, Duration timeout, PlayerInput fallback) {
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("The decision timeout must be positive");
+        }
+        this.input = input;
+        this.timeoutNanos = timeout.toNanos();
+        this.fallback = fallback;
+    }
+
+    @Override
+    public int chooseCardIndex(GameContext context, Player player) {
+        return await(input.chooseCardIndex(context, player), context, player,
+            () -> fallback.chooseCardIndex(context, player));
+    }
+
+    @Override
+    public @Nullable Card guessCard(GameContext context, Player player) {
+        return await(input.guessCard(context, player), context, player,
+            () -> fallback.guessCard(context, player));
+    }
+
+    @Override
+    public int guessNumber(GameContext context, Player player) {
+        return await(input.guessNumber(context, player), context, player,
+            () -> fallback.guessNumber(context, player));
+    }
+
+    @Override
+    public Player chooseTarget(GameContext context, Player player, List<Player> candidates) {
+        return await(input.chooseTarget(context, player, candidates), context, player,
+            () -> fallback.chooseTarget(context, player, candidates));
+    }
+
+    @Override
+    public Player choosePlayerToInspect(GameContext context, Player player, List<Player> candidates) {
+        return await(input.choosePlayerToInspect(context, player, candidates), context, player,
+            () -> fallback.choosePlayerToInspect(context, player, candidates));
+    }
+
+    @Override
+    public boolean confirm(GameContext context, Player player, String question) {
+        return await(input.confirm(context, player, question), context, player,
+            () -> fallback.confirm(context, player, question));
+    }
+
+    /**
+     * Waits for a decision, or lets the fallback decide once the time is up.
+     *
+     * @throws IllegalStateException if the thread is interrupted while waiting
+     */
+    private <T> T await(CompletableFuture<T> decision, GameContext context, Player player,
+                        Supplier<T> fallbackDecision) {
+        try {
+            return decision.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            decision.cancel(true);
+            context.getEventListener().onMessage(player.getName() + " did not decide in time.");
+            return fallbackDecision.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            decision.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + player.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package edu.cmu.f24qa.loveletter.journal;
+
+import edu.cmu.f24qa.loveletter.Card;
+
+/**
+ * Receives a compact record of everything that happens in a game: the deck order of
+ * every round, every card played with its decisions and outcome, and the winners of
+ * every round.
+ *
+ * Players are identified by their seat, i.e. their position in the player list when
+ * the first round was dealt. Sets of players are passed as bit masks of seats.
+ */
+public interface GameJournal {
+    /**
+     * Tells whether the journal keeps what it is given. The game skips working out the
+     * seats and deck order of a journal that does not.
+     *
+     * @return true if the journal records the game
+     */
+    default boolean isRecording() {
+        return true;
+    }
+
+    /**
+     * A new game is about to start.
+     *
+     * @param playerCount the number of players at the table
+     */
+    void onGameStart(int playerCount);
+
+    /**
+     * A round has been dealt.
+     *
+     * @param deckOrder the ordinals of the shuffled deck before any card was removed,
+     *                  top of the deck last
+     */
+    void onDeal(byte[] deckOrder);
+
+    /**
+     * A card has been played.
+     *
+     * @param seat       the seat of the player who played the card
+     * @param card       the card played
+     * @param targets    the seats the card targeted
+     * @param guess      the guess made for the card, see {@link JournalRecord#guessOf}
+     * @param decisions  the other decisions made while playing, see {@link JournalRecord}
+     * @param eliminated the seats eliminated by the card
+     */
+    void onPlay(int seat, Card card, int targets, int guess, int decisions, int eliminated);
+
+    /**
+     * A round has ended.
+     *
+     * @param winners the seats that won the round
+     */
+    void onRoundEnd(int winners);
+}
@@ -0,0 +1,162 @@
+package edu.cmu.f24qa.loveletter.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import edu.cmu.f24qa.loveletter.Card;
+
+/**
+ * Reads the records of a journal file one at a time.
+ *
+ * The reader is a cursor over the mapped file: next() moves to the following record
+ * and the getters decode the fields of the current record, without allocating.
+ */
+public class GameJournalReader implements Closeable {
+    /**
+     * Largest region mapped at once, a multiple of the record size below 2 GiB.
+     */
+    private static final int MAX_REGION_SIZE = Integer.MAX_VALUE / JournalRecord.SIZE * JournalRecord.SIZE;
+    private static final Card[] CARDS = Card.values();
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private MappedByteBuffer region;
+    private long regionStart;
+    private long position;
+    private int at;
+
+    /**
+     * Opens a journal file for reading.
+     *
+     * @param file the journal file
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public GameJournalReader(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.fileSize = channel.size();
+        this.regionStart = 0;
+        this.region = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(fileSize, MAX_REGION_SIZE));
+        this.position = -JournalRecord.SIZE;
+        this.at = -JournalRecord.SIZE;
+    }
+
+    /**
+     * Moves to the next record.
+     *
+     * @return true if there is a next record, false at the end of the journal
+     */
+    public boolean next() {
+        long nextPosition = position + JournalRecord.SIZE;
+        if (nextPosition + JournalRecord.SIZE > fileSize) {
+            return false;
+        }
+        if (nextPosition - regionStart + JournalRecord.SIZE > region.capacity()) {
+            mapRegion(nextPosition);
+        }
+        int nextAt = (int) (nextPosition - regionStart);
+        if (region.get(nextAt + JournalRecord.TYPE) == JournalRecord.END) {
+            return false;
+        }
+        position = nextPosition;
+        at = nextAt;
+        return true;
+    }
+
+    private void mapRegion(long start) {
+        try {
+            region = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(fileSize - start, MAX_REGION_SIZE));
+            regionStart = start;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read the game journal", e);
+        }
+    }
+
+    public byte getType() {
+        return region.get(at + JournalRecord.TYPE);
+    }
+
+    public int getGame() {
+        return region.getInt(at + JournalRecord.GAME);
+    }
+
+    public int getRound() {
+        return unsigned(JournalRecord.ROUND);
+    }
+
+    public int getTurn() {
+        return region.getShort(at + JournalRecord.TURN) & 0xFFFF;
+    }
+
+    /**
+     * Returns the number of players of a GAME_START record.
+     *
+     * @return the number of players
+     */
+    public int getPlayerCount() {
+        return unsigned(JournalRecord.SEAT);
+    }
+
+    public int getSeat() {
+        return unsigned(JournalRecord.SEAT);
+    }
+
+    public Card getCard() {
+        return CARDS[unsigned(JournalRecord.CARD)];
+    }
+
+    public int getTargets() {
+        return unsigned(JournalRecord.TARGETS);
+    }
+
+    public int getGuess() {
+        return unsigned(JournalRecord.GUESS);
+    }
+
+    public int getDecisions() {
+        return unsigned(JournalRecord.DECISIONS);
+    }
+
+    public int getEliminated() {
+        return unsigned(JournalRecord.OUTCOME);
+    }
+
+    public int getWinners() {
+        return unsigned(JournalRecord.OUTCOME);
+    }
+
+    /**
+     * Returns the size of the deck of a DEAL record.
+     *
+     * @return the number of cards in the dealt deck
+     */
+    public int getDeckSize() {
+        return getTurn();
+    }
+
+    /**
+     * Returns one of the cards carried by a DEAL record.
+     *
+     * @param index the index of the card within the record, 0 to 7
+     * @return the card, or null for padding after the last card of the deck
+     */
+    public @Nullable Card getDealCard(int index) {
+        int code = unsigned(JournalRecord.DEAL_CARDS + index);
+        return code == 0 ? null : CARDS[code - 1];
+    }
+
+    private int unsigned(int offset) {
+        return region.get(at + offset) & 0xFF;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,220 @@
+package edu.cmu.f24qa.loveletter.journal;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Stack;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import edu.cmu.f24qa.loveletter.Card;
+import edu.cmu.f24qa.loveletter.Deck;
+import edu.cmu.f24qa.loveletter.Game;
+import edu.cmu.f24qa.loveletter.GameContext;
+import edu.cmu.f24qa.loveletter.Player;
+import edu.cmu.f24qa.loveletter.PlayerList;
+import edu.cmu.f24qa.loveletter.events.NoOpEventListener;
+import edu.cmu.f24qa.loveletter.input.PlayerInput;
+
+/**
+ * Replays one recorded game through the regular game loop and card actions.
+ *
+ * The replay deals the recorded deck order, answers every decision the way it was
+ * recorded, and receives the journal of the replayed game to check each deal, play
+ * and round result against the recording.
+ */
+final class GameReplay implements PlayerInput, GameJournal {
+    private static final Card[] CARDS = Card.values();
+
+    private final RecordedGame game;
+    private final PlayerList players;
+    private final List<Player> seats;
+    private int dealIndex;
+    private int playIndex;
+    private int roundEndIndex;
+    private int chosenTargets;
+    private int answers;
+
+    GameReplay(RecordedGame game) {
+        this.game = game;
+        this.players = new PlayerList();
+        for (int seat = 0; seat < game.getPlayerCount(); seat++) {
+            players.addPlayer("Player " + (seat + 1));
+        }
+        this.seats = players.getPlayers();
+    }
+
+    /**
+     * Plays the game and checks that it ended where the recording ended.
+     *
+     * @return the number of plays verified
+     * @throws ReplayMismatchException if the replay does not match the recording
+     */
+    int run() {
+        Game replayed = new Game(players, new ReplayDeck(this), this, new NoOpEventListener());
+        replayed.setJournal(this);
+        replayed.start();
+        if (playIndex != game.getPlayCount() || dealIndex != game.getDealCount()
+            || roundEndIndex != game.getRoundEndCount()) {
+            throw mismatch("the game ended after " + playIndex + " of " + game.getPlayCount() + " plays");
+        }
+        return playIndex;
+    }
+
+    private ReplayMismatchException mismatch(String message) {
+        return new ReplayMismatchException(game, playIndex + 1, message);
+    }
+
+    private RecordedPlay expectedPlay() {
+        RecordedPlay play = game.play(playIndex);
+        if (play == null) {
+            throw mismatch("the game continues after the last recorded play");
+        }
+        return play;
+    }
+
+    private int seatOf(Player player) {
+        return seats.indexOf(player);
+    }
+
+    /**
+     * Returns the recorded order of the next deal after checking that it is a
+     * permutation of the cards of the freshly built deck.
+     */
+    byte[] nextDeal(Stack<Card> built) {
+        byte @Nullable [] order = game.deal(dealIndex);
+        if (order == null) {
+            throw mismatch("more rounds are dealt than were recorded");
+        }
+        int[] counts = new int[CARDS.length];
+        for (Card card : built) {
+            counts[card.ordinal()]++;
+        }
+        for (byte card : order) {
+            counts[card]--;
+        }
+        if (order.length != built.size() || Arrays.stream(counts).anyMatch(count -> count != 0)) {
+            throw mismatch("the recorded deck of round " + (dealIndex + 1) + " is not a full deck");
+        }
+        return order;
+    }
+
+    @Override
+    public int chooseCardIndex(GameContext context, Player player) {
+        RecordedPlay play = expectedPlay();
+        if (seatOf(player) != play.seat) {
+            throw mismatch("seat " + seatOf(player) + " takes the turn of seat " + play.seat);
+        }
+        int index = player.getHand().cards().indexOf(play.card);
+        if (index < 0) {
+            throw mismatch("seat " + play.seat + " does not hold the recorded " + play.card.getName());
+        }
+        return index;
+    }
+
+    @Override
+    public @Nullable Card guessCard(GameContext context, Player player) {
+        return JournalRecord.guessedCard(expectedPlay().guess);
+    }
+
+    @Override
+    public int guessNumber(GameContext context, Player player) {
+        return JournalRecord.guessedNumber(expectedPlay().guess);
+    }
+
+    @Override
+    public Player chooseTarget(GameContext context, Player player, List<Player> candidates) {
+        int remaining = expectedPlay().targets & ~chosenTargets;
+        for (int seat = 0; seat < seats.size(); seat++) {
+            if ((remaining & (1 << seat)) != 0 && candidates.contains(seats.get(seat))) {
+                chosenTargets |= 1 << seat;
+                return seats.get(seat);
+            }
+        }
+        throw mismatch("none of the recorded targets can be targeted");
+    }
+
+    @Override
+    public Player choosePlayerToInspect(GameContext context, Player player, List<Player> candidates) {
+        int seat = (expectedPlay().decisions & JournalRecord.INSPECTED_MASK) - 1;
+        if (seat < 0 || seat >= seats.size() || !candidates.contains(seats.get(seat))) {
+            throw mismatch("the recorded player to inspect cannot be inspected");
+        }
+        return seats.get(seat);
+    }
+
+    @Override
+    public boolean confirm(GameContext context, Player player, String question) {
+        int decisions = expectedPlay().decisions;
+        boolean answer = answers < JournalRecord.MAX_ANSWERS
+            && (decisions & (1 << (JournalRecord.ANSWERS_SHIFT + answers))) != 0;
+        answers++;
+        return answer;
+    }
+
+    @Override
+    public void onGameStart(int playerCount) {
+        if (playerCount != game.getPlayerCount()) {
+            throw mismatch(playerCount + " players start a game recorded with " + game.getPlayerCount());
+        }
+    }
+
+    @Override
+    public void onDeal(byte[] deckOrder) {
+        byte @Nullable [] recorded = game.deal(dealIndex);
+        if (recorded == null) {
+            throw mismatch("more rounds are dealt than were recorded");
+        }
+        if (!Arrays.equals(deckOrder, recorded)) {
+            throw mismatch("round " + (dealIndex + 1) + " is dealt differently");
+        }
+        dealIndex++;
+    }
+
+    @Override
+    public void onPlay(int seat, Card card, int targets, int guess, int decisions, int eliminated) {
+        RecordedPlay play = expectedPlay();
+        if (!play.matches(seat, card, targets, guess, decisions, eliminated)) {
+            throw mismatch("expected " + play + " but "
+                + RecordedPlay.describe(seat, card, targets, guess, decisions, eliminated));
+        }
+        playIndex++;
+        chosenTargets = 0;
+        answers = 0;
+    }
+
+    @Override
+    public void onRoundEnd(int winners) {
+        Integer recorded = game.roundWinners(roundEndIndex);
+        if (recorded == null || recorded != winners) {
+            throw mismatch("round " + (roundEndIndex + 1) + " is won by seats " + Integer.toBinaryString(winners)
+                + " instead of " + (recorded == null ? "nobody" : Integer.toBinaryString(recorded)));
+        }
+        roundEndIndex++;
+    }
+
+    /**
+     * Deck whose shuffle deals the recorded order of the next round.
+     */
+    private static final class ReplayDeck extends Deck {
+        private final GameReplay replay;
+
+        ReplayDeck(GameReplay replay) {
+            this.replay = replay;
+        }
+
+        @Override
+        public void shuffle() {
+            byte[] order = replay.nextDeal(getDeck());
+            Stack<Card> cards = new Stack<>();
+            for (byte card : order) {
+                cards.push(CARDS[card]);
+            }
+            setDeck(cards);
+        }
+
+        @Override
+        protected Deck newDeck() {
+            return new ReplayDeck(replay);
+        }
+    }
+}
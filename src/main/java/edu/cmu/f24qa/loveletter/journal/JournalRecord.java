@@ -0,0 +1,108 @@
+package edu.cmu.f24qa.loveletter.journal;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import edu.cmu.f24qa.loveletter.Card;
+
+/**
+ * Layout of the fixed-width records of a game journal.
+ *
+ * Every record is {@value #SIZE} bytes:
+ * <pre>
+ * offset  size  field
+ *  0      4     game number, counted from 0 per journal file
+ *  4      2     turn number within the game (PLAY), number of cards (DEAL)
+ *  6      1     record type
+ *  7      1     round number within the game
+ *  8      1     seat of the player (PLAY), number of players (GAME_START)
+ *  9      1     card ordinal (PLAY)
+ * 10      1     seats targeted (PLAY)
+ * 11      1     guess (PLAY)
+ * 12      1     decisions (PLAY)
+ * 13      1     seats eliminated (PLAY), seats that won (ROUND_END)
+ * </pre>
+ * A DEAL record carries up to eight cards of the deck order in bytes 8 to 15, each as
+ * card ordinal + 1 with 0 as padding; a deck takes as many consecutive DEAL records as
+ * it needs. A record of type {@link #END} marks the end of the journal.
+ */
+public final class JournalRecord {
+    public static final int SIZE = 16;
+
+    public static final byte END = 0;
+    public static final byte GAME_START = 1;
+    public static final byte DEAL = 2;
+    public static final byte PLAY = 3;
+    public static final byte ROUND_END = 4;
+
+    static final int GAME = 0;
+    static final int TURN = 4;
+    static final int TYPE = 6;
+    static final int ROUND = 7;
+    static final int SEAT = 8;
+    static final int CARD = 9;
+    static final int TARGETS = 10;
+    static final int GUESS = 11;
+    static final int DECISIONS = 12;
+    static final int OUTCOME = 13;
+    static final int DEAL_CARDS = 8;
+    public static final int CARDS_PER_DEAL_RECORD = SIZE - DEAL_CARDS;
+
+    /**
+     * The low nibble of the decisions holds the seat + 1 of the player whose hand was
+     * looked at (Cardinal), 0 if none.
+     */
+    public static final int INSPECTED_MASK = 0x0F;
+
+    /**
+     * The high nibble of the decisions holds the yes/no answers given while the card
+     * was played, the first answer in the lowest bit. Only the number of answers asked
+     * for by the card is meaningful.
+     */
+    public static final int ANSWERS_SHIFT = 4;
+    public static final int MAX_ANSWERS = 4;
+
+    private static final Card[] CARDS = Card.values();
+
+    private JournalRecord() {
+    }
+
+    /**
+     * Encodes a guessed card: the ordinal + 1, 0 for a guess that names no card.
+     *
+     * @param card the guessed card, or null
+     * @return the encoded guess
+     */
+    public static int guessOf(@Nullable Card card) {
+        return card == null ? 0 : card.ordinal() + 1;
+    }
+
+    /**
+     * Encodes a guessed number: the number + 1. Numbers from 0 to 254 can be journaled.
+     *
+     * @param number the guessed number
+     * @return the encoded guess
+     */
+    public static int guessOf(int number) {
+        return number + 1;
+    }
+
+    /**
+     * Decodes a guessed card.
+     *
+     * @param guess the encoded guess
+     * @return the guessed card, or null if the guess named no card
+     */
+    public static @Nullable Card guessedCard(int guess) {
+        return guess == 0 ? null : CARDS[guess - 1];
+    }
+
+    /**
+     * Decodes a guessed number.
+     *
+     * @param guess the encoded guess
+     * @return the guessed number
+     */
+    public static int guessedNumber(int guess) {
+        return guess - 1;
+    }
+}
@@ -0,0 +1,157 @@
+package edu.cmu.f24qa.loveletter.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import edu.cmu.f24qa.loveletter.Card;
+
+/**
+ * Appends the journal of one or more games to a memory-mapped file.
+ *
+ * The file is mapped in regions of a fixed size and records are written straight
+ * into the mapping, so recording a card play is a handful of stores with no system
+ * call and no allocation. The end of the file is padded with zeros up to the end of
+ * the last region; readers stop at the first record of type {@link JournalRecord#END}.
+ *
+ * A journal is written by one game at a time and is not thread-safe; games running
+ * in parallel should each write their own journal file.
+ */
+public class MappedGameJournal implements GameJournal, Closeable {
+    /**
+     * Default size of a mapped region: 8 MiB, about half a million records.
+     */
+    public static final int DEFAULT_REGION_SIZE = 8 << 20;
+
+    private final FileChannel channel;
+    private final int regionSize;
+    private MappedByteBuffer region;
+    private long regionStart;
+    private long records;
+    private int game;
+    private int round;
+    private int turn;
+
+    /**
+     * Creates a journal file, replacing any existing file.
+     *
+     * @param file the journal file
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public MappedGameJournal(Path file) throws IOException {
+        this(file, DEFAULT_REGION_SIZE);
+    }
+
+    /**
+     * Creates a journal file mapped in regions of the given size, replacing any existing file.
+     *
+     * @param file       the journal file
+     * @param regionSize the size of a mapped region, a positive multiple of the record size
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public MappedGameJournal(Path file, int regionSize) throws IOException {
+        if (regionSize <= 0 || regionSize % JournalRecord.SIZE != 0) {
+            throw new IllegalArgumentException("Region size must be a positive multiple of " + JournalRecord.SIZE);
+        }
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.regionSize = regionSize;
+        this.regionStart = 0;
+        this.region = channel.map(FileChannel.MapMode.READ_WRITE, 0, regionSize);
+        this.game = -1;
+    }
+
+    @Override
+    public void onGameStart(int playerCount) {
+        game++;
+        round = 0;
+        turn = 0;
+        int at = startRecord(JournalRecord.GAME_START);
+        region.put(at + JournalRecord.SEAT, (byte) playerCount);
+    }
+
+    @Override
+    public void onDeal(byte[] deckOrder) {
+        round++;
+        for (int from = 0; from < deckOrder.length; from += JournalRecord.CARDS_PER_DEAL_RECORD) {
+            int at = startRecord(JournalRecord.DEAL);
+            region.putShort(at + JournalRecord.TURN, (short) deckOrder.length);
+            int to = Math.min(deckOrder.length, from + JournalRecord.CARDS_PER_DEAL_RECORD);
+            for (int i = from; i < to; i++) {
+                region.put(at + JournalRecord.DEAL_CARDS + i - from, (byte) (deckOrder[i] + 1));
+            }
+        }
+    }
+
+    @Override
+    public void onPlay(int seat, Card card, int targets, int guess, int decisions, int eliminated) {
+        turn++;
+        int at = startRecord(JournalRecord.PLAY);
+        region.putShort(at + JournalRecord.TURN, (short) turn);
+        region.put(at + JournalRecord.SEAT, (byte) seat);
+        region.put(at + JournalRecord.CARD, (byte) card.ordinal());
+        region.put(at + JournalRecord.TARGETS, (byte) targets);
+        region.put(at + JournalRecord.GUESS, (byte) guess);
+        region.put(at + JournalRecord.DECISIONS, (byte) decisions);
+        region.put(at + JournalRecord.OUTCOME, (byte) eliminated);
+    }
+
+    @Override
+    public void onRoundEnd(int winners) {
+        int at = startRecord(JournalRecord.ROUND_END);
+        region.put(at + JournalRecord.OUTCOME, (byte) winners);
+    }
+
+    /**
+     * Reserves the next record and writes its common fields.
+     *
+     * @return the position of the record within the current region
+     */
+    private int startRecord(byte type) {
+        long position = records * JournalRecord.SIZE;
+        if (position - regionStart >= regionSize) {
+            mapNextRegion(position);
+        }
+        records++;
+        int at = (int) (position - regionStart);
+        region.putInt(at + JournalRecord.GAME, Math.max(game, 0));
+        region.put(at + JournalRecord.TYPE, type);
+        region.put(at + JournalRecord.ROUND, (byte) round);
+        return at;
+    }
+
+    private void mapNextRegion(long position) {
+        try {
+            region = channel.map(FileChannel.MapMode.READ_WRITE, position, regionSize);
+            regionStart = position;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot extend the game journal", e);
+        }
+    }
+
+    /**
+     * Returns the number of records written so far.
+     *
+     * @return the number of records
+     */
+    public long getRecordCount() {
+        return records;
+    }
+
+    /**
+     * Forces the records written so far to the storage device.
+     */
+    public void flush() {
+        region.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        region.force();
+        channel.close();
+    }
+}
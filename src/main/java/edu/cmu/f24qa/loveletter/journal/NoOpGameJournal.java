@@ -0,0 +1,33 @@
+package edu.cmu.f24qa.loveletter.journal;
+
+import edu.cmu.f24qa.loveletter.Card;
+
+/**
+ * Journal that records nothing, used when a game is not journaled.
+ */
+public class NoOpGameJournal implements GameJournal {
+    @Override
+    public boolean isRecording() {
+        return false;
+    }
+
+    @Override
+    public void onGameStart(int playerCount) {
+        // intentionally empty
+    }
+
+    @Override
+    public void onDeal(byte[] deckOrder) {
+        // intentionally empty
+    }
+
+    @Override
+    public void onPlay(int seat, Card card, int targets, int guess, int decisions, int eliminated) {
+        // intentionally empty
+    }
+
+    @Override
+    public void onRoundEnd(int winners) {
+        // intentionally empty
+    }
+}
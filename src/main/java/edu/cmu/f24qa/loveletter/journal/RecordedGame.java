@@ -0,0 +1,133 @@
+package edu.cmu.f24qa.loveletter.journal;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import edu.cmu.f24qa.loveletter.Card;
+
+/**
+ * One complete game read from a journal: the deck order of every round, every card
+ * played and the winners of every round, in the order they happened.
+ */
+public final class RecordedGame {
+    private final String source;
+    private final int number;
+    private final int playerCount;
+    private final List<byte[]> deals;
+    private final List<RecordedPlay> plays;
+    private final List<Integer> roundWinners;
+
+    private RecordedGame(String source, int number, int playerCount) {
+        this.source = source;
+        this.number = number;
+        this.playerCount = playerCount;
+        this.deals = new ArrayList<>();
+        this.plays = new ArrayList<>();
+        this.roundWinners = new ArrayList<>();
+    }
+
+    /**
+     * Reads every game of a journal file. Records written before the first game start,
+     * e.g. by rounds played outside of Game.start(), are skipped.
+     *
+     * @param file the journal file
+     * @return the games of the journal in the order they were played
+     * @throws IOException if the journal cannot be read
+     */
+    public static List<RecordedGame> load(Path file) throws IOException {
+        List<RecordedGame> games = new ArrayList<>();
+        String source = String.valueOf(file.getFileName());
+        RecordedGame game = null;
+        byte[] deal = null;
+        int dealt = 0;
+        try (GameJournalReader reader = new GameJournalReader(file)) {
+            while (reader.next()) {
+                byte type = reader.getType();
+                if (type == JournalRecord.GAME_START) {
+                    game = new RecordedGame(source, reader.getGame(), reader.getPlayerCount());
+                    games.add(game);
+                    deal = null;
+                } else if (game == null) {
+                    continue;
+                } else if (type == JournalRecord.DEAL) {
+                    if (deal == null || dealt == deal.length) {
+                        deal = new byte[reader.getDeckSize()];
+                        dealt = 0;
+                        game.deals.add(deal);
+                    }
+                    dealt = readDealCards(reader, deal, dealt);
+                } else if (type == JournalRecord.PLAY) {
+                    game.plays.add(new RecordedPlay(reader.getTurn(), reader.getSeat(), reader.getCard(),
+                        reader.getTargets(), reader.getGuess(), reader.getDecisions(), reader.getEliminated()));
+                } else if (type == JournalRecord.ROUND_END) {
+                    game.roundWinners.add(reader.getWinners());
+                }
+            }
+        }
+        return games;
+    }
+
+    private static int readDealCards(GameJournalReader reader, byte[] deal, int dealt) {
+        int count = dealt;
+        for (int i = 0; i < JournalRecord.CARDS_PER_DEAL_RECORD && count < deal.length; i++) {
+            Card card = reader.getDealCard(i);
+            deal[count++] = (byte) (card == null ? 0 : card.ordinal());
+        }
+        return count;
+    }
+
+    /**
+     * Returns the name of the journal file the game was read from.
+     *
+     * @return the file name of the journal
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Returns the number of the game within its journal file, counted from 0.
+     *
+     * @return the game number
+     */
+    public int getNumber() {
+        return number;
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public int getDealCount() {
+        return deals.size();
+    }
+
+    public int getPlayCount() {
+        return plays.size();
+    }
+
+    public int getRoundEndCount() {
+        return roundWinners.size();
+    }
+
+    byte @Nullable [] deal(int index) {
+        return index < deals.size() ? deals.get(index) : null;
+    }
+
+    @Nullable RecordedPlay play(int index) {
+        return index < plays.size() ? plays.get(index) : null;
+    }
+
+    @Nullable Integer roundWinners(int index) {
+        return index < roundWinners.size() ? roundWinners.get(index) : null;
+    }
+
+    @Override
+    public String toString() {
+        return source + " game " + number;
+    }
+}
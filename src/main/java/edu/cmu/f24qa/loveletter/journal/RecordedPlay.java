@@ -0,0 +1,46 @@
+package edu.cmu.f24qa.loveletter.journal;
+
+import edu.cmu.f24qa.loveletter.Card;
+
+/**
+ * A card play read from a journal.
+ */
+final class RecordedPlay {
+    final int turn;
+    final int seat;
+    final Card card;
+    final int targets;
+    final int guess;
+    final int decisions;
+    final int eliminated;
+
+    RecordedPlay(int turn, int seat, Card card, int targets, int guess, int decisions, int eliminated) {
+        this.turn = turn;
+        this.seat = seat;
+        this.card = card;
+        this.targets = targets;
+        this.guess = guess;
+        this.decisions = decisions;
+        this.eliminated = eliminated;
+    }
+
+    /**
+     * Tells whether a play made during replay matches this recorded play.
+     */
+    boolean matches(int playSeat, Card playCard, int playTargets, int playGuess, int playDecisions,
+                    int playEliminated) {
+        return seat == playSeat && card == playCard && targets == playTargets && guess == playGuess
+            && decisions == playDecisions && eliminated == playEliminated;
+    }
+
+    static String describe(int seat, Card card, int targets, int guess, int decisions, int eliminated) {
+        return String.format("seat %d plays %s (targets %s, guess %d, decisions 0x%02x, eliminated %s)",
+            seat, card.getName(), Integer.toBinaryString(targets), guess, decisions,
+            Integer.toBinaryString(eliminated));
+    }
+
+    @Override
+    public String toString() {
+        return describe(seat, card, targets, guess, decisions, eliminated);
+    }
+}
@@ -0,0 +1,143 @@
+package edu.cmu.f24qa.loveletter.journal;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Replays recorded games and checks that they play out exactly as journaled.
+ *
+ * Each game is re-executed through the regular Game, GameContext and card actions,
+ * with the recorded deck order and decisions, and without narration. Games are
+ * independent, so a batch is replayed in parallel on a dedicated fork-join pool.
+ */
+public class ReplayEngine {
+    /**
+     * Number of games a fork-join task replays itself instead of splitting further.
+     */
+    private static final int MIN_GAMES_PER_TASK = 8;
+
+    private final int parallelism;
+
+    /**
+     * Creates a replay engine that uses every available core.
+     */
+    public ReplayEngine() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a replay engine running on the given number of worker threads.
+     *
+     * @param parallelism the number of worker threads
+     */
+    public ReplayEngine(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Replays a single game.
+     *
+     * @param game the recorded game
+     * @return the number of plays verified
+     * @throws ReplayMismatchException if the game does not replay as recorded
+     */
+    public int verify(RecordedGame game) {
+        return new GameReplay(game).run();
+    }
+
+    /**
+     * Reads and replays every game of the given journal files.
+     *
+     * @param journals the journal files
+     * @return the outcome of the replay
+     * @throws IOException if a journal cannot be read
+     */
+    public ReplayResult replayFiles(List<Path> journals) throws IOException {
+        List<RecordedGame> games = new ArrayList<>();
+        for (Path journal : journals) {
+            games.addAll(RecordedGame.load(journal));
+        }
+        return replay(games);
+    }
+
+    /**
+     * Replays a batch of games in parallel. A game that does not replay as recorded is
+     * reported in the result and does not stop the other games.
+     *
+     * @param games the recorded games
+     * @return the outcome of the replay
+     */
+    public ReplayResult replay(List<RecordedGame> games) {
+        @Nullable String[] failures = new String[games.size()];
+        LongAdder plays = new LongAdder();
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new ReplayGames(games, 0, games.size(), failures, plays));
+        } finally {
+            pool.shutdown();
+        }
+        long elapsed = System.nanoTime() - start;
+        List<String> mismatches = new ArrayList<>();
+        for (@Nullable String failure : failures) {
+            if (failure != null) {
+                mismatches.add(failure);
+            }
+        }
+        return new ReplayResult(games.size(), plays.sum(), elapsed, mismatches);
+    }
+
+    /**
+     * Fork-join task replaying the games in [from, to).
+     */
+    private final class ReplayGames extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<RecordedGame> games;
+        private final int from;
+        private final int to;
+        private final @Nullable String[] failures;
+        private final transient LongAdder plays;
+
+        ReplayGames(List<RecordedGame> games, int from, int to, @Nullable String[] failures, LongAdder plays) {
+            this.games = games;
+            this.from = from;
+            this.to = to;
+            this.failures = failures;
+            this.plays = plays;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= MIN_GAMES_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    replayOne(i);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ReplayGames(games, from, middle, failures, plays),
+                new ReplayGames(games, middle, to, failures, plays));
+        }
+
+        private void replayOne(int index) {
+            try {
+                plays.add(verify(games.get(index)));
+            } catch (ReplayMismatchException e) {
+                failures[index] = e.getMessage();
+            } catch (RuntimeException e) {
+                failures[index] = games.get(index) + ": replay failed with " + e;
+            }
+        }
+    }
+}
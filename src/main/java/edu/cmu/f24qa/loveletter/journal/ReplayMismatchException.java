@@ -0,0 +1,19 @@
+package edu.cmu.f24qa.loveletter.journal;
+
+/**
+ * Thrown when a replayed game does not do what its journal recorded.
+ */
+public class ReplayMismatchException extends IllegalStateException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates the exception for a game and the turn at which it diverged.
+     *
+     * @param game    the recorded game
+     * @param turn    the turn of the game at which the replay diverged
+     * @param message what the replay did differently
+     */
+    public ReplayMismatchException(RecordedGame game, int turn, String message) {
+        super(game + ", turn " + turn + ": " + message);
+    }
+}
@@ -0,0 +1,59 @@
+package edu.cmu.f24qa.loveletter.journal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of replaying a batch of recorded games.
+ */
+public class ReplayResult {
+    private final int games;
+    private final long plays;
+    private final long elapsedNanos;
+    private final List<String> mismatches;
+
+    ReplayResult(int games, long plays, long elapsedNanos, List<String> mismatches) {
+        this.games = games;
+        this.plays = plays;
+        this.elapsedNanos = elapsedNanos;
+        this.mismatches = new ArrayList<>(mismatches);
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * Returns the number of card plays that were replayed and matched the recording.
+     *
+     * @return the number of verified plays
+     */
+    public long getPlays() {
+        return plays;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns a description of every game that did not replay as recorded, in the
+     * order the games were given.
+     *
+     * @return the mismatches, empty if every game matched
+     */
+    public List<String> getMismatches() {
+        return Collections.unmodifiableList(mismatches);
+    }
+
+    public boolean isSuccessful() {
+        return mismatches.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d games, %d plays replayed in %.1f ms, %d mismatches",
+            games, plays, elapsedNanos / 1e6, mismatches.size());
+    }
+}
@@ -0,0 +1,409 @@
+package edu.cmu.f24qa.loveletter.search;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import edu.cmu.f24qa.loveletter.Card;
+import edu.cmu.f24qa.loveletter.Deck;
+
+/**
+ * Counts the cards every player has not seen and turns the count into beliefs about
+ * the hidden cards of the other players.
+ *
+ * For each observer seat the tracker keeps the number of unseen copies of every card
+ * type: the cards of the deck less the face-up removals, the discards, the observer's
+ * own draws and the cards the observer has been shown. An opponent's card the observer
+ * has been shown, e.g. with the Priest, or has given away with the King, is known;
+ * otherwise it is equally likely to be any unseen card, less the types a missed Guard
+ * or Bishop guess has ruled out. Every event updates each observer in constant time,
+ * and a distribution takes one pass over the card types.
+ *
+ * Feed a tracker with the events of a round after resetting it, or let a SearchState
+ * following the game feed it, see {@link SearchState#track(BeliefTracker)}.
+ */
+public final class BeliefTracker {
+    private static final Card[] CARDS = Card.values();
+    private static final int TYPES = CARDS.length;
+    private static final int SEATS = SearchState.MAX_SEATS;
+
+    /**
+     * Copies of each card type in the 16-card and the 32-card deck.
+     */
+    private static final int[] SMALL_DECK = composition(false);
+    private static final int[] LARGE_DECK = composition(true);
+
+    private int playerCount;
+
+    /**
+     * Seats still in the round.
+     */
+    private int inRound;
+
+    /**
+     * Unseen copies of each card type, one row of card types per observer.
+     */
+    private final int[] unseen = new int[SEATS * TYPES];
+    private final int[] unseenTotal = new int[SEATS];
+
+    /**
+     * The card each observer knows each seat to hold, or NO_CARD, and the bit mask of
+     * the card types ruled out for that seat; one row of seats per observer.
+     */
+    private final int[] known = new int[SEATS * SEATS];
+    private final int[] excluded = new int[SEATS * SEATS];
+
+    private static int[] composition(boolean large) {
+        Deck deck = new Deck();
+        if (large) {
+            deck.build32Cards();
+        } else {
+            deck.build16Cards();
+        }
+        int[] counts = new int[TYPES];
+        for (Card card : deck.cards()) {
+            counts[card.ordinal()]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Starts a new round in which nobody has seen anything but the face-up cards.
+     *
+     * @param players the number of players (2-8)
+     * @param faceUp  the cards removed face up from the deck, three in a 2-player game
+     */
+    public void reset(int players, Card... faceUp) {
+        if (players < 2 || players > SEATS) {
+            throw new IllegalArgumentException("Invalid number of players. Only 2-8 players are allowed.");
+        }
+        this.playerCount = players;
+        this.inRound = (1 << players) - 1;
+        int[] deck = players <= 4 ? SMALL_DECK : LARGE_DECK;
+        for (int observer = 0; observer < playerCount; observer++) {
+            System.arraycopy(deck, 0, unseen, observer * TYPES, TYPES);
+            unseenTotal[observer] = 0;
+            for (int count : deck) {
+                unseenTotal[observer] += count;
+            }
+            for (int seat = 0; seat < SEATS; seat++) {
+                known[observer * SEATS + seat] = SearchState.NO_CARD;
+                excluded[observer * SEATS + seat] = 0;
+            }
+        }
+        for (Card card : faceUp) {
+            for (int observer = 0; observer < playerCount; observer++) {
+                see(observer, card.ordinal());
+            }
+        }
+    }
+
+    /**
+     * Starts tracking a round from its search state, before anything was learned in
+     * play: every card neither in a hand, the deck, the set-aside slot nor a discard
+     * pile was removed face up, the discards are public and each player knows their
+     * own hand.
+     *
+     * @param state the state of the round
+     */
+    public void reset(SearchState state) {
+        int count = state.playerCount;
+        int[] missing = (count <= 4 ? SMALL_DECK : LARGE_DECK).clone();
+        for (int i = 0; i < state.deckSize; i++) {
+            missing[state.deck[i]]--;
+        }
+        if (state.setAside != SearchState.NO_CARD) {
+            missing[state.setAside]--;
+        }
+        for (int seat = 0; seat < count; seat++) {
+            for (int slot = 0; slot < state.handSizes[seat]; slot++) {
+                missing[state.card(seat, slot)]--;
+            }
+        }
+        reset(count);
+        for (int card = 0; card < TYPES; card++) {
+            for (int copy = 0; copy < missing[card]; copy++) {
+                for (int observer = 0; observer < count; observer++) {
+                    see(observer, card);
+                }
+            }
+        }
+        inRound = state.aliveSeats;
+        for (int seat = 0; seat < count; seat++) {
+            for (int slot = 0; slot < state.handSizes[seat]; slot++) {
+                see(seat, state.card(seat, slot));
+            }
+        }
+    }
+
+    /**
+     * Overwrites this tracker with the beliefs of another, without allocating.
+     *
+     * @param other the tracker to copy
+     */
+    void copyFrom(BeliefTracker other) {
+        this.playerCount = other.playerCount;
+        this.inRound = other.inRound;
+        System.arraycopy(other.unseen, 0, unseen, 0, unseen.length);
+        System.arraycopy(other.unseenTotal, 0, unseenTotal, 0, unseenTotal.length);
+        System.arraycopy(other.known, 0, known, 0, known.length);
+        System.arraycopy(other.excluded, 0, excluded, 0, excluded.length);
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    /**
+     * A player has drawn a card, which only they see.
+     *
+     * @param seat the seat of the player
+     * @param card the card drawn
+     */
+    public void onDraw(int seat, Card card) {
+        see(seat, card.ordinal());
+    }
+
+    /**
+     * A player has discarded a card face up, by playing it or by the effect of a card.
+     *
+     * @param seat the seat of the player
+     * @param card the card discarded
+     */
+    public void onDiscard(int seat, Card card) {
+        int ordinal = card.ordinal();
+        for (int observer = 0; observer < playerCount; observer++) {
+            if (observer == seat) {
+                continue;
+            }
+            int index = observer * SEATS + seat;
+            if (known[index] == ordinal) {
+                known[index] = SearchState.NO_CARD;
+            } else {
+                see(observer, ordinal);
+            }
+            // the card left in hand may be the one just drawn
+            excluded[index] = 0;
+        }
+    }
+
+    /**
+     * Two players have swapped hands with the King or the Cardinal. Each of them now
+     * sees the card they received and knows the card they gave away.
+     *
+     * @param seat      the seat of one player
+     * @param card      the card that player held, or null for an empty hand
+     * @param other     the seat of the other player
+     * @param otherCard the card the other player held, or null for an empty hand
+     */
+    public void onSwap(int seat, @Nullable Card card, int other, @Nullable Card otherCard) {
+        int ordinal = card == null ? SearchState.NO_CARD : card.ordinal();
+        int otherOrdinal = otherCard == null ? SearchState.NO_CARD : otherCard.ordinal();
+        for (int observer = 0; observer < playerCount; observer++) {
+            int row = observer * SEATS;
+            if (observer == seat) {
+                receive(observer, other, otherOrdinal, ordinal);
+            } else if (observer == other) {
+                receive(observer, seat, ordinal, otherOrdinal);
+            } else {
+                int held = known[row + seat];
+                known[row + seat] = known[row + other];
+                known[row + other] = held;
+                int ruledOut = excluded[row + seat];
+                excluded[row + seat] = excluded[row + other];
+                excluded[row + other] = ruledOut;
+            }
+        }
+    }
+
+    /**
+     * An observer who gave their card to the given seat now holds the seat's old card.
+     */
+    private void receive(int observer, int seat, int received, int given) {
+        int index = observer * SEATS + seat;
+        if (received != SearchState.NO_CARD && known[index] != received) {
+            see(observer, received);
+        }
+        known[index] = given;
+        excluded[index] = 0;
+    }
+
+    /**
+     * A player has been shown the card of another player, e.g. with the Priest.
+     *
+     * @param observer the seat of the player shown the card
+     * @param seat     the seat of the player holding the card
+     * @param card     the card shown
+     */
+    public void onReveal(int observer, int seat, Card card) {
+        int index = observer * SEATS + seat;
+        if (observer == seat || known[index] == card.ordinal()) {
+            return;
+        }
+        see(observer, card.ordinal());
+        known[index] = card.ordinal();
+        excluded[index] = 0;
+    }
+
+    /**
+     * A Guard guess has missed, so everybody knows the player does not hold the card.
+     *
+     * @param seat the seat of the player guessed
+     * @param card the card guessed
+     */
+    public void onMiss(int seat, Card card) {
+        rule(seat, 1 << card.ordinal());
+    }
+
+    /**
+     * A Bishop has guessed the value of a player's card; everybody learns whether the
+     * card has that value.
+     *
+     * @param seat    the seat of the player guessed
+     * @param number  the number guessed
+     * @param correct whether the card has that value
+     */
+    public void onValueGuess(int seat, int number, boolean correct) {
+        int matching = 0;
+        for (Card card : CARDS) {
+            if (card.getValue() == number) {
+                matching |= 1 << card.ordinal();
+            }
+        }
+        rule(seat, correct ? ~matching & (1 << TYPES) - 1 : matching);
+    }
+
+    private void rule(int seat, int types) {
+        for (int observer = 0; observer < playerCount; observer++) {
+            int index = observer * SEATS + seat;
+            if (observer != seat && known[index] == SearchState.NO_CARD) {
+                excluded[index] |= types;
+            }
+        }
+    }
+
+    /**
+     * A player has been eliminated and their hand is out of play. Only the witnesses see
+     * the card; everyone else keeps counting it as unseen.
+     *
+     * @param seat      the seat of the player
+     * @param card      the card the player held, or null for an empty hand
+     * @param witnesses the bit mask of the seats that see the card
+     */
+    public void onEliminated(int seat, @Nullable Card card, int witnesses) {
+        inRound &= ~(1 << seat);
+        for (int observer = 0; observer < playerCount; observer++) {
+            int index = observer * SEATS + seat;
+            if (card != null && observer != seat && (witnesses & 1 << observer) != 0
+                && known[index] != card.ordinal()) {
+                see(observer, card.ordinal());
+            }
+            known[index] = SearchState.NO_CARD;
+            excluded[index] = 0;
+        }
+    }
+
+    /**
+     * Returns the number of copies of a card an observer has not seen.
+     *
+     * @param observer the seat of the observer
+     * @param card     the card
+     * @return the unseen copies
+     */
+    public int getUnseenCount(int observer, Card card) {
+        return unseen[observer * TYPES + card.ordinal()];
+    }
+
+    public int getUnseenTotal(int observer) {
+        return unseenTotal[observer];
+    }
+
+    /**
+     * Returns the card an observer knows another player to hold.
+     *
+     * @param observer the seat of the observer
+     * @param seat     the seat of the other player
+     * @return the known card, or null if the observer does not know it
+     */
+    public @Nullable Card getKnownCard(int observer, int seat) {
+        int card = known[observer * SEATS + seat];
+        return card == SearchState.NO_CARD ? null : CARDS[card];
+    }
+
+    /**
+     * Returns how likely an observer finds it that another player holds a card. For a
+     * player holding two cards this is about the card they held before drawing.
+     *
+     * @param observer the seat of the observer
+     * @param seat     the seat of the other player
+     * @param card     the card
+     * @return the probability, 0 if the player is out of the round
+     */
+    public double probability(int observer, int seat, Card card) {
+        checkSeats(observer, seat);
+        if ((inRound & 1 << seat) == 0) {
+            return 0;
+        }
+        int index = observer * SEATS + seat;
+        if (known[index] != SearchState.NO_CARD) {
+            return known[index] == card.ordinal() ? 1 : 0;
+        }
+        if ((excluded[index] & 1 << card.ordinal()) != 0) {
+            return 0;
+        }
+        int weight = weight(observer, excluded[index]);
+        return weight == 0 ? 0 : (double) unseen[observer * TYPES + card.ordinal()] / weight;
+    }
+
+    /**
+     * Fills in how likely an observer finds each card to be held by another player.
+     *
+     * @param observer      the seat of the observer
+     * @param seat          the seat of the other player
+     * @param probabilities the array to fill, indexed by card ordinal
+     */
+    public void distribution(int observer, int seat, double[] probabilities) {
+        for (int card = 0; card < TYPES; card++) {
+            probabilities[card] = probability(observer, seat, CARDS[card]);
+        }
+    }
+
+    /**
+     * Returns the unseen copies not ruled out by the given bit mask of card types.
+     */
+    int weight(int observer, int ruledOut) {
+        int weight = unseenTotal[observer];
+        for (int types = ruledOut; types != 0; types &= types - 1) {
+            weight -= unseen[observer * TYPES + Integer.numberOfTrailingZeros(types)];
+        }
+        return weight;
+    }
+
+    int unseen(int observer, int card) {
+        return unseen[observer * TYPES + card];
+    }
+
+    int known(int observer, int seat) {
+        return known[observer * SEATS + seat];
+    }
+
+    int excluded(int observer, int seat) {
+        return excluded[observer * SEATS + seat];
+    }
+
+    private void checkSeats(int observer, int seat) {
+        if (observer < 0 || observer >= playerCount || seat < 0 || seat >= playerCount || observer == seat) {
+            throw new IllegalArgumentException("Seat " + observer + " cannot hold beliefs about seat " + seat);
+        }
+    }
+
+    /**
+     * Removes a card the observer has seen from their unseen cards.
+     */
+    private void see(int observer, int card) {
+        int index = observer * TYPES + card;
+        if (unseen[index] == 0) {
+            throw new IllegalStateException("Seat " + observer + " has seen every " + CARDS[card].getName());
+        }
+        unseen[index]--;
+        unseenTotal[observer]--;
+    }
+}
@@ -0,0 +1,92 @@
+package edu.cmu.f24qa.loveletter.search;
+
+import java.util.Random;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Plays the average strategy of trained counterfactual-regret tables, see {@link CfrTrainer}.
+ *
+ * The move is drawn from the strategy of the information set of the player to act, as
+ * the tables key it; a position the tables do not hold is played uniformly at random.
+ * The strategy is mixed, so the moves are drawn rather than taking the likeliest one.
+ *
+ * The tables are only read, so policies on different threads may share them.
+ */
+public class CfrPolicy implements DecisionPolicy {
+    private final CfrTables tables;
+    private final Random random;
+    private final BeliefTracker ownBeliefs = new BeliefTracker();
+    private final double[] strategy = new double[MoveGenerator.CAPACITY];
+    private @Nullable BeliefTracker beliefs;
+    private long decisions;
+    private long misses;
+
+    /**
+     * Creates a policy playing the given tables with the given random source.
+     * Passing a seeded source makes the moves reproducible.
+     *
+     * @param tables the trained tables
+     * @param random the random source
+     */
+    public CfrPolicy(CfrTables tables, Random random) {
+        this.tables = tables;
+        this.random = random;
+    }
+
+    /**
+     * Keys positions with a tracker following the game instead of rebuilding beliefs at
+     * every move. Rebuilt beliefs only count the cards in sight, so positions where the
+     * player was shown a card are looked up as if they had not been.
+     *
+     * @param tracker the tracker, fed by a state following the game, or null to rebuild
+     */
+    public void useBeliefs(@Nullable BeliefTracker tracker) {
+        this.beliefs = tracker;
+    }
+
+    /**
+     * Returns the number of decisions with more than one legal move taken so far.
+     *
+     * @return the number of decisions
+     */
+    public long getDecisions() {
+        return decisions;
+    }
+
+    /**
+     * Returns how many of those decisions the tables held no strategy for.
+     *
+     * @return the number of positions played uniformly
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    @Override
+    public int chooseMove(SearchState state, MoveGenerator moves) {
+        int actions = moves.size();
+        if (actions == 1) {
+            return moves.get(0);
+        }
+        BeliefTracker tracker = beliefs;
+        if (tracker == null) {
+            tracker = ownBeliefs;
+            tracker.reset(state);
+        }
+        decisions++;
+        int offset = tables.lookup(CfrTables.key(state, tracker), actions);
+        if (offset == CfrTables.NONE) {
+            misses++;
+        }
+        tables.averageStrategy(offset, actions, strategy);
+        double pick = random.nextDouble();
+        for (int i = 0; i < actions - 1; i++) {
+            pick -= strategy[i];
+            if (pick < 0) {
+                return moves.get(i);
+            }
+        }
+        return moves.get(actions - 1);
+    }
+}
@@ -0,0 +1,372 @@
+package edu.cmu.f24qa.loveletter.search;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import edu.cmu.f24qa.loveletter.Card;
+import edu.cmu.f24qa.loveletter.Hand;
+
+/**
+ * Regret and average-strategy tables of a counterfactual-regret solver, keyed by
+ * information set.
+ *
+ * An information set is what the player to act knows: their own cards, the copies of
+ * each card they have not seen, the value of each discard pile, who is protected, and
+ * the card and ruled-out cards their beliefs hold for each opponent. It is fingerprinted
+ * into a 64-bit key, see {@link #key(SearchState, BeliefTracker)}. Neither the order in
+ * which things happened nor who discarded which card is part of the key, which keeps
+ * the number of information sets down.
+ *
+ * Keys live in an open-addressing table of a fixed power-of-two capacity, filled up to
+ * three quarters. Each information set owns a run of floats in two value arrays, one
+ * per legal move in the order MoveGenerator generates them: the cumulative regrets,
+ * kept non-negative as CFR+ does, and the weighted sums of the strategies played.
+ * Information sets found once the table or the value arrays are full are not stored,
+ * and are played uniformly.
+ *
+ * Threads may look up and insert information sets concurrently. The values are updated
+ * without locks, so concurrent updates of the same information set may lose one of the
+ * updates; with millions of information sets this is rare and only adds noise.
+ */
+public final class CfrTables {
+    /**
+     * Offset returned for an information set that is not stored.
+     */
+    static final int NONE = -1;
+
+    /**
+     * Most moves an information set may store.
+     */
+    static final int MAX_ACTIONS = Byte.MAX_VALUE;
+
+    private static final int MAGIC = 0x4C4C4346;
+    private static final int VERSION = 1;
+    private static final long EMPTY = 0;
+
+    /**
+     * Offsets of a slot whose values are being allocated, or could not be allocated.
+     */
+    private static final int PENDING = 0;
+    private static final int NO_VALUES = -1;
+
+    private final AtomicLongArray keys;
+
+    /**
+     * Offset of the values of each slot, plus one; PENDING or NO_VALUES otherwise.
+     */
+    private final AtomicIntegerArray offsets;
+    private final byte[] actionCounts;
+    private final int limit;
+
+    final float[] regrets;
+    final float[] strategySums;
+
+    private final AtomicInteger used = new AtomicInteger();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong iterations = new AtomicLong();
+
+    /**
+     * Creates empty tables.
+     *
+     * @param capacity      the number of key slots, a power of two; three quarters of them
+     *                      may be used
+     * @param valueCapacity the number of moves the information sets may store in total
+     */
+    public CfrTables(int capacity, int valueCapacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("The capacity must be a power of two");
+        }
+        if (valueCapacity < 1) {
+            throw new IllegalArgumentException("The value capacity must be positive");
+        }
+        this.keys = new AtomicLongArray(capacity);
+        this.offsets = new AtomicIntegerArray(capacity);
+        this.actionCounts = new byte[capacity];
+        this.limit = capacity / 4 * 3;
+        this.regrets = new float[valueCapacity];
+        this.strategySums = new float[valueCapacity];
+    }
+
+    /**
+     * Fingerprints the information set of the player to act.
+     *
+     * @param state   the position
+     * @param beliefs the beliefs of the players at the position
+     * @return the key of the information set, never 0
+     */
+    public static long key(SearchState state, BeliefTracker beliefs) {
+        int seat = state.seatToAct;
+        int types = state.hasExpansionCards() ? SearchState.CARDS.length : Card.PRINCESS.ordinal() + 1;
+        long hash = mix(state.playerCount, seat << 4 | state.phase);
+        // in slot order, as the moves are generated slot by slot
+        int second = state.handSizes[seat] == Hand.CAPACITY ? state.card(seat, 1) : SearchState.NO_CARD;
+        hash = mix(hash, state.card(seat, 0) << 8 ^ second);
+        hash = mix(hash, state.aliveSeats << 16 | state.protectedSeats);
+        hash = mix(hash, (state.jesterSeat + 1) << 16 | (state.guessedSeat + 1) << 8 | state.sycophantSeat + 1);
+        hash = mix(hash, state.bishopSeat);
+        for (int other = 0; other < state.playerCount; other++) {
+            hash = mix(hash, state.discardValues[other]);
+            if (other != seat) {
+                hash = mix(hash, beliefs.known(seat, other) << 24 ^ beliefs.excluded(seat, other));
+            }
+        }
+        for (int card = 0; card < types; card++) {
+            hash = mix(hash, beliefs.unseen(seat, card));
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return hash == EMPTY ? 1 : hash;
+    }
+
+    private static long mix(long hash, int value) {
+        return (hash ^ value) * 0x9E3779B97F4A7C15L;
+    }
+
+    /**
+     * Returns the number of information sets stored.
+     *
+     * @return the number of information sets
+     */
+    public int size() {
+        return size.get();
+    }
+
+    public int getCapacity() {
+        return keys.length();
+    }
+
+    /**
+     * Returns the number of iterations trained into the tables.
+     *
+     * @return the number of iterations
+     */
+    public long getIterations() {
+        return iterations.get();
+    }
+
+    /**
+     * Claims the next iteration to train, unless the given number has been reached.
+     *
+     * @param target the number of iterations to stop at
+     * @return the number of the claimed iteration, from 1, or 0 if there is none left
+     */
+    long claimIteration(long target) {
+        long previous = iterations.getAndUpdate(done -> done < target ? done + 1 : done);
+        return previous < target ? previous + 1 : 0;
+    }
+
+    /**
+     * Finds the values of an information set, storing it if it is new and there is room.
+     *
+     * @param key     the key of the information set
+     * @param actions the number of legal moves
+     * @return the offset of its values, or NONE if it is not stored
+     */
+    int find(long key, int actions) {
+        return probe(key, actions, true);
+    }
+
+    /**
+     * Finds the values of an information set without storing it.
+     *
+     * @param key     the key of the information set
+     * @param actions the number of legal moves
+     * @return the offset of its values, or NONE if it is not stored
+     */
+    int lookup(long key, int actions) {
+        return probe(key, actions, false);
+    }
+
+    private int probe(long key, int actions, boolean insert) {
+        int mask = keys.length() - 1;
+        int slot = (int) key & mask;
+        while (true) {
+            long found = keys.get(slot);
+            if (found == key) {
+                return valuesOf(slot, actions);
+            }
+            if (found == EMPTY) {
+                if (!insert || size.get() >= limit) {
+                    return NONE;
+                }
+                if (keys.compareAndSet(slot, EMPTY, key)) {
+                    size.incrementAndGet();
+                    return allocate(slot, actions);
+                }
+                // another thread took the slot: look at it again
+                continue;
+            }
+            slot = slot + 1 & mask;
+        }
+    }
+
+    private int allocate(int slot, int actions) {
+        int offset = actions > MAX_ACTIONS ? NONE : used.getAndAdd(actions);
+        if (offset < 0 || offset > regrets.length - actions) {
+            offsets.set(slot, NO_VALUES);
+            return NONE;
+        }
+        actionCounts[slot] = (byte) actions;
+        offsets.set(slot, offset + 1);
+        return offset;
+    }
+
+    private int valuesOf(int slot, int actions) {
+        int offset = offsets.get(slot);
+        while (offset == PENDING) {
+            Thread.onSpinWait();
+            offset = offsets.get(slot);
+        }
+        // another number of moves means another information set with the same key
+        if (offset == NO_VALUES || actionCounts[slot] != actions) {
+            return NONE;
+        }
+        return offset - 1;
+    }
+
+    /**
+     * Fills in the strategy of regret matching: each move in proportion to its positive
+     * regret, or uniformly if no move has any.
+     *
+     * @param offset   the offset of the information set, or NONE
+     * @param actions  the number of legal moves
+     * @param strategy the array to fill
+     * @param at       the index of the first move in the array
+     */
+    void currentStrategy(int offset, int actions, double[] strategy, int at) {
+        fill(regrets, offset, actions, strategy, at);
+    }
+
+    /**
+     * Fills in the average strategy of an information set, uniform if it was never played.
+     *
+     * @param offset   the offset of the information set, or NONE
+     * @param actions  the number of legal moves
+     * @param strategy the array to fill, from index 0
+     */
+    void averageStrategy(int offset, int actions, double[] strategy) {
+        fill(strategySums, offset, actions, strategy, 0);
+    }
+
+    private static void fill(float[] weights, int offset, int actions, double[] strategy, int at) {
+        double total = 0;
+        for (int i = 0; i < actions; i++) {
+            double weight = offset == NONE ? 0 : Math.max(0, weights[offset + i]);
+            strategy[at + i] = weight;
+            total += weight;
+        }
+        for (int i = 0; i < actions; i++) {
+            strategy[at + i] = total > 0 ? strategy[at + i] / total : 1.0 / actions;
+        }
+    }
+
+    /**
+     * Adds the regrets of the moves of an information set, flooring each at zero (CFR+).
+     *
+     * @param offset  the offset of the information set
+     * @param actions the number of legal moves
+     * @param values  the values of the moves for the player to act
+     * @param at      the index of the first move in the array
+     * @param value   the value of the information set under the current strategy
+     */
+    void addRegrets(int offset, int actions, double[] values, int at, double value) {
+        for (int i = 0; i < actions; i++) {
+            regrets[offset + i] = (float) Math.max(0, regrets[offset + i] + values[at + i] - value);
+        }
+    }
+
+    /**
+     * Adds a strategy played at an information set to its average, with the given weight.
+     *
+     * @param offset   the offset of the information set
+     * @param actions  the number of legal moves
+     * @param strategy the strategy played
+     * @param at       the index of the first move in the array
+     * @param weight   the weight of the strategy, e.g. its iteration for linear averaging
+     */
+    void addStrategy(int offset, int actions, double[] strategy, int at, double weight) {
+        for (int i = 0; i < actions; i++) {
+            strategySums[offset + i] += (float) (weight * strategy[at + i]);
+        }
+    }
+
+    /**
+     * Writes the tables to a file, replacing it only once the new file is complete, so
+     * an interrupted save leaves the previous checkpoint intact. The tables must not be
+     * trained meanwhile.
+     *
+     * @param file the checkpoint file
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path file) throws IOException {
+        Path partial = file.resolveSibling(file.getFileName() + ".partial");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(partial)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(keys.length());
+            out.writeInt(regrets.length);
+            out.writeLong(iterations.get());
+            int stored = 0;
+            for (int slot = 0; slot < keys.length(); slot++) {
+                if (offsets.get(slot) > PENDING) {
+                    stored++;
+                }
+            }
+            out.writeInt(stored);
+            for (int slot = 0; slot < keys.length(); slot++) {
+                int offset = offsets.get(slot) - 1;
+                if (offset < 0) {
+                    continue;
+                }
+                out.writeLong(keys.get(slot));
+                out.writeByte(actionCounts[slot]);
+                for (int i = 0; i < actionCounts[slot]; i++) {
+                    out.writeFloat(regrets[offset + i]);
+                    out.writeFloat(strategySums[offset + i]);
+                }
+            }
+        }
+        Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads tables written by {@link #save(Path)}, e.g. to resume training or to play.
+     *
+     * @param file the checkpoint file
+     * @return the tables, with the capacities they were saved with
+     * @throws IOException if the file cannot be read or is not a checkpoint
+     */
+    public static CfrTables load(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException(file + " is not a CFR checkpoint");
+            }
+            CfrTables tables = new CfrTables(in.readInt(), in.readInt());
+            tables.iterations.set(in.readLong());
+            for (int stored = in.readInt(); stored > 0; stored--) {
+                long key = in.readLong();
+                int actions = in.readByte();
+                int offset = tables.find(key, actions);
+                if (offset == NONE) {
+                    throw new IOException(file + " holds more information sets than its capacity");
+                }
+                for (int i = 0; i < actions; i++) {
+                    tables.regrets[offset + i] = in.readFloat();
+                    tables.strategySums[offset + i] = in.readFloat();
+                }
+            }
+            return tables;
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package edu.cmu.f24qa.loveletter.search;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import edu.cmu.f24qa.loveletter.Deck;
+
+/**
+ * Trains an approximate Nash strategy of a round of the 2-player game with Monte Carlo
+ * counterfactual regret minimisation.
+ *
+ * Every iteration shuffles the 16-card deck and deals a round as the game does, the
+ * three face-up removals included, then walks the round once for each seat with
+ * external sampling: every move of the seat being trained is searched and its regret
+ * updated, while the opponent's moves are sampled from their current strategy, whose
+ * average they accumulate. The regrets are floored at zero and the strategies weighted
+ * by their iteration, as CFR+ does. Winning the round is worth 1, losing it -1 and a
+ * shared win 0.
+ *
+ * Each position is walked with make and unmake on one state per thread, and the
+ * beliefs of the players are copied along the line so that information sets are keyed
+ * by what the player to act has seen, see {@link CfrTables#key(SearchState, BeliefTracker)}.
+ * Threads share the tables and train iterations until the number asked for is reached
+ * or the time runs out; the tables can be written to a checkpoint at intervals and
+ * training resumed from it. Play the trained strategy with {@link CfrPolicy}.
+ *
+ * A trainer using more than one thread owns worker threads and should be closed.
+ */
+public class CfrTrainer implements AutoCloseable {
+    /**
+     * More moves than a round can have: every turn after the first draws one of the nine
+     * cards left in the deck after the deal.
+     */
+    private static final int MAX_DEPTH = 16;
+
+    /**
+     * Iterations run between two looks at the clock.
+     */
+    private static final int CLOCK_INTERVAL = 16;
+
+    private final CfrTables tables;
+    private final int threads;
+    private final long seed;
+    private final Traverser[] traversers;
+    private final @Nullable ExecutorService workers;
+    private @Nullable Path checkpoint;
+    private long checkpointNanos = Long.MAX_VALUE;
+    private int batches;
+
+    /**
+     * Creates a trainer updating the given tables on the given number of threads.
+     *
+     * @param tables  the tables to train, empty or loaded from a checkpoint
+     * @param threads the number of threads training
+     * @param seed    the seed the random sources of the threads are derived from
+     */
+    public CfrTrainer(CfrTables tables, int threads, long seed) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread must train");
+        }
+        this.tables = tables;
+        this.threads = threads;
+        this.seed = seed;
+        this.traversers = new Traverser[threads];
+        for (int i = 0; i < threads; i++) {
+            traversers[i] = new Traverser(tables);
+        }
+        this.workers = threads == 1 ? null : Executors.newFixedThreadPool(threads - 1, task -> {
+            Thread thread = new Thread(task, "cfr-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Writes the tables to a checkpoint file at the given interval while training, and
+     * when training stops.
+     *
+     * @param file           the checkpoint file, replaced at every checkpoint
+     * @param intervalMillis the time between two checkpoints in milliseconds
+     * @return this trainer
+     */
+    public CfrTrainer checkpointTo(Path file, long intervalMillis) {
+        if (intervalMillis < 1) {
+            throw new IllegalArgumentException("The checkpoint interval must be positive");
+        }
+        this.checkpoint = file;
+        this.checkpointNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+        return this;
+    }
+
+    /**
+     * Trains until the given number of iterations have been run or the time budget is
+     * spent, whichever comes first.
+     *
+     * @param iterations   the most iterations to run
+     * @param budgetMillis the most time to train in milliseconds
+     * @return the number of iterations run
+     * @throws UncheckedIOException if a checkpoint cannot be written
+     */
+    public long train(long iterations, long budgetMillis) {
+        if (iterations < 0 || budgetMillis < 0) {
+            throw new IllegalArgumentException("The iterations and the time budget must not be negative");
+        }
+        long first = tables.getIterations();
+        long target = first + iterations;
+        long start = System.nanoTime();
+        long budget = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        do {
+            long batch = Math.min(budget - (System.nanoTime() - start), checkpointNanos);
+            runBatch(target, System.nanoTime(), Math.max(0, batch));
+            Path file = checkpoint;
+            if (file != null) {
+                try {
+                    tables.save(file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Cannot write the CFR checkpoint", e);
+                }
+            }
+        } while (tables.getIterations() < target && System.nanoTime() - start < budget);
+        return tables.getIterations() - first;
+    }
+
+    private void runBatch(long target, long start, long budget) {
+        batches++;
+        List<Future<?>> running = new ArrayList<>();
+        ExecutorService pool = workers;
+        for (int i = 1; i < threads && pool != null; i++) {
+            Traverser traverser = traversers[i];
+            long batchSeed = seed + (long) batches * threads + i;
+            running.add(pool.submit(() -> traverser.train(target, start, budget, batchSeed)));
+        }
+        traversers[0].train(target, start, budget, seed + (long) batches * threads);
+        for (Future<?> future : running) {
+            awaitBatch(future);
+        }
+    }
+
+    private static void awaitBatch(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while training", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A training thread failed", e.getCause());
+        }
+    }
+
+    /**
+     * Stops the worker threads.
+     */
+    @Override
+    public void close() {
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * The state, beliefs and scratch arrays of one training thread.
+     */
+    private static final class Traverser {
+        private final CfrTables tables;
+        private final SearchState state = new SearchState(2);
+        private final byte[] order;
+        private final BeliefTracker[] beliefs = new BeliefTracker[MAX_DEPTH + 1];
+        private final MoveGenerator[] generators = new MoveGenerator[MAX_DEPTH];
+
+        /**
+         * Strategies and move values, MoveGenerator.CAPACITY entries per depth.
+         */
+        private final double[] strategies = new double[MAX_DEPTH * MoveGenerator.CAPACITY];
+        private final double[] values = new double[MAX_DEPTH * MoveGenerator.CAPACITY];
+        private SplittableRandom random = new SplittableRandom();
+
+        Traverser(CfrTables tables) {
+            this.tables = tables;
+            Deck deck = new Deck();
+            deck.build16Cards();
+            this.order = deck.toOrdinals();
+            for (int depth = 0; depth <= MAX_DEPTH; depth++) {
+                beliefs[depth] = new BeliefTracker();
+                if (depth < MAX_DEPTH) {
+                    generators[depth] = new MoveGenerator();
+                }
+            }
+        }
+
+        void train(long target, long start, long budget, long batchSeed) {
+            random = new SplittableRandom(batchSeed);
+            long run = 0;
+            while (run % CLOCK_INTERVAL != 0 || System.nanoTime() - start < budget) {
+                long iteration = tables.claimIteration(target);
+                if (iteration == 0) {
+                    return;
+                }
+                shuffle();
+                for (int traverser = 0; traverser < 2; traverser++) {
+                    state.deal(order);
+                    beliefs[0].reset(state);
+                    traverse(0, traverser, iteration);
+                }
+                run++;
+            }
+        }
+
+        private void shuffle() {
+            for (int i = order.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                byte card = order[i];
+                order[i] = order[j];
+                order[j] = card;
+            }
+        }
+
+        /**
+         * Returns the value of the position for the traversing seat, sampling the moves of
+         * the other seat.
+         */
+        private double traverse(int depth, int traverser, long iteration) {
+            if (state.isTerminal()) {
+                int winners = state.getWinners();
+                if ((winners & 1 << traverser) == 0) {
+                    return -1;
+                }
+                return Integer.bitCount(winners) == 1 ? 1 : 0;
+            }
+            if (depth == MAX_DEPTH) {
+                throw new IllegalStateException("The round is longer than " + MAX_DEPTH + " moves");
+            }
+            MoveGenerator moves = generators[depth].reset(state);
+            int actions = moves.size();
+            if (actions == 1) {
+                return child(depth, moves.get(0), traverser, iteration);
+            }
+            int offset = tables.find(CfrTables.key(state, beliefs[depth]), actions);
+            int at = depth * MoveGenerator.CAPACITY;
+            tables.currentStrategy(offset, actions, strategies, at);
+            if (state.seatToAct != traverser) {
+                if (offset != CfrTables.NONE) {
+                    tables.addStrategy(offset, actions, strategies, at, iteration);
+                }
+                return child(depth, moves.get(sample(at, actions)), traverser, iteration);
+            }
+            double value = 0;
+            for (int i = 0; i < actions; i++) {
+                values[at + i] = child(depth, moves.get(i), traverser, iteration);
+                value += strategies[at + i] * values[at + i];
+            }
+            if (offset != CfrTables.NONE) {
+                tables.addRegrets(offset, actions, values, at, value);
+            }
+            return value;
+        }
+
+        private double child(int depth, int move, int traverser, long iteration) {
+            beliefs[depth + 1].copyFrom(beliefs[depth]);
+            state.follow(beliefs[depth + 1]);
+            state.make(move);
+            double value = traverse(depth + 1, traverser, iteration);
+            state.unmake();
+            return value;
+        }
+
+        private int sample(int at, int actions) {
+            double pick = random.nextDouble();
+            for (int i = 0; i < actions - 1; i++) {
+                pick -= strategies[at + i];
+                if (pick < 0) {
+                    return i;
+                }
+            }
+            return actions - 1;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package edu.cmu.f24qa.loveletter.search;
+
+/**
+ * Decides the moves of a seat, one whole move at a time.
+ *
+ * A move settles every decision of a turn at once: the card to play, its targets and
+ * the Guard's or Bishop's guess, and whose hand to look at after the Cardinal. The
+ * answer of the target of a correct Bishop guess is a move of its own. Plug a policy
+ * into a game with {@link PolicyPlayerInput}.
+ *
+ * The state handed to a policy is the true state of the round, hidden cards included;
+ * a fair policy only uses what its seat has seen.
+ */
+@FunctionalInterface
+public interface DecisionPolicy {
+    /**
+     * Chooses the move of the player to act.
+     *
+     * @param state the position; it may be searched with make and unmake, but must be
+     *              left as it was given
+     * @param moves the legal moves of the position, never empty
+     * @return one of the legal moves
+     */
+    int chooseMove(SearchState state, MoveGenerator moves);
+}
@@ -0,0 +1,65 @@
+package edu.cmu.f24qa.loveletter.search;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Plays the endgame exactly with an {@link EndgameSolver} and leaves the rest of the
+ * round to another policy.
+ *
+ * Once the deck holds no more than the given number of cards, the move with the highest
+ * exact win probability is played; before that, the fallback policy chooses. Keep one
+ * policy, and so one solver, per thread for the whole tournament so that endgames met
+ * again are answered from the solver's transposition table.
+ */
+public class EndgamePolicy implements DecisionPolicy {
+    private final EndgameSolver solver;
+    private final DecisionPolicy fallback;
+    private final int maxDeckSize;
+    private final BeliefTracker ownBeliefs = new BeliefTracker();
+    private final double[] probabilities = new double[MoveGenerator.CAPACITY];
+    private @Nullable BeliefTracker beliefs;
+
+    /**
+     * Creates a policy solving the positions with at most the given number of cards left
+     * in the deck.
+     *
+     * @param solver      the solver, with its transposition table
+     * @param fallback    the policy choosing the moves while the deck holds more cards
+     * @param maxDeckSize the most cards left in the deck for the solver to play
+     */
+    public EndgamePolicy(EndgameSolver solver, DecisionPolicy fallback, int maxDeckSize) {
+        if (maxDeckSize < 0) {
+            throw new IllegalArgumentException("The deck size must not be negative");
+        }
+        this.solver = solver;
+        this.fallback = fallback;
+        this.maxDeckSize = maxDeckSize;
+    }
+
+    /**
+     * Deals the endgames from a tracker following the game instead of rebuilding beliefs
+     * at every move. Rebuilt beliefs only count the cards in sight: they forget the cards
+     * shown to the player and the guesses that missed.
+     *
+     * @param tracker the tracker, fed by a state following the game, or null to rebuild
+     */
+    public void useBeliefs(@Nullable BeliefTracker tracker) {
+        this.beliefs = tracker;
+    }
+
+    @Override
+    public int chooseMove(SearchState state, MoveGenerator moves) {
+        if (moves.size() == 1) {
+            return moves.get(0);
+        }
+        if (state.getDeckSize() > maxDeckSize) {
+            return fallback.chooseMove(state, moves);
+        }
+        BeliefTracker tracker = beliefs;
+        if (tracker == null) {
+            tracker = ownBeliefs;
+            tracker.reset(state);
+        }
+        return moves.get(solver.solve(state, tracker, moves, probabilities));
+    }
+}
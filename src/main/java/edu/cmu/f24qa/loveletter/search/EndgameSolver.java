@@ -0,0 +1,302 @@
+package edu.cmu.f24qa.loveletter.search;
+
+import java.util.Arrays;
+
+import edu.cmu.f24qa.loveletter.Card;
+import edu.cmu.f24qa.loveletter.Hand;
+
+/**
+ * Solves the end of a round exactly once the deck is nearly empty.
+ *
+ * The solver enumerates every deal of the cards the player to act has not seen, as
+ * counted by their beliefs, to the opponents whose card they do not know, to the
+ * set-aside slot and to the deck, skipping the cards a missed guess has ruled out.
+ * Each deal is weighted by how many ways the unseen copies can make it, so the deals
+ * are as likely as the beliefs make them. Every deal is then solved as a game of
+ * perfect information: each player plays the move that maximises their own share of
+ * the win, and the first such move on a tie. The win probability of a legal move is
+ * its value for the player to act averaged over the deals.
+ *
+ * Positions are memoised in a transposition table of a fixed power-of-two size, keyed
+ * by a 64-bit fingerprint of the whole position; a newer position replaces an older
+ * one in the same slot. The table is kept between calls, so a solver reused over the
+ * rounds of a tournament answers endgames it has seen before from the table. A solver
+ * must not be shared between threads.
+ */
+public final class EndgameSolver {
+    /**
+     * More plies than a round can have from any position: every card played draws from
+     * the deck or ends the round, and a Bishop's answer follows at most every card.
+     */
+    private static final int MAX_DEPTH = 2 * 32 + 3;
+    private static final int SEATS = SearchState.MAX_SEATS;
+    private static final long EMPTY = 0;
+
+    /**
+     * Places a deal fills other than hands: the set-aside slot, and the deck position
+     * d as DECK - d.
+     */
+    private static final int SET_ASIDE = -1;
+    private static final int DECK = -2;
+
+    private final long[] keys;
+    private final float[] values;
+    private final int mask;
+
+    private final MoveGenerator[] generators = new MoveGenerator[MAX_DEPTH];
+
+    /**
+     * The value of the position at each depth for every seat, SEATS entries per depth.
+     */
+    private final double[] nodeValues = new double[(MAX_DEPTH + 1) * SEATS];
+
+    /**
+     * The places a deal fills, as indices into the hands of the scratch state, then
+     * SET_ASIDE, then the positions of the deck.
+     */
+    private final int[] places = new int[2 * SEATS + 1 + 32];
+    private final int[] ruledOut = new int[places.length];
+    private final int[] unseen = new int[SearchState.CARDS.length];
+
+    /**
+     * The legal moves of the position solved and the sums of their weighted values.
+     */
+    private final int[] rootMoves = new int[MoveGenerator.CAPACITY];
+    private final double[] rootSums = new double[MoveGenerator.CAPACITY];
+    private int rootCount;
+    private double totalWeight;
+
+    private SearchState scratch = new SearchState(2);
+    private int placeCount;
+    private int seatToAct;
+
+    private long deals;
+    private long probes;
+    private long hits;
+
+    /**
+     * Creates a solver with a transposition table of the given size.
+     *
+     * @param tableSize the number of positions the table holds, a power of two
+     */
+    public EndgameSolver(int tableSize) {
+        if (tableSize < 1 || Integer.bitCount(tableSize) != 1) {
+            throw new IllegalArgumentException("The table size must be a power of two");
+        }
+        this.keys = new long[tableSize];
+        this.values = new float[tableSize * SEATS];
+        this.mask = tableSize - 1;
+        for (int depth = 0; depth < MAX_DEPTH; depth++) {
+            generators[depth] = new MoveGenerator();
+        }
+    }
+
+    /**
+     * Computes the exact win probability of every legal move of the player to act, as
+     * their share of the win averaged over the deals their beliefs allow.
+     *
+     * @param state         the position; it is left as it was given
+     * @param beliefs       the beliefs of the players at the position
+     * @param moves         the legal moves of the position
+     * @param probabilities the array to fill, indexed as the moves
+     * @return the index of the move with the highest win probability
+     * @throws IllegalStateException if no deal agrees with the beliefs
+     */
+    public int solve(SearchState state, BeliefTracker beliefs, MoveGenerator moves, double[] probabilities) {
+        if (scratch.playerCount != state.playerCount) {
+            scratch = new SearchState(state);
+        }
+        scratch.copyFrom(state);
+        seatToAct = state.seatToAct;
+        rootCount = moves.size();
+        for (int i = 0; i < rootCount; i++) {
+            rootMoves[i] = moves.get(i);
+        }
+        Arrays.fill(rootSums, 0, rootCount, 0);
+        totalWeight = 0;
+        int observer = seatToAct;
+        placeCount = 0;
+        for (int seat = 0; seat < state.playerCount; seat++) {
+            if (seat != observer && state.hasCards(seat)) {
+                int known = beliefs.known(observer, seat);
+                if (known == SearchState.NO_CARD) {
+                    ruledOut[placeCount] = beliefs.excluded(observer, seat);
+                    places[placeCount++] = seat * Hand.CAPACITY;
+                } else {
+                    scratch.hands[seat * Hand.CAPACITY] = (byte) known;
+                }
+            }
+        }
+        if (state.setAside != SearchState.NO_CARD) {
+            ruledOut[placeCount] = 0;
+            places[placeCount++] = SET_ASIDE;
+        }
+        for (int depth = 0; depth < state.deckSize; depth++) {
+            ruledOut[placeCount] = 0;
+            places[placeCount++] = DECK - depth;
+        }
+        for (int card = 0; card < unseen.length; card++) {
+            unseen[card] = beliefs.unseen(observer, card);
+        }
+        deal(0, 1);
+        if (totalWeight == 0) {
+            throw new IllegalStateException("No deal agrees with the beliefs of seat " + observer);
+        }
+        int best = 0;
+        for (int i = 0; i < rootCount; i++) {
+            probabilities[i] = rootSums[i] / totalWeight;
+            if (probabilities[i] > probabilities[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the number of deals solved so far.
+     *
+     * @return the number of deals
+     */
+    public long getDeals() {
+        return deals;
+    }
+
+    /**
+     * Returns the number of positions looked up in the transposition table so far.
+     *
+     * @return the number of lookups
+     */
+    public long getProbes() {
+        return probes;
+    }
+
+    /**
+     * Returns how many of those lookups found the position.
+     *
+     * @return the number of hits
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Fills the places from the given one on with every choice of unseen cards, then
+     * solves the deal.
+     */
+    private void deal(int place, double weight) {
+        if (place == placeCount) {
+            solveDeal(weight);
+            return;
+        }
+        for (int card = 0; card < unseen.length; card++) {
+            int copies = unseen[card];
+            if (copies == 0 || (ruledOut[place] & 1 << card) != 0) {
+                continue;
+            }
+            int at = places[place];
+            if (at >= 0) {
+                scratch.hands[at] = (byte) card;
+            } else if (at == SET_ASIDE) {
+                scratch.setAside = card;
+            } else {
+                scratch.deck[scratch.deckSize - 1 - (DECK - at)] = (byte) card;
+            }
+            unseen[card]--;
+            deal(place + 1, weight * copies);
+            unseen[card]++;
+        }
+    }
+
+    private void solveDeal(double weight) {
+        deals++;
+        totalWeight += weight;
+        for (int i = 0; i < rootCount; i++) {
+            scratch.make(rootMoves[i]);
+            solveNode(1);
+            scratch.unmake();
+            rootSums[i] += weight * nodeValues[SEATS + seatToAct];
+        }
+    }
+
+    /**
+     * Solves the scratch position, leaving the value of each seat in the row of the
+     * given depth of nodeValues.
+     */
+    private void solveNode(int depth) {
+        int row = depth * SEATS;
+        int playerCount = scratch.playerCount;
+        if (scratch.isTerminal()) {
+            int winners = scratch.getWinners();
+            double share = 1.0 / Integer.bitCount(winners);
+            for (int seat = 0; seat < playerCount; seat++) {
+                nodeValues[row + seat] = (winners & 1 << seat) == 0 ? 0 : share;
+            }
+            return;
+        }
+        if (depth >= MAX_DEPTH) {
+            throw new IllegalStateException("The round is longer than " + MAX_DEPTH + " plies");
+        }
+        long key = key(scratch);
+        int slot = (int) key & mask;
+        probes++;
+        if (keys[slot] == key) {
+            hits++;
+            for (int seat = 0; seat < playerCount; seat++) {
+                nodeValues[row + seat] = values[slot * SEATS + seat];
+            }
+            return;
+        }
+        MoveGenerator moves = generators[depth].reset(scratch);
+        int mover = scratch.seatToAct;
+        int child = row + SEATS;
+        double best = -1;
+        for (int i = 0; i < moves.size(); i++) {
+            scratch.make(moves.get(i));
+            solveNode(depth + 1);
+            scratch.unmake();
+            if (nodeValues[child + mover] > best) {
+                best = nodeValues[child + mover];
+                System.arraycopy(nodeValues, child, nodeValues, row, playerCount);
+            }
+        }
+        keys[slot] = key;
+        for (int seat = 0; seat < playerCount; seat++) {
+            values[slot * SEATS + seat] = (float) nodeValues[row + seat];
+        }
+    }
+
+    /**
+     * Fingerprints everything the rest of the round depends on: the hands, the deck in
+     * order, the set-aside card, the tokens, the discard values with the Count and
+     * Constable discards, and the seats the cards in play have marked.
+     */
+    static long key(SearchState state) {
+        long hash = mix(state.playerCount, state.seatToAct << 8 | state.phase);
+        hash = mix(hash, state.aliveSeats << 16 | state.protectedSeats << 8 | state.setAside + 1);
+        hash = mix(hash, (state.jesterSeat + 1) << 24 | (state.guessedSeat + 1) << 16
+            | (state.sycophantSeat + 1) << 8 | state.bishopSeat + 1);
+        for (int seat = 0; seat < state.playerCount; seat++) {
+            int size = state.handSizes[seat];
+            int hand = size;
+            for (int slot = 0; slot < size; slot++) {
+                hand = hand << 8 | state.card(seat, slot) + 1;
+            }
+            hash = mix(hash, hand);
+            int row = seat * SearchState.CARDS.length;
+            hash = mix(hash, state.tokens[seat] << 24 | state.discards[row + Card.COUNT.ordinal()] << 20
+                | state.discards[row + Card.CONSTABLE.ordinal()] << 16 | state.discardValues[seat]);
+        }
+        hash = mix(hash, state.deckSize);
+        for (int i = 0; i < state.deckSize; i++) {
+            hash = mix(hash, state.deck[i]);
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return hash == EMPTY ? 1 : hash;
+    }
+
+    private static long mix(long hash, int value) {
+        return (hash ^ value) * 0x9E3779B97F4A7C15L;
+    }
+}
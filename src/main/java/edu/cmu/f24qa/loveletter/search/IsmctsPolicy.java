@@ -0,0 +1,375 @@
+package edu.cmu.f24qa.loveletter.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import edu.cmu.f24qa.loveletter.Hand;
+
+/**
+ * Chooses moves with Information-Set Monte Carlo Tree Search.
+ *
+ * Every playout first determinises the hidden cards: the cards the player to act has
+ * not seen, as counted by their beliefs, are dealt at random to the opponents whose
+ * card they do not know, to the set-aside slot and to the deck, avoiding the cards a
+ * missed guess has ruled out. The playout then walks one tree of the player's moves
+ * and the opponents' moves, choosing among the moves legal in the determinisation
+ * with UCB1 counted over the playouts in which each move was available, and finishes
+ * the round with random moves. A seat scores a share of 1 for winning the round, or
+ * 1 for winning the game.
+ *
+ * The search is root-parallel: each thread grows an independent tree with its own
+ * random source for the time budget of the move, and the visits of the root moves
+ * are summed over the trees to choose the most visited move. Trees and states are
+ * allocated once per thread and reused for every move.
+ *
+ * A policy using more than one thread owns worker threads and should be closed.
+ */
+public class IsmctsPolicy implements DecisionPolicy, AutoCloseable {
+    /**
+     * Nodes of a tree; when a tree is full, playouts go on without growing it.
+     */
+    static final int TREE_CAPACITY = 1 << 18;
+
+    private static final double EXPLORATION = 0.7;
+
+    /**
+     * Playouts run between two looks at the clock.
+     */
+    private static final int CLOCK_INTERVAL = 16;
+
+    private final long budgetNanos;
+    private final int threads;
+    private final long seed;
+    private final Searcher[] searchers;
+    private final @Nullable ExecutorService workers;
+    private final BeliefTracker ownBeliefs = new BeliefTracker();
+    private @Nullable BeliefTracker beliefs;
+    private int playoutLimit = Integer.MAX_VALUE;
+    private long decisions;
+    private long lastPlayouts;
+    private long lastNanos;
+
+    /**
+     * Creates a policy searching for the given time per move on the given number of
+     * threads.
+     *
+     * @param budgetMillis the time budget of a move in milliseconds
+     * @param threads      the number of threads searching, each with its own tree
+     * @param seed         the seed the random sources of the threads are derived from
+     */
+    public IsmctsPolicy(long budgetMillis, int threads, long seed) {
+        if (budgetMillis < 0) {
+            throw new IllegalArgumentException("The time budget must not be negative");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread must search");
+        }
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        this.threads = threads;
+        this.seed = seed;
+        this.searchers = new Searcher[threads];
+        for (int i = 0; i < threads; i++) {
+            searchers[i] = new Searcher();
+        }
+        this.workers = threads == 1 ? null : Executors.newFixedThreadPool(threads - 1, task -> {
+            Thread thread = new Thread(task, "ismcts-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Caps the playouts each thread runs per move, e.g. to make moves reproducible
+     * regardless of the speed of the machine.
+     *
+     * @param playouts the most playouts per thread and move
+     * @return this policy
+     */
+    public IsmctsPolicy limitPlayouts(int playouts) {
+        if (playouts < 1) {
+            throw new IllegalArgumentException("At least one playout must be allowed");
+        }
+        this.playoutLimit = playouts;
+        return this;
+    }
+
+    /**
+     * Determinises from a tracker following the game instead of rebuilding beliefs at
+     * every move. Rebuilt beliefs only count the cards in sight: they forget the cards
+     * shown to the player and the guesses that missed.
+     *
+     * @param tracker the tracker, fed by a state following the game, or null to rebuild
+     */
+    public void useBeliefs(@Nullable BeliefTracker tracker) {
+        this.beliefs = tracker;
+    }
+
+    /**
+     * Returns how many playouts per second the last move was searched with, over all threads.
+     *
+     * @return the playouts per second, 0 before the first search
+     */
+    public double getPlayoutsPerSecond() {
+        return lastNanos == 0 ? 0 : lastPlayouts * 1e9 / lastNanos;
+    }
+
+    /**
+     * Returns how many playouts the last move was searched with, over all threads.
+     *
+     * @return the number of playouts
+     */
+    public long getLastPlayouts() {
+        return lastPlayouts;
+    }
+
+    @Override
+    public int chooseMove(SearchState state, MoveGenerator moves) {
+        if (moves.size() == 1) {
+            return moves.get(0);
+        }
+        BeliefTracker tracker = beliefs;
+        if (tracker == null) {
+            tracker = ownBeliefs;
+            tracker.reset(state);
+        }
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+        decisions++;
+        List<Future<?>> running = new ArrayList<>();
+        ExecutorService pool = workers;
+        for (int i = 1; i < threads && pool != null; i++) {
+            Searcher searcher = searchers[i];
+            long searchSeed = seed + decisions * threads + i;
+            BeliefTracker shared = tracker;
+            running.add(pool.submit(() -> searcher.search(state, shared, deadline, playoutLimit, searchSeed)));
+        }
+        searchers[0].search(state, tracker, deadline, playoutLimit, seed + decisions * threads);
+        for (Future<?> future : running) {
+            awaitSearch(future);
+        }
+        lastNanos = Math.max(1, System.nanoTime() - start);
+        lastPlayouts = 0;
+        int best = 0;
+        long bestVisits = -1;
+        for (int i = 0; i < moves.size(); i++) {
+            long visits = 0;
+            for (Searcher searcher : searchers) {
+                visits += searcher.rootVisits(moves.get(i));
+            }
+            if (visits > bestVisits) {
+                bestVisits = visits;
+                best = i;
+            }
+        }
+        for (Searcher searcher : searchers) {
+            lastPlayouts += searcher.playouts;
+        }
+        return moves.get(best);
+    }
+
+    private static void awaitSearch(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while searching", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A search thread failed", e.getCause());
+        }
+    }
+
+    /**
+     * Stops the worker threads.
+     */
+    @Override
+    public void close() {
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * The tree, states and random source of one searching thread.
+     */
+    private static final class Searcher {
+        private final int[] moveOf = new int[TREE_CAPACITY];
+        private final int[] moverOf = new int[TREE_CAPACITY];
+        private final int[] firstChild = new int[TREE_CAPACITY];
+        private final int[] nextSibling = new int[TREE_CAPACITY];
+        private final int[] visits = new int[TREE_CAPACITY];
+        private final int[] available = new int[TREE_CAPACITY];
+        private final double[] score = new double[TREE_CAPACITY];
+        private final int[] path = new int[MoveGenerator.CAPACITY];
+        private final int[] pool = new int[64];
+        private final int[] childOf = new int[MoveGenerator.CAPACITY];
+        private final MoveGenerator generator = new MoveGenerator();
+        private @Nullable SearchState scratch;
+        private int size;
+        private long playouts;
+
+        void search(SearchState root, BeliefTracker beliefs, long deadline, int limit, long searchSeed) {
+            SplittableRandom random = new SplittableRandom(searchSeed);
+            SearchState state = scratch;
+            if (state == null || state.playerCount != root.playerCount) {
+                state = new SearchState(root);
+                scratch = state;
+            }
+            size = 1;
+            firstChild[0] = -1;
+            visits[0] = 0;
+            playouts = 0;
+            while (playouts < limit && (playouts % CLOCK_INTERVAL != 0 || System.nanoTime() < deadline)) {
+                state.copyFrom(root);
+                determinise(state, root.seatToAct, beliefs, random);
+                playout(state, random);
+                playouts++;
+            }
+        }
+
+        long rootVisits(int move) {
+            for (int child = firstChild[0]; child >= 0; child = nextSibling[child]) {
+                if (moveOf[child] == move) {
+                    return visits[child];
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * Deals the cards the observer has not seen to the places hidden from them.
+         */
+        private void determinise(SearchState state, int observer, BeliefTracker beliefs, SplittableRandom random) {
+            int count = 0;
+            for (int card = 0; card < SearchState.CARDS.length; card++) {
+                for (int copy = beliefs.unseen(observer, card); copy > 0 && count < pool.length; copy--) {
+                    pool[count++] = card;
+                }
+            }
+            for (int seat = 0; seat < state.playerCount; seat++) {
+                if (seat == observer || !state.hasCards(seat) || beliefs.known(observer, seat) != SearchState.NO_CARD) {
+                    continue;
+                }
+                if (count == 0) {
+                    return;
+                }
+                int pick = pickCard(count, beliefs.excluded(observer, seat), random);
+                state.hands[seat * Hand.CAPACITY] = (byte) pool[pick];
+                pool[pick] = pool[--count];
+            }
+            if (state.setAside != SearchState.NO_CARD && count > 0) {
+                int pick = random.nextInt(count);
+                state.setAside = pool[pick];
+                pool[pick] = pool[--count];
+            }
+            for (int i = 0; i < state.deckSize && count > 0; i++) {
+                int pick = random.nextInt(count);
+                state.deck[i] = (byte) pool[pick];
+                pool[pick] = pool[--count];
+            }
+        }
+
+        /**
+         * Picks a card of the pool that is not ruled out, if there is one.
+         */
+        private int pickCard(int count, int ruledOut, SplittableRandom random) {
+            int pick = random.nextInt(count);
+            if ((ruledOut & 1 << pool[pick]) == 0) {
+                return pick;
+            }
+            for (int i = 1; i < count; i++) {
+                int candidate = (pick + i) % count;
+                if ((ruledOut & 1 << pool[candidate]) == 0) {
+                    return candidate;
+                }
+            }
+            return pick;
+        }
+
+        private void playout(SearchState state, SplittableRandom random) {
+            int node = 0;
+            int depth = 0;
+            path[depth++] = 0;
+            boolean expanded = false;
+            while (!state.isTerminal() && !expanded) {
+                generator.reset(state);
+                int moves = generator.size();
+                int untried = 0;
+                int best = -1;
+                double bestScore = Double.NEGATIVE_INFINITY;
+                for (int i = 0; i < moves; i++) {
+                    int child = findChild(node, generator.get(i));
+                    childOf[i] = child;
+                    if (child < 0) {
+                        untried++;
+                        continue;
+                    }
+                    available[child]++;
+                    double value = score[child] / visits[child]
+                        + EXPLORATION * Math.sqrt(Math.log(available[child]) / visits[child]);
+                    if (value > bestScore) {
+                        bestScore = value;
+                        best = child;
+                    }
+                }
+                int mover = state.seatToAct;
+                if (untried > 0 && size < TREE_CAPACITY) {
+                    int skip = random.nextInt(untried);
+                    int index = 0;
+                    while (childOf[index] >= 0 || skip-- > 0) {
+                        index++;
+                    }
+                    best = addChild(node, generator.get(index), mover);
+                    expanded = true;
+                } else if (best < 0) {
+                    break;
+                }
+                state.make(moveOf[best]);
+                node = best;
+                path[depth++] = node;
+            }
+            while (!state.isTerminal()) {
+                generator.reset(state);
+                state.make(generator.get(random.nextInt(generator.size())));
+            }
+            int winners = state.getWinners();
+            double share = winners == 0 ? 0 : 1.0 / Integer.bitCount(winners);
+            for (int i = 0; i < depth; i++) {
+                int visited = path[i];
+                visits[visited]++;
+                if (i > 0 && (winners & 1 << moverOf[visited]) != 0) {
+                    score[visited] += state.isGameOver() ? 1 : share;
+                }
+            }
+        }
+
+        private int findChild(int node, int move) {
+            for (int child = firstChild[node]; child >= 0; child = nextSibling[child]) {
+                if (moveOf[child] == move) {
+                    return child;
+                }
+            }
+            return -1;
+        }
+
+        private int addChild(int node, int move, int mover) {
+            int child = size++;
+            moveOf[child] = move;
+            moverOf[child] = mover;
+            firstChild[child] = -1;
+            nextSibling[child] = firstChild[node];
+            firstChild[node] = child;
+            visits[child] = 0;
+            available[child] = 1;
+            score[child] = 0;
+            return child;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package edu.cmu.f24qa.loveletter.search;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import edu.cmu.f24qa.loveletter.Card;
+
+/**
+ * Layout of a move packed into a single int, so that moves can be generated, stored
+ * and compared without allocating.
+ *
+ * <pre>
+ * bits    field
+ *  0-4    ordinal of the played card
+ *  5      hand slot of the played card
+ *  8-11   first target: seat + 1, 0 if the card targets nobody
+ * 12-15   second target: seat + 1 (Cardinal, Baroness), 0 if none
+ * 16-20   guess: card ordinal + 1 (Guard) or number + 1 (Bishop), 0 if none
+ * 21      the player of the Cardinal looks at the second target instead of the first
+ * 22      the move answers a correct Bishop guess instead of playing a card
+ * 23      the answering player discards their hand
+ * </pre>
+ * When there are two targets, the first one sits in the lower seat. An answer to the
+ * Bishop carries the Bishop as its card and no other field.
+ */
+public final class Move {
+    private static final Card[] CARDS = Card.values();
+
+    private static final int CARD_MASK = 0x1F;
+    private static final int SLOT_SHIFT = 5;
+    private static final int TARGET_SHIFT = 8;
+    private static final int SECOND_TARGET_SHIFT = 12;
+    private static final int SEAT_MASK = 0x0F;
+    private static final int GUESS_SHIFT = 16;
+    private static final int GUESS_MASK = 0x1F;
+    private static final int INSPECT_SECOND = 1 << 21;
+    private static final int RESPONSE = 1 << 22;
+    private static final int DISCARD_HAND = 1 << 23;
+
+    private Move() {
+    }
+
+    /**
+     * Encodes playing a card without any targets or guess.
+     *
+     * @param card the played card
+     * @param slot the position of the card in the hand
+     * @return the move
+     */
+    public static int of(Card card, int slot) {
+        return card.ordinal() | slot << SLOT_SHIFT;
+    }
+
+    /**
+     * Adds a target to a move; the second call adds the second target.
+     *
+     * @param move the move
+     * @param seat the seat of the target
+     * @return the move with the target
+     */
+    public static int withTarget(int move, int seat) {
+        if ((move >>> TARGET_SHIFT & SEAT_MASK) == 0) {
+            return move | (seat + 1) << TARGET_SHIFT;
+        }
+        int first = target(move);
+        int low = Math.min(first, seat);
+        int high = Math.max(first, seat);
+        return move & ~(SEAT_MASK << TARGET_SHIFT) | (low + 1) << TARGET_SHIFT | (high + 1) << SECOND_TARGET_SHIFT;
+    }
+
+    /**
+     * Adds the card guessed with the Guard to a move.
+     *
+     * @param move  the move
+     * @param guess the guessed card
+     * @return the move with the guess
+     */
+    public static int withGuess(int move, Card guess) {
+        return move | (guess.ordinal() + 1) << GUESS_SHIFT;
+    }
+
+    /**
+     * Adds the number guessed with the Bishop to a move.
+     *
+     * @param move   the move
+     * @param number the guessed number
+     * @return the move with the guess
+     */
+    public static int withNumber(int move, int number) {
+        return move | (number + 1) << GUESS_SHIFT;
+    }
+
+    /**
+     * Makes the player of the Cardinal look at the second target instead of the first.
+     *
+     * @param move the move
+     * @return the move looking at the second target
+     */
+    public static int withInspectSecond(int move) {
+        return move | INSPECT_SECOND;
+    }
+
+    /**
+     * Encodes the answer of the target of a correct Bishop guess.
+     *
+     * @param discard whether the target discards their hand and draws a new card
+     * @return the move
+     */
+    public static int response(boolean discard) {
+        return Card.BISHOP.ordinal() | RESPONSE | (discard ? DISCARD_HAND : 0);
+    }
+
+    public static boolean isResponse(int move) {
+        return (move & RESPONSE) != 0;
+    }
+
+    public static boolean discardsHand(int move) {
+        return (move & DISCARD_HAND) != 0;
+    }
+
+    public static Card card(int move) {
+        return CARDS[move & CARD_MASK];
+    }
+
+    public static int slot(int move) {
+        return move >>> SLOT_SHIFT & 1;
+    }
+
+    /**
+     * Returns the first target of a move.
+     *
+     * @param move the move
+     * @return the seat of the first target, or -1 if the move targets nobody
+     */
+    public static int target(int move) {
+        return (move >>> TARGET_SHIFT & SEAT_MASK) - 1;
+    }
+
+    /**
+     * Returns the second target of a move.
+     *
+     * @param move the move
+     * @return the seat of the second target, or -1 if the move has at most one target
+     */
+    public static int secondTarget(int move) {
+        return (move >>> SECOND_TARGET_SHIFT & SEAT_MASK) - 1;
+    }
+
+    /**
+     * Returns the targets of a move as a bit mask of seats.
+     *
+     * @param move the move
+     * @return the bit mask with the bit of each target's seat set
+     */
+    public static int targetSeats(int move) {
+        int mask = 0;
+        if (target(move) >= 0) {
+            mask |= 1 << target(move);
+        }
+        if (secondTarget(move) >= 0) {
+            mask |= 1 << secondTarget(move);
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the card guessed with the Guard.
+     *
+     * @param move the move
+     * @return the guessed card, or null if the move guesses no card
+     */
+    public static @Nullable Card guessedCard(int move) {
+        int guess = move >>> GUESS_SHIFT & GUESS_MASK;
+        return guess == 0 ? null : CARDS[guess - 1];
+    }
+
+    /**
+     * Returns the number guessed with the Bishop.
+     *
+     * @param move the move
+     * @return the guessed number, or -1 if the move guesses no number
+     */
+    public static int guessedNumber(int move) {
+        return (move >>> GUESS_SHIFT & GUESS_MASK) - 1;
+    }
+
+    /**
+     * Returns whose hand the player of the Cardinal looks at.
+     *
+     * @param move the move
+     * @return the seat of the inspected target, or -1 if the move looks at nobody
+     */
+    public static int inspected(int move) {
+        if (card(move) != Card.CARDINAL || secondTarget(move) < 0) {
+            return -1;
+        }
+        return (move & INSPECT_SECOND) != 0 ? secondTarget(move) : target(move);
+    }
+
+    /**
+     * Describes a move for logs and test failures, e.g. "Guard@1 -> 2 guessing Priest".
+     *
+     * @param move the move
+     * @return a readable description of the move
+     */
+    public static String toString(int move) {
+        if (isResponse(move)) {
+            return discardsHand(move) ? "Bishop answered by discarding" : "Bishop answered by keeping";
+        }
+        Card card = card(move);
+        StringBuilder text = new StringBuilder(card.getName()).append('@').append(slot(move));
+        if (target(move) >= 0) {
+            text.append(" -> ").append(target(move));
+        }
+        if (secondTarget(move) >= 0) {
+            text.append(", ").append(secondTarget(move));
+        }
+        Card guess = guessedCard(move);
+        if (card == Card.GUARD && guess != null) {
+            text.append(" guessing ").append(guess.getName());
+        } else if (card == Card.BISHOP && guessedNumber(move) >= 0) {
+            text.append(" guessing ").append(guessedNumber(move));
+        }
+        if (inspected(move) >= 0) {
+            text.append(" looking at ").append(inspected(move));
+        }
+        return text.toString();
+    }
+}
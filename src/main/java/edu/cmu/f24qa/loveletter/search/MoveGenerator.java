@@ -0,0 +1,219 @@
+package edu.cmu.f24qa.loveletter.search;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import edu.cmu.f24qa.loveletter.Card;
+import edu.cmu.f24qa.loveletter.Hand;
+
+/**
+ * Enumerates the legal moves of the player to act in a search state, without any I/O.
+ *
+ * The moves follow the rules the live game enforces: the Countess must be played
+ * next to a card worth 5 or 6, eliminated and protected players cannot be targeted,
+ * a Sycophant-forced player is always the first target, and only the Prince, the
+ * Jester, the Sycophant and the Cardinal may target their own player. A card left
+ * without enough targets is played without effect. The Guard guesses any card in
+ * play but the Guard; the Bishop guesses any number from 0 to 9. When both cards in
+ * hand are the same, only the first one is played, as the outcome is identical.
+ * The target of a correct Bishop guess answers by keeping or discarding their hand,
+ * and a finished round has no moves.
+ *
+ * Moves are generated into a buffer allocated with the generator, so generating and
+ * iterating allocates nothing. A generator can be reset for every position of a
+ * search, but must not be shared between threads.
+ */
+public final class MoveGenerator implements PrimitiveIterator.OfInt {
+    /**
+     * Most moves a position can have: a Guard (7 targets, 16 guesses) next to a
+     * Bishop (7 targets, 10 numbers).
+     */
+    static final int CAPACITY = 256;
+
+    /**
+     * The highest card value in play (Bishop).
+     */
+    private static final int MAX_CARD_VALUE = 9;
+
+    private final int[] moves = new int[CAPACITY];
+    private int count;
+    private int next;
+
+    /**
+     * Number of card types in play in the position being generated.
+     */
+    private int cardTypes;
+
+    /**
+     * Generates the legal moves of the player to act and starts iterating over them.
+     *
+     * @param state the position
+     * @return this generator
+     */
+    public MoveGenerator reset(SearchState state) {
+        count = 0;
+        next = 0;
+        cardTypes = state.hasExpansionCards() ? SearchState.CARDS.length : Card.PRINCESS.ordinal() + 1;
+        if (state.isResponding()) {
+            add(Move.response(false));
+            add(Move.response(true));
+            return this;
+        }
+        if (state.isTerminal()) {
+            return this;
+        }
+        int seat = state.seatToAct;
+        int forcedSlot = countessSlot(state, seat);
+        for (int slot = 0; slot < state.handSizes[seat]; slot++) {
+            if (forcedSlot >= 0 && slot != forcedSlot) {
+                continue;
+            }
+            if (slot == 1 && state.card(seat, 0) == state.card(seat, 1)) {
+                continue;
+            }
+            addPlays(state, seat, slot);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the number of legal moves of the position.
+     *
+     * @return the number of moves
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns one of the legal moves of the position.
+     *
+     * @param index the index of the move, from 0 to size() - 1
+     * @return the move
+     */
+    public int get(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+        }
+        return moves[index];
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next < count;
+    }
+
+    @Override
+    public int nextInt() {
+        if (next == count) {
+            throw new NoSuchElementException("No more moves");
+        }
+        return moves[next++];
+    }
+
+    /**
+     * Finds the Countess if it must be played, as Game.getCountessIdxWithRoyalty does.
+     *
+     * @return the slot of the Countess, or -1 if either card may be played
+     */
+    private static int countessSlot(SearchState state, int seat) {
+        if (state.handSizes[seat] != Hand.CAPACITY) {
+            return -1;
+        }
+        for (int slot = 0; slot < Hand.CAPACITY; slot++) {
+            int value = SearchState.CARDS[state.card(seat, slot)].getValue();
+            if (value == 5 || value == 6) {
+                return state.card(seat, 1 - slot) == Card.COUNTESS.ordinal() ? 1 - slot : -1;
+            }
+        }
+        return -1;
+    }
+
+    private void addPlays(SearchState state, int seat, int slot) {
+        Card card = SearchState.CARDS[state.card(seat, slot)];
+        int move = Move.of(card, slot);
+        switch (card) {
+            case GUARD:
+            case PRIEST:
+            case BARON:
+            case KING:
+            case QUEEN:
+            case BISHOP:
+                addTargets(state, seat, move, 1, 1, false);
+                break;
+            case PRINCE:
+            case JESTER:
+            case SYCOPHANT:
+                addTargets(state, seat, move, 1, 1, true);
+                break;
+            case CARDINAL:
+                addTargets(state, seat, move, 2, 2, true);
+                break;
+            case BARONESS:
+                addTargets(state, seat, move, 1, 2, false);
+                break;
+            default:
+                add(move);
+                break;
+        }
+    }
+
+    /**
+     * Adds a move for every choice of targets GameContext.selectOpponents allows.
+     */
+    private void addTargets(SearchState state, int seat, int move, int min, int max, boolean includeSelf) {
+        int available = state.targetableSeats(seat, includeSelf);
+        int forced = state.sycophantSeat;
+        if (Integer.bitCount(available) < min || forced == seat && !includeSelf) {
+            add(move);
+            return;
+        }
+        if (forced != SearchState.NO_SEAT) {
+            int forcedMove = Move.withTarget(move, forced);
+            available &= ~(1 << forced);
+            if (max == 1 || available == 0) {
+                addDetails(forcedMove);
+            }
+            for (int rest = max == 1 ? 0 : available; rest != 0; rest &= rest - 1) {
+                addDetails(Move.withTarget(forcedMove, Integer.numberOfTrailingZeros(rest)));
+            }
+            return;
+        }
+        for (int first = available; first != 0; first &= first - 1) {
+            int target = Integer.numberOfTrailingZeros(first);
+            int single = Move.withTarget(move, target);
+            if (min == 1) {
+                addDetails(single);
+            }
+            for (int second = max == 1 ? 0 : first & first - 1; second != 0; second &= second - 1) {
+                addDetails(Move.withTarget(single, Integer.numberOfTrailingZeros(second)));
+            }
+        }
+    }
+
+    /**
+     * Adds a targeted move once per guess or inspected player it can be made with.
+     */
+    private void addDetails(int move) {
+        Card card = Move.card(move);
+        if (card == Card.GUARD) {
+            // the Guard may not name itself
+            for (int guess = Card.GUARD.ordinal() + 1; guess < cardTypes; guess++) {
+                add(Move.withGuess(move, SearchState.CARDS[guess]));
+            }
+        } else if (card == Card.BISHOP) {
+            for (int number = 0; number <= MAX_CARD_VALUE; number++) {
+                add(Move.withNumber(move, number));
+            }
+        } else if (card == Card.CARDINAL && Move.secondTarget(move) >= 0) {
+            add(move);
+            add(Move.withInspectSecond(move));
+        } else {
+            add(move);
+        }
+    }
+
+    private void add(int move) {
+        moves[count++] = move;
+    }
+}
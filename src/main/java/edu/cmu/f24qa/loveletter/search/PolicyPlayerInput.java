@@ -0,0 +1,115 @@
+package edu.cmu.f24qa.loveletter.search;
+
+import java.util.List;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import edu.cmu.f24qa.loveletter.Card;
+import edu.cmu.f24qa.loveletter.GameContext;
+import edu.cmu.f24qa.loveletter.Player;
+import edu.cmu.f24qa.loveletter.PlayerList;
+import edu.cmu.f24qa.loveletter.input.PlayerInput;
+
+/**
+ * Answers the questions of the game with the moves of a decision policy.
+ *
+ * When a player is asked which card to play, the policy chooses a whole move from a
+ * snapshot of the game, and the questions the card's action asks next are answered
+ * from that move: the guess, each target, whether to select another player and whose
+ * hand to look at. A question asked of any other player is the Bishop's offer to
+ * discard, which the policy answers from a state waiting for that answer. A player
+ * forced to play the Countess is asked nothing.
+ *
+ * An input serves one game at a time; give each seat its own input with
+ * SeatedPlayerInput to seat different policies at the same table.
+ */
+public class PolicyPlayerInput implements PlayerInput {
+    private final DecisionPolicy policy;
+    private final MoveGenerator moves = new MoveGenerator();
+
+    /**
+     * The move being answered. Its seats are the seats of the players in the PlayerList.
+     */
+    private int move;
+
+    /**
+     * Seats already selected for the move, the Sycophant-forced seat included.
+     */
+    private int selected;
+
+    /**
+     * Creates an input answering with the moves of the given policy.
+     *
+     * @param policy the policy choosing the moves
+     */
+    public PolicyPlayerInput(DecisionPolicy policy) {
+        this.policy = policy;
+    }
+
+    @Override
+    public int chooseCardIndex(GameContext context, Player player) {
+        PlayerList players = context.getPlayers();
+        SearchState state = SearchState.of(context.snapshot(), firstSeat(players), players.seatOf(player));
+        move = policy.chooseMove(state, moves.reset(state));
+        selected = state.sycophantSeat == SearchState.NO_SEAT ? 0 : 1 << state.sycophantSeat;
+        return Move.slot(move);
+    }
+
+    @Override
+    public @Nullable Card guessCard(GameContext context, Player player) {
+        return Move.guessedCard(move);
+    }
+
+    @Override
+    public int guessNumber(GameContext context, Player player) {
+        return Move.guessedNumber(move);
+    }
+
+    /**
+     * Selects the next target of the move that is still to be selected.
+     */
+    @Override
+    public Player chooseTarget(GameContext context, Player player, List<Player> candidates) {
+        for (Player candidate : candidates) {
+            int bit = 1 << context.getPlayers().seatOf(candidate);
+            if ((Move.targetSeats(move) & ~selected & bit) != 0) {
+                selected |= bit;
+                return candidate;
+            }
+        }
+        throw new IllegalStateException(Move.toString(move) + " targets none of " + candidates);
+    }
+
+    @Override
+    public Player choosePlayerToInspect(GameContext context, Player player, List<Player> candidates) {
+        for (Player candidate : candidates) {
+            if (context.getPlayers().seatOf(candidate) == Move.inspected(move)) {
+                return candidate;
+            }
+        }
+        return candidates.get(0);
+    }
+
+    /**
+     * Answers whether to select another target from the move; when asked of anyone but
+     * the player of the card, answers the Bishop's offer with a move of that player.
+     */
+    @Override
+    public boolean confirm(GameContext context, Player player, String question) {
+        Player user = context.getCurrentUser();
+        if (user == null || user == player) {
+            return (Move.targetSeats(move) & ~selected) != 0;
+        }
+        PlayerList players = context.getPlayers();
+        SearchState state = SearchState.ofResponse(context.snapshot(), firstSeat(players), players.seatOf(player),
+            players.seatOf(user));
+        return Move.discardsHand(policy.chooseMove(state, moves.reset(state)));
+    }
+
+    /**
+     * Returns the seat of the first player of a snapshot, who is next in turn order.
+     */
+    private static int firstSeat(PlayerList players) {
+        return players.seatOf(players.players().get(0));
+    }
+}
@@ -0,0 +1,27 @@
+package edu.cmu.f24qa.loveletter.search;
+
+import java.util.Random;
+
+/**
+ * Plays a legal move chosen uniformly at random.
+ * Unlike RandomPlayerInput, which answers each question on its own, every legal
+ * move is equally likely, whatever number of questions the engine asks to make it.
+ */
+public class RandomPolicy implements DecisionPolicy {
+    private final Random random;
+
+    /**
+     * Creates a random policy backed by the given random source.
+     * Passing a seeded source makes the moves reproducible.
+     *
+     * @param random the random source
+     */
+    public RandomPolicy(Random random) {
+        this.random = random;
+    }
+
+    @Override
+    public int chooseMove(SearchState state, MoveGenerator moves) {
+        return moves.get(random.nextInt(moves.size()));
+    }
+}
@@ -0,0 +1,1155 @@
+package edu.cmu.f24qa.loveletter.search;
+
+import java.util.Arrays;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import edu.cmu.f24qa.loveletter.Card;
+import edu.cmu.f24qa.loveletter.GameState;
+import edu.cmu.f24qa.loveletter.Hand;
+
+/**
+ * Mutable state of a round in progress, laid out in a few primitive arrays for bots
+ * and search.
+ *
+ * A search state is built from a {@link GameState} snapshot and numbers the seats the
+ * same way, i.e. in the turn order of the player list when the snapshot was taken.
+ * The player to act has already drawn, so they hold two cards.
+ *
+ * Moves are applied in place with {@link #make(int)} and taken back with {@link #unmake()},
+ * so a search can walk the game tree with a single state. Every change a move makes is
+ * pushed on an undo trail as the old value of the changed field, and unmaking pops the
+ * trail back to where the move started, which restores the state exactly. The trail
+ * grows with the deepest line searched and is then reused, so making and unmaking
+ * moves allocates nothing.
+ */
+public final class SearchState {
+    /**
+     * Number of seats at the largest table.
+     */
+    public static final int MAX_SEATS = 8;
+    public static final int NO_SEAT = -1;
+
+    static final Card[] CARDS = Card.values();
+    static final int NO_CARD = -1;
+    private static final int DECK_CAPACITY = 32;
+
+    /**
+     * Whose move it is: the player of a card, or the target of a correct Bishop guess
+     * answering whether to discard their hand. The round has ended after the last two:
+     * either normally or because someone has won the game.
+     */
+    static final int PLAY = 0;
+    static final int RESPOND = 1;
+    static final int ROUND_OVER = 2;
+    static final int GAME_OVER = 3;
+
+    /**
+     * Kinds of the entries of the undo trail. An entry packs the kind, the index of the
+     * changed element and its old value as kind << 28 | index << 16 | value.
+     */
+    private static final int HAND = 0;
+    private static final int HAND_SIZE = 1;
+    private static final int TOKENS = 2;
+    private static final int DISCARD = 3;
+    private static final int DISCARD_VALUE = 4;
+    private static final int SCALAR = 5;
+    private static final int KIND_SHIFT = 28;
+    private static final int INDEX_SHIFT = 16;
+    private static final int INDEX_MASK = 0xFFF;
+
+    /**
+     * Indices of the scalar fields in SCALAR entries of the undo trail.
+     */
+    private static final int ALIVE_SEATS = 0;
+    private static final int PROTECTED_SEATS = 1;
+    private static final int DECK_SIZE = 2;
+    private static final int JESTER_SEAT = 3;
+    private static final int GUESSED_SEAT = 4;
+    private static final int SYCOPHANT_SEAT = 5;
+    private static final int SEAT_TO_ACT = 6;
+    private static final int PHASE = 7;
+    private static final int BISHOP_SEAT = 8;
+
+    /**
+     * Witnesses of an elimination everybody sees.
+     */
+    private static final int ALL_SEATS = (1 << MAX_SEATS) - 1;
+
+    private static final int INITIAL_TRAIL = 256;
+    private static final int INITIAL_MOVES = 64;
+
+    final int playerCount;
+
+    /**
+     * Card ordinals of the hands, Hand.CAPACITY slots per seat.
+     */
+    final byte[] hands;
+    final byte[] handSizes;
+
+    /**
+     * Bit masks of the seats whose player holds cards or is protected by the Handmaiden.
+     */
+    int aliveSeats;
+    int protectedSeats;
+
+    final int[] tokens;
+
+    /**
+     * Number of copies of each card in each discard pile, one row of card types per seat.
+     */
+    final byte[] discards;
+    final int[] discardValues;
+
+    /**
+     * Card ordinals of the deck, the top of the deck at index deckSize - 1.
+     */
+    final byte[] deck;
+    int deckSize;
+    int setAside;
+
+    int jesterSeat;
+    int guessedSeat;
+    int sycophantSeat;
+    int seatToAct;
+    int phase = PLAY;
+
+    /**
+     * Seat of the player of the Bishop while its target answers, else NO_SEAT.
+     */
+    int bishopSeat = NO_SEAT;
+
+    /**
+     * Beliefs fed with what the players see of the moves made, or null.
+     */
+    private @Nullable BeliefTracker tracker;
+
+    private int[] trail = new int[INITIAL_TRAIL];
+    private int trailSize;
+
+    /**
+     * Size of the trail before each move made and not yet unmade.
+     */
+    private int[] moveStarts = new int[INITIAL_MOVES];
+    private int movesMade;
+
+    SearchState(int playerCount) {
+        this.playerCount = playerCount;
+        this.hands = new byte[playerCount * Hand.CAPACITY];
+        this.handSizes = new byte[playerCount];
+        this.tokens = new int[playerCount];
+        this.discards = new byte[playerCount * CARDS.length];
+        this.discardValues = new int[playerCount];
+        this.deck = new byte[DECK_CAPACITY];
+    }
+
+    /**
+     * Copy constructor. The copy starts with an empty undo trail, so it cannot unmake
+     * the moves made on the original.
+     */
+    public SearchState(SearchState state) {
+        this.playerCount = state.playerCount;
+        this.hands = state.hands.clone();
+        this.handSizes = state.handSizes.clone();
+        this.aliveSeats = state.aliveSeats;
+        this.protectedSeats = state.protectedSeats;
+        this.tokens = state.tokens.clone();
+        this.discards = state.discards.clone();
+        this.discardValues = state.discardValues.clone();
+        this.deck = state.deck.clone();
+        this.deckSize = state.deckSize;
+        this.setAside = state.setAside;
+        this.jesterSeat = state.jesterSeat;
+        this.guessedSeat = state.guessedSeat;
+        this.sycophantSeat = state.sycophantSeat;
+        this.seatToAct = state.seatToAct;
+        this.phase = state.phase;
+        this.bishopSeat = state.bishopSeat;
+    }
+
+    /**
+     * Overwrites this state with another state of the same table, without allocating.
+     * The undo trail is emptied and tracking stops.
+     *
+     * @param state the state to copy
+     * @throws IllegalArgumentException if the state has another number of players
+     */
+    void copyFrom(SearchState state) {
+        if (state.playerCount != playerCount) {
+            throw new IllegalArgumentException("Cannot copy a table of " + state.playerCount + " players");
+        }
+        System.arraycopy(state.hands, 0, hands, 0, hands.length);
+        System.arraycopy(state.handSizes, 0, handSizes, 0, handSizes.length);
+        System.arraycopy(state.tokens, 0, tokens, 0, tokens.length);
+        System.arraycopy(state.discards, 0, discards, 0, discards.length);
+        System.arraycopy(state.discardValues, 0, discardValues, 0, discardValues.length);
+        System.arraycopy(state.deck, 0, deck, 0, state.deckSize);
+        this.aliveSeats = state.aliveSeats;
+        this.protectedSeats = state.protectedSeats;
+        this.deckSize = state.deckSize;
+        this.setAside = state.setAside;
+        this.jesterSeat = state.jesterSeat;
+        this.guessedSeat = state.guessedSeat;
+        this.sycophantSeat = state.sycophantSeat;
+        this.seatToAct = state.seatToAct;
+        this.phase = state.phase;
+        this.bishopSeat = state.bishopSeat;
+        this.tracker = null;
+        this.trailSize = 0;
+        this.movesMade = 0;
+    }
+
+    /**
+     * Deals a new round of a 2-4 player game in place, as GameContext.reset and
+     * PlayerList.dealCards deal it: the top card of the shuffled deck is set aside, three
+     * more are removed face up with two players, every seat is dealt a card and seat 0
+     * draws. Tokens are kept; everything else starts over, the undo trail included.
+     *
+     * @param order the ordinals of the 16 cards of the shuffled deck, top of the deck last
+     * @throws IllegalArgumentException if the table is not of 2-4 players or the deck is
+     *                                  not of 16 cards
+     */
+    void deal(byte[] order) {
+        if (playerCount > 4 || order.length != 16) {
+            throw new IllegalArgumentException("Cannot deal " + order.length + " cards to " + playerCount + " players");
+        }
+        int top = order.length;
+        setAside = order[--top];
+        if (playerCount == 2) {
+            top -= 3;
+        }
+        Arrays.fill(handSizes, (byte) 0);
+        for (int seat = 0; seat < playerCount; seat++) {
+            hands[seat * Hand.CAPACITY] = order[--top];
+            handSizes[seat] = 1;
+        }
+        hands[1] = order[--top];
+        handSizes[0] = 2;
+        System.arraycopy(order, 0, deck, 0, top);
+        deckSize = top;
+        Arrays.fill(discards, (byte) 0);
+        Arrays.fill(discardValues, 0);
+        aliveSeats = (1 << playerCount) - 1;
+        protectedSeats = 0;
+        jesterSeat = NO_SEAT;
+        guessedSeat = NO_SEAT;
+        sycophantSeat = NO_SEAT;
+        seatToAct = 0;
+        phase = PLAY;
+        bishopSeat = NO_SEAT;
+        tracker = null;
+        trailSize = 0;
+        movesMade = 0;
+    }
+
+    /**
+     * Builds the search state of a snapshot taken while a player is about to play a card.
+     *
+     * @param state      the snapshot
+     * @param seatToAct  the seat of the player about to play, who holds two cards
+     * @return the search state
+     * @throws IllegalArgumentException if the snapshot is not of a 2-8 player game or the
+     *                                  player to act does not hold two cards
+     */
+    public static SearchState of(GameState state, int seatToAct) {
+        return of(state, 0, seatToAct);
+    }
+
+    /**
+     * Builds the search state of a snapshot taken while a player is about to play a card,
+     * numbering the seats from the given seat on. A snapshot numbers the players from the
+     * one whose turn comes next, so passing that player's PlayerList seat keeps the seats
+     * of the search state the same however far the turn order has moved.
+     *
+     * @param state     the snapshot
+     * @param firstSeat the seat of the first player of the snapshot
+     * @param seatToAct the seat of the player about to play, who holds two cards
+     * @return the search state
+     * @throws IllegalArgumentException if the snapshot is not of a 2-8 player game or the
+     *                                  player to act does not hold two cards
+     */
+    public static SearchState of(GameState state, int firstSeat, int seatToAct) {
+        checkSeat(state, firstSeat, seatToAct, Hand.CAPACITY, "is not about to play a card");
+        SearchState search = build(state, firstSeat);
+        search.seatToAct = seatToAct;
+        return search;
+    }
+
+    /**
+     * Builds the search state of a snapshot taken while the target of a correct Bishop
+     * guess is asked whether to discard their hand, numbering the seats as
+     * {@link #of(GameState, int, int)} does. The Sycophant effect, which the live game
+     * only resets once the Bishop's effect is over, is reset as make resets it.
+     *
+     * @param state      the snapshot
+     * @param firstSeat  the seat of the first player of the snapshot
+     * @param seatToAct  the seat of the target, who holds one card
+     * @param bishopSeat the seat of the player of the Bishop
+     * @return the search state, waiting for the target's answer
+     * @throws IllegalArgumentException if the snapshot is not of a 2-8 player game or the
+     *                                  seats do not fit a Bishop waiting for an answer
+     */
+    public static SearchState ofResponse(GameState state, int firstSeat, int seatToAct, int bishopSeat) {
+        checkSeat(state, firstSeat, seatToAct, 1, "cannot answer the Bishop");
+        if (bishopSeat < 0 || bishopSeat >= state.getPlayerCount() || bishopSeat == seatToAct) {
+            throw new IllegalArgumentException("Seat " + bishopSeat + " did not play the Bishop");
+        }
+        SearchState search = build(state, firstSeat);
+        search.seatToAct = seatToAct;
+        search.bishopSeat = bishopSeat;
+        search.phase = RESPOND;
+        search.sycophantSeat = NO_SEAT;
+        return search;
+    }
+
+    private static void checkSeat(GameState state, int firstSeat, int seat, int handSize, String problem) {
+        int playerCount = state.getPlayerCount();
+        if (playerCount < 2 || playerCount > MAX_SEATS) {
+            throw new IllegalArgumentException("Invalid number of players. Only 2-8 players are allowed.");
+        }
+        if (firstSeat < 0 || firstSeat >= playerCount) {
+            throw new IllegalArgumentException("Invalid first seat " + firstSeat);
+        }
+        if (seat < 0 || seat >= playerCount
+            || state.getHandSize((seat - firstSeat + playerCount) % playerCount) != handSize) {
+            throw new IllegalArgumentException("Seat " + seat + " " + problem);
+        }
+    }
+
+    private static SearchState build(GameState state, int firstSeat) {
+        int playerCount = state.getPlayerCount();
+        if (state.getDeckSize() > DECK_CAPACITY) {
+            throw new IllegalArgumentException("The deck holds more than " + DECK_CAPACITY + " cards");
+        }
+        SearchState search = new SearchState(playerCount);
+        for (int index = 0; index < playerCount; index++) {
+            int seat = (index + firstSeat) % playerCount;
+            int size = state.getHandSize(index);
+            for (int slot = 0; slot < size; slot++) {
+                Card card = state.getHandCard(index, slot);
+                if (card == null) {
+                    throw new IllegalArgumentException("Seat " + index + " holds no card in slot " + slot);
+                }
+                search.hands[seat * Hand.CAPACITY + slot] = (byte) card.ordinal();
+            }
+            search.handSizes[seat] = (byte) size;
+            if (size > 0) {
+                search.aliveSeats |= 1 << seat;
+            }
+            if (state.isProtected(index)) {
+                search.protectedSeats |= 1 << seat;
+            }
+            search.tokens[seat] = state.getTokens(index);
+            for (Card card : CARDS) {
+                search.discards[seat * CARDS.length + card.ordinal()] = (byte) state.getDiscardCount(index, card);
+            }
+            search.discardValues[seat] = state.getDiscardValue(index);
+        }
+        search.deckSize = state.getDeckSize();
+        for (int depth = 0; depth < search.deckSize; depth++) {
+            search.deck[search.deckSize - 1 - depth] = (byte) state.getDeckCard(depth).ordinal();
+        }
+        Card setAside = state.getSetAsideCard();
+        search.setAside = setAside == null ? NO_CARD : setAside.ordinal();
+        search.jesterSeat = seatFrom(state.getJesterSeat(), firstSeat, playerCount);
+        search.guessedSeat = seatFrom(state.getGuessedSeat(), firstSeat, playerCount);
+        search.sycophantSeat = seatFrom(state.getSycophantSeat(), firstSeat, playerCount);
+        return search;
+    }
+
+    private static int seatFrom(int index, int firstSeat, int playerCount) {
+        return index < 0 ? NO_SEAT : (index + firstSeat) % playerCount;
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    /**
+     * Returns the seat of the player whose move it is.
+     *
+     * @return the seat index
+     */
+    public int getSeatToAct() {
+        return seatToAct;
+    }
+
+    public int getHandSize(int seat) {
+        return handSizes[seat];
+    }
+
+    /**
+     * Returns a card from the hand of the player in the given seat.
+     *
+     * @param seat the seat index
+     * @param slot the position of the card in the hand
+     * @return the card
+     * @throws IndexOutOfBoundsException if the hand has no card in that slot
+     */
+    public Card getHandCard(int seat, int slot) {
+        if (slot < 0 || slot >= handSizes[seat]) {
+            throw new IndexOutOfBoundsException("Slot: " + slot + ", Size: " + handSizes[seat]);
+        }
+        return CARDS[card(seat, slot)];
+    }
+
+    public boolean isEliminated(int seat) {
+        return (aliveSeats & 1 << seat) == 0;
+    }
+
+    public boolean isProtected(int seat) {
+        return (protectedSeats & 1 << seat) != 0;
+    }
+
+    /**
+     * Returns the bit mask of the seats whose player still holds cards.
+     *
+     * @return the bit mask of seats in the round
+     */
+    public int getAliveSeats() {
+        return aliveSeats;
+    }
+
+    public int getTokens(int seat) {
+        return tokens[seat];
+    }
+
+    public int getDiscardCount(int seat, Card card) {
+        return discards[seat * CARDS.length + card.ordinal()];
+    }
+
+    public int getDiscardValue(int seat) {
+        return discardValues[seat];
+    }
+
+    public int getDeckSize() {
+        return deckSize;
+    }
+
+    /**
+     * Returns a card of the deck, counted from the top.
+     *
+     * @param depth 0 for the top card of the deck
+     * @return the card at that depth
+     */
+    public Card getDeckCard(int depth) {
+        if (depth < 0 || depth >= deckSize) {
+            throw new IndexOutOfBoundsException("Depth: " + depth + ", Size: " + deckSize);
+        }
+        return CARDS[deck[deckSize - 1 - depth]];
+    }
+
+    public @Nullable Card getSetAsideCard() {
+        return setAside == NO_CARD ? null : CARDS[setAside];
+    }
+
+    public int getJesterSeat() {
+        return jesterSeat;
+    }
+
+    public int getGuessedSeat() {
+        return guessedSeat;
+    }
+
+    public int getSycophantSeat() {
+        return sycophantSeat;
+    }
+
+    /**
+     * Whether the cards of the 5-8 player deck are in play.
+     *
+     * @return true for games of five or more players
+     */
+    public boolean hasExpansionCards() {
+        return playerCount >= 5;
+    }
+
+    /**
+     * Whether the target of a correct Bishop guess is to answer whether to discard
+     * their hand; the seat to act is then theirs.
+     *
+     * @return true while the Bishop waits for an answer
+     */
+    public boolean isResponding() {
+        return phase == RESPOND;
+    }
+
+    /**
+     * Whether the round has ended, either with a single player left or the deck empty,
+     * or because a player has collected enough tokens to win the game.
+     *
+     * @return true if no move can be made
+     */
+    public boolean isTerminal() {
+        return phase >= ROUND_OVER;
+    }
+
+    /**
+     * Whether the round has ended because a player has won the game, as Game.startRound
+     * ends the round without choosing round winners.
+     *
+     * @return true if a player has won the game
+     */
+    public boolean isGameOver() {
+        return phase == GAME_OVER;
+    }
+
+    /**
+     * Returns the number of tokens a player needs to win the game.
+     *
+     * @return 7 with two players, 5 with three, else 4
+     */
+    public int getTokensToWin() {
+        if (playerCount == 2) {
+            return 7;
+        }
+        return playerCount == 3 ? 5 : 4;
+    }
+
+    /**
+     * Returns the winners of a round that has ended, as Game.determineRoundWinner
+     * chooses them: the last player in the round, else the highest hand with the Count
+     * bonus, where a Bishop loses to a Princess, and on a tie the highest discard pile
+     * among all players still in the round. The tokens are not awarded.
+     *
+     * @return the bit mask of the winners' seats
+     * @throws IllegalStateException if the round has not ended normally
+     */
+    public int getRoundWinners() {
+        if (phase != ROUND_OVER) {
+            throw new IllegalStateException("The round has not ended");
+        }
+        if (Integer.bitCount(aliveSeats) == 1) {
+            return aliveSeats;
+        }
+        boolean hasPrincess = false;
+        for (int seats = aliveSeats; seats != 0; seats &= seats - 1) {
+            hasPrincess |= card(Integer.numberOfTrailingZeros(seats), 0) == Card.PRINCESS.ordinal();
+        }
+        int winners = 0;
+        int highest = -1;
+        for (int seats = aliveSeats; seats != 0; seats &= seats - 1) {
+            int seat = Integer.numberOfTrailingZeros(seats);
+            int card = card(seat, 0);
+            if (hasPrincess && card == Card.BISHOP.ordinal()) {
+                continue;
+            }
+            int value = CARDS[card].getValue() + discards[seat * CARDS.length + Card.COUNT.ordinal()];
+            if (value > highest) {
+                highest = value;
+                winners = 0;
+            }
+            if (value == highest) {
+                winners |= 1 << seat;
+            }
+        }
+        if (Integer.bitCount(winners) <= 1) {
+            return winners;
+        }
+        winners = 0;
+        highest = -1;
+        for (int seats = aliveSeats; seats != 0; seats &= seats - 1) {
+            int seat = Integer.numberOfTrailingZeros(seats);
+            if (discardValues[seat] > highest) {
+                highest = discardValues[seat];
+                winners = 0;
+            }
+            if (discardValues[seat] == highest) {
+                winners |= 1 << seat;
+            }
+        }
+        return winners;
+    }
+
+    /**
+     * Returns the winners of a finished round: the players who have won the game if
+     * someone has, else the round winners.
+     *
+     * @return the bit mask of the winners' seats
+     * @throws IllegalStateException if the round has not ended
+     */
+    public int getWinners() {
+        if (!isGameOver()) {
+            return getRoundWinners();
+        }
+        int winners = 0;
+        for (int seat = 0; seat < playerCount; seat++) {
+            if (tokens[seat] >= getTokensToWin()) {
+                winners |= 1 << seat;
+            }
+        }
+        return winners;
+    }
+
+    /**
+     * Feeds the given tracker with what every player sees of the moves made from now on,
+     * after resetting it from this state. Unmaking a move does not take back what was
+     * seen, so only a state following a game should be tracked; a search works on a
+     * copy, which is not tracked.
+     *
+     * @param beliefs the tracker to feed, or null to stop tracking
+     */
+    public void track(@Nullable BeliefTracker beliefs) {
+        this.tracker = beliefs;
+        if (beliefs != null) {
+            beliefs.reset(this);
+        }
+    }
+
+    /**
+     * Feeds the given tracker from now on without resetting it, e.g. with a copy of the
+     * beliefs at the current position, so a search can keep beliefs along its line.
+     *
+     * @param beliefs the tracker to feed, or null to stop tracking
+     */
+    void follow(@Nullable BeliefTracker beliefs) {
+        this.tracker = beliefs;
+    }
+
+    /**
+     * Returns the number of moves made that can still be unmade.
+     *
+     * @return the number of moves made on this state
+     */
+    public int getMovesMade() {
+        return movesMade;
+    }
+
+    /**
+     * Makes a move: plays a card with its effect, or answers a correct Bishop guess,
+     * then ends the turn as Game.startRound does. Ending the turn ends the round if a
+     * player has enough tokens to win the game, a single player is left or the deck is
+     * empty; otherwise the next player in the round loses their protection and draws.
+     *
+     * Targets left without cards by a Sycophant are ignored by the cards that look at
+     * their hand, where the live game would fail.
+     *
+     * @param move a legal move of the player to act, as generated by MoveGenerator
+     * @throws IllegalStateException    if the round has ended
+     * @throws IllegalArgumentException if the move is not of the kind expected or plays a
+     *                                  card the player does not hold
+     */
+    public void make(int move) {
+        if (isTerminal()) {
+            throw new IllegalStateException("The round has ended");
+        }
+        if (Move.isResponse(move) != (phase == RESPOND)) {
+            throw new IllegalArgumentException(Move.toString(move) + " cannot be made now");
+        }
+        int seat = seatToAct;
+        int slot = Move.slot(move);
+        if (phase == PLAY && (slot >= handSizes[seat] || card(seat, slot) != Move.card(move).ordinal())) {
+            throw new IllegalArgumentException("Seat " + seat + " cannot play " + Move.toString(move));
+        }
+        if (movesMade == moveStarts.length) {
+            moveStarts = Arrays.copyOf(moveStarts, movesMade * 2);
+        }
+        moveStarts[movesMade++] = trailSize;
+        if (phase == RESPOND) {
+            answerBishop(seat, Move.discardsHand(move));
+            return;
+        }
+        int card = removeCard(seat, slot);
+        discard(seat, card);
+        boolean waiting = playEffect(seat, move);
+        if (card != Card.SYCOPHANT.ordinal() && sycophantSeat != NO_SEAT) {
+            set(SYCOPHANT_SEAT, NO_SEAT);
+        }
+        if (!waiting) {
+            endTurn(seat);
+        }
+    }
+
+    /**
+     * Takes back the last move made, restoring the state exactly as it was before.
+     *
+     * @throws IllegalStateException if no move is left to unmake
+     */
+    public void unmake() {
+        if (movesMade == 0) {
+            throw new IllegalStateException("No move to unmake");
+        }
+        int start = moveStarts[--movesMade];
+        while (trailSize > start) {
+            restore(trail[--trailSize]);
+        }
+    }
+
+    /**
+     * Applies the effect of the card just discarded by the player in the given seat.
+     *
+     * @return true if the Bishop guessed right and waits for its target to answer
+     */
+    private boolean playEffect(int seat, int move) {
+        int target = Move.target(move);
+        Card card = Move.card(move);
+        if (card == Card.HANDMAIDEN) {
+            set(PROTECTED_SEATS, protectedSeats ^ 1 << seat);
+            return false;
+        }
+        if (card == Card.PRINCESS) {
+            eliminate(seat, 1 << seat);
+            return false;
+        }
+        if (card == Card.PRINCE && target < 0) {
+            target = seat;
+        }
+        if (target < 0 || !hasCards(target)) {
+            return false;
+        }
+        switch (card) {
+            case GUARD:
+                guard(seat, target, Move.guessedCard(move));
+                break;
+            case PRIEST:
+                reveal(seat, target);
+                break;
+            case BARONESS:
+                reveal(seat, target);
+                if (Move.secondTarget(move) >= 0 && hasCards(Move.secondTarget(move))) {
+                    reveal(seat, Move.secondTarget(move));
+                }
+                break;
+            case BARON:
+                compareHands(seat, target, false);
+                break;
+            case QUEEN:
+                compareHands(seat, target, true);
+                break;
+            case PRINCE:
+                if (CARDS[card(target, 0)].getValue() == Card.PRINCESS.getValue()) {
+                    eliminate(target, ALL_SEATS);
+                } else {
+                    discard(target, removeCard(target, 0));
+                    drawFor(target);
+                }
+                break;
+            case KING:
+                swapHands(seat, target);
+                break;
+            case CARDINAL:
+                if (Move.secondTarget(move) >= 0) {
+                    swapHands(target, Move.secondTarget(move));
+                    if (hasCards(Move.inspected(move))) {
+                        reveal(seat, Move.inspected(move));
+                    }
+                }
+                break;
+            case JESTER:
+                set(GUESSED_SEAT, target);
+                set(JESTER_SEAT, seat);
+                break;
+            case SYCOPHANT:
+                set(SYCOPHANT_SEAT, target);
+                break;
+            case BISHOP:
+                return bishop(seat, target, Move.guessedNumber(move));
+            default:
+                break;
+        }
+        return false;
+    }
+
+    private void guard(int seat, int target, @Nullable Card guess) {
+        int card = card(target, 0);
+        if (card == Card.ASSASSIN.ordinal()) {
+            eliminate(seat, 1 << seat);
+            discard(target, removeCard(target, 0));
+            drawFor(target);
+        } else if (guess != null && card == guess.ordinal()) {
+            eliminate(target, ALL_SEATS);
+        } else if (guess != null && tracker != null) {
+            tracker.onMiss(target, guess);
+        }
+    }
+
+    /**
+     * Eliminates the player with the lower card, or with the higher card for the Queen.
+     */
+    private void compareHands(int seat, int target, boolean lowerWins) {
+        reveal(seat, target);
+        reveal(target, seat);
+        int difference = CARDS[card(seat, 0)].getValue() - CARDS[card(target, 0)].getValue();
+        if (difference == 0) {
+            return;
+        }
+        eliminate(difference > 0 == lowerWins ? seat : target, 1 << seat | 1 << target);
+    }
+
+    /**
+     * Awards a token for a correct guess and, unless that token wins the game, asks the
+     * target whether to discard their hand.
+     *
+     * @return true if the target is to answer
+     */
+    private boolean bishop(int seat, int target, int number) {
+        boolean correct = CARDS[card(target, 0)].getValue() == number;
+        if (tracker != null) {
+            tracker.onValueGuess(target, number, correct);
+        }
+        if (!correct) {
+            return false;
+        }
+        addToken(seat);
+        if (tokens[seat] >= getTokensToWin() && winnerCount() == 1) {
+            return false;
+        }
+        set(BISHOP_SEAT, seat);
+        set(SEAT_TO_ACT, target);
+        set(PHASE, RESPOND);
+        return true;
+    }
+
+    private void answerBishop(int seat, boolean discardHand) {
+        if (discardHand) {
+            if (card(seat, 0) == Card.PRINCESS.ordinal()) {
+                eliminate(seat, ALL_SEATS);
+            } else {
+                discard(seat, removeCard(seat, 0));
+                drawFor(seat);
+            }
+        }
+        int turn = bishopSeat;
+        set(PHASE, PLAY);
+        set(BISHOP_SEAT, NO_SEAT);
+        endTurn(turn);
+    }
+
+    private int winnerCount() {
+        int winners = 0;
+        for (int seat = 0; seat < playerCount; seat++) {
+            if (tokens[seat] >= getTokensToWin()) {
+                winners++;
+            }
+        }
+        return winners;
+    }
+
+    /**
+     * Ends the turn of the given seat and starts the next one, if the round goes on.
+     */
+    private void endTurn(int seat) {
+        if (winnerCount() > 0) {
+            set(PHASE, GAME_OVER);
+            return;
+        }
+        if (Integer.bitCount(aliveSeats) <= 1 || deckSize == 0) {
+            set(PHASE, ROUND_OVER);
+            return;
+        }
+        int next = seat;
+        do {
+            next = next + 1 == playerCount ? 0 : next + 1;
+        } while (!hasCards(next));
+        set(SEAT_TO_ACT, next);
+        if (isProtected(next)) {
+            set(PROTECTED_SEATS, protectedSeats & ~(1 << next));
+        }
+        drawFor(next);
+    }
+
+    /**
+     * Eliminates a player as Player.eliminate does: a Constable in their discard pile
+     * earns a token, then their hand and discard pile are emptied. Only the witnesses
+     * see the card the player held.
+     */
+    private void eliminate(int seat, int witnesses) {
+        if (tracker != null) {
+            tracker.onEliminated(seat, handCard(seat), witnesses);
+        }
+        int row = seat * CARDS.length;
+        if (discards[row + Card.CONSTABLE.ordinal()] > 0) {
+            addToken(seat);
+        }
+        setHandSize(seat, 0);
+        for (int card = 0; card < CARDS.length; card++) {
+            if (discards[row + card] != 0) {
+                save(DISCARD, row + card, discards[row + card]);
+                discards[row + card] = 0;
+            }
+        }
+        save(DISCARD_VALUE, seat, discardValues[seat]);
+        discardValues[seat] = 0;
+    }
+
+    /**
+     * Gives a player a new card as GameContext.drawNewCardForPlayerByDeckStatus does:
+     * the top of the deck, else the set-aside card, which stays set aside.
+     */
+    private void drawFor(int seat) {
+        int card;
+        if (deckSize > 0) {
+            card = deck[deckSize - 1];
+            set(DECK_SIZE, deckSize - 1);
+        } else if (setAside != NO_CARD) {
+            card = setAside;
+        } else {
+            return;
+        }
+        addCard(seat, card);
+        if (tracker != null) {
+            tracker.onDraw(seat, CARDS[card]);
+        }
+    }
+
+    /**
+     * Shows the card of the target to the player in the given seat.
+     */
+    private void reveal(int seat, int target) {
+        if (tracker != null) {
+            tracker.onReveal(seat, target, CARDS[card(target, 0)]);
+        }
+    }
+
+    private @Nullable Card handCard(int seat) {
+        return hasCards(seat) ? CARDS[card(seat, 0)] : null;
+    }
+
+    private void swapHands(int seat, int other) {
+        if (seat == other) {
+            return;
+        }
+        if (tracker != null) {
+            tracker.onSwap(seat, handCard(seat), other, handCard(other));
+        }
+        for (int slot = 0; slot < Hand.CAPACITY; slot++) {
+            int card = card(seat, slot);
+            setCard(seat, slot, card(other, slot));
+            setCard(other, slot, card);
+        }
+        int size = handSizes[seat];
+        setHandSize(seat, handSizes[other]);
+        setHandSize(other, size);
+    }
+
+    private int removeCard(int seat, int slot) {
+        int card = card(seat, slot);
+        if (slot == 0 && handSizes[seat] == Hand.CAPACITY) {
+            setCard(seat, 0, card(seat, 1));
+        }
+        setHandSize(seat, handSizes[seat] - 1);
+        return card;
+    }
+
+    private void addCard(int seat, int card) {
+        setCard(seat, handSizes[seat], card);
+        setHandSize(seat, handSizes[seat] + 1);
+    }
+
+    private void discard(int seat, int card) {
+        int index = seat * CARDS.length + card;
+        save(DISCARD, index, discards[index]);
+        discards[index]++;
+        save(DISCARD_VALUE, seat, discardValues[seat]);
+        discardValues[seat] += CARDS[card].getValue();
+        if (tracker != null) {
+            tracker.onDiscard(seat, CARDS[card]);
+        }
+    }
+
+    private void addToken(int seat) {
+        save(TOKENS, seat, tokens[seat]);
+        tokens[seat]++;
+    }
+
+    private void setCard(int seat, int slot, int card) {
+        int index = seat * Hand.CAPACITY + slot;
+        save(HAND, index, hands[index]);
+        hands[index] = (byte) card;
+    }
+
+    private void setHandSize(int seat, int size) {
+        save(HAND_SIZE, seat, handSizes[seat]);
+        handSizes[seat] = (byte) size;
+        int alive = size > 0 ? aliveSeats | 1 << seat : aliveSeats & ~(1 << seat);
+        if (alive != aliveSeats) {
+            set(ALIVE_SEATS, alive);
+        }
+    }
+
+    private void set(int field, int value) {
+        save(SCALAR, field, scalar(field));
+        assign(field, value);
+    }
+
+    private int scalar(int field) {
+        switch (field) {
+            case ALIVE_SEATS:
+                return aliveSeats;
+            case PROTECTED_SEATS:
+                return protectedSeats;
+            case DECK_SIZE:
+                return deckSize;
+            case JESTER_SEAT:
+                return jesterSeat;
+            case GUESSED_SEAT:
+                return guessedSeat;
+            case SYCOPHANT_SEAT:
+                return sycophantSeat;
+            case SEAT_TO_ACT:
+                return seatToAct;
+            case PHASE:
+                return phase;
+            default:
+                return bishopSeat;
+        }
+    }
+
+    private void assign(int field, int value) {
+        switch (field) {
+            case ALIVE_SEATS:
+                aliveSeats = value;
+                break;
+            case PROTECTED_SEATS:
+                protectedSeats = value;
+                break;
+            case DECK_SIZE:
+                deckSize = value;
+                break;
+            case JESTER_SEAT:
+                jesterSeat = value;
+                break;
+            case GUESSED_SEAT:
+                guessedSeat = value;
+                break;
+            case SYCOPHANT_SEAT:
+                sycophantSeat = value;
+                break;
+            case SEAT_TO_ACT:
+                seatToAct = value;
+                break;
+            case PHASE:
+                phase = value;
+                break;
+            default:
+                bishopSeat = value;
+                break;
+        }
+    }
+
+    /**
+     * Pushes the old value of a changed element on the undo trail. Every value fits in a
+     * short: masks of 8 seats, counts, card ordinals and seats, which may be NO_SEAT.
+     */
+    private void save(int kind, int index, int value) {
+        if (trailSize == trail.length) {
+            trail = Arrays.copyOf(trail, trailSize * 2);
+        }
+        trail[trailSize++] = kind << KIND_SHIFT | index << INDEX_SHIFT | value & 0xFFFF;
+    }
+
+    private void restore(int entry) {
+        int index = entry >>> INDEX_SHIFT & INDEX_MASK;
+        short value = (short) entry;
+        switch (entry >>> KIND_SHIFT) {
+            case HAND:
+                hands[index] = (byte) value;
+                break;
+            case HAND_SIZE:
+                handSizes[index] = (byte) value;
+                break;
+            case TOKENS:
+                tokens[index] = value;
+                break;
+            case DISCARD:
+                discards[index] = (byte) value;
+                break;
+            case DISCARD_VALUE:
+                discardValues[index] = value;
+                break;
+            default:
+                assign(index, value);
+                break;
+        }
+    }
+
+    /**
+     * Compares the positions of two states: the cards in hand, the deck and every field a
+     * move can change, but not the moves made to reach them.
+     */
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof SearchState)) {
+            return false;
+        }
+        SearchState other = (SearchState) obj;
+        if (playerCount != other.playerCount || aliveSeats != other.aliveSeats
+            || protectedSeats != other.protectedSeats || deckSize != other.deckSize || setAside != other.setAside
+            || jesterSeat != other.jesterSeat || guessedSeat != other.guessedSeat
+            || sycophantSeat != other.sycophantSeat || seatToAct != other.seatToAct || phase != other.phase
+            || bishopSeat != other.bishopSeat || !Arrays.equals(handSizes, other.handSizes)
+            || !Arrays.equals(tokens, other.tokens) || !Arrays.equals(discards, other.discards)
+            || !Arrays.equals(discardValues, other.discardValues)
+            || !Arrays.equals(deck, 0, deckSize, other.deck, 0, deckSize)) {
+            return false;
+        }
+        for (int seat = 0; seat < playerCount; seat++) {
+            for (int slot = 0; slot < handSizes[seat]; slot++) {
+                if (card(seat, slot) != other.card(seat, slot)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Arrays.hashCode(tokens) * 31 + Arrays.hashCode(discards);
+        for (int seat = 0; seat < playerCount; seat++) {
+            for (int slot = 0; slot < handSizes[seat]; slot++) {
+                hash = hash * 31 + card(seat, slot);
+            }
+        }
+        return ((hash * 31 + deckSize) * 31 + seatToAct) * 31 + phase;
+    }
+
+    /**
+     * Describes the position for logs and test failures, one line per seat.
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("seat ").append(seatToAct).append(" to act");
+        if (phase != PLAY) {
+            text.append(", phase ").append(phase).append(", Bishop ").append(bishopSeat);
+        }
+        text.append(", deck ").append(deckSize).append(", Jester ").append(jesterSeat).append(" on ")
+            .append(guessedSeat).append(", Sycophant ").append(sycophantSeat);
+        for (int seat = 0; seat < playerCount; seat++) {
+            text.append("\n").append(seat).append(':');
+            for (int slot = 0; slot < handSizes[seat]; slot++) {
+                text.append(' ').append(CARDS[card(seat, slot)].getName());
+            }
+            if (isProtected(seat)) {
+                text.append(" protected");
+            }
+            text.append(", ").append(tokens[seat]).append(" tokens, discards worth ").append(discardValues[seat]);
+        }
+        return text.toString();
+    }
+
+    boolean hasCards(int seat) {
+        return handSizes[seat] > 0;
+    }
+
+    /**
+     * Returns the seats a card played by the given seat may target, as selectOpponents
+     * finds them: the seats holding cards and not protected other than the player's own,
+     * which is included exactly when includeSelf is set.
+     *
+     * @param seat        the seat of the player of the card
+     * @param includeSelf whether the player may target themselves
+     * @return the bit mask of targetable seats
+     */
+    int targetableSeats(int seat, boolean includeSelf) {
+        int targets = aliveSeats & ~protectedSeats & ~(1 << seat);
+        return includeSelf ? targets | 1 << seat : targets;
+    }
+
+    int card(int seat, int slot) {
+        return hands[seat * Hand.CAPACITY + slot];
+    }
+}
@@ -0,0 +1,296 @@
+package edu.cmu.f24qa.loveletter.server;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Serves many games at once to players connecting over TCP, e.g. with telnet.
+ *
+ * A single selector thread accepts the connections and does all the socket I/O.
+ * The first line a player sends is their name; as soon as enough players are
+ * waiting, they are seated at a new table. Every table plays its game on a thread
+ * of its own with a small stack, blocking on the inbox of the player it waits for,
+ * so a waiting table costs its thread stack and a few small buffers and no socket
+ * work. The number of tables is capped; players arriving when every table is
+ * taken are turned away, and players who do not answer in time are disconnected,
+ * so a stalled player cannot hold a table forever.
+ */
+public class GameServer implements Closeable {
+    /**
+     * Stack size of a table thread. A game nests only a few calls deep, even
+     * while breaking ties.
+     */
+    private static final long TABLE_STACK_SIZE = 256 * 1024;
+
+    /**
+     * Time a player has to answer a prompt unless configured otherwise.
+     */
+    private static final Duration DEFAULT_ANSWER_TIMEOUT = Duration.ofMinutes(5);
+
+    private final int port;
+    private final int seatsPerTable;
+    private final Duration answerTimeout;
+    private final Semaphore tablePermits;
+    private final AtomicInteger activeTables = new AtomicInteger();
+    private final AtomicInteger tableNumber = new AtomicInteger();
+    private final List<Seat> lobby = new ArrayList<>();
+    private final Set<Seat> connected = ConcurrentHashMap.newKeySet();
+    private final Queue<Seat> writeRequests = new ConcurrentLinkedQueue<>();
+    private final ExecutorService tables;
+    private @Nullable Selector selector;
+    private @Nullable ServerSocketChannel serverChannel;
+    private @Nullable Thread selectorThread;
+    private volatile boolean running;
+
+    /**
+     * Creates a server; it accepts connections once it is started.
+     *
+     * @param port          the TCP port to listen on, or 0 for any free port
+     * @param seatsPerTable the number of players at each table (2-8)
+     * @param maxTables     the number of games that may be played at once
+     */
+    public GameServer(int port, int seatsPerTable, int maxTables) {
+        this(port, seatsPerTable, maxTables, DEFAULT_ANSWER_TIMEOUT);
+    }
+
+    /**
+     * Creates a server with the given time limit for answering a prompt; it accepts
+     * connections once it is started.
+     *
+     * @param port          the TCP port to listen on, or 0 for any free port
+     * @param seatsPerTable the number of players at each table (2-8)
+     * @param maxTables     the number of games that may be played at once
+     * @param answerTimeout the time a player has to answer a prompt
+     */
+    public GameServer(int port, int seatsPerTable, int maxTables, Duration answerTimeout) {
+        if (seatsPerTable < 2 || seatsPerTable > 8) {
+            throw new IllegalArgumentException("Invalid number of players. Only 2-8 players are allowed.");
+        }
+        if (maxTables < 1) {
+            throw new IllegalArgumentException("The server needs at least one table");
+        }
+        if (answerTimeout.isNegative() || answerTimeout.isZero()) {
+            throw new IllegalArgumentException("The answer timeout must be positive");
+        }
+        this.port = port;
+        this.seatsPerTable = seatsPerTable;
+        this.answerTimeout = answerTimeout;
+        this.tablePermits = new Semaphore(maxTables);
+        this.tables = Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(null, task, "table-" + tableNumber.incrementAndGet(), TABLE_STACK_SIZE);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Binds the port and starts accepting players.
+     *
+     * @throws IOException if the port cannot be bound
+     */
+    public synchronized void start() throws IOException {
+        if (selectorThread != null) {
+            throw new IllegalStateException("The server has already been started");
+        }
+        Selector openedSelector = Selector.open();
+        ServerSocketChannel channel = ServerSocketChannel.open();
+        try {
+            channel.bind(new InetSocketAddress(port));
+            channel.configureBlocking(false);
+            channel.register(openedSelector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            channel.close();
+            openedSelector.close();
+            throw e;
+        }
+        this.selector = openedSelector;
+        this.serverChannel = channel;
+        this.running = true;
+        Thread thread = new Thread(() -> serve(openedSelector, channel), "love-letter-server");
+        this.selectorThread = thread;
+        thread.start();
+    }
+
+    /**
+     * Returns the port the server listens on.
+     *
+     * @return the bound port, or the requested port if the server is not started
+     */
+    public int getPort() {
+        ServerSocketChannel channel = serverChannel;
+        return channel == null ? port : channel.socket().getLocalPort();
+    }
+
+    /**
+     * Returns the number of games currently being played.
+     *
+     * @return the number of active tables
+     */
+    public int getActiveTables() {
+        return activeTables.get();
+    }
+
+    /**
+     * Disconnects every player, stops all games and releases the port.
+     */
+    @Override
+    public void close() {
+        running = false;
+        Selector openedSelector = selector;
+        if (openedSelector != null) {
+            openedSelector.wakeup();
+        }
+        Thread thread = selectorThread;
+        if (thread != null && thread != Thread.currentThread()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        tables.shutdownNow();
+    }
+
+    private void serve(Selector openedSelector, ServerSocketChannel channel) {
+        try {
+            while (running) {
+                openedSelector.select();
+                for (Seat seat = writeRequests.poll(); seat != null; seat = writeRequests.poll()) {
+                    seat.enableWrite();
+                }
+                Iterator<SelectionKey> keys = openedSelector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (key.isValid() && key.isAcceptable()) {
+                        accept(openedSelector, channel);
+                    } else {
+                        handle(key);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            running = false;
+        } finally {
+            for (Seat seat : new ArrayList<>(connected)) {
+                seat.close();
+            }
+            try {
+                channel.close();
+                openedSelector.close();
+            } catch (IOException e) {
+                // shutting down either way
+            }
+        }
+    }
+
+    private void accept(Selector openedSelector, ServerSocketChannel channel) throws IOException {
+        SocketChannel client = channel.accept();
+        if (client == null) {
+            return;
+        }
+        client.configureBlocking(false);
+        client.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        Seat seat = new Seat(this, client);
+        seat.setKey(client.register(openedSelector, SelectionKey.OP_READ, seat));
+        connected.add(seat);
+        seat.send("Welcome to Love Letter! Please enter your name: ");
+    }
+
+    private static void handle(SelectionKey key) {
+        Seat seat = (Seat) key.attachment();
+        if (key.isValid() && key.isReadable()) {
+            seat.onReadable();
+        }
+        if (key.isValid() && key.isWritable()) {
+            seat.onWritable();
+        }
+    }
+
+    /**
+     * Asks the selector thread to write the queued output of a seat.
+     */
+    void requestWrite(Seat seat) {
+        writeRequests.add(seat);
+        Selector openedSelector = selector;
+        if (openedSelector != null) {
+            openedSelector.wakeup();
+        }
+    }
+
+    /**
+     * Puts a named player in the lobby and opens a table once it is full.
+     */
+    void join(Seat seat, String name) {
+        if (name.isEmpty()) {
+            seat.send("Please enter your name: ");
+            return;
+        }
+        seat.setName(name);
+        List<Seat> seated = null;
+        synchronized (lobby) {
+            lobby.add(seat);
+            if (lobby.size() == seatsPerTable) {
+                seated = new ArrayList<>(lobby);
+                lobby.clear();
+            }
+        }
+        if (seated == null) {
+            seat.send("Waiting for more players...\n");
+        } else {
+            openTable(seated);
+        }
+    }
+
+    private void openTable(List<Seat> seated) {
+        if (tablePermits.tryAcquire()) {
+            activeTables.incrementAndGet();
+            try {
+                tables.execute(new Table(seated, answerTimeout, this::closeTable));
+                return;
+            } catch (RejectedExecutionException e) {
+                closeTable();
+            }
+        }
+        for (Seat seat : seated) {
+            seat.send("All tables are taken. Please try again later.\n");
+            seat.finish();
+        }
+    }
+
+    private void closeTable() {
+        activeTables.decrementAndGet();
+        tablePermits.release();
+    }
+
+    /**
+     * Forgets a disconnected player.
+     */
+    void leave(Seat seat) {
+        connected.remove(seat);
+        synchronized (lobby) {
+            lobby.remove(seat);
+        }
+    }
+}
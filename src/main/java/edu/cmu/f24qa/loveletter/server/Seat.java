@@ -0,0 +1,237 @@
+package edu.cmu.f24qa.loveletter.server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The connection of one player.
+ *
+ * The selector thread of the server reads the socket and splits it into lines; the
+ * table thread takes the lines from a small bounded inbox. Output is queued by the
+ * table thread and written by the selector thread when the socket is writable. All
+ * buffers are bounded, so a slow or misbehaving client costs a fixed amount of
+ * memory and is disconnected instead of growing them.
+ */
+class Seat {
+    /**
+     * Longest line a client may send.
+     */
+    static final int MAX_LINE_LENGTH = 256;
+
+    /**
+     * Number of lines a client may send ahead of the game asking for them.
+     */
+    static final int INBOX_CAPACITY = 16;
+
+    /**
+     * Number of output bytes that may wait for a client to read them.
+     */
+    static final int MAX_PENDING_OUTPUT = 64 * 1024;
+
+    private final GameServer server;
+    private final SocketChannel channel;
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(512);
+    private final byte[] line = new byte[MAX_LINE_LENGTH];
+    private int lineLength;
+    private final BlockingQueue<String> inbox = new ArrayBlockingQueue<>(INBOX_CAPACITY);
+    private final ArrayDeque<ByteBuffer> outbox = new ArrayDeque<>();
+    private int pendingOutput;
+    private @Nullable SelectionKey key;
+    private volatile @Nullable String name;
+    private volatile boolean closed;
+    private boolean finishing;
+
+    Seat(GameServer server, SocketChannel channel) {
+        this.server = server;
+        this.channel = channel;
+    }
+
+    void setKey(SelectionKey selectionKey) {
+        this.key = selectionKey;
+    }
+
+    @Nullable String getName() {
+        return name;
+    }
+
+    void setName(String playerName) {
+        this.name = playerName;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Reads what the client sent and hands every complete line on. Called by the
+     * selector thread when the socket is readable.
+     */
+    void onReadable() {
+        int read;
+        try {
+            read = channel.read(readBuffer);
+        } catch (IOException e) {
+            read = -1;
+        }
+        if (read < 0) {
+            close();
+            return;
+        }
+        readBuffer.flip();
+        while (readBuffer.hasRemaining() && !closed) {
+            byte b = readBuffer.get();
+            if (b == '\n') {
+                onLine(new String(line, 0, lineLength, StandardCharsets.UTF_8).strip());
+                lineLength = 0;
+            } else if (lineLength == MAX_LINE_LENGTH) {
+                close();
+            } else {
+                line[lineLength++] = b;
+            }
+        }
+        readBuffer.clear();
+    }
+
+    private void onLine(String text) {
+        if (name == null) {
+            server.join(this, text);
+        } else if (!inbox.offer(text)) {
+            close();
+        }
+    }
+
+    /**
+     * Waits for the next line sent by the client. A client that does not answer in
+     * time is disconnected.
+     *
+     * @param timeoutNanos the time to wait for the line
+     * @return the line, without its line terminator
+     * @throws SeatClosedException if the client disconnects, does not answer in time
+     *                             or the server shuts down
+     */
+    String nextLine(long timeoutNanos) {
+        String text;
+        try {
+            text = inbox.poll(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new SeatClosedException(name + " has left the table.");
+        }
+        if (text == null) {
+            send("You did not answer in time.\n");
+            finish();
+            throw new SeatClosedException(name + " did not answer in time and has left the table.");
+        }
+        if (closed) {
+            throw new SeatClosedException(name + " has left the table.");
+        }
+        return text;
+    }
+
+    /**
+     * Queues text for the client. A client that does not read its output fast
+     * enough is disconnected.
+     *
+     * @param text the text to send
+     */
+    void send(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        synchronized (outbox) {
+            if (closed || finishing) {
+                return;
+            }
+            if (pendingOutput + bytes.length > MAX_PENDING_OUTPUT) {
+                close();
+                return;
+            }
+            outbox.add(ByteBuffer.wrap(bytes));
+            pendingOutput += bytes.length;
+        }
+        server.requestWrite(this);
+    }
+
+    /**
+     * Closes the connection once the queued output has been written.
+     */
+    void finish() {
+        synchronized (outbox) {
+            finishing = true;
+            if (outbox.isEmpty()) {
+                close();
+                return;
+            }
+        }
+        server.requestWrite(this);
+    }
+
+    /**
+     * Writes as much of the queued output as the socket accepts. Called by the
+     * selector thread when the socket is writable.
+     */
+    void onWritable() {
+        synchronized (outbox) {
+            try {
+                while (!outbox.isEmpty()) {
+                    ByteBuffer buffer = outbox.peek();
+                    pendingOutput -= channel.write(buffer);
+                    if (buffer.hasRemaining()) {
+                        return;
+                    }
+                    outbox.poll();
+                }
+            } catch (IOException e) {
+                close();
+                return;
+            }
+            SelectionKey selectionKey = key;
+            if (finishing) {
+                close();
+            } else if (selectionKey != null && selectionKey.isValid()) {
+                selectionKey.interestOps(SelectionKey.OP_READ);
+            }
+        }
+    }
+
+    /**
+     * Starts waiting for the socket to become writable. Called by the selector thread
+     * after output has been queued.
+     */
+    void enableWrite() {
+        SelectionKey selectionKey = key;
+        if (selectionKey != null && selectionKey.isValid()) {
+            selectionKey.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+        }
+    }
+
+    /**
+     * Disconnects the client and wakes up a table waiting for its answer.
+     */
+    void close() {
+        synchronized (outbox) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            outbox.clear();
+            pendingOutput = 0;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // the connection is gone either way
+        }
+        inbox.clear();
+        inbox.offer("");
+        server.leave(this);
+    }
+}
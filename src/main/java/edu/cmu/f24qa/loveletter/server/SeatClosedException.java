@@ -0,0 +1,18 @@
+package edu.cmu.f24qa.loveletter.server;
+
+/**
+ * Thrown to a table waiting for the answer of a player whose connection is gone,
+ * or who did not answer in time.
+ */
+public class SeatClosedException extends IllegalStateException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates the exception with the message told to the rest of the table.
+     *
+     * @param message the message, naming the player who left
+     */
+    public SeatClosedException(String message) {
+        super(message);
+    }
+}
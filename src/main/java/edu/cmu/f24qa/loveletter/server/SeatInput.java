@@ -0,0 +1,37 @@
+package edu.cmu.f24qa.loveletter.server;
+
+import edu.cmu.f24qa.loveletter.GameContext;
+import edu.cmu.f24qa.loveletter.Player;
+import edu.cmu.f24qa.loveletter.input.ConsoleInput;
+
+/**
+ * Console input for remote players. A mistyped number asks the player again
+ * instead of ending the game for the whole table.
+ */
+class SeatInput extends ConsoleInput {
+    @Override
+    public int chooseCardIndex(GameContext context, Player player) {
+        while (true) {
+            try {
+                int index = super.chooseCardIndex(context, player);
+                if (index == 0 || index == 1) {
+                    return index;
+                }
+            } catch (NumberFormatException e) {
+                // asked again below
+            }
+            context.getEventListener().onMessage("Please enter 0 or 1.");
+        }
+    }
+
+    @Override
+    public int guessNumber(GameContext context, Player player) {
+        while (true) {
+            try {
+                return super.guessNumber(context, player);
+            } catch (NumberFormatException e) {
+                context.getEventListener().onMessage("Please enter a number.");
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package edu.cmu.f24qa.loveletter.server;
+
+import java.time.Duration;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import edu.cmu.f24qa.loveletter.Deck;
+import edu.cmu.f24qa.loveletter.Game;
+import edu.cmu.f24qa.loveletter.Player;
+import edu.cmu.f24qa.loveletter.PlayerList;
+import edu.cmu.f24qa.loveletter.events.GameEventListener;
+import edu.cmu.f24qa.loveletter.input.LineReader;
+
+/**
+ * One game played by remote players.
+ *
+ * Like the console game, every player sees the public narration, while the lines
+ * only one player may see, such as their hand or a card shown to them, are sent to
+ * that player alone. A prompt is only sent to the player whose answer is read next,
+ * so the others are never asked to answer it.
+ */
+class Table implements Runnable, LineReader, GameEventListener {
+    private final List<Seat> seats;
+    private final long answerTimeoutNanos;
+    private final Runnable onClose;
+    private final Map<Player, Seat> seatOf = new IdentityHashMap<>();
+    private @Nullable String pendingPrompt;
+
+    /**
+     * Creates a table for the given seats.
+     *
+     * @param seats         the connections of the players, in seating order
+     * @param answerTimeout the time a player has to answer a prompt
+     * @param onClose       called on the table thread once the game is over
+     */
+    Table(List<Seat> seats, Duration answerTimeout, Runnable onClose) {
+        this.seats = List.copyOf(seats);
+        this.answerTimeoutNanos = answerTimeout.toNanos();
+        this.onClose = onClose;
+    }
+
+    @Override
+    public void run() {
+        try {
+            PlayerList players = new PlayerList();
+            StringJoiner names = new StringJoiner(", ");
+            for (Seat seat : seats) {
+                String name = String.valueOf(seat.getName());
+                while (!players.addPlayer(name)) {
+                    name = name + "'";
+                }
+                seatOf.put(players.getSeat(players.size() - 1), seat);
+                names.add(name);
+            }
+            onMessage("The game starts with " + names + ".");
+            new Game(players, new Deck(), new SeatInput(), this, this).start();
+        } catch (SeatClosedException e) {
+            onMessage(String.valueOf(e.getMessage()));
+        } catch (RuntimeException e) {
+            onMessage("The game was stopped: " + e.getMessage());
+        } finally {
+            for (Seat seat : seats) {
+                seat.finish();
+            }
+            onClose.run();
+        }
+    }
+
+    @Override
+    public String readLine(Player player) {
+        Seat seat = seatOf.get(player);
+        if (seat == null) {
+            throw new IllegalArgumentException(player.getName() + " is not seated at this table");
+        }
+        seat.send(pendingPrompt == null ? "> " : pendingPrompt);
+        pendingPrompt = null;
+        return seat.nextLine(answerTimeoutNanos);
+    }
+
+    @Override
+    public void onMessage(String message) {
+        flushPrompt();
+        String line = message + "\n";
+        for (Seat seat : seats) {
+            seat.send(line);
+        }
+    }
+
+    @Override
+    public void onPrivateMessage(Player player, String message) {
+        flushPrompt();
+        Seat seat = seatOf.get(player);
+        if (seat != null) {
+            seat.send(message + "\n");
+        }
+    }
+
+    @Override
+    public void onPrompt(String prompt) {
+        flushPrompt();
+        pendingPrompt = prompt;
+    }
+
+    /**
+     * Narrates a prompt that was not followed by a read, such as the prompt of a
+     * console decision the game made without asking.
+     */
+    private void flushPrompt() {
+        String prompt = pendingPrompt;
+        if (prompt != null) {
+            pendingPrompt = null;
+            onMessage(prompt);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package edu.cmu.f24qa.loveletter.simulation;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import edu.cmu.f24qa.loveletter.Deck;
+import edu.cmu.f24qa.loveletter.Game;
+import edu.cmu.f24qa.loveletter.Player;
+import edu.cmu.f24qa.loveletter.PlayerList;
+import edu.cmu.f24qa.loveletter.events.NoOpEventListener;
+import edu.cmu.f24qa.loveletter.input.RandomPlayerInput;
+
+/**
+ * Plays many independent headless games in parallel and aggregates the results.
+ *
+ * Every game gets its own players, deck, context and random sources, so the games
+ * share no mutable state and the work scales with the number of cores. The random
+ * sources of a game are derived from the tournament seed and the game's index,
+ * which makes the result reproducible regardless of how the games are scheduled.
+ */
+public class Tournament {
+    /**
+     * Number of games a fork-join task plays itself instead of splitting further.
+     */
+    private static final int MIN_GAMES_PER_TASK = 16;
+
+    private final int playerCount;
+    private final long seed;
+    private final int parallelism;
+
+    /**
+     * Creates a tournament that uses every available core.
+     *
+     * @param playerCount the number of players at each table (2-8)
+     * @param seed        the seed all random sources are derived from
+     */
+    public Tournament(int playerCount, long seed) {
+        this(playerCount, seed, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a tournament running on the given number of worker threads.
+     *
+     * @param playerCount the number of players at each table (2-8)
+     * @param seed        the seed all random sources are derived from
+     * @param parallelism the number of worker threads
+     */
+    public Tournament(int playerCount, long seed, int parallelism) {
+        if (playerCount < 2 || playerCount > 8) {
+            throw new IllegalArgumentException("Invalid number of players. Only 2-8 players are allowed.");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.playerCount = playerCount;
+        this.seed = seed;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Plays the given number of games and returns the aggregated result.
+     *
+     * @param games the number of games to play
+     * @return the aggregated result of all games
+     */
+    public TournamentResult play(int games) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Number of games must not be negative");
+        }
+        TournamentResult.Builder result = new TournamentResult.Builder(playerCount);
+        int chunk = Math.max(MIN_GAMES_PER_TASK, games / (parallelism * 8));
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new PlayGames(0, games, chunk, result));
+        } finally {
+            pool.shutdown();
+        }
+        return result.build(System.nanoTime() - start);
+    }
+
+    /**
+     * Plays a single game and records its outcome.
+     *
+     * @param gameIndex the index of the game within the tournament
+     * @param result    the aggregator to record the outcome in
+     */
+    void playGame(long gameIndex, TournamentResult.Builder result) {
+        long gameSeed = mix(seed + gameIndex * 0x9E3779B97F4A7C15L);
+        PlayerList players = new PlayerList();
+        for (int i = 0; i < playerCount; i++) {
+            players.addPlayer("Player " + (i + 1));
+        }
+        List<Player> seats = players.getPlayers();
+        Game game = new Game(players, new Deck(gameSeed),
+            new RandomPlayerInput(new Random(mix(gameSeed))), new NoOpEventListener());
+        game.start();
+        Player winner = game.getGameWinner();
+        if (winner == null) {
+            throw new IllegalStateException("Game " + gameIndex + " ended without a winner");
+        }
+        result.recordGame(seats.indexOf(winner), game.getRound());
+    }
+
+    /**
+     * Scrambles a 64-bit value (SplitMix64 finalizer) so consecutive game indices
+     * give unrelated seeds.
+     */
+    static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Fork-join task playing the games in [from, to).
+     */
+    private final class PlayGames extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int chunk;
+        private final transient TournamentResult.Builder result;
+
+        PlayGames(int from, int to, int chunk, TournamentResult.Builder result) {
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+            this.result = result;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunk) {
+                for (int i = from; i < to; i++) {
+                    playGame(i, result);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new PlayGames(from, middle, chunk, result), new PlayGames(middle, to, chunk, result));
+        }
+    }
+}
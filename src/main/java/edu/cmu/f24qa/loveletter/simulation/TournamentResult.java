@@ -0,0 +1,110 @@
+package edu.cmu.f24qa.loveletter.simulation;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregated outcome of a tournament: how often each seat won the game,
+ * how many games and rounds were played, and how long it took.
+ */
+public class TournamentResult {
+    private final long[] winsBySeat;
+    private final long games;
+    private final long rounds;
+    private final long elapsedNanos;
+
+    TournamentResult(long[] winsBySeat, long games, long rounds, long elapsedNanos) {
+        this.winsBySeat = winsBySeat.clone();
+        this.games = games;
+        this.rounds = rounds;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the number of games won by the player in the given seat.
+     *
+     * @param seat the seat index, 0 being the first player
+     * @return the number of games won from that seat
+     */
+    public long getWins(int seat) {
+        return winsBySeat[seat];
+    }
+
+    /**
+     * Returns the fraction of games won by the player in the given seat.
+     *
+     * @param seat the seat index, 0 being the first player
+     * @return the win rate of the seat, 0 if no game was played
+     */
+    public double getWinRate(int seat) {
+        return games == 0 ? 0 : (double) winsBySeat[seat] / games;
+    }
+
+    public int getPlayerCount() {
+        return winsBySeat.length;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getRounds() {
+        return rounds;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the throughput of the tournament.
+     *
+     * @return the number of games played per second of wall-clock time
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        text.append(games).append(" games, ").append(rounds).append(" rounds, ")
+            .append(String.format("%.0f", getGamesPerSecond())).append(" games/s");
+        for (int seat = 0; seat < winsBySeat.length; seat++) {
+            text.append(String.format("%n  seat %d: %.2f%%", seat + 1, getWinRate(seat) * 100));
+        }
+        return text.toString();
+    }
+
+    /**
+     * Lock-free accumulator the worker threads record their games in.
+     * LongAdder keeps per-thread cells, so concurrent updates do not contend.
+     */
+    static class Builder {
+        private final LongAdder[] winsBySeat;
+        private final LongAdder games;
+        private final LongAdder rounds;
+
+        Builder(int playerCount) {
+            this.winsBySeat = new LongAdder[playerCount];
+            for (int seat = 0; seat < playerCount; seat++) {
+                winsBySeat[seat] = new LongAdder();
+            }
+            this.games = new LongAdder();
+            this.rounds = new LongAdder();
+        }
+
+        void recordGame(int winnerSeat, int roundsPlayed) {
+            winsBySeat[winnerSeat].increment();
+            games.increment();
+            rounds.add(roundsPlayed);
+        }
+
+        TournamentResult build(long elapsedNanos) {
+            long[] wins = new long[winsBySeat.length];
+            for (int seat = 0; seat < wins.length; seat++) {
+                wins[seat] = winsBySeat[seat].sum();
+            }
+            return new TournamentResult(wins, games.sum(), rounds.sum(), elapsedNanos);
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package edu.cmu.f24qa.loveletter;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EmptyStackException;
+import java.util.List;
 import java.util.Stack;
 
 import org.junit.jupiter.api.Test;
@@ -14,13 +20,11 @@ public class DeckTest {
      * Verify that hasMoreCards() returns true when the deck contains cards.
      */
     @Test
-    void testHasMoreCardsTrue() throws NoSuchFieldException, SecurityException, IllegalArgumentException, IllegalAccessException {
+    void testHasMoreCardsTrue() {
         Stack<Card> testDeck = new Stack<>();
         testDeck.push(Card.GUARD); // Add a single card
         Deck deck = new Deck();
-        Field deckField = Deck.class.getDeclaredField("deck");
-        deckField.setAccessible(true);
-        deckField.set(deck, testDeck); // Replace the private deck field with the predefined stack
+        deck.setDeck(testDeck);
 
         boolean hasMoreCards = deck.hasMoreCards();
 
@@ -38,4 +42,105 @@ public class DeckTest {
 
         assertFalse(hasMoreCards, "hasMoreCards() should return false when the deck is empty.");
     }
+
+    /*
+     * Verify that draw() takes cards from the top of the deck, i.e. the last card pushed.
+     */
+    @Test
+    void testDrawTakesTopCard() {
+        Stack<Card> testDeck = new Stack<>();
+        testDeck.push(Card.GUARD);
+        testDeck.push(Card.PRINCESS);
+        Deck deck = new Deck();
+        deck.setDeck(testDeck);
+
+        assertEquals(Card.PRINCESS, deck.draw());
+        assertEquals(Card.GUARD, deck.draw());
+        assertThrows(EmptyStackException.class, deck::draw);
+    }
+
+    /*
+     * Verify that rebuilding a deck starts over instead of adding to the remaining cards.
+     */
+    @Test
+    void testBuildReplacesRemainingCards() {
+        Deck deck = new Deck();
+        deck.build32Cards();
+        deck.draw();
+
+        deck.build16Cards();
+
+        assertEquals(16, deck.size());
+        deck.build32Cards();
+        assertEquals(32, deck.getDeck().size());
+    }
+
+    /*
+     * Verify that shuffling keeps the cards of the deck and only changes their order.
+     */
+    @Test
+    void testShuffleIsPermutation() {
+        Deck deck = new Deck(3L);
+        deck.build32Cards();
+        List<Card> before = new ArrayList<>(deck.getDeck());
+
+        deck.shuffle();
+
+        List<Card> after = new ArrayList<>(deck.getDeck());
+        assertNotEquals(before, after);
+        Collections.sort(before);
+        Collections.sort(after);
+        assertEquals(before, after);
+    }
+
+    /*
+     * Verify that two decks with the same seed deal the same cards.
+     */
+    @Test
+    void testSameSeedDealsSameCards() {
+        Deck first = new Deck(42L);
+        Deck second = new Deck(42L);
+        for (int round = 0; round < 3; round++) {
+            first.build16Cards();
+            second.build16Cards();
+            first.shuffle();
+            second.shuffle();
+
+            assertEquals(first.getDeck(), second.getDeck());
+        }
+    }
+
+    /*
+     * Verify that the copy constructor copies the cards and is independent of the original.
+     */
+    @Test
+    void testCopyConstructor() {
+        Deck deck = new Deck();
+        deck.build16Cards();
+
+        Deck copy = new Deck(deck);
+        copy.draw();
+
+        assertEquals(16, deck.size());
+        assertEquals(15, copy.size());
+        assertEquals(0, new Deck((Deck) null).size());
+    }
+
+    /*
+     * Verify that the card view follows the deck without copying it and cannot change it.
+     */
+    @Test
+    void testCardsView() {
+        Deck deck = new Deck(3L);
+        deck.build16Cards();
+        deck.shuffle();
+        List<Card> view = deck.cards();
+
+        assertEquals(deck.getDeck(), view);
+        Card top = deck.draw();
+        assertEquals(15, view.size());
+        assertEquals(deck.getDeck(), view);
+        assertThrows(UnsupportedOperationException.class, () -> view.add(top));
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(15));
+    }
 }
@@ -0,0 +1,101 @@
+package edu.cmu.f24qa.loveletter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class DiscardPileTest {
+    /*
+     * Verifies that the value and the card counts follow the cards added to the pile.
+     */
+    @Test
+    void testAggregatesFollowAdds() {
+        DiscardPile pile = new DiscardPile();
+        pile.add(Card.GUARD);
+        pile.add(Card.COUNT);
+        pile.add(Card.GUARD);
+
+        assertEquals(7, pile.value());
+        assertEquals(2, pile.count(Card.GUARD));
+        assertEquals(1, pile.count(Card.COUNT));
+        assertEquals(0, pile.count(Card.CONSTABLE));
+        assertTrue(pile.contains(Card.COUNT));
+        assertFalse(pile.contains(Card.CONSTABLE));
+        assertEquals(3, pile.size());
+        assertEquals(List.of(Card.GUARD, Card.COUNT, Card.GUARD), pile.getCards());
+    }
+
+    /*
+     * Verifies that clearing the pile resets its aggregates.
+     */
+    @Test
+    void testClearResetsAggregates() {
+        DiscardPile pile = new DiscardPile();
+        pile.add(Card.BISHOP);
+        pile.clear();
+
+        assertEquals(0, pile.value());
+        assertEquals(0, pile.count(Card.BISHOP));
+        assertFalse(pile.contains(Card.BISHOP));
+        assertEquals(0, pile.size());
+    }
+
+    /*
+     * Verifies that a copy keeps the aggregates but does not share them with the original.
+     */
+    @Test
+    void testCopyIsIndependent() {
+        DiscardPile pile = new DiscardPile();
+        pile.add(Card.PRIEST);
+        DiscardPile copy = pile.copy();
+        pile.add(Card.PRIEST);
+
+        assertEquals(2, copy.value());
+        assertEquals(1, copy.count(Card.PRIEST));
+        assertEquals(4, pile.value());
+        assertEquals(2, pile.count(Card.PRIEST));
+    }
+
+    /*
+     * Verifies that the player's discard queries match its pile.
+     */
+    @Test
+    void testPlayerDiscardQueries() {
+        Player player = new Player("Alice", new Hand(), new DiscardPile(), false, 0);
+        player.addCard(Card.KING);
+        player.addCardToDiscarded(Card.COUNT);
+        player.addCardToDiscarded(Card.COUNT);
+
+        assertEquals(10, player.getDiscardedValue());
+        assertEquals(2, player.countDiscarded(Card.COUNT));
+        assertEquals(8, player.getHandValueWithCountBonus());
+    }
+
+    /*
+     * Verifies that the card views of a pile and a hand follow their changes and cannot change them.
+     */
+    @Test
+    void testCardViews() {
+        Player player = new Player("Alice", new Hand(), new DiscardPile(), false, 0);
+        List<Card> discarded = player.getDiscardedCards();
+        List<Card> hand = player.getHand().cards();
+        player.addCard(Card.KING);
+        player.addCardToDiscarded(Card.GUARD);
+
+        assertEquals(List.of(Card.GUARD), discarded);
+        assertEquals(List.of(Card.KING), hand);
+        assertEquals(1, player.getHand().size());
+        assertThrows(UnsupportedOperationException.class, () -> discarded.add(Card.PRIEST));
+        assertThrows(UnsupportedOperationException.class, () -> hand.clear());
+
+        player.eliminate();
+        assertTrue(player.isEliminated());
+        assertTrue(hand.isEmpty());
+        assertTrue(discarded.isEmpty());
+    }
+}
@@ -7,9 +7,13 @@ import org.junit.jupiter.api.AfterEach;
 import java.io.ByteArrayInputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Stack;
 
+import edu.cmu.f24qa.loveletter.events.NoOpEventListener;
+import edu.cmu.f24qa.loveletter.input.PlayerInput;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import java.io.StringReader;
@@ -212,6 +216,106 @@ class GameContextTest {
         assertTrue(outContent.toString().contains("Would you like to select another player? (yes/no):"));
     }
 
+    /**
+     * Tests that only "no" stops the selection: any other answer to the optional target
+     * question selects another player, as the console always did.
+     *
+     * Setup:
+     * - 3 players: Alice (current), Bob, and Charlie
+     * - User selects Bob first, answers "maybe", then selects Charlie
+     *
+     * Expected:
+     * - Returns list with both targets (Bob, Charlie)
+     */
+    @Test
+    void testSelectOpponentsUnrecognisedAnswerContinuesSelection() {
+        PlayerList players = new PlayerList();
+        Player currentPlayer = new Player("Alice", new Hand(), new DiscardPile(), false, 0);
+        Player target1 = new Player("Bob", new Hand(), new DiscardPile(), false, 0);
+        Player target2 = new Player("Charlie", new Hand(), new DiscardPile(), false, 0);
+        currentPlayer.addCard(Card.BARONESS);
+        target1.addCard(Card.GUARD);
+        target2.addCard(Card.PRIEST);
+        players.addPlayer(currentPlayer);
+        players.addPlayer(target1);
+        players.addPlayer(target2);
+
+        GameContext context = new GameContext(players, mock(Deck.class), new StringReader("Bob\nmaybe\nCharlie\n"));
+        context.setCurrentUser(currentPlayer);
+
+        List<Player> selected = context.selectOpponents(1, 2, false);
+
+        assertEquals(List.of(target1, target2), selected);
+    }
+
+    /**
+     * Tests that every target is chosen from the same candidate list, refilled with the
+     * players still available, and that the selection itself is a list of its own.
+     */
+    @Test
+    void testSelectOpponentsReusesCandidateList() {
+        Player currentPlayer = new Player("Alice", new Hand(), new DiscardPile(), false, 0);
+        Player target1 = new Player("Bob", new Hand(), new DiscardPile(), false, 0);
+        Player target2 = new Player("Charlie", new Hand(), new DiscardPile(), false, 0);
+        currentPlayer.addCard(Card.BARONESS);
+        target1.addCard(Card.GUARD);
+        target2.addCard(Card.PRIEST);
+        players.addPlayer(currentPlayer);
+        players.addPlayer(target1);
+        players.addPlayer(target2);
+        List<List<Player>> lists = new ArrayList<>();
+        List<List<Player>> seen = new ArrayList<>();
+        PlayerInput input = mock(PlayerInput.class);
+        when(input.chooseTarget(any(), eq(currentPlayer), anyList())).thenAnswer(invocation -> {
+            List<Player> candidates = invocation.getArgument(2);
+            lists.add(candidates);
+            seen.add(List.copyOf(candidates));
+            return candidates.get(0);
+        });
+        when(input.confirm(any(), eq(currentPlayer), anyString())).thenReturn(true);
+        context = new GameContext(players, mock(Deck.class), input, new NoOpEventListener());
+        context.setCurrentUser(currentPlayer);
+
+        List<Player> first = context.selectOpponents(1, 2, false);
+        List<Player> second = context.selectOpponents(1, 1, false);
+
+        assertEquals(List.of(List.of(target1, target2), List.of(target2), List.of(target1, target2)), seen);
+        assertSame(lists.get(0), lists.get(1));
+        assertSame(lists.get(0), lists.get(2));
+        assertEquals(List.of(target1, target2), first);
+        assertEquals(List.of(target1), second);
+    }
+
+    /**
+     * Tests that a "(y/n)" question, such as the Bishop's, is answered yes only by "y".
+     */
+    @Test
+    void testConfirmYesNoQuestionNeedsLowercaseY() {
+        Player player = new Player("Bob", new Hand(), new DiscardPile(), false, 0);
+        players.addPlayer(player);
+        setupContext(players, "Y\nyes\ny\n");
+        String question = "Bob, would you like to discard your hand and draw a new card? (y/n)";
+
+        assertFalse(context.confirm(player, question));
+        assertFalse(context.confirm(player, question));
+        assertTrue(context.confirm(player, question));
+    }
+
+    /**
+     * Tests that targets cannot be chosen while there is no current user to choose them.
+     */
+    @Test
+    void testSelectOpponentsWithoutCurrentUserThrows() {
+        PlayerList players = new PlayerList();
+        Player target = new Player("Bob", new Hand(), new DiscardPile(), false, 0);
+        target.addCard(Card.GUARD);
+        players.addPlayer(target);
+
+        GameContext context = new GameContext(players, mock(Deck.class), new StringReader("Bob\n"));
+
+        assertThrows(IllegalStateException.class, () -> context.selectOpponents(1, 1, false));
+    }
+
     /**
      * Tests that when a Sycophant effect forces self-targeting but the card doesn't allow it,
      * the selection fails and returns an empty list.
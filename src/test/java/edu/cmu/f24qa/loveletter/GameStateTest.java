@@ -0,0 +1,168 @@
+package edu.cmu.f24qa.loveletter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edu.cmu.f24qa.loveletter.events.NoOpEventListener;
+import edu.cmu.f24qa.loveletter.input.RandomPlayerInput;
+
+class GameStateTest {
+    private PlayerList players;
+    private GameContext context;
+
+    @BeforeEach
+    void setUp() {
+        players = new PlayerList();
+        for (String name : new String[] {"Alice", "Bob", "Cleo", "Dan", "Eve"}) {
+            players.addPlayer(name);
+        }
+        context = new GameContext(players, new Deck(5L), new RandomPlayerInput(new Random(5)),
+            new NoOpEventListener());
+        context.reset();
+        for (Player player : players.getPlayers()) {
+            player.addCard(context.drawCard());
+        }
+    }
+
+    /*
+     * Verifies that a snapshot reports the hands, discards, protection and tokens of every seat.
+     */
+    @Test
+    void testSnapshotEncodesPlayers() {
+        List<Player> seats = players.getPlayers();
+        Player alice = seats.get(0);
+        Player bob = seats.get(1);
+        alice.addCard(Card.PRINCESS);
+        alice.addCardToDiscarded(Card.GUARD);
+        alice.addCardToDiscarded(Card.GUARD);
+        alice.addCardToDiscarded(Card.COUNT);
+        alice.addToken();
+        alice.addToken();
+        bob.switchProtection();
+        bob.clearHand();
+
+        GameState state = context.snapshot();
+
+        assertEquals(5, state.getPlayerCount());
+        assertEquals("Alice", state.getName(0));
+        assertEquals(2, state.getHandSize(0));
+        assertEquals(alice.getHand().peek(0), state.getHandCard(0, 0));
+        assertEquals(Card.PRINCESS, state.getHandCard(0, 1));
+        assertEquals(2, state.getDiscardCount(0, Card.GUARD));
+        assertEquals(1, state.getDiscardCount(0, Card.COUNT));
+        assertEquals(0, state.getDiscardCount(0, Card.BISHOP));
+        assertEquals(7, state.getDiscardValue(0));
+        assertEquals(2, state.getTokens(0));
+        assertFalse(state.isProtected(0));
+        assertTrue(state.isProtected(1));
+        assertTrue(state.isEliminated(1));
+        assertNull(state.getHandCard(1, 0));
+        assertEquals(1, state.getHandSize(2));
+    }
+
+    /*
+     * Verifies that the deck order and the set-aside card are part of the snapshot.
+     */
+    @Test
+    void testSnapshotEncodesDeck() {
+        Deck deck = context.getDeck();
+
+        GameState state = context.snapshot();
+
+        assertEquals(deck.size(), state.getDeckSize());
+        assertEquals(deck.getDeck().peek(), state.getDeckCard(0));
+        assertEquals(deck.getDeck().firstElement(), state.getDeckCard(deck.size() - 1));
+        assertEquals(context.getRemovedTopCard(), state.getSetAsideCard());
+        assertEquals(-1, state.getJesterSeat());
+        assertEquals(-1, state.getGuessedSeat());
+        assertEquals(-1, state.getSycophantSeat());
+    }
+
+    /*
+     * Verifies that restoring a snapshot undoes every change made to the game since it was taken.
+     */
+    @Test
+    void testRestoreUndoesChanges() {
+        List<Player> seats = players.getPlayers();
+        context.setJesterPlayer(seats.get(3));
+        context.setGuessedPlayer(seats.get(0));
+        GameState before = context.snapshot();
+
+        Player current = players.getCurrentPlayer();
+        current.addCard(context.drawCard());
+        current.addCardToDiscarded(current.removeCardFromHand(0));
+        current.switchProtection();
+        seats.get(2).eliminate();
+        seats.get(4).addToken();
+        context.setJesterPlayer(seats.get(1));
+        context.setGuessedPlayer(seats.get(1));
+        context.setSycophantForcedPlayer(seats.get(4));
+        assertNotEquals(before, context.snapshot());
+
+        context.restore(before);
+
+        GameState after = context.snapshot();
+        assertEquals(before, after);
+        assertEquals(before.hashCode(), after.hashCode());
+        assertEquals(seats, players.getPlayers());
+        assertEquals(seats.get(3), context.getJesterPlayer());
+        assertEquals(seats.get(0), context.getGuessedPlayer());
+        assertEquals(0, after.getGuessedSeat());
+        assertEquals(-1, after.getSycophantSeat());
+    }
+
+    /*
+     * Verifies that a snapshot cannot be restored into a game with other players.
+     */
+    @Test
+    void testRestoreIntoOtherPlayersFails() {
+        GameState state = context.snapshot();
+        PlayerList others = new PlayerList();
+        others.addPlayer("Zed");
+        others.addPlayer("Yan");
+        GameContext otherContext = new GameContext(others, new Deck(), new RandomPlayerInput(new Random(1)),
+            new NoOpEventListener());
+
+        assertThrows(IllegalArgumentException.class, () -> otherContext.restore(state));
+    }
+
+    /*
+     * Verifies that states the encoding cannot represent are rejected instead of being truncated.
+     */
+    @Test
+    void testUnrepresentableStateIsRejected() {
+        Player alice = players.getPlayers().get(0);
+        alice.addCard(Card.GUARD);
+
+        assertThrows(IllegalStateException.class, () -> alice.addCard(Card.GUARD));
+
+        alice.clearHand();
+        for (int i = 0; i < 3; i++) {
+            alice.addCardToDiscarded(Card.PRINCESS);
+        }
+        assertThrows(IllegalStateException.class, context::snapshot);
+    }
+
+    /*
+     * Verifies equality of snapshots.
+     */
+    @Test
+    void testEquals() {
+        GameState state = context.snapshot();
+
+        assertEquals(state, state);
+        assertEquals(state, context.snapshot());
+        assertNotEquals(state, null);
+        assertNotEquals(state, "state");
+    }
+}
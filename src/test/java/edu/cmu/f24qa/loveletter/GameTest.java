@@ -49,8 +49,8 @@ public class GameTest {
         PlayerList spyPlayers = spy(players);
         doReturn(player1).when(spyPlayers).getCurrentPlayer();
 
-        doReturn(false, false, true).when(spyPlayers).checkForRoundWinner(); // Simulate only one player has cards after 2 turns
-        doReturn(new ArrayList<>()).when(spyPlayers).getGameWinner(); // No game winner initially
+        doReturn(false, false, true).when(spyPlayers).isRoundOver(); // Simulate only one player has cards after 2 turns
+        doReturn(false).when(spyPlayers).hasGameWinner(); // No game winner initially
 
         Game game = new Game(null, null, new ByteArrayInputStream(new byte[0]));
         Field deckField = Game.class.getDeclaredField("deck");
@@ -70,7 +70,7 @@ public class GameTest {
         int initialRound = spyGame.getRound();
         spyGame.startRound();;
 
-        verify(spyPlayers, times(3)).checkForRoundWinner(); // Verify checkForRoundWinner was called
+        verify(spyPlayers, times(3)).isRoundOver(); // Verify isRoundOver was called
         verify(spyGame, times(1)).determineRoundWinner(); // Verify round ends when one player has cards
         verify(spyGame, times(2)).executeTurn(any(Player.class));
         assertTrue(spyGame.getRound() == initialRound + 1, "The round number should increase after the round ends.");  
@@ -89,8 +89,8 @@ public class GameTest {
         PlayerList players = new PlayerList();
         players.addPlayer(mockPlayer); 
         PlayerList spyPlayers = spy(players);
-        doReturn(false).when(spyPlayers).checkForRoundWinner();  // Simulate no winner during the round
-        doReturn(new ArrayList<>()).when(spyPlayers).getGameWinner();  // Return null for game winner initially
+        doReturn(false).when(spyPlayers).isRoundOver();  // Simulate no winner during the round
+        doReturn(false).when(spyPlayers).hasGameWinner();  // No game winner initially
         doReturn(mockPlayer).when(spyPlayers).getCurrentPlayer();  // Always return the mocked player as the current player
 
         // Create a Game instance
@@ -118,6 +118,41 @@ public class GameTest {
         assertTrue(spyGame.getRound() == initialRound + 1, "The round number should increase after the round ends.");
     }
   
+    /*
+     * A round that follows one nobody won is played without moving a winner to the
+     * front, so the players keep their order.
+     */
+    @Test
+    void testRoundAfterRoundWithoutWinnerKeepsOrder() throws NoSuchFieldException, IllegalAccessException {
+        Deck mockDeck = mock(Deck.class);
+        when(mockDeck.hasMoreCards()).thenReturn(false);
+        PlayerList spyPlayers = spy(new PlayerList());
+        spyPlayers.addPlayer(mock(Player.class));
+        spyPlayers.addPlayer(mock(Player.class));
+        doReturn(false).when(spyPlayers).isRoundOver();
+
+        Game game = new Game(null, null, new ByteArrayInputStream(new byte[0]));
+        Field deckField = Game.class.getDeclaredField("deck");
+        deckField.setAccessible(true);
+        deckField.set(game, mockDeck);
+        Field playersField = Game.class.getDeclaredField("players");
+        playersField.setAccessible(true);
+        playersField.set(game, spyPlayers);
+        Field roundField = Game.class.getDeclaredField("round");
+        roundField.setAccessible(true);
+        roundField.set(game, 1);
+
+        Game spyGame = spy(game);
+        doNothing().when(spyGame).setupNewGame();
+        doNothing().when(spyGame).determineRoundWinner(); // Nobody wins either round
+
+        assertTrue(spyGame.getLastRoundWinners().isEmpty());
+        spyGame.startTieBreakRound();
+
+        verify(spyPlayers, never()).rotatePlayerList(any(Player.class));
+        assertEquals(2, spyGame.getRound());
+    }
+
     /**
      * Tests that the deck is initialized with the correct number of each card type
      * according to Love Letter game rules for 2-4 players:
@@ -377,7 +412,7 @@ public class GameTest {
 
         // Verify Player 2 (last round's winner) goes first, followed by Player 1
         verify(mockDeck, times(3)).hasMoreCards();
-        verify(spyPlayers, times(3)).checkForRoundWinner();
+        verify(spyPlayers, times(3)).isRoundOver();
         verify(spyGame, times(2)).executeTurn(any(Player.class));
         inOrder.verify(spyGame).executeTurn(player2); // Player 2 (round winner) goes first
         inOrder.verify(spyGame).executeTurn(player1); // Player 1 goes next
@@ -732,6 +767,7 @@ public class GameTest {
         
         // Mock deck behavior
         when(deck.hasMoreCards()).thenReturn(true); // Ensure loop continues
+        when(deck.draw()).thenReturn(Card.GUARD);
         
         // Mock player list behavior
         PlayerList spyPlayerList = spy(playerList);
@@ -801,7 +837,8 @@ public class GameTest {
         List<Player> tiedWinners = Arrays.asList(player1, player2);
         List<Player> finalWinner = Arrays.asList(player1);
         
-        when(spyPlayerList.getGameWinner()).thenReturn(tiedWinners);  // Second call after while loop
+        doReturn(true).when(spyPlayerList).hasGameWinner();  // The game is already won
+        when(spyPlayerList.getGameWinner()).thenReturn(tiedWinners);  // Called after the while loop
         
         doReturn(finalWinner).when(gameSpy).startRoundForTiedWinners(tiedWinners);
         
@@ -867,36 +904,71 @@ public class GameTest {
         Game firstGame = new Game(mock(PlayerList.class), mock(Deck.class), new ByteArrayInputStream(new byte[0]));
 
         try(MockedConstruction<Game> mockedConstruction = mockConstruction(Game.class, (mock, context) -> {
-            doNothing().when(mock).startRound();
+            doNothing().when(mock).startTieBreakRound();
             doReturn(List.of(winner2)).when(mock).getLastRoundWinners();
         })) {
             List<Player> finalWinners = firstGame.startRoundForTiedWinners(winners);
 
             assertEquals(1, finalWinners.size());
             assertEquals(winner2, finalWinners.get(0));
+            assertEquals(1, mockedConstruction.constructed().size());
         }
     }
 
+    /*
+     * A second tie among the same players is played by the same tie-break game
+     * instead of a nested one.
+     */
     @Test
-    void testStartRoundForTiedWinnersStartThirdGameForSecondTieGame() {
+    void testStartRoundForTiedWinnersReusesGameForSecondTie() {
         Player winner1 = new Player("winner1", new Hand(), new DiscardPile(), false, 7);
         Player winner2 = new Player("winner2", new Hand(), new DiscardPile(), false, 7);
         List<Player> winners = List.of(winner1, winner2);
         Game firstGame = new Game(mock(PlayerList.class), mock(Deck.class), new ByteArrayInputStream(new byte[0]));
-        try(MockedConstruction<Game> mockedSecondGameConstruction = mockConstruction(Game.class, (mockSecondGame, contextSecondGame) -> {
-            doNothing().when(mockSecondGame).startRound();
-            doReturn(winners).when(mockSecondGame).getLastRoundWinners();
-
-            try(MockedConstruction<Game> mockedThirdGameConstruction = mockConstruction(Game.class, (mockThirdGame, contextThirdGame) -> {
-                doNothing().when(mockThirdGame).startRound();
-                doReturn(List.of(winner1)).when(mockThirdGame).getLastRoundWinners();
-            })) {
-                List<Player> finalWinners = firstGame.startRoundForTiedWinners(winners);
-                
-                assertEquals(1, finalWinners.size());
-                assertEquals(winner1, finalWinners.get(0));
+        try(MockedConstruction<Game> mockedConstruction = mockConstruction(Game.class, (mock, context) -> {
+            doNothing().when(mock).startTieBreakRound();
+            doReturn(winners).doReturn(List.of(winner1)).when(mock).getLastRoundWinners();
+        })) {
+            List<Player> finalWinners = firstGame.startRoundForTiedWinners(winners);
+
+            assertEquals(List.of(winner1), finalWinners);
+            assertEquals(1, mockedConstruction.constructed().size());
+            verify(mockedConstruction.constructed().get(0), times(2)).startTieBreakRound();
+        }
+    }
+
+    /*
+     * When fewer players remain tied, the next round is played by a tie-break game
+     * seating only them.
+     */
+    @Test
+    void testStartRoundForTiedWinnersNarrowsTie() {
+        Player winner1 = new Player("winner1", new Hand(), new DiscardPile(), false, 4);
+        Player winner2 = new Player("winner2", new Hand(), new DiscardPile(), false, 4);
+        Player winner3 = new Player("winner3", new Hand(), new DiscardPile(), false, 4);
+        Game firstGame = new Game(mock(PlayerList.class), mock(Deck.class), new ByteArrayInputStream(new byte[0]));
+        try(MockedConstruction<Game> mockedConstruction = mockConstruction(Game.class, (mock, context) -> {
+            doNothing().when(mock).startTieBreakRound();
+            if (((PlayerList) context.arguments().get(0)).size() == 3) {
+                doReturn(List.of(winner1, winner3)).when(mock).getLastRoundWinners();
+            } else {
+                doReturn(List.of(winner3)).when(mock).getLastRoundWinners();
             }
         })) {
+            List<Player> finalWinners = firstGame.startRoundForTiedWinners(List.of(winner1, winner2, winner3));
+
+            assertEquals(List.of(winner3), finalWinners);
+            assertEquals(2, mockedConstruction.constructed().size());
         }
     }
+
+    /*
+     * A tie-break needs tied players.
+     */
+    @Test
+    void testStartRoundForTiedWinnersRejectsNoWinners() {
+        Game game = new Game(mock(PlayerList.class), mock(Deck.class), new ByteArrayInputStream(new byte[0]));
+
+        assertThrows(IllegalArgumentException.class, () -> game.startRoundForTiedWinners(List.of()));
+    }
 }
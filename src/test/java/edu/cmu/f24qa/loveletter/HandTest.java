@@ -0,0 +1,104 @@
+package edu.cmu.f24qa.loveletter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class HandTest {
+    /*
+     * Verifies that removing either slot keeps the remaining card first.
+     */
+    @Test
+    void testRemoveKeepsRemainingCard() {
+        Hand hand = new Hand();
+        hand.add(Card.GUARD);
+        hand.add(Card.PRINCESS);
+
+        assertEquals(Card.GUARD, hand.remove(0));
+        assertEquals(List.of(Card.PRINCESS), hand.cards());
+        hand.add(Card.KING);
+        assertEquals(Card.KING, hand.remove(1));
+        assertEquals(Card.PRINCESS, hand.remove(0));
+        assertFalse(hand.hasCards());
+        assertThrows(IndexOutOfBoundsException.class, () -> hand.peek(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> hand.remove(-1));
+    }
+
+    /*
+     * Verifies that the view of the cards is created once, follows the hand and cannot
+     * change it, while getHand copies the cards.
+     */
+    @Test
+    void testCardsViewFollowsHand() {
+        Hand hand = new Hand();
+        List<Card> view = hand.cards();
+        hand.add(Card.GUARD);
+        List<Card> copy = hand.getHand();
+        hand.add(Card.KING);
+
+        assertSame(view, hand.cards());
+        assertEquals(List.of(Card.GUARD, Card.KING), view);
+        assertEquals(List.of(Card.GUARD), copy);
+        assertThrows(UnsupportedOperationException.class, () -> view.add(Card.PRIEST));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+    }
+
+    /*
+     * Verifies that a hand rejects a third card.
+     */
+    @Test
+    void testHandHoldsTwoCards() {
+        Hand hand = new Hand();
+        hand.add(Card.GUARD);
+        hand.add(Card.PRIEST);
+
+        assertThrows(IllegalStateException.class, () -> hand.add(Card.BARON));
+        assertEquals(Hand.CAPACITY, hand.size());
+        assertEquals(List.of(Card.GUARD, Card.PRIEST), hand.copy().getHand());
+    }
+
+    /*
+     * Verifies that the royal position finds a Prince or King in either slot.
+     */
+    @Test
+    void testRoyaltyPos() {
+        Hand hand = new Hand();
+        assertEquals(-1, hand.royaltyPos());
+        hand.add(Card.COUNTESS);
+        hand.add(Card.KING);
+        assertEquals(1, hand.royaltyPos());
+        hand.remove(0);
+        assertEquals(0, hand.royaltyPos());
+    }
+
+    /*
+     * Verifies that swapping hands moves the cards and tells the players' list who still holds cards.
+     */
+    @Test
+    void testSwapWith() {
+        PlayerList players = new PlayerList();
+        players.addPlayer("Alice");
+        players.addPlayer("Bob");
+        Player alice = players.getSeat(0);
+        Player bob = players.getSeat(1);
+        alice.addCard(Card.GUARD);
+        alice.addCard(Card.KING);
+        assertTrue(players.isRoundOver());
+
+        alice.getHand().swapWith(bob.getHand());
+
+        assertEquals(List.of(Card.GUARD, Card.KING), bob.getHand().cards());
+        assertFalse(alice.getHand().hasCards());
+        assertTrue(players.isRoundOver());
+        alice.addCard(Card.PRIEST);
+        assertFalse(players.isRoundOver());
+        alice.getHand().swapWith(alice.getHand());
+        assertEquals(List.of(Card.PRIEST), alice.getHand().cards());
+    }
+}
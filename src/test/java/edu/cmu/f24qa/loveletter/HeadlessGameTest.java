@@ -0,0 +1,224 @@
+package edu.cmu.f24qa.loveletter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edu.cmu.f24qa.loveletter.events.GameEventListener;
+import edu.cmu.f24qa.loveletter.events.NoOpEventListener;
+import edu.cmu.f24qa.loveletter.input.RandomPlayerInput;
+
+class HeadlessGameTest {
+    private ByteArrayOutputStream outContent;
+    private PrintStream originalOut;
+
+    @BeforeEach
+    void setUp() {
+        originalOut = System.out;
+        outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    private PlayerList createPlayers(int count) {
+        PlayerList players = new PlayerList();
+        for (int i = 0; i < count; i++) {
+            players.addPlayer("Player " + i);
+        }
+        return players;
+    }
+
+    private int tokensToWin(int playerCount) {
+        if (playerCount == 2) {
+            return 7;
+        }
+        return playerCount == 3 ? 5 : 4;
+    }
+
+    /*
+     * Plays complete headless matches for every supported table size and verifies
+     * that each match ends with exactly one winner and prints nothing to the console.
+     */
+    @Test
+    void testHeadlessMatchesProduceSingleWinnerWithoutConsoleOutput() {
+        for (int playerCount = 2; playerCount <= 8; playerCount++) {
+            for (long seed = 0; seed < 25; seed++) {
+                PlayerList players = createPlayers(playerCount);
+                Game game = new Game(players, new Deck(), new RandomPlayerInput(new Random(seed)),
+                    new NoOpEventListener());
+
+                game.start();
+
+                List<Player> winners = players.getGameWinner();
+                assertTrue(winners.size() >= 1, "A finished match must have a winner");
+                int maxTokens = 0;
+                for (Player player : players.getPlayers()) {
+                    maxTokens = Math.max(maxTokens, player.getTokens());
+                }
+                assertTrue(maxTokens >= tokensToWin(playerCount));
+            }
+        }
+        assertEquals("", outContent.toString(), "Headless games must not write to the console");
+    }
+
+    /*
+     * Verifies that the narration of a headless game is routed to the configured listener.
+     */
+    @Test
+    void testHeadlessNarrationIsRoutedToListener() {
+        List<String> messages = new ArrayList<>();
+        GameEventListener recorder = messages::add;
+        PlayerList players = createPlayers(4);
+        Game game = new Game(players, new Deck(), new RandomPlayerInput(new Random(42)), recorder);
+
+        game.start();
+
+        assertTrue(messages.contains("One card has been removed from the deck and set aside."));
+        assertTrue(messages.stream().anyMatch(m -> m.endsWith("has won the game and the heart of the princess!")));
+        assertEquals("", outContent.toString());
+    }
+
+    /*
+     * Verifies that the turn narration is not built for a listener that does not want it,
+     * while the typed events still arrive.
+     */
+    @Test
+    void testNarrationIsSkippedWhenUnwanted() {
+        List<String> messages = new ArrayList<>();
+        List<Player> gameWinners = new ArrayList<>();
+        GameEventListener quiet = new GameEventListener() {
+            @Override
+            public void onMessage(String message) {
+                messages.add(message);
+            }
+
+            @Override
+            public boolean wantsMessages() {
+                return false;
+            }
+
+            @Override
+            public void onGameWon(Player winner) {
+                gameWinners.add(winner);
+            }
+        };
+        Game game = new Game(createPlayers(4), new Deck(), new RandomPlayerInput(new Random(42)), quiet);
+
+        game.start();
+
+        assertTrue(messages.stream().noneMatch(m -> m.endsWith("'s turn:")));
+        assertEquals(List.of(game.getGameWinner()), gameWinners);
+    }
+
+    /*
+     * Verifies that the typed events of a headless game match its outcome.
+     */
+    @Test
+    void testTypedEventsFollowTheGame() {
+        List<Card> played = new ArrayList<>();
+        List<Player> eliminated = new ArrayList<>();
+        List<Player> gameWinners = new ArrayList<>();
+        int[] rounds = new int[1];
+        GameEventListener recorder = new GameEventListener() {
+            @Override
+            public void onMessage(String message) {
+                // only the typed events are recorded
+            }
+
+            @Override
+            public void onCardPlayed(Player player, Card card) {
+                played.add(card);
+            }
+
+            @Override
+            public void onPlayerEliminated(Player player) {
+                assertTrue(!player.getHand().hasCards());
+                eliminated.add(player);
+            }
+
+            @Override
+            public void onRoundWon(List<Player> winners) {
+                rounds[0]++;
+            }
+
+            @Override
+            public void onGameWon(Player winner) {
+                gameWinners.add(winner);
+            }
+        };
+        PlayerList players = createPlayers(4);
+        Game game = new Game(players, new Deck(3L), new RandomPlayerInput(new Random(3)), recorder);
+
+        game.start();
+
+        int discarded = 0;
+        for (Player player : players.getPlayers()) {
+            discarded += player.getDiscarded().getCards().size();
+        }
+        assertTrue(played.size() >= discarded);
+        assertTrue(!eliminated.isEmpty());
+        assertTrue(rounds[0] >= 4);
+        assertEquals(List.of(game.getGameWinner()), gameWinners);
+    }
+
+    /*
+     * Verifies that the same seed replays exactly the same headless match.
+     */
+    @Test
+    void testHeadlessMatchIsReproducibleWithSameInputSeed() {
+        List<String> first = new ArrayList<>();
+        List<String> second = new ArrayList<>();
+        Game firstGame = new Game(createPlayers(3), new FixedOrderDeck(), new RandomPlayerInput(new Random(7)),
+            first::add);
+        Game secondGame = new Game(createPlayers(3), new FixedOrderDeck(), new RandomPlayerInput(new Random(7)),
+            second::add);
+        firstGame.startRound();
+        secondGame.startRound();
+
+        assertEquals(first, second);
+        assertTrue(first.size() > 0);
+    }
+
+    /*
+     * Verifies that the rounds breaking a tie are played to the end, although the tied
+     * players already have enough tokens to win the game.
+     */
+    @Test
+    void testTieBreakRoundsArePlayedToTheEnd() {
+        for (long seed = 0; seed < 10; seed++) {
+            PlayerList players = new PlayerList();
+            players.addPlayer(new Player("Alice", new Hand(), new DiscardPile(), false, 7));
+            players.addPlayer(new Player("Bob", new Hand(), new DiscardPile(), false, 7));
+            Game game = new Game(players, new Deck(), new RandomPlayerInput(new Random(seed)),
+                new NoOpEventListener());
+
+            List<Player> winners = game.startRoundForTiedWinners(players.getPlayers());
+
+            assertEquals(1, winners.size());
+            assertTrue(winners.get(0).getTokens() > 7);
+        }
+    }
+
+    /**
+     * A deck that never shuffles, so only the decisions drive the game.
+     */
+    private static class FixedOrderDeck extends Deck {
+        @Override
+        public void shuffle() {
+            // keep the build order
+        }
+    }
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
+import java.util.NoSuchElementException;
 
 import org.junit.jupiter.api.Test;
 
@@ -90,10 +91,10 @@ public class PlayerListTest {
     }
 
     /*
-     * Verify that checkForRoundWinner returns true when only one player has cards. 
+     * Verify that isRoundOver returns true when only one player has cards. 
      */
     @Test
-    void testCheckForRoundWinnerWhenOnlyOnePlayerHasCards() {
+    void testIsRoundOverWhenOnlyOnePlayerHasCards() {
         // Add two players to the player list
         PlayerList playerList = new PlayerList();
         Player player1 = new Player("Player 1", new Hand(), new DiscardPile(), false, 0);
@@ -102,16 +103,16 @@ public class PlayerListTest {
         playerList.addPlayer(player1);
         playerList.addPlayer(player2);
 
-        boolean hasRoundWinner = playerList.checkForRoundWinner();
+        boolean hasRoundWinner = playerList.isRoundOver();
 
         assertTrue(hasRoundWinner, "There should be a round winner");
     }
 
     /*
-     * Verify that checkForRoundWinner returns false when multiple players have cards.
+     * Verify that isRoundOver returns false when multiple players have cards.
      */
     @Test
-    void testCheckForRoundWinnerWhenMultiplePlayersHaveCards() {
+    void testIsRoundOverWhenMultiplePlayersHaveCards() {
         // Add two players to the player list
         PlayerList playerList = new PlayerList();
         Player player1 = new Player("Player 1", new Hand(), new DiscardPile(), false, 0);
@@ -122,16 +123,16 @@ public class PlayerListTest {
         playerList.addPlayer(player1);
         playerList.addPlayer(player2);
 
-        boolean hasRoundWinner = playerList.checkForRoundWinner();
+        boolean hasRoundWinner = playerList.isRoundOver();
 
         assertFalse(hasRoundWinner, "There should not be a round winner when multiple players have cards.");
     }
 
     /*
-     * Verify that checkForRoundWinner throws exception when no players have cards.
+     * Verify that isRoundOver throws exception when no players have cards.
      */
     @Test
-    void testCheckForRoundWinnerWhenNoPlayersHaveCards() {
+    void testIsRoundOverWhenNoPlayersHaveCards() {
         PlayerList playerList = new PlayerList();
         Player player1 = new Player("Player 1", new Hand(), new DiscardPile(), false, 0);
         Player player2 = new Player("Player 2", new Hand(), new DiscardPile(), false, 0);
@@ -140,8 +141,8 @@ public class PlayerListTest {
 
         Exception exception = assertThrows(
             IllegalStateException.class, 
-            () -> playerList.checkForRoundWinner(), 
-            "Expected checkForRoundWinner to throw an IllegalStateException when no players have cards."
+            () -> playerList.isRoundOver(), 
+            "Expected isRoundOver to throw an IllegalStateException when no players have cards."
         );
 
         assertEquals("No players have cards.", exception.getMessage());
@@ -257,4 +258,184 @@ public class PlayerListTest {
         assertEquals(1, winners.size());
         assertEquals("Alice", winners.get(0).getName());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testPlayersView() {
+        PlayerList playerList = new PlayerList();
+        playerList.addPlayer("Alice");
+        List<Player> view = playerList.players();
+        playerList.addPlayer("Bob");
+
+        assertEquals(2, playerList.size());
+        assertEquals(playerList.getPlayers(), view);
+        Player alice = playerList.getCurrentPlayer();
+        assertEquals("Bob", view.get(0).getName());
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(alice));
+    }
+
+    @Test
+    public void testSeatsStayFixedWhileTurnsAdvance() {
+        PlayerList playerList = new PlayerList();
+        playerList.addPlayer("Alice");
+        playerList.addPlayer("Bob");
+        playerList.addPlayer("Cleo");
+        Player alice = playerList.getSeat(0);
+        Player cleo = playerList.getSeat(2);
+
+        assertEquals(alice, playerList.getCurrentPlayer());
+        assertEquals(1, playerList.getFirstSeat());
+        assertEquals("Bob", playerList.players().get(0).getName());
+        assertEquals(alice, playerList.getSeat(0));
+        assertEquals(2, playerList.seatOf(cleo));
+
+        playerList.rotatePlayerList(cleo);
+        assertEquals(List.of(cleo, alice, playerList.getSeat(1)), playerList.players());
+        playerList.rotateToSeat(0);
+        assertEquals(alice, playerList.players().get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> playerList.rotateToSeat(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> playerList.getSeat(-1));
+        assertThrows(IllegalArgumentException.class,
+            () -> playerList.rotatePlayerList(new Player("Zed", new Hand(), new DiscardPile(), false, 0)));
+        assertEquals(-1, playerList.seatOf(new Player("Zed", new Hand(), new DiscardPile(), false, 0)));
+    }
+
+    @Test
+    public void testTurnSkipsPlayersWithoutCards() {
+        PlayerList playerList = new PlayerList();
+        playerList.addPlayer("Alice");
+        playerList.addPlayer("Bob");
+        playerList.addPlayer("Cleo");
+        Player alice = playerList.getSeat(0);
+        Player cleo = playerList.getSeat(2);
+        alice.addCard(Card.GUARD);
+        cleo.addCard(Card.PRIEST);
+
+        assertEquals(alice, playerList.getCurrentPlayer());
+        assertEquals(cleo, playerList.getCurrentPlayer());
+        assertEquals(alice, playerList.getCurrentPlayer());
+
+        alice.clearHand();
+        cleo.clearHand();
+        assertEquals(playerList.getSeat(1), playerList.getCurrentPlayer());
+        assertEquals(cleo, playerList.getCurrentPlayer());
+        assertThrows(NoSuchElementException.class, () -> new PlayerList().getCurrentPlayer());
+    }
+
+    @Test
+    public void testAddingPlayersKeepsTurnOrder() {
+        PlayerList playerList = new PlayerList();
+        playerList.addPlayer("Alice");
+        playerList.addPlayer("Bob");
+        playerList.getCurrentPlayer();
+        playerList.addPlayer("Cleo");
+        for (int i = 0; i < 7; i++) {
+            playerList.addPlayer("Player " + i);
+        }
+
+        assertEquals(10, playerList.size());
+        assertEquals("Bob", playerList.players().get(0).getName());
+        assertEquals("Alice", playerList.players().get(1).getName());
+        assertEquals("Cleo", playerList.players().get(2).getName());
+        assertEquals("Player 6", playerList.players().get(9).getName());
+        assertEquals(0, playerList.getFirstSeat());
+        assertEquals("Bob", playerList.getSeat(0).getName());
+        assertEquals(playerList.players(), new PlayerList(playerList).getPlayers());
+        assertEquals(0, new PlayerList(null).size());
+    }
+
+    @Test
+    public void testRoundOverFollowsHandChanges() {
+        PlayerList playerList = new PlayerList();
+        playerList.addPlayer("Alice");
+        playerList.addPlayer("Bob");
+        Player alice = playerList.getSeat(0);
+        Player bob = playerList.getSeat(1);
+        alice.addCard(Card.GUARD);
+        bob.addCard(Card.PRIEST);
+
+        assertFalse(playerList.isRoundOver());
+        bob.eliminate();
+        assertTrue(playerList.isRoundOver());
+        bob.addCard(Card.BARON);
+        alice.addCard(Card.KING);
+        assertFalse(playerList.isRoundOver());
+        alice.removeCardFromHand(0);
+        alice.removeCardFromHand(0);
+        bob.clearHand();
+        assertThrows(IllegalStateException.class, playerList::isRoundOver);
+    }
+
+    @Test
+    public void testGameWinnerFollowsTokenChanges() {
+        PlayerList playerList = new PlayerList();
+        playerList.addPlayer("Alice");
+        playerList.addPlayer("Bob");
+        Player alice = playerList.getSeat(0);
+
+        assertFalse(playerList.hasGameWinner());
+        assertTrue(playerList.getGameWinner().isEmpty());
+        alice.setTokens(6);
+        assertFalse(playerList.hasGameWinner());
+        alice.addToken();
+        assertTrue(playerList.hasGameWinner());
+        assertEquals(List.of(alice), playerList.getGameWinner());
+        alice.setTokens(2);
+        assertFalse(playerList.hasGameWinner());
+        playerList.addPlayer("Cleo");
+        alice.setTokens(5);
+        assertTrue(playerList.hasGameWinner());
+    }
+
+    @Test
+    public void testPlayerCountedByAnotherList() {
+        PlayerList first = new PlayerList();
+        first.addPlayer("Alice");
+        first.addPlayer("Bob");
+        Player alice = first.getSeat(0);
+        Player bob = first.getSeat(1);
+        alice.addCard(Card.GUARD);
+        bob.addCard(Card.PRIEST);
+        assertFalse(first.isRoundOver());
+
+        PlayerList second = new PlayerList();
+        second.addPlayer(alice);
+        second.addPlayer(bob);
+        assertFalse(second.isRoundOver());
+        bob.eliminate();
+        bob.setTokens(7);
+
+        assertTrue(second.isRoundOver());
+        assertTrue(first.isRoundOver());
+        assertTrue(first.hasGameWinner());
+        assertTrue(second.hasGameWinner());
+    }
+
+    @Test
+    public void testTargetableSeatsFollowStatus() {
+        PlayerList playerList = new PlayerList();
+        playerList.addPlayer("Alice");
+        playerList.addPlayer("Bob");
+        playerList.addPlayer("Cleo");
+        Player alice = playerList.getSeat(0);
+        Player bob = playerList.getSeat(1);
+        Player cleo = playerList.getSeat(2);
+        alice.addCard(Card.GUARD);
+        bob.addCard(Card.PRIEST);
+        cleo.addCard(Card.BARON);
+
+        assertEquals(0b110, playerList.targetableSeats(alice, false));
+        assertEquals(0b111, playerList.targetableSeats(alice, true));
+        bob.switchProtection();
+        assertEquals(0b100, playerList.targetableSeats(alice, false));
+        cleo.eliminate();
+        assertEquals(0, playerList.targetableSeats(alice, false));
+        bob.switchProtection();
+        alice.eliminate();
+        assertEquals(0b011, playerList.targetableSeats(alice, true));
+        assertEquals(0b010, playerList.targetableSeats(null, false));
+
+        playerList.rotateToSeat(1);
+        assertEquals(List.of(bob, alice), playerList.playersIn(0b011));
+        assertEquals(0, playerList.seatBit(new Player("Zed", new Hand(), new DiscardPile(), false, 0)));
+    }
+}
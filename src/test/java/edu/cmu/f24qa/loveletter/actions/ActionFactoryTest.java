@@ -0,0 +1,37 @@
+package edu.cmu.f24qa.loveletter.actions;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import edu.cmu.f24qa.loveletter.Card;
+
+class ActionFactoryTest {
+    private final ActionFactory factory = new ActionFactory();
+
+    /*
+     * Verifies that every card has an action, shared between lookups and factories.
+     */
+    @Test
+    void testEveryCardHasSharedAction() {
+        for (Card card : Card.values()) {
+            CardAction action = factory.getAction(card);
+            assertNotNull(action);
+            assertSame(action, new ActionFactory().getAction(card));
+            assertSame(action, factory.getAction(card.getName().toUpperCase()));
+        }
+        assertInstanceOf(GuardAction.class, factory.getAction(Card.GUARD));
+        assertInstanceOf(BishopAction.class, factory.getAction("bishop"));
+    }
+
+    /*
+     * Verifies that unknown card names are rejected.
+     */
+    @Test
+    void testUnknownCardName() {
+        assertThrows(IllegalArgumentException.class, () -> factory.getAction("Joker"));
+    }
+}
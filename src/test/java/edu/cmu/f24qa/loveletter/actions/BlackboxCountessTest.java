@@ -78,7 +78,7 @@ public class BlackboxCountessTest {
      */
     private void setMockAction(Card card, CardAction action) {
         CardAction mockAction = mock(CardAction.class);
-        when(this.mockActionFactory.getAction(card.getName())).thenReturn(mockAction);
+        when(this.mockActionFactory.getAction(card)).thenReturn(mockAction);
     }
 
     /**
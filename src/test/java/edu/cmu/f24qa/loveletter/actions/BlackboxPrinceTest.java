@@ -6,11 +6,15 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import edu.cmu.f24qa.loveletter.*;
+import edu.cmu.f24qa.loveletter.events.GameEventListener;
+import edu.cmu.f24qa.loveletter.input.ConsoleInput;
 
 /**
  * Blackbox tests for the Prince card's behavior in the Love Letter game.
@@ -138,4 +142,32 @@ public class BlackboxPrinceTest {
         assertEquals(Card.PRINCE, player.getDiscarded().getCards().get(0));
         assertEquals(1, player.getHand().getHand().size());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that the card the target is forced to discard is reported to the event
+     * listener as a card of the target.
+     */
+    @Test
+    void testPrinceActionReportsForcedDiscard() {
+        List<Card> played = new ArrayList<>();
+        GameEventListener events = new GameEventListener() {
+            @Override
+            public void onMessage(String message) {
+                // intentionally empty
+            }
+
+            @Override
+            public void onCardPlayed(Player cardPlayer, Card card) {
+                assertSame(opponent, cardPlayer);
+                played.add(card);
+            }
+        };
+        context = new GameContext(playerList, deck, new ConsoleInput(), p -> "Opponent", events);
+        opponent.addCard(Card.PRINCESS);
+        context.setCurrentUser(player);
+
+        action.execute(context);
+
+        assertEquals(List.of(Card.PRINCESS), played);
+    }
+}
@@ -8,6 +8,7 @@ import edu.cmu.f24qa.loveletter.Card;
 import edu.cmu.f24qa.loveletter.GameContext;
 import edu.cmu.f24qa.loveletter.Hand;
 import edu.cmu.f24qa.loveletter.Player;
+import edu.cmu.f24qa.loveletter.events.ConsoleEventListener;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
@@ -34,6 +35,7 @@ public class PriestActionTest {
     void testExecute() {
         PriestAction priestAction = new PriestAction();
         GameContext mockGameContext = mock(GameContext.class);
+        when(mockGameContext.getEventListener()).thenReturn(new ConsoleEventListener());
         Player currentUser = mock(Player.class);
         Player opponent = mock(Player.class);
         Hand opponentHand = new Hand();
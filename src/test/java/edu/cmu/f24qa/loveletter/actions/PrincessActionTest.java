@@ -18,6 +18,7 @@ import edu.cmu.f24qa.loveletter.Player;
 import edu.cmu.f24qa.loveletter.DiscardPile;
 import edu.cmu.f24qa.loveletter.Hand;
 import edu.cmu.f24qa.loveletter.Card;
+import edu.cmu.f24qa.loveletter.events.ConsoleEventListener;
 
 public class PrincessActionTest {
 
@@ -28,6 +29,7 @@ public class PrincessActionTest {
     @BeforeEach
     public void setUp() {
         context = mock(GameContext.class);
+        when(context.getEventListener()).thenReturn(new ConsoleEventListener());
         princessAction = new PrincessAction();
         player = new Player("Test Player", new Hand(), new DiscardPile(), false, 0);
         player.addCard(Card.PRINCESS);
@@ -18,6 +18,7 @@ import edu.cmu.f24qa.loveletter.GameContext;
 import edu.cmu.f24qa.loveletter.PlayerList;
 import edu.cmu.f24qa.loveletter.Player;
 import edu.cmu.f24qa.loveletter.Hand;
+import edu.cmu.f24qa.loveletter.events.ConsoleEventListener;
 
 public class WhiteboxBaronCardTest {
     private Game game;
@@ -49,6 +50,7 @@ public class WhiteboxBaronCardTest {
     @Test
     void testNullPlayer() {
         GameContext context = mock(GameContext.class);
+        when(context.getEventListener()).thenReturn(new ConsoleEventListener());
         doReturn(null).when(context).getCurrentUser();
         BaronAction baronAction = new BaronAction();
 
@@ -6,6 +6,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -24,6 +25,7 @@ import edu.cmu.f24qa.loveletter.GameContext;
 import edu.cmu.f24qa.loveletter.Hand;
 import edu.cmu.f24qa.loveletter.Player;
 import edu.cmu.f24qa.loveletter.PlayerList;
+import edu.cmu.f24qa.loveletter.events.ConsoleEventListener;
 
 public class WhiteboxBaronessTest {
     private Game game;
@@ -75,6 +77,7 @@ public class WhiteboxBaronessTest {
     void testNullPlayer() {
         // Set up null player
         GameContext context = mock(GameContext.class);
+        when(context.getEventListener()).thenReturn(new ConsoleEventListener());
         doReturn(null).when(context).getCurrentUser();
         BaronessAction baronessAction = new BaronessAction();
 
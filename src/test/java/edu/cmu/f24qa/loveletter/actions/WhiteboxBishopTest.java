@@ -14,6 +14,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import edu.cmu.f24qa.loveletter.*;
+import edu.cmu.f24qa.loveletter.events.ConsoleEventListener;
 
 public class WhiteboxBishopTest {
 
@@ -73,6 +74,7 @@ public class WhiteboxBishopTest {
 
         // setup mock deck response
         Card newCard = Card.PRINCESS;
+        when(deck.hasMoreCards()).thenReturn(true);
         when(deck.draw()).thenReturn(newCard);
 
         // setup context with simulated input: opponent name, value guess (1 for Guard), discard choice
@@ -133,6 +135,7 @@ public class WhiteboxBishopTest {
     @Test
     public void testGuessRightEarnsEnoughTokensToWin() {
         GameContext mockContext = mock(GameContext.class);
+        when(mockContext.getEventListener()).thenReturn(new ConsoleEventListener());
         PlayerList playerList = new PlayerList();
         // Player 1 has 6 tokens, one less than winning amount
         Player currentPlayer = new Player("Player1", new Hand(), new DiscardPile(), false, 6);
@@ -148,7 +151,7 @@ public class WhiteboxBishopTest {
         
         // Mock the necessary method calls
         when(mockContext.getCurrentUser()).thenReturn(currentPlayer);
-        when(mockContext.readLine()).thenReturn("5");  // Guess the correct card value
+        when(mockContext.guessNumber(currentPlayer)).thenReturn(5);  // Guess the correct card value
         when(mockContext.selectOpponents(1, 1, false)).thenReturn(List.of(opponent));
         when(mockContext.getPlayers()).thenReturn(playerList);
         
@@ -160,6 +163,28 @@ public class WhiteboxBishopTest {
         assertFalse(outContent.toString().contains("would you like to discard your hand"));
     }
 
+    @Test
+    void testCorrectGuessOpponentDrawsSetAsideCardWhenDeckIsEmpty() {
+        // setup players' hands
+        currentUser.addCard(Card.BISHOP);
+        opponent.addCard(Card.GUARD);
+
+        // the deck has run out, only the set-aside card is left
+        when(deck.hasMoreCards()).thenReturn(false);
+        when(deck.getRemovedTopCard()).thenReturn(Card.COUNTESS);
+
+        // setup context with simulated input: value guess (1 for Guard), opponent name, discard choice
+        setupContext("1\nBob\ny\n");
+
+        // execute bishop action
+        bishopAction.execute(context);
+
+        // verify
+        assertEquals(Card.COUNTESS, opponent.getHand().peek(0), "Opponent should take the set-aside card");
+        assertTrue(opponent.getDiscarded().getCards().contains(Card.GUARD), "Opponent should have discarded original card");
+        verify(deck, never()).draw();
+    }
+
     @Test
     void testBishopCorrectGuessOpponentDiscardsPrincess() {
         // setup players' hands
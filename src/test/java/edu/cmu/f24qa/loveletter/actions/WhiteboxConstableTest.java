@@ -23,6 +23,8 @@ import edu.cmu.f24qa.loveletter.GameContext;
 import edu.cmu.f24qa.loveletter.Hand;
 import edu.cmu.f24qa.loveletter.Player;
 import edu.cmu.f24qa.loveletter.PlayerList;
+import edu.cmu.f24qa.loveletter.events.ConsoleEventListener;
+import edu.cmu.f24qa.loveletter.journal.NoOpGameJournal;
 
 public class WhiteboxConstableTest {
     private @NonNull PlayerList players;
@@ -61,6 +63,8 @@ public class WhiteboxConstableTest {
         this.game = spy(new Game(this.players, null, System.in));
 
         GameContext mockContext = mock(GameContext.class);
+        when(mockContext.getEventListener()).thenReturn(new ConsoleEventListener());
+        when(mockContext.getJournal()).thenReturn(new NoOpGameJournal());
         Field contextField = Game.class.getDeclaredField("context");
         contextField.setAccessible(true);
         contextField.set(this.game, mockContext);
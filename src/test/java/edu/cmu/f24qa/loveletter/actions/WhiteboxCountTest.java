@@ -2,6 +2,7 @@ package edu.cmu.f24qa.loveletter.actions;
 
 import edu.cmu.f24qa.loveletter.GameContext;
 import edu.cmu.f24qa.loveletter.Player;
+import edu.cmu.f24qa.loveletter.events.ConsoleEventListener;
 import org.junit.jupiter.api.Test;
 import static org.mockito.Mockito.*;
 import java.io.ByteArrayOutputStream;
@@ -22,6 +23,7 @@ class WhiteboxCountTest {
         System.setOut(new PrintStream(outputStreamCaptor));
         
         GameContext mockContext = mock(GameContext.class);
+        when(mockContext.getEventListener()).thenReturn(new ConsoleEventListener());
         when(mockContext.getCurrentUser()).thenReturn(null);
         CountAction countAction = new CountAction();
 
@@ -44,6 +46,7 @@ class WhiteboxCountTest {
         System.setOut(new PrintStream(outputStreamCaptor));
         
         GameContext mockContext = mock(GameContext.class);
+        when(mockContext.getEventListener()).thenReturn(new ConsoleEventListener());
         Player mockPlayer = mock(Player.class);
         when(mockContext.getCurrentUser()).thenReturn(mockPlayer);
         when(mockPlayer.getName()).thenReturn("TestPlayer");
@@ -28,6 +28,8 @@ import edu.cmu.f24qa.loveletter.GameContext;
 import edu.cmu.f24qa.loveletter.Hand;
 import edu.cmu.f24qa.loveletter.Player;
 import edu.cmu.f24qa.loveletter.PlayerList;
+import edu.cmu.f24qa.loveletter.events.ConsoleEventListener;
+import edu.cmu.f24qa.loveletter.journal.NoOpGameJournal;
 
 public class WhiteboxCountessTest {
     private @NonNull PlayerList players;
@@ -82,7 +84,7 @@ public class WhiteboxCountessTest {
      */
     private void setMockAction(Card card, CardAction action) {
         CardAction mockAction = mock(CardAction.class);
-        when(this.mockActionFactory.getAction(card.getName())).thenReturn(mockAction);
+        when(this.mockActionFactory.getAction(card)).thenReturn(mockAction);
     }
 
     /**
@@ -117,6 +119,8 @@ public class WhiteboxCountessTest {
         setUpGame(inputStream, this.actionFactory);
 
         GameContext mockContext = mock(GameContext.class);
+        when(mockContext.getEventListener()).thenReturn(new ConsoleEventListener());
+        when(mockContext.getJournal()).thenReturn(new NoOpGameJournal());
         Field contextField = Game.class.getDeclaredField("context");
         contextField.setAccessible(true);
         contextField.set(this.game, mockContext);
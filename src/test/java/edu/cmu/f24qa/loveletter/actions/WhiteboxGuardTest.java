@@ -27,6 +27,8 @@ import edu.cmu.f24qa.loveletter.GameContext;
 import edu.cmu.f24qa.loveletter.Hand;
 import edu.cmu.f24qa.loveletter.Player;
 import edu.cmu.f24qa.loveletter.PlayerList;
+import edu.cmu.f24qa.loveletter.events.ConsoleEventListener;
+import edu.cmu.f24qa.loveletter.journal.NoOpGameJournal;
 
 public class WhiteboxGuardTest {
     private @NonNull PlayerList players;
@@ -83,6 +85,8 @@ public class WhiteboxGuardTest {
         setUpGameWithSimulatedInput("0\n");
 
         GameContext mockContext = mock(GameContext.class);
+        when(mockContext.getEventListener()).thenReturn(new ConsoleEventListener());
+        when(mockContext.getJournal()).thenReturn(new NoOpGameJournal());
         Field contextField = Game.class.getDeclaredField("context");
         contextField.setAccessible(true);
         contextField.set(this.game, mockContext);
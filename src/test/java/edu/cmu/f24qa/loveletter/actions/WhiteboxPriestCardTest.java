@@ -6,6 +6,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -24,6 +25,7 @@ import edu.cmu.f24qa.loveletter.GameContext;
 import edu.cmu.f24qa.loveletter.Hand;
 import edu.cmu.f24qa.loveletter.Player;
 import edu.cmu.f24qa.loveletter.PlayerList;
+import edu.cmu.f24qa.loveletter.events.ConsoleEventListener;
 
 public class WhiteboxPriestCardTest {
 
@@ -64,6 +66,7 @@ public class WhiteboxPriestCardTest {
     @Test
     void testNullPlayer() {
         GameContext context = mock(GameContext.class);
+        when(context.getEventListener()).thenReturn(new ConsoleEventListener());
         doReturn(null).when(context).getCurrentUser();
         PriestAction priestAction = new PriestAction();
 
@@ -19,6 +19,7 @@ import edu.cmu.f24qa.loveletter.Deck;
 import edu.cmu.f24qa.loveletter.Card;
 import edu.cmu.f24qa.loveletter.Hand;
 import edu.cmu.f24qa.loveletter.DiscardPile;
+import edu.cmu.f24qa.loveletter.events.ConsoleEventListener;
 
 public class WhiteboxPrincessTest {
     
@@ -70,6 +71,7 @@ public class WhiteboxPrincessTest {
         
         // Setting up the mock objects
         GameContext mockContext = mock(GameContext.class);
+        when(mockContext.getEventListener()).thenReturn(new ConsoleEventListener());
         when(mockContext.getCurrentUser()).thenReturn(null);
         PrincessAction action = new PrincessAction();
 
@@ -19,6 +19,7 @@ import edu.cmu.f24qa.loveletter.GameContext;
 import edu.cmu.f24qa.loveletter.PlayerList;
 import edu.cmu.f24qa.loveletter.Player;
 import edu.cmu.f24qa.loveletter.Hand;
+import edu.cmu.f24qa.loveletter.events.ConsoleEventListener;
 
 public class WhiteboxQueenCardTest {
     private Game game;
@@ -55,6 +56,7 @@ public class WhiteboxQueenCardTest {
     @Test
     void testNullPlayer() {
         GameContext context = mock(GameContext.class);
+        when(context.getEventListener()).thenReturn(new ConsoleEventListener());
         doReturn(null).when(context).getCurrentUser();
         QueenAction queenAction = new QueenAction();
 
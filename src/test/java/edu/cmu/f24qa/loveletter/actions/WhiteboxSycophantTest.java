@@ -4,6 +4,7 @@ import edu.cmu.f24qa.loveletter.DiscardPile;
 import edu.cmu.f24qa.loveletter.GameContext;
 import edu.cmu.f24qa.loveletter.Hand;
 import edu.cmu.f24qa.loveletter.Player;
+import edu.cmu.f24qa.loveletter.events.ConsoleEventListener;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -27,6 +28,7 @@ class WhiteboxSycophantTest {
     @BeforeEach
     void setUp() {
         context = mock(GameContext.class);
+        when(context.getEventListener()).thenReturn(new ConsoleEventListener());
         action = new SycophantAction();
         // setup output capture
         outContent = new ByteArrayOutputStream();
@@ -0,0 +1,191 @@
+package edu.cmu.f24qa.loveletter.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edu.cmu.f24qa.loveletter.Card;
+import edu.cmu.f24qa.loveletter.DiscardPile;
+import edu.cmu.f24qa.loveletter.Hand;
+import edu.cmu.f24qa.loveletter.Player;
+
+class GameEventListenerTest {
+    private ByteArrayOutputStream outContent;
+    private PrintStream originalOut;
+
+    @BeforeEach
+    void setUp() {
+        originalOut = System.out;
+        outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    /*
+     * Verify that a listener which only handles messages also receives prompts as messages.
+     */
+    @Test
+    void testPromptDefaultsToMessage() {
+        List<String> messages = new ArrayList<>();
+        GameEventListener listener = messages::add;
+
+        listener.onPrompt("Who would you like to target: ");
+
+        assertEquals(List.of("Who would you like to target: "), messages);
+    }
+
+    /*
+     * Verify that the console listener ends messages with a line break but keeps prompts on the same line.
+     */
+    @Test
+    void testConsoleListenerPrintsMessagesAndPrompts() {
+        GameEventListener listener = new ConsoleEventListener();
+
+        listener.onMessage("Alice's turn:");
+        listener.onPrompt("Which card would you like to play (0 for first, 1 for second): ");
+
+        assertEquals("Alice's turn:" + System.lineSeparator()
+            + "Which card would you like to play (0 for first, 1 for second): ", outContent.toString());
+    }
+
+    /*
+     * Verify that the no-op listener does not print anything.
+     */
+    @Test
+    void testNoOpListenerPrintsNothing() {
+        GameEventListener listener = new NoOpEventListener();
+
+        listener.onMessage("Alice's turn:");
+        listener.onPrompt("Who would you like to target: ");
+
+        assertEquals("", outContent.toString());
+    }
+
+    /*
+     * Verify that the typed game events are ignored unless a listener handles them.
+     */
+    @Test
+    void testTypedEventsDefaultToNothing() {
+        List<String> messages = new ArrayList<>();
+        GameEventListener listener = messages::add;
+        Player alice = new Player("Alice", new Hand(), new DiscardPile(), false, 0);
+
+        listener.onCardPlayed(alice, Card.GUARD);
+        listener.onPlayerEliminated(alice);
+        listener.onRoundWon(List.of(alice));
+        listener.onGameWon(alice);
+
+        assertTrue(messages.isEmpty());
+    }
+
+    /*
+     * Verify that the batching listener delivers every event in order on the executor, in batches.
+     */
+    @Test
+    void testBatchingListenerDeliversInOrder() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        List<String> delivered = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        GameEventListener recorder = new GameEventListener() {
+            @Override
+            public void onMessage(String message) {
+                threads.add(Thread.currentThread());
+                delivered.add(message);
+            }
+
+            @Override
+            public void onCardPlayed(Player player, Card card) {
+                delivered.add(player.getName() + " played " + card.getName());
+            }
+
+            @Override
+            public void onPlayerEliminated(Player player) {
+                delivered.add(player.getName() + " is out");
+            }
+
+            @Override
+            public void onRoundWon(List<Player> winners) {
+                delivered.add(winners.get(0).getName() + " won the round");
+            }
+
+            @Override
+            public void onGameWon(Player winner) {
+                delivered.add(winner.getName() + " won the game");
+            }
+        };
+        Player alice = new Player("Alice", new Hand(), new DiscardPile(), false, 0);
+        Player bob = new Player("Bob", new Hand(), new DiscardPile(), false, 0);
+        List<Player> winners = new ArrayList<>(List.of(alice));
+        try {
+            BatchingEventListener listener = new BatchingEventListener(recorder, executor, 3);
+            listener.onMessage("one");
+            listener.onMessage("two");
+            listener.onCardPlayed(alice, Card.GUARD);
+            listener.onPlayerEliminated(bob);
+            listener.onRoundWon(winners);
+            winners.clear();
+            listener.onGameWon(alice);
+            listener.onMessage("three");
+            listener.close();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(List.of("one", "two", "Alice played Guard", "Bob is out", "Alice won the round",
+            "Alice won the game", "three"), delivered);
+        assertTrue(threads.stream().noneMatch(Thread.currentThread()::equals));
+    }
+
+    /*
+     * Verify that a prompt is delivered without waiting for the batch to fill up.
+     */
+    @Test
+    void testBatchingListenerFlushesPrompts() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        List<String> delivered = new ArrayList<>();
+        try {
+            BatchingEventListener listener = new BatchingEventListener(delivered::add, executor, 100);
+            listener.onMessage("Alice's turn:");
+            listener.onPrompt("Which card would you like to play: ");
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(List.of("Alice's turn:", "Which card would you like to play: "), delivered);
+    }
+
+    /*
+     * Verify that a failing listener is reported when the batching listener is closed.
+     */
+    @Test
+    void testBatchingListenerReportsFailure() {
+        GameEventListener failing = message -> {
+            throw new IllegalStateException("console is gone");
+        };
+        BatchingEventListener listener = new BatchingEventListener(failing, Runnable::run, 1);
+
+        listener.onMessage("lost");
+
+        assertThrows(CompletionException.class, listener::close);
+        assertThrows(IllegalArgumentException.class, () -> new BatchingEventListener(failing, Runnable::run, 0));
+    }
+}
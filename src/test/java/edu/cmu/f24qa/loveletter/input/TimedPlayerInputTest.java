@@ -0,0 +1,233 @@
+package edu.cmu.f24qa.loveletter.input;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edu.cmu.f24qa.loveletter.Card;
+import edu.cmu.f24qa.loveletter.Deck;
+import edu.cmu.f24qa.loveletter.GameContext;
+import edu.cmu.f24qa.loveletter.Player;
+import edu.cmu.f24qa.loveletter.PlayerList;
+
+class TimedPlayerInputTest {
+    private final List<String> messages = new ArrayList<>();
+    private ExecutorService executor;
+    private GameContext context;
+    private Player alice;
+    private Player bob;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+        PlayerList players = new PlayerList();
+        players.addPlayer("Alice");
+        players.addPlayer("Bob");
+        alice = players.getPlayer("Alice");
+        bob = players.getPlayer("Bob");
+        context = new GameContext(players, new Deck(), new RandomPlayerInput(new Random(1)), messages::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /*
+     * Verifies that decisions made in time are passed on unchanged.
+     */
+    @Test
+    void testDecisionsInTime() {
+        PlayerInput input = new TimedPlayerInput(new ExecutorPlayerInput(new FixedInput(), executor),
+            Duration.ofSeconds(10), new RandomPlayerInput(new Random(1)));
+
+        assertEquals(1, input.chooseCardIndex(context, alice));
+        assertEquals(Card.PRIEST, input.guessCard(context, alice));
+        assertEquals(7, input.guessNumber(context, alice));
+        assertSame(bob, input.chooseTarget(context, alice, List.of(alice, bob)));
+        assertSame(bob, input.choosePlayerToInspect(context, alice, List.of(alice, bob)));
+        assertTrue(input.confirm(context, alice, "?"));
+        assertTrue(messages.isEmpty());
+    }
+
+    /*
+     * Verifies that the fallback decides for a player who does not decide in time, and that the
+     * pending decision is cancelled.
+     */
+    @Test
+    void testTimeoutUsesFallback() {
+        StalledInput stalled = new StalledInput();
+        PlayerInput input = new TimedPlayerInput(stalled, Duration.ofMillis(20), new FixedInput());
+
+        assertEquals(1, input.chooseCardIndex(context, alice));
+        assertEquals(Card.PRIEST, input.guessCard(context, alice));
+        assertEquals(7, input.guessNumber(context, alice));
+        assertSame(bob, input.chooseTarget(context, alice, List.of(alice, bob)));
+        assertSame(bob, input.choosePlayerToInspect(context, alice, List.of(alice, bob)));
+        assertTrue(input.confirm(context, alice, "?"));
+        assertEquals(6, messages.size());
+        assertEquals("Alice did not decide in time.", messages.get(0));
+        assertTrue(stalled.pending.stream().allMatch(CompletableFuture::isCancelled));
+    }
+
+    /*
+     * Verifies that a decision running out of time interrupts the thread making it, so
+     * the decision stops instead of running on while the game continues.
+     */
+    @Test
+    void testTimeoutInterruptsDecision() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        AsyncPlayerInput slow = new ExecutorPlayerInput(new FixedInput() {
+            @Override
+            public int guessNumber(GameContext gameContext, Player player) {
+                try {
+                    Thread.sleep(60_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return 8;
+            }
+        }, executor);
+        PlayerInput input = new TimedPlayerInput(slow, Duration.ofMillis(20), new FixedInput());
+
+        assertEquals(7, input.guessNumber(context, alice));
+        assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+    }
+
+    /*
+     * Verifies that a failed decision is reported to the game instead of being replaced.
+     */
+    @Test
+    void testFailedDecisionIsRethrown() {
+        AsyncPlayerInput failing = new ExecutorPlayerInput(new FixedInput() {
+            @Override
+            public int chooseCardIndex(GameContext gameContext, Player player) {
+                throw new IllegalArgumentException("bad index");
+            }
+        }, executor);
+        PlayerInput input = new TimedPlayerInput(failing, Duration.ofSeconds(10), new FixedInput());
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> input.chooseCardIndex(context, alice));
+        assertEquals("bad index", e.getMessage());
+    }
+
+    /*
+     * Verifies that an interrupted wait cancels the decision and keeps the interrupt.
+     */
+    @Test
+    void testInterruptedWait() {
+        StalledInput stalled = new StalledInput();
+        PlayerInput input = new TimedPlayerInput(stalled, Duration.ofSeconds(10), new FixedInput());
+
+        Thread.currentThread().interrupt();
+        assertThrows(IllegalStateException.class, () -> input.guessNumber(context, alice));
+        assertTrue(Thread.interrupted());
+        assertTrue(stalled.pending.get(0).isCancelled());
+    }
+
+    /*
+     * Verifies that the timeout must be positive.
+     */
+    @Test
+    void testInvalidTimeout() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new TimedPlayerInput(new StalledInput(), Duration.ZERO, new FixedInput()));
+    }
+
+    /**
+     * Always makes the same decisions.
+     */
+    private static class FixedInput implements PlayerInput {
+        @Override
+        public int chooseCardIndex(GameContext gameContext, Player player) {
+            return 1;
+        }
+
+        @Override
+        public @Nullable Card guessCard(GameContext gameContext, Player player) {
+            return Card.PRIEST;
+        }
+
+        @Override
+        public int guessNumber(GameContext gameContext, Player player) {
+            return 7;
+        }
+
+        @Override
+        public Player chooseTarget(GameContext gameContext, Player player, List<Player> candidates) {
+            return candidates.get(candidates.size() - 1);
+        }
+
+        @Override
+        public Player choosePlayerToInspect(GameContext gameContext, Player player, List<Player> candidates) {
+            return candidates.get(candidates.size() - 1);
+        }
+
+        @Override
+        public boolean confirm(GameContext gameContext, Player player, String question) {
+            return true;
+        }
+    }
+
+    /**
+     * Never decides.
+     */
+    private static class StalledInput implements AsyncPlayerInput {
+        private final List<CompletableFuture<?>> pending = new ArrayList<>();
+
+        private <T> CompletableFuture<T> stall() {
+            CompletableFuture<T> decision = new CompletableFuture<>();
+            pending.add(decision);
+            return decision;
+        }
+
+        @Override
+        public CompletableFuture<Integer> chooseCardIndex(GameContext gameContext, Player player) {
+            return stall();
+        }
+
+        @Override
+        public CompletableFuture<@Nullable Card> guessCard(GameContext gameContext, Player player) {
+            return stall();
+        }
+
+        @Override
+        public CompletableFuture<Integer> guessNumber(GameContext gameContext, Player player) {
+            return stall();
+        }
+
+        @Override
+        public CompletableFuture<Player> chooseTarget(GameContext gameContext, Player player,
+                                                      List<Player> candidates) {
+            return stall();
+        }
+
+        @Override
+        public CompletableFuture<Player> choosePlayerToInspect(GameContext gameContext, Player player,
+                                                               List<Player> candidates) {
+            return stall();
+        }
+
+        @Override
+        public CompletableFuture<Boolean> confirm(GameContext gameContext, Player player, String question) {
+            return stall();
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package edu.cmu.f24qa.loveletter.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.cmu.f24qa.loveletter.Card;
+import edu.cmu.f24qa.loveletter.Deck;
+import edu.cmu.f24qa.loveletter.Game;
+import edu.cmu.f24qa.loveletter.Player;
+import edu.cmu.f24qa.loveletter.PlayerList;
+import edu.cmu.f24qa.loveletter.events.NoOpEventListener;
+import edu.cmu.f24qa.loveletter.input.RandomPlayerInput;
+
+class GameJournalTest {
+    @TempDir
+    Path directory;
+
+    /*
+     * Verifies that every kind of record reads back as written, across several mapped regions.
+     */
+    @Test
+    void testRecordsRoundTrip() throws IOException {
+        Path file = directory.resolve("games.journal");
+        byte[] deck = new byte[10];
+        for (int i = 0; i < deck.length; i++) {
+            deck[i] = (byte) (i % Card.values().length);
+        }
+        try (MappedGameJournal journal = new MappedGameJournal(file, 2 * JournalRecord.SIZE)) {
+            journal.onGameStart(3);
+            journal.onDeal(deck);
+            journal.onPlay(2, Card.GUARD, 0b001, JournalRecord.guessOf(Card.PRIEST), 0, 0b001);
+            journal.onRoundEnd(0b100);
+            journal.onGameStart(2);
+            journal.onPlay(1, Card.BISHOP, 0b01, JournalRecord.guessOf(0), 0x13, 0);
+            journal.flush();
+            assertEquals(7, journal.getRecordCount());
+        }
+
+        try (GameJournalReader reader = new GameJournalReader(file)) {
+            assertTrue(reader.next());
+            assertEquals(JournalRecord.GAME_START, reader.getType());
+            assertEquals(0, reader.getGame());
+            assertEquals(3, reader.getPlayerCount());
+
+            assertTrue(reader.next());
+            assertEquals(JournalRecord.DEAL, reader.getType());
+            assertEquals(1, reader.getRound());
+            assertEquals(10, reader.getDeckSize());
+            assertEquals(Card.values()[0], reader.getDealCard(0));
+            assertEquals(Card.values()[7], reader.getDealCard(7));
+            assertTrue(reader.next());
+            assertEquals(Card.values()[9], reader.getDealCard(1));
+            assertNull(reader.getDealCard(2));
+
+            assertTrue(reader.next());
+            assertEquals(JournalRecord.PLAY, reader.getType());
+            assertEquals(1, reader.getTurn());
+            assertEquals(2, reader.getSeat());
+            assertEquals(Card.GUARD, reader.getCard());
+            assertEquals(0b001, reader.getTargets());
+            assertEquals(Card.PRIEST, JournalRecord.guessedCard(reader.getGuess()));
+            assertEquals(0b001, reader.getEliminated());
+
+            assertTrue(reader.next());
+            assertEquals(JournalRecord.ROUND_END, reader.getType());
+            assertEquals(0b100, reader.getWinners());
+
+            assertTrue(reader.next());
+            assertEquals(1, reader.getGame());
+            assertEquals(0, reader.getRound());
+            assertTrue(reader.next());
+            assertEquals(Card.BISHOP, reader.getCard());
+            assertEquals(0, JournalRecord.guessedNumber(reader.getGuess()));
+            assertEquals(0x13, reader.getDecisions());
+
+            assertFalse(reader.next());
+        }
+    }
+
+    /*
+     * Verifies that a journaled headless game records a deal per round, every card played
+     * and the winners of every round.
+     */
+    @Test
+    void testJournalsHeadlessGame() throws IOException {
+        Path file = directory.resolve("game.journal");
+        PlayerList players = new PlayerList();
+        for (int i = 1; i <= 4; i++) {
+            players.addPlayer("Player " + i);
+        }
+        List<Player> seats = players.getPlayers();
+        Game game = new Game(players, new Deck(3L), new RandomPlayerInput(new Random(3)), new NoOpEventListener());
+        try (MappedGameJournal journal = new MappedGameJournal(file)) {
+            game.setJournal(journal);
+            game.start();
+        }
+
+        int deals = 0;
+        int plays = 0;
+        int[] dealt = new int[Card.values().length];
+        try (GameJournalReader reader = new GameJournalReader(file)) {
+            assertTrue(reader.next());
+            assertEquals(JournalRecord.GAME_START, reader.getType());
+            assertEquals(4, reader.getPlayerCount());
+            int dealRound = -1;
+            while (reader.next()) {
+                if (reader.getType() == JournalRecord.DEAL) {
+                    if (reader.getRound() != dealRound) {
+                        dealRound = reader.getRound();
+                        deals++;
+                        dealt = new int[Card.values().length];
+                        assertEquals(16, reader.getDeckSize());
+                    }
+                    for (int i = 0; i < JournalRecord.CARDS_PER_DEAL_RECORD; i++) {
+                        Card card = reader.getDealCard(i);
+                        if (card != null) {
+                            dealt[card.ordinal()]++;
+                        }
+                    }
+                } else if (reader.getType() == JournalRecord.PLAY) {
+                    plays++;
+                    assertEquals(plays, reader.getTurn());
+                    assertTrue(reader.getSeat() < 4);
+                    assertTrue(dealt[reader.getCard().ordinal()]-- > 0, "Only dealt cards can be played");
+                } else {
+                    assertEquals(JournalRecord.ROUND_END, reader.getType());
+                    assertNotEquals(0, reader.getWinners());
+                }
+            }
+        }
+        assertTrue(deals >= game.getRound());
+        assertTrue(plays > game.getRound());
+        assertTrue(seats.contains(game.getGameWinner()));
+    }
+
+    /*
+     * Verifies that the journal rejects region sizes that would split a record.
+     */
+    @Test
+    void testInvalidRegionSize() {
+        Path file = directory.resolve("invalid.journal");
+        assertThrows(IllegalArgumentException.class, () -> new MappedGameJournal(file, 0));
+        assertThrows(IllegalArgumentException.class, () -> new MappedGameJournal(file, JournalRecord.SIZE + 1));
+    }
+
+    /*
+     * Verifies that an empty journal file has no records.
+     */
+    @Test
+    void testEmptyJournal() throws IOException {
+        Path file = Files.createFile(directory.resolve("empty.journal"));
+        try (GameJournalReader reader = new GameJournalReader(file)) {
+            assertFalse(reader.next());
+        }
+    }
+
+    /*
+     * Verifies the encoding of guesses and that the no-op journal accepts every record.
+     */
+    @Test
+    void testGuessEncodingAndNoOpJournal() {
+        assertEquals(0, JournalRecord.guessOf(null));
+        assertNull(JournalRecord.guessedCard(0));
+        assertEquals(Card.BISHOP, JournalRecord.guessedCard(JournalRecord.guessOf(Card.BISHOP)));
+        assertEquals(9, JournalRecord.guessedNumber(JournalRecord.guessOf(9)));
+
+        GameJournal journal = new NoOpGameJournal();
+        journal.onGameStart(2);
+        journal.onDeal(new byte[0]);
+        journal.onPlay(0, Card.GUARD, 0, 0, 0, 0);
+        journal.onRoundEnd(1);
+    }
+}
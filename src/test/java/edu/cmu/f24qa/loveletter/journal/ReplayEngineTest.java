@@ -0,0 +1,132 @@
+package edu.cmu.f24qa.loveletter.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.cmu.f24qa.loveletter.Deck;
+import edu.cmu.f24qa.loveletter.Game;
+import edu.cmu.f24qa.loveletter.PlayerList;
+import edu.cmu.f24qa.loveletter.events.NoOpEventListener;
+import edu.cmu.f24qa.loveletter.input.RandomPlayerInput;
+
+class ReplayEngineTest {
+    @TempDir
+    Path directory;
+
+    /**
+     * Records random headless games for every table size into one journal.
+     */
+    private Path recordGames(String name, int gamesPerTable) throws IOException {
+        Path file = directory.resolve(name);
+        try (MappedGameJournal journal = new MappedGameJournal(file)) {
+            for (int playerCount = 2; playerCount <= 8; playerCount++) {
+                for (int seed = 0; seed < gamesPerTable; seed++) {
+                    PlayerList players = new PlayerList();
+                    for (int i = 1; i <= playerCount; i++) {
+                        players.addPlayer("Player " + i);
+                    }
+                    Game game = new Game(players, new Deck(seed), new RandomPlayerInput(new Random(seed)),
+                        new NoOpEventListener());
+                    game.setJournal(journal);
+                    game.start();
+                }
+            }
+        }
+        return file;
+    }
+
+    /*
+     * Verifies that recorded games replay exactly, sequentially and in parallel.
+     */
+    @Test
+    void testRecordedGamesReplayExactly() throws IOException {
+        Path file = recordGames("games.journal", 20);
+        List<RecordedGame> games = RecordedGame.load(file);
+        assertEquals(7 * 20, games.size());
+
+        ReplayResult sequential = new ReplayEngine(1).replay(games);
+        ReplayResult parallel = new ReplayEngine(4).replayFiles(List.of(file));
+
+        assertTrue(sequential.isSuccessful(), sequential.getMismatches().toString());
+        assertTrue(parallel.isSuccessful(), parallel.getMismatches().toString());
+        long plays = games.stream().mapToLong(RecordedGame::getPlayCount).sum();
+        assertEquals(plays, sequential.getPlays());
+        assertEquals(plays, parallel.getPlays());
+        assertEquals(games.size(), parallel.getGames());
+        assertTrue(parallel.toString().contains("0 mismatches"));
+    }
+
+    /*
+     * Verifies that a journal whose outcome was altered is reported as a mismatch.
+     */
+    @Test
+    void testAlteredOutcomeIsReported() throws IOException {
+        Path file = recordGames("altered.journal", 1);
+        flipFirstPlayOutcome(file);
+        List<RecordedGame> games = RecordedGame.load(file);
+
+        ReplayResult result = new ReplayEngine(2).replay(games);
+
+        assertFalse(result.isSuccessful());
+        assertEquals(1, result.getMismatches().size());
+        assertTrue(result.getMismatches().get(0).startsWith("altered.journal game 0, turn 1: expected seat"),
+            result.getMismatches().get(0));
+        assertThrows(ReplayMismatchException.class, () -> new ReplayEngine().verify(games.get(0)));
+    }
+
+    /*
+     * Verifies that a game cut short in the journal is reported.
+     */
+    @Test
+    void testTruncatedGameIsReported() throws IOException {
+        Path file = directory.resolve("short.journal");
+        try (MappedGameJournal journal = new MappedGameJournal(file)) {
+            journal.onGameStart(2);
+        }
+
+        ReplayResult result = new ReplayEngine(1).replay(RecordedGame.load(file));
+
+        assertEquals(List.of("short.journal game 0, turn 1: more rounds are dealt than were recorded"),
+            result.getMismatches());
+    }
+
+    /*
+     * Verifies that the parallelism must be positive.
+     */
+    @Test
+    void testInvalidParallelism() {
+        assertThrows(IllegalArgumentException.class, () -> new ReplayEngine(0));
+    }
+
+    /**
+     * Marks an extra seat as eliminated in the first card play of the journal.
+     */
+    private static void flipFirstPlayOutcome(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer record = ByteBuffer.allocate(JournalRecord.SIZE);
+            for (long position = 0; ; position += JournalRecord.SIZE) {
+                record.clear();
+                channel.read(record, position);
+                if (record.get(JournalRecord.TYPE) == JournalRecord.PLAY) {
+                    record.put(JournalRecord.OUTCOME, (byte) (record.get(JournalRecord.OUTCOME) ^ 0b10));
+                    record.flip();
+                    channel.write(record, position);
+                    return;
+                }
+            }
+        }
+    }
+}
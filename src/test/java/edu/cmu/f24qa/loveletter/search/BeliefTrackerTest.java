@@ -0,0 +1,166 @@
+package edu.cmu.f24qa.loveletter.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import edu.cmu.f24qa.loveletter.Card;
+
+class BeliefTrackerTest {
+    private static final Card[] CARDS = Card.values();
+
+    /**
+     * Checks that no observer rules out a card that is actually hidden from them.
+     */
+    private static void assertConsistent(BeliefTracker beliefs, SearchState state) {
+        for (int observer = 0; observer < state.getPlayerCount(); observer++) {
+            int[] hidden = new int[CARDS.length];
+            for (int depth = 0; depth < state.getDeckSize(); depth++) {
+                hidden[state.getDeckCard(depth).ordinal()]++;
+            }
+            // once the deck is empty, the set-aside card may have been drawn and yet stay set aside
+            if (state.getSetAsideCard() != null && state.getDeckSize() > 0) {
+                hidden[state.getSetAsideCard().ordinal()]++;
+            }
+            for (int seat = 0; seat < state.getPlayerCount(); seat++) {
+                if (seat == observer || state.isEliminated(seat)) {
+                    continue;
+                }
+                Card known = beliefs.getKnownCard(observer, seat);
+                boolean matched = known == null;
+                double likely = 0;
+                for (int slot = 0; slot < state.getHandSize(seat); slot++) {
+                    Card card = state.getHandCard(seat, slot);
+                    if (!matched && card == known) {
+                        matched = true;
+                    } else {
+                        hidden[card.ordinal()]++;
+                    }
+                    likely += beliefs.probability(observer, seat, card);
+                }
+                assertTrue(matched, "seat " + observer + " wrongly believes seat " + seat + " holds " + known);
+                assertTrue(likely > 0, "seat " + observer + " rules out the hand of seat " + seat);
+            }
+            for (Card card : CARDS) {
+                assertTrue(beliefs.getUnseenCount(observer, card) >= hidden[card.ordinal()],
+                    "seat " + observer + " has seen too many " + card.getName());
+            }
+        }
+    }
+
+    /*
+     * Verifies that the beliefs of every player stay consistent with the true cards throughout
+     * random rounds, whatever the cards played.
+     */
+    @Test
+    void testBeliefsFollowRandomRounds() {
+        Random random = new Random(13);
+        MoveGenerator generator = new MoveGenerator();
+        BeliefTracker beliefs = new BeliefTracker();
+        for (int round = 0; round < 150; round++) {
+            SearchState state = SearchFixture.deal(2 + round % 7, round);
+            state.track(beliefs);
+            assertConsistent(beliefs, state);
+            while (!state.isTerminal()) {
+                generator.reset(state);
+                state.make(generator.get(random.nextInt(generator.size())));
+                assertConsistent(beliefs, state);
+            }
+        }
+    }
+
+    /*
+     * Verifies that the cards removed face up in a 2-player round are never expected in a hand.
+     */
+    @Test
+    void testFaceUpCardsAreSeen() {
+        SearchState state = SearchFixture.deal(2, 3L);
+        BeliefTracker beliefs = new BeliefTracker();
+        state.track(beliefs);
+
+        assertEquals(16 - 3 - 2, beliefs.getUnseenTotal(0));
+        assertEquals(16 - 3 - 1, beliefs.getUnseenTotal(1));
+        double[] distribution = new double[CARDS.length];
+        beliefs.distribution(0, 1, distribution);
+        double total = 0;
+        for (Card card : CARDS) {
+            assertEquals((double) beliefs.getUnseenCount(0, card) / beliefs.getUnseenTotal(0),
+                distribution[card.ordinal()], 1e-9);
+            total += distribution[card.ordinal()];
+        }
+        assertEquals(1, total, 1e-9);
+
+        BeliefTracker manual = new BeliefTracker();
+        manual.reset(2, Card.GUARD, Card.GUARD, Card.PRINCESS);
+        assertEquals(0, manual.getUnseenCount(1, Card.PRINCESS));
+        assertEquals(3, manual.getUnseenCount(1, Card.GUARD));
+        assertThrows(IllegalArgumentException.class, () -> manual.reset(9));
+        assertThrows(IllegalStateException.class, () -> manual.onDraw(0, Card.PRINCESS));
+    }
+
+    /*
+     * Verifies that the Priest shows a card to its player only.
+     */
+    @Test
+    void testPriestShowsCard() {
+        SearchState state = SearchFixture.deal(4, 4L, new Card[] {Card.PRIEST, Card.KING}, new Card[] {Card.BARON});
+        BeliefTracker beliefs = new BeliefTracker();
+        state.track(beliefs);
+        int unseenBarons = beliefs.getUnseenCount(0, Card.BARON);
+
+        state.make(Move.withTarget(Move.of(Card.PRIEST, 0), 1));
+
+        assertEquals(Card.BARON, beliefs.getKnownCard(0, 1));
+        assertEquals(1, beliefs.probability(0, 1, Card.BARON));
+        assertEquals(0, beliefs.probability(0, 1, Card.GUARD));
+        assertEquals(unseenBarons - 1, beliefs.getUnseenCount(0, Card.BARON));
+        assertNull(beliefs.getKnownCard(2, 1));
+        assertEquals(unseenBarons, beliefs.getUnseenCount(2, Card.BARON));
+    }
+
+    /*
+     * Verifies that the players swapping hands with the King know each other's new card.
+     */
+    @Test
+    void testKingSwapIsKnown() {
+        SearchState state = SearchFixture.deal(4, 6L, new Card[] {Card.KING, Card.GUARD}, new Card[] {Card.BARON});
+        BeliefTracker beliefs = new BeliefTracker();
+        state.track(beliefs);
+
+        state.make(Move.withTarget(Move.of(Card.KING, 0), 1));
+
+        assertEquals(Card.GUARD, beliefs.getKnownCard(0, 1));
+        assertEquals(Card.BARON, beliefs.getKnownCard(1, 0));
+        assertNull(beliefs.getKnownCard(2, 0));
+        assertNull(beliefs.getKnownCard(2, 1));
+        assertEquals(0, beliefs.probability(3, 0, Card.KING));
+    }
+
+    /*
+     * Verifies that a missed Guard guess rules the card out for everybody but the guessed player.
+     */
+    @Test
+    void testGuardMissRulesCardOut() {
+        SearchState state = SearchFixture.deal(4, 5L, new Card[] {Card.GUARD, Card.KING}, new Card[] {Card.BARON});
+        BeliefTracker beliefs = new BeliefTracker();
+        state.track(beliefs);
+
+        state.make(Move.withGuess(Move.withTarget(Move.of(Card.GUARD, 0), 1), Card.PRINCESS));
+
+        assertEquals(0, beliefs.probability(2, 1, Card.PRINCESS));
+        assertTrue(beliefs.probability(2, 3, Card.PRINCESS) > 0);
+        double[] distribution = new double[CARDS.length];
+        beliefs.distribution(2, 1, distribution);
+        double total = 0;
+        for (double probability : distribution) {
+            total += probability;
+        }
+        assertEquals(1, total, 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> beliefs.probability(1, 1, Card.GUARD));
+    }
+}
@@ -0,0 +1,168 @@
+package edu.cmu.f24qa.loveletter.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.cmu.f24qa.loveletter.Card;
+
+class CfrTrainerTest {
+    private static final int ITERATIONS = 2_000;
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Trains fresh tables on one thread, so the same seed always gives the same tables.
+     */
+    private static CfrTables train(long iterations, long seed) {
+        CfrTables tables = new CfrTables(1 << 18, 1 << 20);
+        try (CfrTrainer trainer = new CfrTrainer(tables, 1, seed)) {
+            assertEquals(iterations, trainer.train(iterations, 60_000));
+        }
+        return tables;
+    }
+
+    /**
+     * Returns the average probability with which the tables play a Princess held in the
+     * first slot on the first move of a round, over the first deals that do so and whose
+     * information set is stored.
+     */
+    private static double princessProbability(CfrTables tables, int deals) {
+        SearchState state = new SearchState(2);
+        BeliefTracker beliefs = new BeliefTracker();
+        MoveGenerator moves = new MoveGenerator();
+        double[] strategy = new double[MoveGenerator.CAPACITY];
+        double princess = 0;
+        int stored = 0;
+        for (long seed = 0; stored < deals; seed++) {
+            state.deal(SearchFixture.shuffledOrder(seed));
+            beliefs.reset(state);
+            int actions = moves.reset(state).size();
+            int offset = tables.lookup(CfrTables.key(state, beliefs), actions);
+            if (offset == CfrTables.NONE || state.card(0, 0) != Card.PRINCESS.ordinal()) {
+                continue;
+            }
+            tables.averageStrategy(offset, actions, strategy);
+            princess += strategy[0];
+            stored++;
+        }
+        return princess / stored;
+    }
+
+    /*
+     * Verifies that training on one thread is reproducible and learns quickly not to
+     * discard the Princess on the first move.
+     */
+    @Test
+    void testTrainingLearnsToKeepPrincess() {
+        CfrTables tables = train(ITERATIONS, 1L);
+        CfrTables again = train(ITERATIONS, 1L);
+
+        assertEquals(ITERATIONS, tables.getIterations());
+        assertEquals(tables.size(), again.size());
+        double princess = princessProbability(tables, 100);
+        assertEquals(princess, princessProbability(again, 100));
+        assertTrue(princess < 0.1, "Princess played with probability " + princess);
+    }
+
+    /*
+     * Verifies that a longer trained strategy wins more rounds against random play than
+     * it loses from either seat. Slow and statistical, so only run with -Pslow.
+     */
+    @Test
+    @Tag("slow")
+    void testTrainedStrategyBeatsRandom() {
+        CfrTables tables = train(20_000, 1L);
+        assertTrue(tables.size() > 1000);
+
+        CfrPolicy trained = new CfrPolicy(tables, new Random(2));
+        RandomPolicy random = new RandomPolicy(new Random(3));
+        int wins = 0;
+        int losses = 0;
+        for (int round = 0; round < 2000; round++) {
+            boolean first = round % 2 == 0;
+            int winners = first ? SearchFixture.playRound(round, trained, random)
+                : SearchFixture.playRound(round, random, trained);
+            int own = first ? 0b01 : 0b10;
+            if (winners == own) {
+                wins++;
+            } else if ((winners & own) == 0) {
+                losses++;
+            }
+        }
+        assertTrue(wins > losses, wins + " wins, " + losses + " losses");
+        assertTrue(trained.getMisses() < trained.getDecisions());
+    }
+
+    /*
+     * Verifies that a checkpoint holds every information set and the iterations trained,
+     * and that training resumes from it.
+     */
+    @Test
+    void testCheckpointResumes() throws IOException {
+        Path file = directory.resolve("cfr.bin");
+        CfrTables tables = new CfrTables(1 << 16, 1 << 18);
+        try (CfrTrainer trainer = new CfrTrainer(tables, 1, 4L).checkpointTo(file, 60_000)) {
+            assertEquals(300, trainer.train(300, 60_000));
+        }
+
+        CfrTables loaded = CfrTables.load(file);
+
+        assertEquals(300, loaded.getIterations());
+        assertEquals(tables.size(), loaded.size());
+        assertEquals(tables.getCapacity(), loaded.getCapacity());
+        SearchState state = new SearchState(2);
+        BeliefTracker beliefs = new BeliefTracker();
+        double[] expected = new double[MoveGenerator.CAPACITY];
+        double[] actual = new double[MoveGenerator.CAPACITY];
+        MoveGenerator moves = new MoveGenerator();
+        for (long seed = 0; seed < 50; seed++) {
+            state.deal(SearchFixture.shuffledOrder(seed));
+            beliefs.reset(state);
+            long key = CfrTables.key(state, beliefs);
+            int actions = moves.reset(state).size();
+            tables.averageStrategy(tables.lookup(key, actions), actions, expected);
+            loaded.averageStrategy(loaded.lookup(key, actions), actions, actual);
+            for (int i = 0; i < actions; i++) {
+                assertEquals(expected[i], actual[i], 1e-9);
+            }
+        }
+        try (CfrTrainer trainer = new CfrTrainer(loaded, 1, 5L)) {
+            assertEquals(100, trainer.train(100, 60_000));
+        }
+        assertEquals(400, loaded.getIterations());
+        Files.writeString(file, "not a checkpoint");
+        assertThrows(IOException.class, () -> CfrTables.load(file));
+    }
+
+    /*
+     * Verifies that full tables stop storing information sets, which are then played
+     * uniformly, and that the arguments are checked.
+     */
+    @Test
+    void testFullTablesAndArguments() {
+        CfrTables tables = new CfrTables(16, 1 << 10);
+        try (CfrTrainer trainer = new CfrTrainer(tables, 1, 6L)) {
+            trainer.train(50, 60_000);
+            assertThrows(IllegalArgumentException.class, () -> trainer.checkpointTo(directory, 0));
+            assertThrows(IllegalArgumentException.class, () -> trainer.train(-1, 1));
+        }
+        assertEquals(12, tables.size());
+        assertEquals(CfrTables.NONE, tables.find(42L, 3));
+        double[] strategy = new double[3];
+        tables.averageStrategy(CfrTables.NONE, 3, strategy);
+        assertEquals(1.0 / 3, strategy[2], 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> new CfrTables(12, 1));
+        assertThrows(IllegalArgumentException.class, () -> new CfrTrainer(tables, 0, 1L));
+    }
+}
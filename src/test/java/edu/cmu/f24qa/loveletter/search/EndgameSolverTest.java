@@ -0,0 +1,145 @@
+package edu.cmu.f24qa.loveletter.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import edu.cmu.f24qa.loveletter.Card;
+
+class EndgameSolverTest {
+    /**
+     * Plays random moves from a seeded deal until the deck holds at most the given
+     * number of cards, with the beliefs following the game.
+     *
+     * @return the position, or null if the round ended first
+     */
+    private static SearchState endgame(int playerCount, long seed, int deckSize, BeliefTracker beliefs) {
+        SearchState state = new SearchState(playerCount);
+        state.deal(SearchFixture.shuffledOrder(seed));
+        state.track(beliefs);
+        Random random = new Random(seed);
+        MoveGenerator moves = new MoveGenerator();
+        while (!state.isTerminal() && (state.getDeckSize() > deckSize || state.isResponding())) {
+            moves.reset(state);
+            state.make(moves.get(random.nextInt(moves.size())));
+        }
+        return state.isTerminal() ? null : state;
+    }
+
+    /*
+     * Verifies that the Baron next to the Princess wins for sure, and that discarding the
+     * Princess loses for sure.
+     */
+    @Test
+    void testBaronNextToPrincessWins() {
+        SearchState state = SearchFixture.deal(1L, new Card[] {Card.BARON, Card.PRINCESS}, Card.GUARD, 2);
+        SearchState before = new SearchState(state);
+        BeliefTracker beliefs = new BeliefTracker();
+        beliefs.reset(state);
+        MoveGenerator moves = new MoveGenerator().reset(state);
+        double[] probabilities = new double[moves.size()];
+
+        int best = new EndgameSolver(1 << 12).solve(state, beliefs, moves, probabilities);
+
+        assertEquals(Card.BARON, Move.card(moves.get(best)));
+        assertEquals(1.0, probabilities[best], 1e-9);
+        assertEquals(0.0, probabilities[1 - best], 1e-9);
+        assertEquals(before, state);
+    }
+
+    /*
+     * Verifies that a card the beliefs know is dealt to its holder in every deal, so
+     * the Guard naming it wins for sure.
+     */
+    @Test
+    void testKnownCardIsDealtToItsHolder() {
+        SearchState state = SearchFixture.deal(2L, new Card[] {Card.GUARD, Card.HANDMAIDEN}, Card.PRINCE, 3);
+        BeliefTracker beliefs = new BeliefTracker();
+        state.track(beliefs);
+        beliefs.onReveal(0, 1, Card.PRINCE);
+        MoveGenerator moves = new MoveGenerator().reset(state);
+        double[] probabilities = new double[moves.size()];
+
+        int best = new EndgameSolver(1 << 12).solve(state, beliefs, moves, probabilities);
+
+        assertEquals(Move.withGuess(Move.withTarget(Move.of(Card.GUARD, 0), 1), Card.PRINCE), moves.get(best));
+        assertEquals(1.0, probabilities[best], 1e-9);
+    }
+
+    /*
+     * Verifies that the transposition table does not change the win probabilities: a
+     * solver whose table holds a single position agrees with one holding many, and
+     * solving the same endgames again is mostly answered from the table.
+     */
+    @Test
+    void testTableKeepsProbabilitiesExact() {
+        EndgameSolver cached = new EndgameSolver(1 << 16);
+        EndgameSolver uncached = new EndgameSolver(1);
+        MoveGenerator moves = new MoveGenerator();
+        double[] expected = new double[MoveGenerator.CAPACITY];
+        double[] actual = new double[MoveGenerator.CAPACITY];
+        int solved = 0;
+        long repeatProbes = 0;
+        long repeatHits = 0;
+        for (long seed = 0; seed < 60; seed++) {
+            BeliefTracker beliefs = new BeliefTracker();
+            SearchState state = endgame(2 + (int) (seed % 3), seed, 2, beliefs);
+            if (state == null) {
+                continue;
+            }
+            moves.reset(state);
+            uncached.solve(state, beliefs, moves, expected);
+            cached.solve(state, beliefs, moves, actual);
+            long probes = cached.getProbes();
+            long hits = cached.getHits();
+            cached.solve(state, beliefs, moves, actual);
+            repeatProbes += cached.getProbes() - probes;
+            repeatHits += cached.getHits() - hits;
+            for (int i = 0; i < moves.size(); i++) {
+                assertEquals(expected[i], actual[i], 1e-6, Move.toString(moves.get(i)) + " in\n" + state);
+                assertTrue(actual[i] >= 0 && actual[i] <= 1);
+            }
+            solved++;
+        }
+        assertTrue(solved > 20);
+        assertTrue(repeatHits > repeatProbes * 9 / 10, repeatHits + " of " + repeatProbes);
+        assertTrue(cached.getDeals() > solved);
+    }
+
+    /*
+     * Verifies that the endgame policy plays the solver's best move once the deck is
+     * down to its threshold, leaves the moves before that to the fallback, and that the
+     * arguments are checked.
+     */
+    @Test
+    void testPolicySolvesOnlyWithinThreshold() {
+        SearchState state = SearchFixture.deal(1L, new Card[] {Card.BARON, Card.PRINCESS}, Card.GUARD, 2);
+        MoveGenerator moves = new MoveGenerator().reset(state);
+        int princess = Move.of(Card.PRINCESS, 1);
+        int[] fallbackCalls = new int[1];
+        DecisionPolicy fallback = (position, legal) -> {
+            fallbackCalls[0]++;
+            return princess;
+        };
+        EndgameSolver solver = new EndgameSolver(1 << 12);
+
+        int solved = new EndgamePolicy(solver, fallback, 2).chooseMove(state, moves);
+
+        assertEquals(Card.BARON, Move.card(solved));
+        assertEquals(0, fallbackCalls[0]);
+        assertTrue(solver.getDeals() > 0);
+
+        long deals = solver.getDeals();
+        int early = new EndgamePolicy(solver, fallback, 1).chooseMove(state, moves);
+
+        assertEquals(princess, early);
+        assertEquals(1, fallbackCalls[0]);
+        assertEquals(deals, solver.getDeals());
+        assertThrows(IllegalArgumentException.class, () -> new EndgameSolver(3));
+        assertThrows(IllegalArgumentException.class, () -> new EndgamePolicy(solver, fallback, -1));
+    }
+}
@@ -0,0 +1,120 @@
+package edu.cmu.f24qa.loveletter.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import edu.cmu.f24qa.loveletter.Card;
+
+class IsmctsPolicyTest {
+    /*
+     * Verifies that the search keeps the Princess and plays the Baron, which wins against
+     * any card, and leaves the position as it was given.
+     */
+    @Test
+    void testKeepsPrincess() {
+        SearchState state = SearchFixture.deal(1L, new Card[] {Card.BARON, Card.PRINCESS}, Card.PRIEST);
+        SearchState before = new SearchState(state);
+
+        try (IsmctsPolicy policy = new IsmctsPolicy(10_000, 1, 7L).limitPlayouts(500)) {
+            int move = policy.chooseMove(state, new MoveGenerator().reset(state));
+
+            assertEquals(Card.BARON, Move.card(move));
+            assertEquals(500, policy.getLastPlayouts());
+        }
+        assertEquals(before, state);
+    }
+
+    /*
+     * Verifies that a card the tracked beliefs know is used: the Guard names the card
+     * the Priest showed.
+     */
+    @Test
+    void testGuessesKnownCard() {
+        SearchState state = SearchFixture.deal(2L, new Card[] {Card.GUARD, Card.HANDMAIDEN}, Card.PRINCE);
+        BeliefTracker beliefs = new BeliefTracker();
+        state.track(beliefs);
+        beliefs.onReveal(0, 1, Card.PRINCE);
+
+        try (IsmctsPolicy policy = new IsmctsPolicy(10_000, 2, 3L).limitPlayouts(1000)) {
+            policy.useBeliefs(beliefs);
+            int move = policy.chooseMove(state, new MoveGenerator().reset(state));
+
+            assertEquals(Move.withGuess(Move.withTarget(Move.of(Card.GUARD, 0), 1), Card.PRINCE), move);
+            assertEquals(2000, policy.getLastPlayouts());
+        }
+    }
+
+    /*
+     * Verifies that the search finds the one move that wins for sure: with the deck empty,
+     * the Prince must make the opponent discard, since discarding the Princess loses.
+     */
+    @Test
+    void testFindsOnlyWinningMove() {
+        SearchState state = SearchFixture.deal(4L, new Card[] {Card.PRINCE, Card.PRINCESS}, Card.GUARD, 0);
+
+        try (IsmctsPolicy policy = new IsmctsPolicy(10_000, 1, 9L).limitPlayouts(300)) {
+            int move = policy.chooseMove(state, new MoveGenerator().reset(state));
+
+            assertEquals(Move.withTarget(Move.of(Card.PRINCE, 0), 1), move);
+        }
+    }
+
+    /*
+     * Verifies that policies with the same seed and playout limit choose the same moves,
+     * however many threads search.
+     */
+    @Test
+    void testSameSeedSameMoves() {
+        try (IsmctsPolicy first = new IsmctsPolicy(10_000, 2, 5L).limitPlayouts(200);
+             IsmctsPolicy second = new IsmctsPolicy(10_000, 2, 5L).limitPlayouts(200)) {
+            for (long seed = 0; seed < 10; seed++) {
+                SearchState state = SearchFixture.deal(3, seed);
+                MoveGenerator moves = new MoveGenerator().reset(state);
+
+                assertEquals(first.chooseMove(state, moves), second.chooseMove(state, moves), state.toString());
+            }
+        }
+    }
+
+    /*
+     * Verifies that no thread runs more playouts than the limit, whether the clock or
+     * the limit ends the search.
+     */
+    @Test
+    void testPlayoutsBoundedByLimitPerThread() {
+        SearchState state = SearchFixture.deal(6L, new Card[] {Card.GUARD, Card.BARON}, Card.PRIEST);
+        MoveGenerator moves = new MoveGenerator().reset(state);
+
+        try (IsmctsPolicy timed = new IsmctsPolicy(1, 3, 7L).limitPlayouts(100);
+             IsmctsPolicy unlimited = new IsmctsPolicy(10_000, 3, 7L).limitPlayouts(100)) {
+            timed.chooseMove(state, moves);
+            unlimited.chooseMove(state, moves);
+
+            assertTrue(timed.getLastPlayouts() <= 3 * 100, timed.getLastPlayouts() + " playouts");
+            assertEquals(3 * 100, unlimited.getLastPlayouts());
+            assertTrue(unlimited.getPlayoutsPerSecond() > 0);
+        }
+    }
+
+    /*
+     * Verifies that a single legal move is played without searching, and that the
+     * arguments are checked.
+     */
+    @Test
+    void testForcedMoveAndArguments() {
+        SearchState state = SearchFixture.deal(3L, new Card[] {Card.KING, Card.COUNTESS}, Card.GUARD);
+
+        try (IsmctsPolicy policy = new IsmctsPolicy(10_000, 1, 1L)) {
+            int move = policy.chooseMove(state, new MoveGenerator().reset(state));
+
+            assertEquals(Card.COUNTESS, Move.card(move));
+            assertEquals(0, policy.getPlayoutsPerSecond());
+            assertThrows(IllegalArgumentException.class, () -> policy.limitPlayouts(0));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new IsmctsPolicy(-1, 1, 1L));
+        assertThrows(IllegalArgumentException.class, () -> new IsmctsPolicy(1, 0, 1L));
+    }
+}
@@ -0,0 +1,136 @@
+package edu.cmu.f24qa.loveletter.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+import edu.cmu.f24qa.loveletter.Card;
+
+class MoveGeneratorTest {
+    private SearchFixture table;
+
+    private List<Integer> movesOf(int seatToAct) {
+        MoveGenerator generator = new MoveGenerator().reset(SearchState.of(table.context.snapshot(), seatToAct));
+        List<Integer> moves = new ArrayList<>();
+        generator.forEachRemaining((int move) -> moves.add(move));
+        assertEquals(generator.size(), moves.size());
+        return moves;
+    }
+
+    /*
+     * Verifies that the Countess is the only card that can be played next to a King.
+     */
+    @Test
+    void testCountessMustBePlayedWithRoyalty() {
+        table = new SearchFixture(2, 1L, new Card[] {Card.KING, Card.COUNTESS}, new Card[] {Card.GUARD});
+
+        List<Integer> moves = movesOf(0);
+
+        assertEquals(1, moves.size());
+        assertEquals(Card.COUNTESS, Move.card(moves.get(0)));
+        assertEquals(1, Move.slot(moves.get(0)));
+    }
+
+    /*
+     * Verifies that the Guard targets every unprotected opponent and guesses every other card in play.
+     */
+    @Test
+    void testGuardSkipsProtectedPlayers() {
+        table = new SearchFixture(4, 1L, new Card[] {Card.GUARD, Card.HANDMAIDEN}, new Card[] {Card.PRIEST},
+            new Card[] {Card.BARON}, new Card[] {Card.KING});
+        table.players.getSeat(2).switchProtection();
+
+        List<Integer> moves = movesOf(0);
+
+        assertEquals(2 * 7 + 1, moves.size());
+        for (int move : moves) {
+            if (Move.card(move) == Card.GUARD) {
+                assertTrue(Move.target(move) == 1 || Move.target(move) == 3);
+                assertTrue(Move.guessedCard(move) != Card.GUARD);
+                assertTrue(Move.guessedCard(move).ordinal() <= Card.PRINCESS.ordinal());
+            }
+        }
+        assertTrue(moves.contains(Move.withGuess(Move.withTarget(Move.of(Card.GUARD, 0), 3), Card.PRINCESS)));
+    }
+
+    /*
+     * Verifies that a card without targets can still be played, without effect, and that
+     * only the Prince may target its own player.
+     */
+    @Test
+    void testCardsWithoutTargets() {
+        table = new SearchFixture(2, 1L, new Card[] {Card.KING, Card.PRINCE}, new Card[] {Card.PRIEST});
+        table.players.getSeat(1).switchProtection();
+
+        List<Integer> moves = movesOf(0);
+
+        assertEquals(List.of(Move.of(Card.KING, 0), Move.withTarget(Move.of(Card.PRINCE, 1), 0)), moves);
+        assertEquals(-1, Move.target(moves.get(0)));
+    }
+
+    /*
+     * Verifies that the Sycophant-forced player is the first target of every move.
+     */
+    @Test
+    void testSycophantForcesFirstTarget() {
+        table = new SearchFixture(5, 1L, new Card[] {Card.BARONESS, Card.PRINCE}, new Card[] {Card.GUARD},
+            new Card[] {Card.GUARD}, new Card[] {Card.GUARD}, new Card[] {Card.GUARD});
+        table.context.setSycophantForcedPlayer(table.players.getSeat(3));
+
+        List<Integer> moves = movesOf(0);
+
+        assertEquals(4, moves.size());
+        for (int move : moves) {
+            assertTrue((Move.targetSeats(move) & 1 << 3) != 0, Move.toString(move));
+        }
+        assertEquals(1, moves.stream().filter(move -> Move.card(move) == Card.PRINCE).count());
+    }
+
+    /*
+     * Verifies that the Cardinal swaps any two players, its own included, and looks at either,
+     * and that a second copy of the same card adds no moves.
+     */
+    @Test
+    void testCardinalChoosesPairs() {
+        table = new SearchFixture(5, 1L, new Card[] {Card.CARDINAL, Card.CARDINAL}, new Card[] {Card.GUARD},
+            new Card[] {Card.GUARD}, new Card[] {Card.GUARD}, new Card[] {Card.GUARD});
+
+        List<Integer> moves = movesOf(0);
+
+        assertEquals(10 * 2, moves.size());
+        int move = Move.withInspectSecond(Move.withTarget(Move.withTarget(Move.of(Card.CARDINAL, 0), 4), 0));
+        assertTrue(moves.contains(move));
+        assertEquals(4, Move.inspected(move));
+        assertEquals("Cardinal@0 -> 0, 4 looking at 4", Move.toString(move));
+    }
+
+    /*
+     * Verifies the Bishop's number guesses and the iterator contract.
+     */
+    @Test
+    void testBishopAndIterator() {
+        table = new SearchFixture(5, 1L, new Card[] {Card.BISHOP, Card.COUNTESS}, new Card[] {Card.GUARD},
+            new Card[0], new Card[0], new Card[0]);
+
+        MoveGenerator generator = new MoveGenerator().reset(table.state());
+
+        assertEquals(10 + 1, generator.size());
+        assertEquals(9, Move.guessedNumber(generator.get(9)));
+        assertNull(Move.guessedCard(Move.of(Card.BISHOP, 0)));
+        for (int i = 0; i < generator.size(); i++) {
+            generator.nextInt();
+        }
+        assertFalse(generator.hasNext());
+        assertThrows(NoSuchElementException.class, generator::nextInt);
+        assertThrows(IndexOutOfBoundsException.class, () -> generator.get(11));
+        assertThrows(IllegalArgumentException.class, () -> SearchState.of(table.context.snapshot(), 1));
+    }
+}
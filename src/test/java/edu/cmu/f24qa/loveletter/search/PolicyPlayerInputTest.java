@@ -0,0 +1,125 @@
+package edu.cmu.f24qa.loveletter.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+
+import edu.cmu.f24qa.loveletter.Card;
+import edu.cmu.f24qa.loveletter.Deck;
+import edu.cmu.f24qa.loveletter.Game;
+import edu.cmu.f24qa.loveletter.GameContext;
+import edu.cmu.f24qa.loveletter.Player;
+import edu.cmu.f24qa.loveletter.PlayerList;
+import edu.cmu.f24qa.loveletter.events.NoOpEventListener;
+import edu.cmu.f24qa.loveletter.input.RandomPlayerInput;
+import edu.cmu.f24qa.loveletter.input.SeatedPlayerInput;
+
+class PolicyPlayerInputTest {
+    /**
+     * Plays random moves and checks that every position the game asks about is the one
+     * make predicted from the previous move, whenever the round went on in between.
+     */
+    private static final class CheckingPolicy implements DecisionPolicy {
+        private final RandomPolicy random = new RandomPolicy(new Random(11));
+        private final MoveGenerator generator = new MoveGenerator();
+        private @Nullable SearchState expected;
+        private int checked;
+        private int responses;
+
+        @Override
+        public int chooseMove(SearchState state, MoveGenerator moves) {
+            SearchState previous = expected;
+            if (previous != null && !previous.isTerminal()) {
+                skipForcedCountess(previous, state);
+            }
+            if (previous != null && !previous.isTerminal()) {
+                assertEquals(previous, state);
+                checked++;
+            }
+            int move = random.chooseMove(state, moves);
+            if (Move.isResponse(move)) {
+                responses++;
+            }
+            SearchState next = new SearchState(state);
+            next.make(move);
+            expected = next;
+            return move;
+        }
+
+        /**
+         * Plays the moves the game made without asking: a Countess forced by royalty.
+         */
+        private void skipForcedCountess(SearchState previous, SearchState state) {
+            while (!previous.equals(state) && !previous.isTerminal() && generator.reset(previous).size() == 1
+                && Move.card(generator.get(0)) == Card.COUNTESS) {
+                previous.make(generator.get(0));
+            }
+        }
+    }
+
+    /*
+     * Verifies that games played through a policy follow the search state's rules, turn by turn,
+     * with every card and the Bishop's offer answered from the chosen moves.
+     */
+    @Test
+    void testGamesFollowSearchState() {
+        CheckingPolicy policy = new CheckingPolicy();
+        for (int game = 0; game < 40; game++) {
+            PlayerList players = new PlayerList();
+            int playerCount = 2 + game % 7;
+            for (int i = 0; i < playerCount; i++) {
+                players.addPlayer("Player " + i);
+            }
+            policy.expected = null;
+            Game played = new Game(players, new Deck(game), new PolicyPlayerInput(policy), new NoOpEventListener());
+            played.start();
+            assertNotNull(played.getGameWinner());
+        }
+        assertTrue(policy.checked > 1000, "checked " + policy.checked);
+        assertTrue(policy.responses > 0);
+    }
+
+    /*
+     * Verifies that seated policies and random answers can share a table.
+     */
+    @Test
+    void testSeatedPolicies() {
+        PlayerList players = new PlayerList();
+        players.addPlayer("Alice");
+        players.addPlayer("Bob");
+        players.addPlayer("Cleo");
+        List<Player> seats = players.getPlayers();
+        SeatedPlayerInput input = new SeatedPlayerInput(new RandomPlayerInput(new Random(5)))
+            .seat(seats.get(1), new PolicyPlayerInput(new RandomPolicy(new Random(6))));
+        Game game = new Game(players, new Deck(5L), input, new NoOpEventListener());
+
+        game.start();
+
+        assertTrue(seats.contains(game.getGameWinner()));
+        assertTrue(input.inputOf(seats.get(1)) instanceof PolicyPlayerInput);
+        assertTrue(input.inputOf(seats.get(0)) instanceof RandomPlayerInput);
+    }
+
+    /*
+     * Verifies that a target can only be chosen once a move has been chosen.
+     */
+    @Test
+    void testTargetWithoutMove() {
+        PlayerList players = new PlayerList();
+        players.addPlayer("Alice");
+        players.addPlayer("Bob");
+        GameContext context = new GameContext(players, new Deck(1L), new RandomPlayerInput(new Random(1)),
+            new NoOpEventListener());
+        PolicyPlayerInput input = new PolicyPlayerInput(new RandomPolicy(new Random(1)));
+
+        assertThrows(IllegalStateException.class,
+            () -> input.chooseTarget(context, players.getSeat(0), players.getPlayers()));
+    }
+}
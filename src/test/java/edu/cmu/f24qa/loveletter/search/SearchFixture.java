@@ -0,0 +1,102 @@
+package edu.cmu.f24qa.loveletter.search;
+
+import java.util.Random;
+
+import edu.cmu.f24qa.loveletter.Card;
+import edu.cmu.f24qa.loveletter.Deck;
+import edu.cmu.f24qa.loveletter.GameContext;
+import edu.cmu.f24qa.loveletter.PlayerList;
+import edu.cmu.f24qa.loveletter.events.NoOpEventListener;
+import edu.cmu.f24qa.loveletter.input.RandomPlayerInput;
+
+/**
+ * A seeded round dealt by the game, shared by the search tests. The players, context
+ * and deck stay available, so a test can change the position before searching it.
+ */
+final class SearchFixture {
+    final PlayerList players = new PlayerList();
+    final Deck deck;
+    final GameContext context;
+
+    /**
+     * Seats the given number of players and deals a fresh round with seat 0 to act.
+     * The hands of the first seats are replaced with the given cards, if any.
+     */
+    SearchFixture(int playerCount, long seed, Card[]... hands) {
+        for (int i = 0; i < playerCount; i++) {
+            players.addPlayer("Player " + i);
+        }
+        deck = new Deck(seed);
+        context = new GameContext(players, deck, new RandomPlayerInput(new Random(seed)), new NoOpEventListener());
+        context.reset();
+        players.dealCards(deck);
+        players.getSeat(0).addCard(deck.draw());
+        for (int seat = 0; seat < hands.length; seat++) {
+            players.getSeat(seat).clearHand();
+            for (Card card : hands[seat]) {
+                players.getSeat(seat).addCard(card);
+            }
+        }
+    }
+
+    /**
+     * Returns the search state of the current position, with seat 0 to act.
+     */
+    SearchState state() {
+        return SearchState.of(context.snapshot(), 0);
+    }
+
+    /**
+     * Deals a round as the constructor does and returns its search state.
+     */
+    static SearchState deal(int playerCount, long seed, Card[]... hands) {
+        return new SearchFixture(playerCount, seed, hands).state();
+    }
+
+    /**
+     * Deals a 2-player round with the hands replaced by the given cards and returns its
+     * search state.
+     */
+    static SearchState deal(long seed, Card[] first, Card second) {
+        return deal(2, seed, first, new Card[] {second});
+    }
+
+    /**
+     * Deals a 2-player round as deal(seed, first, second) does, draws the deck down to
+     * the given number of cards and returns its search state.
+     */
+    static SearchState deal(long seed, Card[] first, Card second, int deckSize) {
+        SearchFixture table = new SearchFixture(2, seed, first, new Card[] {second});
+        while (table.deck.size() > deckSize) {
+            table.deck.draw();
+        }
+        return table.state();
+    }
+
+    /**
+     * Plays a 2-player round dealt from a seeded deck with a policy in each seat.
+     *
+     * @return the bit mask of the round winners
+     */
+    static int playRound(long seed, DecisionPolicy first, DecisionPolicy second) {
+        SearchState state = new SearchState(2);
+        state.deal(shuffledOrder(seed));
+        MoveGenerator moves = new MoveGenerator();
+        while (!state.isTerminal()) {
+            DecisionPolicy policy = state.getSeatToAct() == 0 ? first : second;
+            state.make(policy.chooseMove(state, moves.reset(state)));
+        }
+        return state.getRoundWinners();
+    }
+
+    /**
+     * Returns the card ordinals of a 16-card deck shuffled with the given seed, top of
+     * the deck last, as SearchState.deal takes them.
+     */
+    static byte[] shuffledOrder(long seed) {
+        Deck deck = new Deck(seed);
+        deck.build16Cards();
+        deck.shuffle();
+        return deck.toOrdinals();
+    }
+}
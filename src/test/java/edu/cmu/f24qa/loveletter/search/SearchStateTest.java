@@ -0,0 +1,285 @@
+package edu.cmu.f24qa.loveletter.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import edu.cmu.f24qa.loveletter.Card;
+import edu.cmu.f24qa.loveletter.Deck;
+import edu.cmu.f24qa.loveletter.GameContext;
+import edu.cmu.f24qa.loveletter.GameState;
+import edu.cmu.f24qa.loveletter.Player;
+import edu.cmu.f24qa.loveletter.PlayerList;
+import edu.cmu.f24qa.loveletter.events.NoOpEventListener;
+import edu.cmu.f24qa.loveletter.input.RandomPlayerInput;
+import edu.cmu.f24qa.loveletter.journal.NoOpGameJournal;
+
+class SearchStateTest {
+    /*
+     * Verifies that a search state reports the snapshot it was built from.
+     */
+    @Test
+    void testOfCopiesSnapshot() {
+        PlayerList players = new PlayerList();
+        for (String name : new String[] {"Alice", "Bob", "Cleo", "Dan", "Eve"}) {
+            players.addPlayer(name);
+        }
+        GameContext context = new GameContext(players, new Deck(3L), new RandomPlayerInput(new Random(3)),
+            new NoOpEventListener());
+        context.reset();
+        players.dealCards(context.getDeck());
+        Player alice = players.getSeat(0);
+        Player bob = players.getSeat(1);
+        alice.clearHand();
+        alice.addCard(Card.PRINCESS);
+        alice.addCard(Card.COUNT);
+        bob.switchProtection();
+        bob.addCardToDiscarded(Card.GUARD);
+        bob.addCardToDiscarded(Card.BISHOP);
+        bob.addToken();
+        players.getSeat(2).eliminate();
+        context.setJesterPlayer(alice);
+        context.setGuessedPlayer(bob);
+        context.setSycophantForcedPlayer(players.getSeat(4));
+        GameState snapshot = context.snapshot();
+
+        SearchState state = new SearchState(SearchState.of(snapshot, 0));
+
+        assertEquals(5, state.getPlayerCount());
+        assertTrue(state.hasExpansionCards());
+        assertEquals(0, state.getSeatToAct());
+        assertEquals(2, state.getHandSize(0));
+        assertEquals(Card.COUNT, state.getHandCard(0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> state.getHandCard(1, 1));
+        assertTrue(state.isProtected(1));
+        assertFalse(state.isProtected(0));
+        assertTrue(state.isEliminated(2));
+        assertEquals(0b11011, state.getAliveSeats());
+        assertEquals(1, state.getTokens(1));
+        assertEquals(1, state.getDiscardCount(1, Card.BISHOP));
+        assertEquals(10, state.getDiscardValue(1));
+        assertEquals(snapshot.getDeckSize(), state.getDeckSize());
+        assertEquals(snapshot.getDeckCard(0), state.getDeckCard(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> state.getDeckCard(state.getDeckSize()));
+        assertEquals(snapshot.getSetAsideCard(), state.getSetAsideCard());
+        assertEquals(0, state.getJesterSeat());
+        assertEquals(1, state.getGuessedSeat());
+        assertEquals(4, state.getSycophantSeat());
+    }
+
+    /*
+     * Verifies that only snapshots of 2-8 players can be searched.
+     */
+    @Test
+    void testOfRejectsInvalidTables() {
+        PlayerList players = new PlayerList();
+        players.addPlayer("Alice");
+        GameContext context = new GameContext(players, new Deck(3L), new RandomPlayerInput(new Random(3)),
+            new NoOpEventListener());
+        players.getSeat(0).addCard(Card.GUARD);
+        players.getSeat(0).addCard(Card.PRIEST);
+
+        assertThrows(IllegalArgumentException.class, () -> SearchState.of(context.snapshot(), 0));
+    }
+
+    /*
+     * Verifies that dealing a shuffled deck in place gives the round the game deals from
+     * it, for two and for four players.
+     */
+    @Test
+    void testDealMatchesGame() {
+        for (int playerCount : new int[] {2, 4}) {
+            byte[][] dealt = new byte[1][];
+            PlayerList players = new PlayerList();
+            for (int i = 0; i < playerCount; i++) {
+                players.addPlayer("Player " + i);
+            }
+            Deck deck = new Deck(11L);
+            GameContext context = new GameContext(players, deck, new RandomPlayerInput(new Random(11)),
+                new NoOpEventListener());
+            context.setJournal(new NoOpGameJournal() {
+                @Override
+                public boolean isRecording() {
+                    return true;
+                }
+
+                @Override
+                public void onDeal(byte[] deckOrder) {
+                    dealt[0] = deckOrder.clone();
+                }
+            });
+            context.reset();
+            players.dealCards(deck);
+            players.getSeat(0).addCard(deck.draw());
+            SearchState state = new SearchState(playerCount);
+
+            state.deal(dealt[0]);
+
+            assertEquals(SearchState.of(context.snapshot(), 0), state);
+            assertEquals(0, state.getSeatToAct());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new SearchState(5).deal(new byte[16]));
+    }
+
+    /*
+     * Verifies that unmaking every move of random rounds restores each position exactly,
+     * for every card played along the way.
+     */
+    @Test
+    void testUnmakeRestoresEveryPosition() {
+        Random random = new Random(7);
+        MoveGenerator generator = new MoveGenerator();
+        int playedCards = 0;
+        for (int round = 0; round < 200; round++) {
+            SearchState state = SearchFixture.deal(2 + round % 7, round);
+            List<SearchState> line = new ArrayList<>();
+            while (!state.isTerminal()) {
+                line.add(new SearchState(state));
+                generator.reset(state);
+                int move = generator.get(random.nextInt(generator.size()));
+                playedCards |= 1 << Move.card(move).ordinal();
+                state.make(move);
+                assertEquals(line.size(), state.getMovesMade());
+            }
+            assertEquals(0, generator.reset(state).size());
+            for (int ply = line.size() - 1; ply >= 0; ply--) {
+                state.unmake();
+                assertEquals(line.get(ply), state, "after unmaking move " + ply + " of round " + round);
+                assertEquals(line.get(ply).hashCode(), state.hashCode());
+            }
+            assertThrows(IllegalStateException.class, state::unmake);
+        }
+        assertEquals((1 << Card.values().length) - 1, playedCards);
+    }
+
+    /*
+     * Verifies that a correct Guard guess eliminates the target and that the turn passes
+     * to the next player in the round, who loses their protection and draws.
+     */
+    @Test
+    void testGuardEliminatesAndTurnPasses() {
+        SearchFixture table = new SearchFixture(4, 1L, new Card[] {Card.GUARD, Card.PRIEST},
+            new Card[] {Card.BARON}, new Card[] {Card.KING});
+        table.players.getSeat(2).switchProtection();
+        SearchState state = table.state();
+        int deckSize = state.getDeckSize();
+        Card top = state.getDeckCard(0);
+
+        state.make(Move.withGuess(Move.withTarget(Move.of(Card.GUARD, 0), 1), Card.BARON));
+
+        assertTrue(state.isEliminated(1));
+        assertEquals(0, state.getDiscardValue(1));
+        assertEquals(1, state.getDiscardCount(0, Card.GUARD));
+        assertEquals(Card.PRIEST, state.getHandCard(0, 0));
+        assertEquals(2, state.getSeatToAct());
+        assertFalse(state.isProtected(2));
+        assertEquals(top, state.getHandCard(2, 1));
+        assertEquals(deckSize - 1, state.getDeckSize());
+        assertThrows(IllegalArgumentException.class, () -> state.make(Move.of(Card.GUARD, 0)));
+        assertThrows(IllegalArgumentException.class, () -> state.make(Move.response(true)));
+    }
+
+    /*
+     * Verifies that guessing an Assassin eliminates the guesser, whose Constable earns a token,
+     * and makes the Assassin's player draw again.
+     */
+    @Test
+    void testGuardMeetsAssassin() {
+        SearchFixture table = new SearchFixture(5, 2L, new Card[] {Card.GUARD, Card.PRIEST},
+            new Card[] {Card.ASSASSIN});
+        table.players.getSeat(0).addCardToDiscarded(Card.CONSTABLE);
+        SearchState state = table.state();
+        Card top = state.getDeckCard(0);
+
+        state.make(Move.withGuess(Move.withTarget(Move.of(Card.GUARD, 0), 1), Card.PRINCESS));
+
+        assertTrue(state.isEliminated(0));
+        assertEquals(1, state.getTokens(0));
+        assertEquals(0, state.getDiscardCount(0, Card.CONSTABLE));
+        assertEquals(1, state.getDiscardCount(1, Card.ASSASSIN));
+        assertEquals(top, state.getHandCard(1, 0));
+        assertEquals(1, state.getSeatToAct());
+    }
+
+    /*
+     * Verifies that the target of a correct Bishop guess answers before the turn passes,
+     * and that a Princess discarded this way eliminates its player.
+     */
+    @Test
+    void testBishopWaitsForAnswer() {
+        SearchState state = SearchFixture.deal(5, 3L, new Card[] {Card.BISHOP, Card.GUARD},
+            new Card[] {Card.PRINCESS});
+
+        state.make(Move.withNumber(Move.withTarget(Move.of(Card.BISHOP, 0), 1), 8));
+
+        assertTrue(state.isResponding());
+        assertEquals(1, state.getSeatToAct());
+        assertEquals(1, state.getTokens(0));
+        MoveGenerator generator = new MoveGenerator().reset(state);
+        assertEquals(2, generator.size());
+        assertEquals("Bishop answered by discarding", Move.toString(generator.get(1)));
+        state.make(generator.get(1));
+
+        assertFalse(state.isResponding());
+        assertTrue(state.isEliminated(1));
+        assertEquals(2, state.getSeatToAct());
+        state.unmake();
+        assertTrue(state.isResponding());
+        state.make(Move.response(false));
+        assertEquals(Card.PRINCESS, state.getHandCard(1, 0));
+        assertThrows(IllegalArgumentException.class, () -> state.make(Move.response(true)));
+    }
+
+    /*
+     * Verifies that a token won with the Bishop can end the game at once.
+     */
+    @Test
+    void testBishopTokenWinsGame() {
+        SearchFixture table = new SearchFixture(5, 4L, new Card[] {Card.BISHOP, Card.GUARD},
+            new Card[] {Card.PRIEST});
+        for (int i = 0; i < 3; i++) {
+            table.players.getSeat(0).addToken();
+        }
+        SearchState state = table.state();
+
+        state.make(Move.withNumber(Move.withTarget(Move.of(Card.BISHOP, 0), 1), 2));
+
+        assertTrue(state.isGameOver());
+        assertTrue(state.isTerminal());
+        assertThrows(IllegalStateException.class, state::getRoundWinners);
+        assertEquals(1, state.getWinners());
+        assertThrows(IllegalStateException.class, () -> state.make(Move.of(Card.GUARD, 0)));
+    }
+
+    /*
+     * Verifies the round winners when the deck runs out: a Princess beats a Bishop, and ties on
+     * the hand are broken by the discard piles of every player left.
+     */
+    @Test
+    void testRoundWinners() {
+        SearchFixture table = new SearchFixture(5, 5L, new Card[] {Card.HANDMAIDEN, Card.PRINCESS},
+            new Card[] {Card.BISHOP}, new Card[] {Card.PRINCESS}, new Card[] {Card.GUARD}, new Card[] {Card.GUARD});
+        while (table.deck.hasMoreCards()) {
+            table.deck.draw();
+        }
+        table.players.getSeat(3).addCardToDiscarded(Card.KING);
+        SearchState state = table.state();
+
+        state.make(Move.of(Card.HANDMAIDEN, 0));
+
+        assertTrue(state.isTerminal());
+        assertFalse(state.isGameOver());
+        assertTrue(state.isProtected(0));
+        assertEquals(0b01000, state.getRoundWinners());
+        assertEquals(0b01000, state.getWinners());
+        assertEquals(7, new SearchState(SearchFixture.deal(2, 6L)).getTokensToWin());
+        assertEquals(5, SearchFixture.deal(3, 6L).getTokensToWin());
+    }
+}
@@ -0,0 +1,269 @@
+package edu.cmu.f24qa.loveletter.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@Timeout(60)
+class GameServerTest {
+    private GameServer server;
+    private ExecutorService clients;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new GameServer(0, 2, 1);
+        server.start();
+        clients = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+        clients.shutdownNow();
+    }
+
+    /*
+     * Verifies that two remote players are seated together and play a whole game.
+     */
+    @Test
+    void testTwoPlayersPlayAGame() throws Exception {
+        Future<String> alice = clients.submit(() -> play("Alice", true));
+        Future<String> bob = clients.submit(() -> play("Bob", false));
+
+        String aliceView = alice.get(50, TimeUnit.SECONDS);
+        String bobView = bob.get(50, TimeUnit.SECONDS);
+
+        assertTrue(aliceView.contains("Alice, Bob.") || aliceView.contains("Bob, Alice."));
+        assertTrue(aliceView.contains("has won the game and the heart of the princess!"));
+        assertTrue(bobView.contains("has won the game and the heart of the princess!"));
+        assertTrue(aliceView.contains("Please enter 0 or 1."));
+    }
+
+    /*
+     * Verifies that the cards of a player's hand and the cards shown to them are only
+     * sent to that player.
+     */
+    @Test
+    void testPrivateNarrationStaysWithItsPlayer() throws Exception {
+        Future<String> alice = clients.submit(() -> play("Alice", false));
+        Future<String> bob = clients.submit(() -> play("Bob", false));
+
+        String aliceView = alice.get(50, TimeUnit.SECONDS);
+        String bobView = bob.get(50, TimeUnit.SECONDS);
+
+        assertSeesOnlyOwnCards(aliceView, "Alice", "Bob");
+        assertSeesOnlyOwnCards(bobView, "Bob", "Alice");
+    }
+
+    /*
+     * Verifies that a player leaving ends the game for the rest of the table and frees the table.
+     */
+    @Test
+    void testDisconnectClosesTable() throws Exception {
+        Future<String> alice = clients.submit(() -> play("Alice", false));
+        try (Socket bob = connect("Bob")) {
+            readUntil(bob, "The game starts");
+        }
+
+        String aliceView = alice.get(50, TimeUnit.SECONDS);
+
+        assertTrue(aliceView.contains("Bob has left the table."));
+        awaitNoActiveTables();
+    }
+
+    /*
+     * Verifies that players are turned away while every table is taken.
+     */
+    @Test
+    void testFullServerRejectsPlayers() throws Exception {
+        try (Socket alice = connect("Alice"); Socket bob = connect("Bob")) {
+            readUntil(alice, "The game starts");
+            assertEquals(1, server.getActiveTables());
+
+            try (Socket cleo = connect("Cleo"); Socket dan = connect("Dan")) {
+                assertTrue(readUntil(cleo, null).contains("All tables are taken."));
+                assertTrue(readUntil(dan, null).contains("All tables are taken."));
+            }
+            assertEquals(1, server.getActiveTables());
+
+            server.close();
+            readUntil(alice, null);
+        }
+    }
+
+    /*
+     * Verifies that an empty name is asked for again and that lines longer than the limit disconnect the client.
+     */
+    @Test
+    void testInvalidLines() throws Exception {
+        try (Socket client = new Socket("localhost", server.getPort())) {
+            OutputStream out = client.getOutputStream();
+            out.write("\n".getBytes(StandardCharsets.UTF_8));
+            readUntil(client, "Please enter your name: ");
+            out.write("x".repeat(Seat.MAX_LINE_LENGTH + 1).getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            readUntil(client, null);
+        }
+    }
+
+    /*
+     * Verifies that a player who does not answer in time is disconnected and the table is freed.
+     */
+    @Test
+    void testStalledPlayerIsDisconnected() throws Exception {
+        server.close();
+        server = new GameServer(0, 2, 1, Duration.ofMillis(200));
+        server.start();
+        try (Socket alice = connect("Alice"); Socket bob = connect("Bob")) {
+            String aliceView = readUntil(alice, null);
+            String bobView = readUntil(bob, null);
+
+            assertTrue((aliceView + bobView).contains("did not answer in time and has left the table."));
+            assertTrue((aliceView + bobView).contains("You did not answer in time."));
+        }
+        awaitNoActiveTables();
+    }
+
+    /*
+     * Verifies that the server configuration is validated.
+     */
+    @Test
+    void testInvalidConfiguration() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> new GameServer(0, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new GameServer(0, 9, 1));
+        assertThrows(IllegalArgumentException.class, () -> new GameServer(0, 2, 0));
+        assertThrows(IllegalArgumentException.class, () -> new GameServer(0, 2, 1, Duration.ZERO));
+        assertThrows(IllegalStateException.class, server::start);
+    }
+
+    private Socket connect(String name) throws IOException {
+        Socket socket = new Socket("localhost", server.getPort());
+        readUntil(socket, "Please enter your name: ");
+        send(socket, name);
+        return socket;
+    }
+
+    private static void send(Socket socket, String line) throws IOException {
+        OutputStream out = socket.getOutputStream();
+        out.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    /**
+     * Reads from the socket until the given text arrived, or until the server closes
+     * the connection if the text is null.
+     */
+    private static String readUntil(Socket socket, String text) throws IOException {
+        StringBuilder received = new StringBuilder();
+        var in = socket.getInputStream();
+        while (text == null || received.indexOf(text) < 0) {
+            int b = in.read();
+            if (b < 0) {
+                break;
+            }
+            received.append((char) b);
+        }
+        return received.toString();
+    }
+
+    /**
+     * Asserts that a view shows the viewer their hand at the start of their turns, but
+     * never shows them the hand of the other player, nor the viewer's own card as shown
+     * to the other player.
+     */
+    private static void assertSeesOnlyOwnCards(String view, String viewer, String other) {
+        List<String> lines = view.lines().toList();
+        boolean ownHandShown = false;
+        for (int i = 0; i + 1 < lines.size(); i++) {
+            boolean cardFollows = lines.get(i + 1).matches(".+ \\(\\d\\)");
+            if (lines.get(i).equals(viewer + "'s turn:")) {
+                ownHandShown |= cardFollows;
+            } else if (lines.get(i).equals(other + "'s turn:")) {
+                assertFalse(cardFollows, viewer + " was sent the hand of " + other + ": " + lines.get(i + 1));
+            }
+        }
+        assertTrue(ownHandShown);
+        assertFalse(view.contains(viewer + " shows you a"));
+    }
+
+    private void awaitNoActiveTables() throws InterruptedException {
+        while (server.getActiveTables() != 0) {
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Plays as a simple bot that always plays its first card and targets the first
+     * available player, and returns everything the server sent.
+     */
+    private String play(String name, boolean mistype) throws IOException {
+        StringBuilder transcript = new StringBuilder();
+        StringBuilder line = new StringBuilder();
+        List<String> candidates = new ArrayList<>();
+        boolean listingCandidates = false;
+        boolean mistyped = !mistype;
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            BufferedReader in = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            for (int c = in.read(); c >= 0; c = in.read()) {
+                transcript.append((char) c);
+                if (c == '\n') {
+                    String text = line.toString();
+                    if (listingCandidates) {
+                        candidates.add(text);
+                    }
+                    if (text.equals("Available opponents: ")) {
+                        listingCandidates = true;
+                        candidates.clear();
+                    }
+                    line.setLength(0);
+                    continue;
+                }
+                line.append((char) c);
+                String prompt = line.toString();
+                String answer = null;
+                if (prompt.endsWith("Please enter your name: ")) {
+                    answer = name;
+                } else if (prompt.startsWith("Which card would you like to play") && prompt.endsWith(": ")) {
+                    answer = mistyped ? "0" : "first";
+                    mistyped = true;
+                } else if (prompt.equals("Which card would you like to guess: ")) {
+                    answer = "Priest";
+                } else if (prompt.equals("Which number would you like to guess: ")) {
+                    answer = "2";
+                } else if (prompt.equals("Who would you like to target: ")) {
+                    answer = candidates.get(0);
+                    listingCandidates = false;
+                } else if (prompt.equals("> ") || prompt.endsWith("(yes/no): ") || prompt.endsWith("(y/n)")) {
+                    answer = "no";
+                }
+                if (answer != null) {
+                    send(socket, answer);
+                    transcript.append('\n');
+                    line.setLength(0);
+                }
+            }
+        }
+        return transcript.toString();
+    }
+}
@@ -0,0 +1,58 @@
+package edu.cmu.f24qa.loveletter.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edu.cmu.f24qa.loveletter.Card;
+import edu.cmu.f24qa.loveletter.Deck;
+import edu.cmu.f24qa.loveletter.GameContext;
+import edu.cmu.f24qa.loveletter.Player;
+import edu.cmu.f24qa.loveletter.PlayerList;
+import edu.cmu.f24qa.loveletter.events.GameEventListener;
+
+class SeatInputTest {
+    private final Queue<String> lines = new ArrayDeque<>();
+    private final StringBuilder narration = new StringBuilder();
+    private GameContext context;
+    private Player alice;
+
+    @BeforeEach
+    void setUp() {
+        PlayerList players = new PlayerList();
+        players.addPlayer("Alice");
+        players.addPlayer("Bob");
+        alice = players.getPlayer("Alice");
+        GameEventListener listener = message -> narration.append(message).append('\n');
+        context = new GameContext(players, new Deck(), new SeatInput(), player -> lines.remove(), listener);
+    }
+
+    /*
+     * Verifies that a card index outside the hand or not a number is asked for again.
+     */
+    @Test
+    void testChooseCardIndexAsksAgain() {
+        alice.addCard(Card.GUARD);
+        alice.addCard(Card.PRIEST);
+        lines.addAll(List.of("one", "2", "1"));
+
+        assertEquals(1, new SeatInput().chooseCardIndex(context, alice));
+        assertEquals(2, narration.toString().split("Please enter 0 or 1.", -1).length - 1);
+    }
+
+    /*
+     * Verifies that a guessed number that is not a number is asked for again.
+     */
+    @Test
+    void testGuessNumberAsksAgain() {
+        lines.addAll(List.of("seven", "7"));
+
+        assertEquals(7, new SeatInput().guessNumber(context, alice));
+        assertEquals(1, narration.toString().split("Please enter a number.", -1).length - 1);
+    }
+}
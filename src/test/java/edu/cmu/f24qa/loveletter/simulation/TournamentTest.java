@@ -0,0 +1,97 @@
+package edu.cmu.f24qa.loveletter.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TournamentTest {
+    private ByteArrayOutputStream outContent;
+    private PrintStream originalOut;
+
+    @BeforeEach
+    void setUp() {
+        originalOut = System.out;
+        outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    /*
+     * Verifies that every game of the tournament is counted exactly once with one winner.
+     */
+    @Test
+    void testEveryGameHasExactlyOneWinner() {
+        TournamentResult result = new Tournament(4, 1L, 4).play(500);
+
+        long wins = 0;
+        for (int seat = 0; seat < result.getPlayerCount(); seat++) {
+            wins += result.getWins(seat);
+        }
+        assertEquals(500, result.getGames());
+        assertEquals(500, wins);
+        assertTrue(result.getRounds() >= 500 * 4L);
+        assertEquals("", outContent.toString());
+    }
+
+    /*
+     * Verifies that the result only depends on the seed, not on how the games are scheduled.
+     */
+    @Test
+    void testResultIsIndependentOfParallelism() {
+        TournamentResult sequential = new Tournament(3, 99L, 1).play(300);
+        TournamentResult parallel = new Tournament(3, 99L, 4).play(300);
+
+        for (int seat = 0; seat < 3; seat++) {
+            assertEquals(sequential.getWins(seat), parallel.getWins(seat));
+        }
+        assertEquals(sequential.getRounds(), parallel.getRounds());
+    }
+
+    /*
+     * Verifies the win rate and the textual summary of a result.
+     */
+    @Test
+    void testWinRateAndSummary() {
+        TournamentResult result = new TournamentResult(new long[] {3, 1}, 4, 30, 2_000_000_000L);
+
+        assertEquals(0.75, result.getWinRate(0));
+        assertEquals(0.25, result.getWinRate(1));
+        assertEquals(2.0, result.getGamesPerSecond());
+        assertTrue(result.toString().startsWith("4 games, 30 rounds, 2 games/s"));
+        assertTrue(result.toString().contains("seat 1: 75.00%"));
+    }
+
+    /*
+     * Verifies that an empty tournament reports zero rates instead of dividing by zero.
+     */
+    @Test
+    void testEmptyTournament() {
+        TournamentResult result = new Tournament(2, 0L).play(0);
+
+        assertEquals(0, result.getGames());
+        assertEquals(0.0, result.getWinRate(0));
+        assertEquals(0.0, new TournamentResult(new long[2], 0, 0, 0).getGamesPerSecond());
+    }
+
+    /*
+     * Verifies that invalid tournament settings are rejected.
+     */
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new Tournament(1, 0L));
+        assertThrows(IllegalArgumentException.class, () -> new Tournament(9, 0L));
+        assertThrows(IllegalArgumentException.class, () -> new Tournament(4, 0L, 0));
+        assertThrows(IllegalArgumentException.class, () -> new Tournament(4, 0L, 1).play(-1));
+    }
+}